@@ -0,0 +1,552 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.processor;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Generates the property metadata index of the compiled classes,
+ * which is read by {@code com.navercorp.fixturemonkey.api.property.PropertyMetadataIndex} at runtime.
+ * It indexes the fields, the bean properties and the builder method of top-level and static nested classes,
+ * with the generic types and the runtime annotations of the fields and the properties.
+ * A class is not indexed if its properties can not be resolved by name at runtime,
+ * for example overloaded or indexed accessors, those are resolved by runtime reflection.
+ * <p>
+ * Only the classes annotated with {@link IndexedProperties} and their static nested classes are indexed.
+ * The number of the declared fields and public methods of each class in the hierarchy is indexed as well,
+ * a class which does not match them at runtime is resolved by runtime reflection.
+ * <p>
+ * The classes are indexed in the last round, after the other processors such as Lombok generated their members.
+ * It is a compile error if the accessors of a Lombok class are still missing.
+ * It is registered as an aggregating processor of the Gradle incremental compilation.
+ */
+@SupportedAnnotationTypes("com.navercorp.fixturemonkey.processor.IndexedProperties")
+public final class PropertyMetadataProcessor extends AbstractProcessor {
+	public static final String INDEX_LOCATION = "META-INF/fixture-monkey/property-metadata.index";
+
+	private static final String NONE = "-";
+	private static final List<String> LOMBOK_GETTER_ANNOTATIONS = Arrays.asList(
+		"lombok.Data",
+		"lombok.Value",
+		"lombok.Getter"
+	);
+
+	private final Set<String> rootTypeNames = new LinkedHashSet<>();
+	private final Map<String, List<String>> recordsByType = new TreeMap<>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		if (roundEnv.processingOver()) {
+			List<TypeElement> rootTypes = new ArrayList<>();
+			for (String rootTypeName : rootTypeNames) {
+				TypeElement type = processingEnv.getElementUtils().getTypeElement(rootTypeName);
+				if (type != null) {
+					rootTypes.add(type);
+					collect(type);
+				}
+			}
+			writeIndex(rootTypes);
+			return false;
+		}
+
+		// the members generated by other processors are complete in the last round
+		for (Element element : roundEnv.getElementsAnnotatedWith(IndexedProperties.class)) {
+			if (element.getKind() == ElementKind.CLASS) {
+				rootTypeNames.add(((TypeElement)element).getQualifiedName().toString());
+			}
+		}
+		return false;
+	}
+
+	private void collect(Element element) {
+		if (element.getKind() != ElementKind.CLASS) {
+			return;
+		}
+
+		TypeElement type = (TypeElement)element;
+		List<String> records = index(type);
+		if (records != null) {
+			recordsByType.put(processingEnv.getElementUtils().getBinaryName(type).toString(), records);
+		}
+
+		for (Element enclosed : type.getEnclosedElements()) {
+			if (enclosed.getModifiers().contains(Modifier.STATIC)) {
+				collect(enclosed);
+			}
+		}
+	}
+
+	/**
+	 * Indexes the fields the same as {@code PropertyCache} finds them,
+	 * and the properties the same as {@link java.beans.Introspector} does, returns null if it is ambiguous.
+	 */
+	private List<String> index(TypeElement type) {
+		Elements elements = processingEnv.getElementUtils();
+		Types types = processingEnv.getTypeUtils();
+		DeclaredType declaredType = (DeclaredType)type.asType();
+
+		Map<String, ExecutableElement> readMethods = new TreeMap<>();
+		Map<String, List<ExecutableElement>> writeMethods = new HashMap<>();
+		for (Element member : elements.getAllMembers(type)) {
+			if (member.getKind() != ElementKind.METHOD
+				|| !member.getModifiers().contains(Modifier.PUBLIC)
+				|| member.getModifiers().contains(Modifier.STATIC)) {
+				continue;
+			}
+
+			ExecutableElement method = (ExecutableElement)member;
+			String name = method.getSimpleName().toString();
+			List<TypeMirror> parameterTypes = new ArrayList<>();
+			method.getParameters().forEach(it -> parameterTypes.add(it.asType()));
+			TypeKind returnKind = method.getReturnType().getKind();
+
+			String readProperty = null;
+			String writeProperty = null;
+			if (parameterTypes.isEmpty() && name.startsWith("get") && returnKind != TypeKind.VOID) {
+				readProperty = decapitalize(name.substring(3));
+			} else if (parameterTypes.isEmpty() && name.startsWith("is") && returnKind == TypeKind.BOOLEAN) {
+				readProperty = decapitalize(name.substring(2));
+			} else if (parameterTypes.size() == 1 && name.startsWith("set") && returnKind == TypeKind.VOID) {
+				writeProperty = decapitalize(name.substring(3));
+			} else if (isIndexedAccessor(name, parameterTypes)) {
+				return null;
+			}
+
+			String property = readProperty != null ? readProperty : writeProperty;
+			if (property == null || property.isEmpty() || property.equals("class")) {
+				continue;
+			}
+
+			Element owner = method.getEnclosingElement();
+			if (owner.getKind().isInterface()) {
+				// default methods are not introspected by every JDK
+				return null;
+			}
+
+			// inherited generic accessors are bridged at runtime
+			ExecutableType memberType = (ExecutableType)types.asMemberOf(declaredType, method);
+			if (!isSameErasure(types, memberType.getReturnType(), method.getReturnType())
+				|| !isSameErasure(types, memberType.getParameterTypes(), parameterTypes)) {
+				return null;
+			}
+
+			if (readProperty != null) {
+				if (readMethods.put(readProperty, method) != null) {
+					return null;
+				}
+			} else {
+				writeMethods.computeIfAbsent(writeProperty, it -> new ArrayList<>()).add(method);
+			}
+		}
+
+		Map<String, ExecutableElement> writeMethodsByProperty = new TreeMap<>();
+		for (Map.Entry<String, List<ExecutableElement>> entry : writeMethods.entrySet()) {
+			ExecutableElement readMethod = readMethods.get(entry.getKey());
+			List<ExecutableElement> candidates = entry.getValue();
+			if (readMethod != null) {
+				List<ExecutableElement> matched = new ArrayList<>();
+				for (ExecutableElement candidate : candidates) {
+					TypeMirror parameterType = candidate.getParameters().get(0).asType();
+					if (isSameErasure(types, parameterType, readMethod.getReturnType())) {
+						matched.add(candidate);
+					}
+				}
+				candidates = matched;
+			}
+			if (candidates.size() != 1) {
+				return null;
+			}
+			writeMethodsByProperty.put(entry.getKey(), candidates.get(0));
+		}
+
+		if (readMethods.isEmpty() && isMissingLombokGetters(type)) {
+			processingEnv.getMessager().printMessage(
+				Kind.ERROR,
+				"The getters generated by Lombok are not found, Lombok should be in the annotation processor path "
+					+ "with " + PropertyMetadataProcessor.class.getName() + ".",
+				type
+			);
+			return null;
+		}
+
+		List<String> records = new ArrayList<>();
+		records.add("type");
+		for (TypeElement declaringType : getHierarchy(type)) {
+			records.add(
+				"members\t" + elements.getBinaryName(declaringType)
+					+ "\t" + countMembers(declaringType, ElementKind.FIELD)
+					+ "\t" + countMembers(declaringType, ElementKind.METHOD)
+			);
+		}
+
+		getFields(type).forEach((name, field) -> records.add(
+			"field\t" + name
+				+ "\t" + elements.getBinaryName((TypeElement)field.getEnclosingElement())
+				+ "\t" + toTypeName(field.asType())
+				+ "\t" + toAnnotationTypeNames(field, field.asType())
+		));
+
+		Set<String> propertyNames = new TreeSet<>(readMethods.keySet());
+		propertyNames.addAll(writeMethodsByProperty.keySet());
+		for (String propertyName : propertyNames) {
+			ExecutableElement readMethod = readMethods.get(propertyName);
+			ExecutableElement writeMethod = writeMethodsByProperty.get(propertyName);
+			TypeMirror writeParameterType = writeMethod != null ? writeMethod.getParameters().get(0).asType() : null;
+			TypeMirror propertyType = readMethod != null ? readMethod.getReturnType() : writeParameterType;
+
+			records.add(
+				"property\t" + propertyName
+					+ "\t" + (readMethod != null ? readMethod.getSimpleName() : NONE)
+					+ "\t" + (writeMethod != null ? writeMethod.getSimpleName() : NONE)
+					+ "\t" + (writeParameterType != null ? toErasedTypeName(types.erasure(writeParameterType)) : NONE)
+					+ "\t" + toTypeName(propertyType)
+					// the annotations of a property are the annotations of its read method
+					+ "\t" + (readMethod != null ? toAnnotationTypeNames(readMethod, readMethod.getReturnType()) : NONE)
+			);
+		}
+
+		String[] builder = findBuilder(type);
+		if (builder != null) {
+			records.add("builder\t" + builder[0] + "\t" + builder[1]);
+		}
+		return records;
+	}
+
+	/**
+	 * Finds the static builder method of which return type is a concrete class having a single build method.
+	 */
+	private String[] findBuilder(TypeElement type) {
+		Types types = processingEnv.getTypeUtils();
+		String[] found = null;
+		for (Element enclosed : type.getEnclosedElements()) {
+			if (enclosed.getKind() != ElementKind.METHOD || !enclosed.getModifiers().contains(Modifier.STATIC)) {
+				continue;
+			}
+
+			ExecutableElement builderMethod = (ExecutableElement)enclosed;
+			TypeMirror builderType = builderMethod.getReturnType();
+			if (!builderMethod.getParameters().isEmpty() || builderType.getKind() != TypeKind.DECLARED) {
+				continue;
+			}
+
+			Element builderElement = ((DeclaredType)builderType).asElement();
+			if (builderElement.getKind() != ElementKind.CLASS
+				|| builderElement.getModifiers().contains(Modifier.ABSTRACT)
+				|| builderElement.equals(type)) {
+				continue;
+			}
+
+			String buildMethodName = null;
+			for (Element member : processingEnv.getElementUtils().getAllMembers((TypeElement)builderElement)) {
+				if (member.getKind() != ElementKind.METHOD || member.getModifiers().contains(Modifier.STATIC)) {
+					continue;
+				}
+
+				ExecutableElement method = (ExecutableElement)member;
+				if (method.getParameters().isEmpty() && isSameErasure(types, method.getReturnType(), type.asType())) {
+					if (buildMethodName != null) {
+						return null;
+					}
+					buildMethodName = method.getSimpleName().toString();
+				}
+			}
+
+			if (buildMethodName != null) {
+				if (found != null) {
+					return null;
+				}
+				found = new String[] {builderMethod.getSimpleName().toString(), buildMethodName};
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Returns {@code type} and its superclasses except {@link Object}, from {@code type} to the top.
+	 */
+	private List<TypeElement> getHierarchy(TypeElement type) {
+		List<TypeElement> hierarchy = new ArrayList<>();
+		TypeElement current = type;
+		while (current != null && !current.getQualifiedName().contentEquals(Object.class.getName())) {
+			hierarchy.add(current);
+			TypeMirror superclass = current.getSuperclass();
+			current = superclass.getKind() == TypeKind.DECLARED
+				? (TypeElement)((DeclaredType)superclass).asElement()
+				: null;
+		}
+		return hierarchy;
+	}
+
+	/**
+	 * Counts the non-static fields or the public non-static methods declared in {@code type},
+	 * the same as {@code PropertyMetadataIndex} counts them at runtime.
+	 */
+	private static long countMembers(TypeElement type, ElementKind kind) {
+		return type.getEnclosedElements().stream()
+			.filter(it -> it.getKind() == kind && !it.getModifiers().contains(Modifier.STATIC))
+			.filter(it -> kind != ElementKind.METHOD || it.getModifiers().contains(Modifier.PUBLIC))
+			.count();
+	}
+
+	/**
+	 * Returns the non-static fields of {@code type} and its superclasses by name, a field hides the superclass ones.
+	 */
+	private Map<String, VariableElement> getFields(TypeElement type) {
+		Deque<TypeElement> hierarchy = new ArrayDeque<>();
+		getHierarchy(type).forEach(hierarchy::push);
+
+		Map<String, VariableElement> fields = new TreeMap<>();
+		for (TypeElement declaringType : hierarchy) {
+			for (Element enclosed : declaringType.getEnclosedElements()) {
+				if (enclosed.getKind() == ElementKind.FIELD && !enclosed.getModifiers().contains(Modifier.STATIC)) {
+					fields.put(enclosed.getSimpleName().toString(), (VariableElement)enclosed);
+				}
+			}
+		}
+		return fields;
+	}
+
+	/**
+	 * Returns true if {@code type} has fields and Lombok would generate their public getters.
+	 */
+	private boolean isMissingLombokGetters(TypeElement type) {
+		boolean hasField = type.getEnclosedElements().stream()
+			.anyMatch(it -> it.getKind() == ElementKind.FIELD && !it.getModifiers().contains(Modifier.STATIC));
+		if (!hasField) {
+			return false;
+		}
+
+		for (AnnotationMirror annotation : type.getAnnotationMirrors()) {
+			String annotationName = ((TypeElement)annotation.getAnnotationType().asElement())
+				.getQualifiedName()
+				.toString();
+			if (!LOMBOK_GETTER_ANNOTATIONS.contains(annotationName)) {
+				continue;
+			}
+
+			boolean publicAccess = annotation.getElementValues().entrySet().stream()
+				.filter(it -> it.getKey().getSimpleName().contentEquals("value"))
+				.map(Map.Entry::getValue)
+				.map(AnnotationValue::toString)
+				.allMatch(it -> it.endsWith("PUBLIC"));
+			if (publicAccess) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the comma-separated runtime annotations of {@code element} and its {@code type}, or {@value #NONE}.
+	 */
+	private String toAnnotationTypeNames(Element element, TypeMirror type) {
+		Set<String> annotationTypeNames = new LinkedHashSet<>();
+		List<AnnotationMirror> annotations = new ArrayList<>(element.getAnnotationMirrors());
+		annotations.addAll(type.getAnnotationMirrors());
+		for (AnnotationMirror annotation : annotations) {
+			TypeElement annotationType = (TypeElement)annotation.getAnnotationType().asElement();
+			Retention retention = annotationType.getAnnotation(Retention.class);
+			if (retention != null && retention.value() == RetentionPolicy.RUNTIME) {
+				annotationTypeNames.add(processingEnv.getElementUtils().getBinaryName(annotationType).toString());
+			}
+		}
+		return annotationTypeNames.isEmpty() ? NONE : String.join(",", annotationTypeNames);
+	}
+
+	/**
+	 * Returns the generic type of which a class is given by its binary name, for example
+	 * {@code java.util.Map<java.lang.String,java.util.List<T>>}.
+	 */
+	private String toTypeName(TypeMirror type) {
+		switch (type.getKind()) {
+			case DECLARED:
+				DeclaredType declaredType = (DeclaredType)type;
+				String rawTypeName = processingEnv.getElementUtils()
+					.getBinaryName((TypeElement)declaredType.asElement())
+					.toString();
+				if (declaredType.getTypeArguments().isEmpty()) {
+					return rawTypeName;
+				}
+
+				List<String> typeArgumentNames = new ArrayList<>();
+				for (TypeMirror typeArgument : declaredType.getTypeArguments()) {
+					typeArgumentNames.add(toTypeName(typeArgument));
+				}
+				return rawTypeName + "<" + String.join(",", typeArgumentNames) + ">";
+			case ARRAY:
+				return toTypeName(((ArrayType)type).getComponentType()) + "[]";
+			case TYPEVAR:
+				return ((TypeVariable)type).asElement().getSimpleName().toString();
+			default:
+				if (type.getKind().isPrimitive()) {
+					return type.getKind().name().toLowerCase(Locale.ROOT);
+				}
+				return type.toString();
+		}
+	}
+
+	/**
+	 * Returns the name of the erased {@code type} the same as {@link Class#getName()}.
+	 */
+	private String toErasedTypeName(TypeMirror type) {
+		if (type.getKind() == TypeKind.ARRAY) {
+			return "[" + toDescriptor(((ArrayType)type).getComponentType());
+		}
+		return toTypeName(type);
+	}
+
+	private String toDescriptor(TypeMirror type) {
+		switch (type.getKind()) {
+			case BOOLEAN:
+				return "Z";
+			case BYTE:
+				return "B";
+			case CHAR:
+				return "C";
+			case SHORT:
+				return "S";
+			case INT:
+				return "I";
+			case LONG:
+				return "J";
+			case FLOAT:
+				return "F";
+			case DOUBLE:
+				return "D";
+			case ARRAY:
+				return "[" + toDescriptor(((ArrayType)type).getComponentType());
+			default:
+				return "L" + toTypeName(type) + ";";
+		}
+	}
+
+	private void writeIndex(List<TypeElement> rootTypes) {
+		if (recordsByType.isEmpty()) {
+			return;
+		}
+
+		try {
+			FileObject resource = processingEnv.getFiler().createResource(
+				StandardLocation.CLASS_OUTPUT,
+				"",
+				INDEX_LOCATION,
+				rootTypes.toArray(new Element[0])
+			);
+			try (Writer writer = new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8)) {
+				writer.write("# generated by " + PropertyMetadataProcessor.class.getName() + "\n");
+				for (Map.Entry<String, List<String>> entry : recordsByType.entrySet()) {
+					for (String record : entry.getValue()) {
+						writer.write(entry.getKey() + "\t" + record + "\n");
+					}
+				}
+			}
+		} catch (IOException ex) {
+			processingEnv.getMessager().printMessage(
+				Kind.WARNING,
+				"Writing property metadata index is failed, properties would be resolved at runtime. " + ex
+			);
+		}
+	}
+
+	private static boolean isIndexedAccessor(String name, List<TypeMirror> parameterTypes) {
+		boolean indexed = !parameterTypes.isEmpty() && parameterTypes.get(0).getKind() == TypeKind.INT;
+		return indexed && ((name.startsWith("get") && parameterTypes.size() == 1)
+			|| (name.startsWith("set") && parameterTypes.size() == 2));
+	}
+
+	private static boolean isSameErasure(Types types, TypeMirror left, TypeMirror right) {
+		return types.isSameType(types.erasure(left), types.erasure(right));
+	}
+
+	private static boolean isSameErasure(
+		Types types,
+		List<? extends TypeMirror> left,
+		List<? extends TypeMirror> right
+	) {
+		if (left.size() != right.size()) {
+			return false;
+		}
+
+		for (int i = 0; i < left.size(); i++) {
+			if (!isSameErasure(types, left.get(i), right.get(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * The same as {@link java.beans.Introspector#decapitalize(String)}.
+	 */
+	private static String decapitalize(String name) {
+		if (name.isEmpty()) {
+			return name;
+		}
+		if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+			return name;
+		}
+		return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+	}
+}
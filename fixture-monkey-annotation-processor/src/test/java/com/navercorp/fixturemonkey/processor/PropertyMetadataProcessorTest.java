@@ -0,0 +1,292 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.processor;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.processing.Processor;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import lombok.Data;
+
+class PropertyMetadataProcessorTest {
+	@TempDir
+	Path outputDirectory;
+
+	@Test
+	void indexProperties() throws IOException {
+		List<String> actual = process(
+			"sample.Sample",
+			"package sample;\n"
+				+ "@com.navercorp.fixturemonkey.processor.IndexedProperties\n"
+				+ "public class Sample {\n"
+				+ "	public String getName() { return null; }\n"
+				+ "	public void setName(String name) { }\n"
+				+ "	public boolean isValue() { return false; }\n"
+				+ "	public void setURL(String url) { }\n"
+				+ "	public static String getStatic() { return null; }\n"
+				+ "}\n"
+		);
+
+		then(actual).containsExactly(
+			"sample.Sample\ttype",
+			"sample.Sample\tmembers\tsample.Sample\t0\t4",
+			"sample.Sample\tproperty\tURL\t-\tsetURL\tjava.lang.String\tjava.lang.String\t-",
+			"sample.Sample\tproperty\tname\tgetName\tsetName\tjava.lang.String\tjava.lang.String\t-",
+			"sample.Sample\tproperty\tvalue\tisValue\t-\t-\tboolean\t-"
+		);
+	}
+
+	@Test
+	void indexFields() throws IOException {
+		List<String> actual = process(
+			"sample.Sample",
+			"package sample;\n"
+				+ "@com.navercorp.fixturemonkey.processor.IndexedProperties\n"
+				+ "public class Sample extends Parent<String> {\n"
+				+ "	@Deprecated\n"
+				+ "	private java.util.List<String> names;\n"
+				+ "	private int[] values;\n"
+				+ "	private static String CONSTANT;\n"
+				+ "}\n"
+				+ "class Parent<T> {\n"
+				+ "	private T value;\n"
+				+ "	private int[] values;\n"
+				+ "}\n"
+		);
+
+		then(actual).containsExactly(
+			"sample.Sample\ttype",
+			"sample.Sample\tmembers\tsample.Sample\t2\t0",
+			"sample.Sample\tmembers\tsample.Parent\t2\t0",
+			"sample.Sample\tfield\tnames\tsample.Sample\tjava.util.List<java.lang.String>\tjava.lang.Deprecated",
+			"sample.Sample\tfield\tvalue\tsample.Parent\tT\t-",
+			"sample.Sample\tfield\tvalues\tsample.Sample\tint[]\t-"
+		);
+	}
+
+	@Test
+	void indexPropertyGenericTypeAndAnnotations() throws IOException {
+		List<String> actual = process(
+			"sample.Sample",
+			"package sample;\n"
+				+ "@com.navercorp.fixturemonkey.processor.IndexedProperties\n"
+				+ "public class Sample {\n"
+				+ "	@Deprecated\n"
+				+ "	public java.util.Map<String, Sample> getMap() { return null; }\n"
+				+ "	public void setArray(String[] array) { }\n"
+				+ "}\n"
+		);
+
+		then(actual).containsExactly(
+			"sample.Sample\ttype",
+			"sample.Sample\tmembers\tsample.Sample\t0\t2",
+			"sample.Sample\tproperty\tarray\t-\tsetArray\t[Ljava.lang.String;\tjava.lang.String[]\t-",
+			"sample.Sample\tproperty\tmap\tgetMap\t-\t-\tjava.util.Map<java.lang.String,sample.Sample>"
+				+ "\tjava.lang.Deprecated"
+		);
+	}
+
+	@Test
+	void indexBuilder() throws IOException {
+		List<String> actual = process(
+			"sample.Sample",
+			"package sample;\n"
+				+ "@com.navercorp.fixturemonkey.processor.IndexedProperties\n"
+				+ "public class Sample {\n"
+				+ "	public static SampleBuilder builder() { return new SampleBuilder(); }\n"
+				+ "	public static class SampleBuilder {\n"
+				+ "		public SampleBuilder name(String name) { return this; }\n"
+				+ "		public Sample build() { return new Sample(); }\n"
+				+ "	}\n"
+				+ "}\n"
+		);
+
+		then(actual).containsExactly(
+			"sample.Sample\ttype",
+			"sample.Sample\tmembers\tsample.Sample\t0\t0",
+			"sample.Sample\tbuilder\tbuilder\tbuild",
+			"sample.Sample$SampleBuilder\ttype",
+			"sample.Sample$SampleBuilder\tmembers\tsample.Sample$SampleBuilder\t0\t2"
+		);
+	}
+
+	@Test
+	void notIndexOverloadedSetter() throws IOException {
+		List<String> actual = process(
+			"sample.Sample",
+			"package sample;\n"
+				+ "@com.navercorp.fixturemonkey.processor.IndexedProperties\n"
+				+ "public class Sample {\n"
+				+ "	public void setName(String name) { }\n"
+				+ "	public void setName(Integer name) { }\n"
+				+ "}\n"
+		);
+
+		then(actual).isEmpty();
+	}
+
+	@Test
+	void notIndexInheritedGenericAccessor() throws IOException {
+		List<String> actual = process(
+			"sample.Sample",
+			"package sample;\n"
+				+ "@com.navercorp.fixturemonkey.processor.IndexedProperties\n"
+				+ "public class Sample extends Parent<String> {\n"
+				+ "}\n"
+				+ "@com.navercorp.fixturemonkey.processor.IndexedProperties\n"
+				+ "class Parent<T> {\n"
+				+ "	public T getValue() { return null; }\n"
+				+ "}\n"
+		);
+
+		then(actual).containsExactly(
+			"sample.Parent\ttype",
+			"sample.Parent\tmembers\tsample.Parent\t0\t1",
+			"sample.Parent\tproperty\tvalue\tgetValue\t-\t-\tT\t-"
+		);
+	}
+
+	@Test
+	void notIndexWithoutIndexedProperties() throws IOException {
+		List<String> actual = process(
+			"sample.Sample",
+			"package sample;\n"
+				+ "public class Sample {\n"
+				+ "	public String getName() { return null; }\n"
+				+ "}\n"
+		);
+
+		then(actual).isEmpty();
+	}
+
+	@Test
+	void indexLombokDataProcessedBeforeLombok() throws Exception {
+		List<String> actual = process(
+			"sample.Sample",
+			"package sample;\n"
+				+ "@com.navercorp.fixturemonkey.processor.IndexedProperties\n"
+				+ "@lombok.Data\n"
+				+ "public class Sample {\n"
+				+ "	private String name;\n"
+				+ "}\n",
+			new PropertyMetadataProcessor(),
+			lombokProcessor()
+		);
+
+		then(actual).containsExactly(
+			"sample.Sample\ttype",
+			"sample.Sample\tmembers\tsample.Sample\t1\t5",
+			"sample.Sample\tfield\tname\tsample.Sample\tjava.lang.String\t-",
+			"sample.Sample\tproperty\tname\tgetName\tsetName\tjava.lang.String\tjava.lang.String\t-"
+		);
+	}
+
+	@Test
+	void failLombokDataWithoutLombok() {
+		boolean actual = compile(
+			"sample.Sample",
+			"package sample;\n"
+				+ "@com.navercorp.fixturemonkey.processor.IndexedProperties\n"
+				+ "@lombok.Data\n"
+				+ "public class Sample {\n"
+				+ "	private String name;\n"
+				+ "}\n",
+			new PropertyMetadataProcessor()
+		);
+
+		then(actual).isFalse();
+	}
+
+	private List<String> process(String className, String source) throws IOException {
+		return process(className, source, new PropertyMetadataProcessor());
+	}
+
+	private List<String> process(String className, String source, Processor... processors) throws IOException {
+		then(compile(className, source, processors)).isTrue();
+
+		Path index = outputDirectory.resolve(PropertyMetadataProcessor.INDEX_LOCATION);
+		if (!Files.exists(index)) {
+			return Collections.emptyList();
+		}
+
+		List<String> lines = Files.readAllLines(index, UTF_8);
+		return lines.subList(1, lines.size());
+	}
+
+	private boolean compile(String className, String source, Processor... processors) {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		JavaFileObject sourceFile = new SimpleJavaFileObject(
+			URI.create("string:///" + className.replace('.', '/') + ".java"),
+			JavaFileObject.Kind.SOURCE
+		) {
+			@Override
+			public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+				return source;
+			}
+		};
+
+		JavaCompiler.CompilationTask task = compiler.getTask(
+			null,
+			null,
+			null,
+			Arrays.asList("-d", outputDirectory.toString(), "-classpath", getClasspath()),
+			null,
+			Collections.singletonList(sourceFile)
+		);
+		task.setProcessors(Arrays.asList(processors));
+		return task.call();
+	}
+
+	private static Processor lombokProcessor() throws ReflectiveOperationException {
+		return (Processor)Class.forName("lombok.launch.AnnotationProcessorHider$AnnotationProcessor")
+			.getDeclaredConstructor()
+			.newInstance();
+	}
+
+	private static String getClasspath() {
+		return getPath(Data.class) + File.pathSeparator + getPath(IndexedProperties.class);
+	}
+
+	private static String getPath(Class<?> type) {
+		try {
+			return Paths.get(type.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+		} catch (URISyntaxException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+}
@@ -0,0 +1,223 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.accessor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.ReflectionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.navercorp.fixturemonkey.api.collection.ConcurrentLruCache;
+
+/**
+ * Compiles constructors, methods and field writers into {@link MethodHandle}s once per member.
+ * It falls back to reflection if a member could not be unreflected.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class AccessorCache {
+	private static final Logger LOGGER = LoggerFactory.getLogger(AccessorCache.class);
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+	private static final MethodType SUPPLIER_TYPE = MethodType.methodType(Object.class);
+	private static final MethodType FUNCTION_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType BI_FUNCTION_TYPE =
+		MethodType.methodType(Object.class, Object.class, Object.class);
+	private static final MethodType WRITER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private static final Map<Class<?>, Supplier<Object>> NO_ARGS_CONSTRUCTORS = new ConcurrentLruCache<>(2000);
+	private static final Map<Method, Supplier<Object>> STATIC_METHODS = new ConcurrentLruCache<>(2000);
+	private static final Map<Method, Function<Object, Object>> INSTANCE_METHODS = new ConcurrentLruCache<>(2000);
+	private static final Map<Method, BiFunction<Object, Object, Object>> SINGLE_PARAMETER_METHODS =
+		new ConcurrentLruCache<>(2000);
+	private static final Map<Method, Setter> SETTERS = new ConcurrentLruCache<>(2000);
+	private static final Map<Field, FieldWriter> FIELD_WRITERS = new ConcurrentLruCache<>(2000);
+
+	/**
+	 * Returns a supplier which creates an instance by the no-args constructor of given type.
+	 */
+	public static Supplier<Object> getNoArgsConstructor(Class<?> type) {
+		return NO_ARGS_CONSTRUCTORS.computeIfAbsent(type, t -> {
+			try {
+				Constructor<?> constructor = t.getDeclaredConstructor();
+				constructor.setAccessible(true);
+				MethodHandle methodHandle = LOOKUP.unreflectConstructor(constructor).asType(SUPPLIER_TYPE);
+				return () -> {
+					try {
+						return methodHandle.invokeExact();
+					} catch (Throwable throwable) {
+						throw ExceptionUtils.throwAsUncheckedException(throwable);
+					}
+				};
+			} catch (NoSuchMethodException | IllegalAccessException | RuntimeException ex) {
+				LOGGER.debug("Unreflect no-args constructor is failed, uses reflection. type: {}", t, ex);
+				return () -> ReflectionUtils.newInstance(t);
+			}
+		});
+	}
+
+	/**
+	 * Returns a supplier which invokes given static method without arguments.
+	 */
+	public static Supplier<Object> getStaticMethod(Method method) {
+		return STATIC_METHODS.computeIfAbsent(method, m -> {
+			try {
+				MethodHandle methodHandle = unreflect(m).asType(SUPPLIER_TYPE);
+				return () -> {
+					try {
+						return methodHandle.invokeExact();
+					} catch (Throwable throwable) {
+						throw ExceptionUtils.throwAsUncheckedException(throwable);
+					}
+				};
+			} catch (IllegalAccessException | RuntimeException ex) {
+				LOGGER.debug("Unreflect static method is failed, uses reflection. method: {}", m, ex);
+				return () -> ReflectionUtils.invokeMethod(m, null);
+			}
+		});
+	}
+
+	/**
+	 * Returns a function which invokes given instance method without arguments on the given target.
+	 */
+	public static Function<Object, Object> getInstanceMethod(Method method) {
+		return INSTANCE_METHODS.computeIfAbsent(method, m -> {
+			try {
+				MethodHandle methodHandle = unreflect(m).asType(FUNCTION_TYPE);
+				return target -> {
+					try {
+						return methodHandle.invokeExact(target);
+					} catch (Throwable throwable) {
+						throw ExceptionUtils.throwAsUncheckedException(throwable);
+					}
+				};
+			} catch (IllegalAccessException | RuntimeException ex) {
+				LOGGER.debug("Unreflect method is failed, uses reflection. method: {}", m, ex);
+				return target -> ReflectionUtils.invokeMethod(m, target);
+			}
+		});
+	}
+
+	/**
+	 * Returns a function which invokes given instance method with a single argument on the given target.
+	 * It is used for setters and builder methods, the result is {@code null} if the method returns void.
+	 */
+	public static BiFunction<Object, Object, Object> getSingleParameterMethod(Method method) {
+		return SINGLE_PARAMETER_METHODS.computeIfAbsent(method, m -> {
+			try {
+				MethodHandle methodHandle = unreflect(m).asType(BI_FUNCTION_TYPE);
+				return (target, argument) -> {
+					try {
+						return methodHandle.invokeExact(target, argument);
+					} catch (Throwable throwable) {
+						throw ExceptionUtils.throwAsUncheckedException(throwable);
+					}
+				};
+			} catch (IllegalAccessException | RuntimeException ex) {
+				LOGGER.debug("Unreflect method is failed, uses reflection. method: {}", m, ex);
+				return (target, argument) -> ReflectionUtils.invokeMethod(m, target, argument);
+			}
+		});
+	}
+
+	/**
+	 * Returns a setter which invokes given single parameter method on the given target and ignores its result.
+	 * As {@link Method#invoke(Object, Object...)}, an exception thrown by the method is wrapped
+	 * in {@link InvocationTargetException}.
+	 */
+	public static Setter getSetter(Method method) {
+		return SETTERS.computeIfAbsent(method, m -> {
+			try {
+				MethodHandle methodHandle = unreflect(m).asType(WRITER_TYPE);
+				return (target, value) -> {
+					try {
+						methodHandle.invokeExact(target, value);
+					} catch (Throwable throwable) {
+						throw new InvocationTargetException(throwable);
+					}
+				};
+			} catch (IllegalAccessException | RuntimeException ex) {
+				LOGGER.debug("Unreflect setter is failed, uses reflection. method: {}", m, ex);
+				return (target, value) -> m.invoke(target, value);
+			}
+		});
+	}
+
+	/**
+	 * Returns a writer which sets the value of given non-static field.
+	 */
+	public static FieldWriter getFieldWriter(Field field) {
+		return FIELD_WRITERS.computeIfAbsent(field, f -> {
+			try {
+				if (Modifier.isFinal(f.getModifiers())) {
+					throw new IllegalArgumentException("Final field could not be unreflected. field: " + f);
+				}
+				f.setAccessible(true);
+				MethodHandle methodHandle = LOOKUP.unreflectSetter(f).asType(WRITER_TYPE);
+				return (target, value) -> {
+					try {
+						methodHandle.invokeExact(target, value);
+					} catch (Throwable throwable) {
+						throw ExceptionUtils.throwAsUncheckedException(throwable);
+					}
+				};
+			} catch (IllegalAccessException | RuntimeException ex) {
+				LOGGER.debug("Unreflect field is failed, uses reflection. field: {}", f, ex);
+				return f::set;
+			}
+		});
+	}
+
+	public static void clearCache() {
+		NO_ARGS_CONSTRUCTORS.clear();
+		STATIC_METHODS.clear();
+		INSTANCE_METHODS.clear();
+		SINGLE_PARAMETER_METHODS.clear();
+		SETTERS.clear();
+		FIELD_WRITERS.clear();
+	}
+
+	private static MethodHandle unreflect(Method method) throws IllegalAccessException {
+		method.setAccessible(true);
+		return LOOKUP.unreflect(method);
+	}
+
+	@FunctionalInterface
+	public interface Setter {
+		void set(Object target, Object value) throws IllegalAccessException, InvocationTargetException;
+	}
+
+	@FunctionalInterface
+	public interface FieldWriter {
+		void write(Object target, Object value) throws IllegalAccessException;
+	}
+}
@@ -0,0 +1,340 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.collection;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * A thread-safe bounded cache with approximate LRU eviction.
+ * Keys are spread over lock-striped segments, each segment evicts its own least recently used entry.
+ * Small caches use a single segment, which makes them an exact LRU.
+ * <p>
+ * {@link #computeIfAbsent(Object, Function)} calls the mapping function at most once per absent key.
+ * The first thread missing the key computes it without holding any lock,
+ * the other threads missing the same key wait for it and return the computed value.
+ * A mapping function computing its own key, directly or through the mapping functions of other threads
+ * waiting for each other, throws {@link IllegalStateException} instead of deadlocking.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class ConcurrentLruCache<K, V> extends AbstractMap<K, V> {
+	private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+	private static final int MIN_SEGMENT_SIZE = 64;
+
+	private final int maxSize;
+	private final Segment<K, V>[] segments;
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+	public ConcurrentLruCache(int maxSize) {
+		this(maxSize, DEFAULT_CONCURRENCY_LEVEL);
+	}
+
+	@SuppressWarnings("unchecked")
+	public ConcurrentLruCache(int maxSize, int concurrencyLevel) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException("maxSize should not be negative. maxSize: " + maxSize);
+		}
+		if (concurrencyLevel <= 0) {
+			throw new IllegalArgumentException("concurrencyLevel should be positive. concurrencyLevel: "
+				+ concurrencyLevel);
+		}
+
+		int segmentCount = 1;
+		while (segmentCount < concurrencyLevel && segmentCount * 2 * MIN_SEGMENT_SIZE <= maxSize) {
+			segmentCount *= 2;
+		}
+
+		this.maxSize = maxSize;
+		this.segments = new Segment[segmentCount];
+		int segmentSize = maxSize / segmentCount;
+		int remainder = maxSize % segmentCount;
+		for (int i = 0; i < segmentCount; i++) {
+			segments[i] = new Segment<>(i < remainder ? segmentSize + 1 : segmentSize, evictionCount);
+		}
+	}
+
+	@Nullable
+	@Override
+	public V get(Object key) {
+		Segment<K, V> segment = segmentFor(key);
+		V value;
+		synchronized (segment) {
+			value = segment.get(key);
+		}
+		record(value != null);
+		return value;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			return segment.containsKey(key);
+		}
+	}
+
+	@Nullable
+	@Override
+	public V put(K key, V value) {
+		Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			return segment.put(key, value);
+		}
+	}
+
+	@Nullable
+	@Override
+	public V putIfAbsent(K key, V value) {
+		Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			V previous = segment.get(key);
+			if (previous == null) {
+				segment.put(key, value);
+			}
+			return previous;
+		}
+	}
+
+	@Override
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		Segment<K, V> segment = segmentFor(key);
+		PendingValue<V> pendingValue;
+		boolean computing = false;
+		synchronized (segment) {
+			V value = segment.get(key);
+			if (value != null) {
+				record(true);
+				return value;
+			}
+
+			pendingValue = segment.pendingValues.get(key);
+			if (pendingValue == null) {
+				pendingValue = new PendingValue<>(Thread.currentThread());
+				segment.pendingValues.put(key, pendingValue);
+				computing = true;
+			}
+		}
+		record(false);
+
+		if (!computing) {
+			return pendingValue.await();
+		}
+
+		// computes outside the lock, the mapping function may be slow or access this cache again
+		V computed;
+		try {
+			computed = mappingFunction.apply(key);
+		} catch (RuntimeException | Error ex) {
+			synchronized (segment) {
+				segment.pendingValues.remove(key);
+			}
+			pendingValue.completeExceptionally(ex);
+			throw ex;
+		}
+
+		synchronized (segment) {
+			segment.pendingValues.remove(key);
+			V previous = segment.get(key);
+			if (previous != null) {
+				computed = previous;
+			} else if (computed != null) {
+				segment.put(key, computed);
+			}
+		}
+		pendingValue.complete(computed);
+		return computed;
+	}
+
+	@Nullable
+	@Override
+	public V remove(Object key) {
+		Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			return segment.remove(key);
+		}
+	}
+
+	@Override
+	public void clear() {
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+				segment.clear();
+			}
+		}
+	}
+
+	@Override
+	public int size() {
+		int size = 0;
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+				size += segment.size();
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Returns an unmodifiable snapshot of the entries, it does not reflect later changes.
+	 */
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		Set<Entry<K, V>> entries = new HashSet<>();
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+				for (Entry<K, V> entry : segment.entrySet()) {
+					entries.add(new SimpleImmutableEntry<>(entry));
+				}
+			}
+		}
+		return Collections.unmodifiableSet(entries);
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	private Segment<K, V> segmentFor(@Nullable Object key) {
+		if (segments.length == 1) {
+			return segments[0];
+		}
+		int hash = key == null ? 0 : key.hashCode();
+		hash ^= (hash >>> 16);
+		return segments[hash & (segments.length - 1)];
+	}
+
+	private void record(boolean hit) {
+		if (hit) {
+			hitCount.increment();
+		} else {
+			missCount.increment();
+		}
+	}
+
+	/**
+	 * The value of a key being computed by the {@code owner} thread.
+	 */
+	private static final class PendingValue<V> extends CompletableFuture<V> {
+		// the pending value each thread waits for, shared by all the caches as a mapping function may use another one
+		private static final Map<Thread, PendingValue<?>> WAITING = new ConcurrentHashMap<>();
+
+		private final Thread owner;
+
+		PendingValue(Thread owner) {
+			this.owner = owner;
+		}
+
+		@Nullable
+		V await() {
+			Thread current = Thread.currentThread();
+			if (owner == current) {
+				throw new IllegalStateException("The mapping function computes its own key recursively.");
+			}
+
+			// registers before checking, one of the threads closing a cycle at the same time sees the other
+			WAITING.put(current, this);
+			try {
+				if (isAwaitedBy(current)) {
+					throw new IllegalStateException(
+						"The mapping functions of several threads compute the keys of each other recursively."
+					);
+				}
+				return join();
+			} catch (CompletionException ex) {
+				Throwable cause = ex.getCause();
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException)cause;
+				}
+				if (cause instanceof Error) {
+					throw (Error)cause;
+				}
+				throw ex;
+			} finally {
+				WAITING.remove(current);
+			}
+		}
+
+		/**
+		 * Returns true if the owner waits for {@code thread}, through the owners of the values they wait for.
+		 * The steps are bounded, a cycle not including {@code thread} is detected by its own threads.
+		 */
+		private boolean isAwaitedBy(Thread thread) {
+			Thread waiting = owner;
+			for (int step = WAITING.size(); waiting != null && step >= 0; step--) {
+				if (waiting == thread) {
+					return true;
+				}
+				PendingValue<?> awaited = WAITING.get(waiting);
+				waiting = awaited == null ? null : awaited.owner;
+			}
+			return false;
+		}
+	}
+
+	private static final class Segment<K, V> extends LinkedHashMap<K, V> {
+		private final int maxSize;
+		private final LongAdder evictionCount;
+		// guarded by the lock of the segment as its entries
+		private final transient Map<K, PendingValue<V>> pendingValues = new HashMap<>();
+
+		Segment(int maxSize, LongAdder evictionCount) {
+			super(16, 0.75f, true);
+			this.maxSize = maxSize;
+			this.evictionCount = evictionCount;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+			if (size() > maxSize) {
+				evictionCount.increment();
+				return true;
+			}
+			return false;
+		}
+	}
+}
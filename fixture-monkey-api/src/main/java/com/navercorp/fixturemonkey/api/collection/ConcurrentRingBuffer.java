@@ -0,0 +1,136 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.collection;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * A lock-free bounded queue for multiple producers and consumers, backed by a ring of slots.
+ * Each slot has a sequence telling whether it is ready to be offered or polled for the current lap,
+ * producers and consumers claim slots by incrementing the tail and the head.
+ * <p>
+ * It does not accept {@code null}, {@link #poll()} returns {@code null} if it is empty.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class ConcurrentRingBuffer<E> {
+	private final int capacity;
+	private final int mask;
+	private final AtomicReferenceArray<E> elements;
+	private final AtomicLongArray sequences;
+	private final AtomicLong head = new AtomicLong();
+	private final AtomicLong tail = new AtomicLong();
+
+	public ConcurrentRingBuffer(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("capacity should be positive. capacity: " + capacity);
+		}
+
+		int slotCount = Integer.highestOneBit(capacity);
+		if (slotCount < capacity) {
+			slotCount <<= 1;
+		}
+
+		this.capacity = capacity;
+		this.mask = slotCount - 1;
+		this.elements = new AtomicReferenceArray<>(slotCount);
+		this.sequences = new AtomicLongArray(slotCount);
+		for (int i = 0; i < slotCount; i++) {
+			sequences.set(i, i);
+		}
+	}
+
+	/**
+	 * Adds the element at the tail.
+	 *
+	 * @return false if it is full
+	 */
+	public boolean offer(E element) {
+		if (element == null) {
+			throw new NullPointerException("element should not be null.");
+		}
+
+		long position = tail.get();
+		while (true) {
+			if (position - head.get() >= capacity) {
+				return false;
+			}
+
+			int index = (int)(position & mask);
+			long difference = sequences.get(index) - position;
+			if (difference == 0) {
+				if (tail.compareAndSet(position, position + 1)) {
+					elements.set(index, element);
+					sequences.set(index, position + 1);
+					return true;
+				}
+				position = tail.get();
+			} else if (difference < 0) {
+				return false; // the slot is not polled yet since the last lap
+			} else {
+				position = tail.get();
+			}
+		}
+	}
+
+	/**
+	 * Removes the element at the head.
+	 *
+	 * @return null if it is empty
+	 */
+	@Nullable
+	public E poll() {
+		long position = head.get();
+		while (true) {
+			int index = (int)(position & mask);
+			long difference = sequences.get(index) - (position + 1);
+			if (difference == 0) {
+				if (head.compareAndSet(position, position + 1)) {
+					E element = elements.get(index);
+					elements.set(index, null);
+					sequences.set(index, position + mask + 1);
+					return element;
+				}
+				position = head.get();
+			} else if (difference < 0) {
+				return null; // the slot is not offered yet in this lap
+			} else {
+				position = head.get();
+			}
+		}
+	}
+
+	/**
+	 * Returns the approximate number of elements, elements being offered or polled concurrently may be counted.
+	 */
+	public int size() {
+		long size = tail.get() - head.get();
+		return (int)Math.max(0, Math.min(size, capacity));
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+}
@@ -27,15 +27,10 @@ import org.apiguardian.api.API.Status;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public final class IteratorCache {
-	private static final LruCache<Iterator<?>, List<?>> ITERATOR_TO_LIST = new LruCache<>(2000);
+	private static final ConcurrentLruCache<Iterator<?>, List<?>> ITERATOR_TO_LIST = new ConcurrentLruCache<>(2000);
 
 	public static List<?> getList(Iterator<?> iterator) {
-		if (ITERATOR_TO_LIST.containsKey(iterator)) {
-			return ITERATOR_TO_LIST.get(iterator);
-		}
-		List<?> list = toList(iterator);
-		ITERATOR_TO_LIST.put(iterator, list);
-		return list;
+		return ITERATOR_TO_LIST.computeIfAbsent(iterator, IteratorCache::toList);
 	}
 
 	private static <T> List<T> toList(Iterator<T> iterator) {
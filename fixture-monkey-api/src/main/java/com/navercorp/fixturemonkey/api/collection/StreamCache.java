@@ -27,15 +27,10 @@ import org.apiguardian.api.API.Status;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public final class StreamCache {
-	private static final LruCache<Stream<?>, List<?>> STREAM_TO_LIST = new LruCache<>(2000);
+	private static final ConcurrentLruCache<Stream<?>, List<?>> STREAM_TO_LIST = new ConcurrentLruCache<>(2000);
 
 	public static List<?> getList(Stream<?> stream) {
-		if (STREAM_TO_LIST.containsKey(stream)) {
-			return STREAM_TO_LIST.get(stream);
-		}
-		List<?> list = stream.collect(Collectors.toList());
-		STREAM_TO_LIST.put(stream, list);
-		return list;
+		return STREAM_TO_LIST.computeIfAbsent(stream, it -> it.collect(Collectors.toList()));
 	}
 
 }
@@ -18,13 +18,26 @@
 
 package com.navercorp.fixturemonkey.api.generator;
 
+import javax.annotation.Nullable;
+
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import net.jqwik.api.Arbitrary;
 
+import com.navercorp.fixturemonkey.api.introspector.ObjectInstantiator;
+
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 @FunctionalInterface
 public interface ArbitraryGenerator {
 	Arbitrary<?> generate(ArbitraryGeneratorContext context);
+
+	/**
+	 * Returns an instantiator which generates the same objects as {@link #generate} without an arbitrary,
+	 * except injecting null. Null means the objects could only be generated by {@link #generate}.
+	 */
+	@Nullable
+	default ObjectInstantiator instantiator(ArbitraryGeneratorContext context) {
+		return null;
+	}
 }
@@ -18,6 +18,8 @@
 
 package com.navercorp.fixturemonkey.api.generator;
 
+import javax.annotation.Nullable;
+
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
@@ -26,6 +28,7 @@ import net.jqwik.api.Arbitrary;
 
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector;
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospectorResult;
+import com.navercorp.fixturemonkey.api.introspector.ObjectInstantiator;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public class DefaultArbitraryGenerator implements ArbitraryGenerator {
@@ -50,4 +53,10 @@ public class DefaultArbitraryGenerator implements ArbitraryGenerator {
 
 		return Arbitraries.just(null);
 	}
+
+	@Nullable
+	@Override
+	public ObjectInstantiator instantiator(ArbitraryGeneratorContext context) {
+		return this.arbitraryIntrospector.instantiator(context);
+	}
 }
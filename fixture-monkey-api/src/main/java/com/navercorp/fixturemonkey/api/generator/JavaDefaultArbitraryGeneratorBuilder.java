@@ -18,7 +18,9 @@
 
 package com.navercorp.fixturemonkey.api.generator;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.UnaryOperator;
 
 import org.apiguardian.api.API;
@@ -30,6 +32,7 @@ import com.navercorp.fixturemonkey.api.introspector.ArrayIntrospector;
 import com.navercorp.fixturemonkey.api.introspector.BeanArbitraryIntrospector;
 import com.navercorp.fixturemonkey.api.introspector.BooleanIntrospector;
 import com.navercorp.fixturemonkey.api.introspector.CompositeArbitraryIntrospector;
+import com.navercorp.fixturemonkey.api.introspector.DirectLeafArbitraryIntrospector;
 import com.navercorp.fixturemonkey.api.introspector.EntryIntrospector;
 import com.navercorp.fixturemonkey.api.introspector.EnumIntrospector;
 import com.navercorp.fixturemonkey.api.introspector.IterableIntrospector;
@@ -40,6 +43,7 @@ import com.navercorp.fixturemonkey.api.introspector.JavaTimeArbitraryIntrospecto
 import com.navercorp.fixturemonkey.api.introspector.JavaTimeArbitraryResolver;
 import com.navercorp.fixturemonkey.api.introspector.JavaTimeTypeArbitraryGenerator;
 import com.navercorp.fixturemonkey.api.introspector.JavaTypeArbitraryGenerator;
+import com.navercorp.fixturemonkey.api.introspector.LazyContainerIntrospector;
 import com.navercorp.fixturemonkey.api.introspector.ListIntrospector;
 import com.navercorp.fixturemonkey.api.introspector.MapEntryElementIntrospector;
 import com.navercorp.fixturemonkey.api.introspector.MapIntrospector;
@@ -95,6 +99,9 @@ public final class JavaDefaultArbitraryGeneratorBuilder {
 
 	private ArbitraryIntrospector fallbackIntrospector = (context) -> ArbitraryIntrospectorResult.EMPTY;
 
+	private boolean directLeafGeneration = false;
+	private boolean lazyContainerGeneration = false;
+
 	JavaDefaultArbitraryGeneratorBuilder() {
 	}
 
@@ -172,21 +179,49 @@ public final class JavaDefaultArbitraryGeneratorBuilder {
 		return this;
 	}
 
+	/**
+	 * Generates not annotated leaf values by {@link DirectLeafArbitraryIntrospector},
+	 * the arbitraries of {@link JavaTypeArbitraryGenerator} are built once and {@link JavaArbitraryResolver}
+	 * is not applied to them.
+	 */
+	public JavaDefaultArbitraryGeneratorBuilder directLeafGeneration(boolean directLeafGeneration) {
+		this.directLeafGeneration = directLeafGeneration;
+		return this;
+	}
+
+	/**
+	 * Generates the elements of streams, iterators and iterables on demand by {@link LazyContainerIntrospector}.
+	 */
+	public JavaDefaultArbitraryGeneratorBuilder lazyContainerGeneration(boolean lazyContainerGeneration) {
+		this.lazyContainerGeneration = lazyContainerGeneration;
+		return this;
+	}
+
 	public DefaultArbitraryGenerator build() {
-		return new DefaultArbitraryGenerator(
-			new CompositeArbitraryIntrospector(
-				Arrays.asList(
-					new JavaArbitraryIntrospector(javaTypeArbitraryGenerator, javaArbitraryResolver),
-					new JavaTimeArbitraryIntrospector(
-						javaTimeTypeArbitraryGenerator,
-						javaTimeArbitraryResolver
-					),
-					this.priorityIntrospector,
-					this.containerIntrospector,
-					this.objectIntrospector,
-					this.fallbackIntrospector
-				)
+		List<ArbitraryIntrospector> introspectors = new ArrayList<>();
+		if (this.directLeafGeneration) {
+			introspectors.add(new DirectLeafArbitraryIntrospector(javaTypeArbitraryGenerator));
+		}
+		introspectors.addAll(
+			Arrays.asList(
+				new JavaArbitraryIntrospector(javaTypeArbitraryGenerator, javaArbitraryResolver),
+				new JavaTimeArbitraryIntrospector(
+					javaTimeTypeArbitraryGenerator,
+					javaTimeArbitraryResolver
+				),
+				this.priorityIntrospector
+			)
+		);
+		if (this.lazyContainerGeneration) {
+			introspectors.add(LazyContainerIntrospector.INSTANCE);
+		}
+		introspectors.addAll(
+			Arrays.asList(
+				this.containerIntrospector,
+				this.objectIntrospector,
+				this.fallbackIntrospector
 			)
 		);
+		return new DefaultArbitraryGenerator(new CompositeArbitraryIntrospector(introspectors));
 	}
 }
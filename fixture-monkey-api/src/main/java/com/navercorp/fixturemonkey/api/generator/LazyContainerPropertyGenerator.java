@@ -0,0 +1,72 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.generator;
+
+import java.util.stream.BaseStream;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.introspector.LazyContainerIntrospector;
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.type.Types;
+
+/**
+ * Generates a container property of a single element regardless of its size,
+ * the element is the template of the elements generated on demand by {@link LazyContainerIntrospector}.
+ * The size of the container is drawn when it is generated, not when it is traversed.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class LazyContainerPropertyGenerator implements ContainerPropertyGenerator {
+	public static final LazyContainerPropertyGenerator INSTANCE = new LazyContainerPropertyGenerator();
+
+	@Override
+	public ContainerProperty generate(ContainerPropertyGeneratorContext context) {
+		Property property = context.getProperty();
+
+		ArbitraryContainerInfo containerInfo = context.getContainerInfo();
+		if (containerInfo == null) {
+			containerInfo = context.getGenerateOptions()
+				.getArbitraryContainerInfoGenerator(property)
+				.generate(context);
+		}
+
+		ContainerPropertyGenerator delegate = BaseStream.class.isAssignableFrom(Types.getActualType(property.getType()))
+			? StreamContainerPropertyGenerator.INSTANCE
+			: DefaultContainerPropertyGenerator.INSTANCE;
+		ContainerProperty templateContainerProperty = delegate.generate(
+			new ContainerPropertyGeneratorContext(
+				property,
+				context.getElementIndex(),
+				new ArbitraryContainerInfo(1, 1, containerInfo.isManipulated()),
+				context.getGenerateOptions()
+			)
+		);
+
+		// a new container info, it is not resized as a container of which elements are traversed
+		return new ContainerProperty(
+			templateContainerProperty.getElementProperties(),
+			new ArbitraryContainerInfo(
+				containerInfo.getElementMinSize(),
+				containerInfo.getElementMaxSize(),
+				containerInfo.isManipulated()
+			)
+		);
+	}
+}
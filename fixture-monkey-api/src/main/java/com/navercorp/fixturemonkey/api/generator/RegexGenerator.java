@@ -0,0 +1,426 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.generator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Random;
+import java.util.function.IntUnaryOperator;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+
+import dk.brics.automaton.Automaton;
+import dk.brics.automaton.RegExp;
+import dk.brics.automaton.State;
+import dk.brics.automaton.Transition;
+
+import com.navercorp.fixturemonkey.api.collection.ConcurrentLruCache;
+
+/**
+ * Generates strings matching a regular expression by a random walk over its automaton.
+ * A length is chosen uniformly among the feasible lengths, a string of that length is chosen uniformly.
+ * Compiled automatons and length tables are cached, sampling a string of length n takes O(n) steps.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class RegexGenerator {
+	private static final int DEFAULT_MAX_LENGTH = 255;
+	private static final Map<String, String> PREDEFINED_CHARACTER_CLASSES;
+	private static final Map<RegexKey, CompiledRegex> COMPILED_REGEXES = new ConcurrentLruCache<>(256);
+	private static final Map<RegexKey, RegexSampler> REGEX_SAMPLERS = new ConcurrentLruCache<>(256);
+
+	static {
+		Map<String, String> characterClasses = new HashMap<>();
+		characterClasses.put("\\\\d", "[0-9]");
+		characterClasses.put("\\\\D", "[^0-9]");
+		characterClasses.put("\\\\s", "[ \t\n\f\r]");
+		characterClasses.put("\\\\S", "[^ \t\n\f\r]");
+		characterClasses.put("\\\\w", "[a-zA-Z_0-9]");
+		characterClasses.put("\\\\W", "[^a-zA-Z_0-9]");
+		PREDEFINED_CHARACTER_CLASSES = Collections.unmodifiableMap(characterClasses);
+	}
+
+	public Arbitrary<String> generate(String regexp, int flags) {
+		return this.generate(regexp, flags, null, null, false);
+	}
+
+	/**
+	 * Returns an arbitrary of strings matching the {@code regexp}.
+	 * The length of them is between {@code min} and {@code max},
+	 * it is at most 255 if {@code max} is not given or it is larger than 255 and {@code min}.
+	 * <p>
+	 * {@code flags} are the match flags of {@link Pattern}, e.g. the values of javax validation {@code Pattern.Flag}.
+	 * {@link Pattern#CASE_INSENSITIVE}, {@link Pattern#UNICODE_CASE}, {@link Pattern#COMMENTS}
+	 * and {@link Pattern#LITERAL} change the generated strings. The other flags are ignored,
+	 * a string matching the {@code regexp} without them also matches it with them.
+	 *
+	 * @param flags    the bit mask of the match flags of {@link Pattern}, 0 if there is no flag
+	 * @param notBlank if true, strings consisting of whitespaces only are never generated
+	 * @throws IllegalArgumentException if no string of a length between {@code min} and {@code max} matches
+	 */
+	public Arbitrary<String> generate(
+		String regexp,
+		int flags,
+		@Nullable Integer min,
+		@Nullable Integer max,
+		boolean notBlank
+	) {
+		RegexSampler sampler = REGEX_SAMPLERS.computeIfAbsent(
+			new RegexKey(regexp, flags, notBlank, min, max),
+			key -> {
+				CompiledRegex compiledRegex = COMPILED_REGEXES.computeIfAbsent(
+					new RegexKey(regexp, flags, notBlank, null, null),
+					it -> compile(regexp, flags, notBlank)
+				);
+				int minLength = min != null ? Math.max(min, 0) : 0;
+				int maxLength = Math.max(minLength, DEFAULT_MAX_LENGTH);
+				if (max != null) {
+					maxLength = Math.min(max, maxLength);
+				}
+				return new RegexSampler(compiledRegex, minLength, maxLength);
+			}
+		);
+
+		if (sampler.lengths.length == 0) {
+			throw new IllegalArgumentException(
+				"No string matches the pattern. regexp: " + regexp + ", min: " + min + ", max: " + max
+			);
+		}
+		return Arbitraries.randomValue(sampler::sample);
+	}
+
+	private static CompiledRegex compile(String regexp, int flags, boolean notBlank) {
+		Automaton automaton;
+		if ((flags & Pattern.LITERAL) != 0) {
+			automaton = Automaton.makeString(regexp);
+		} else {
+			String regex = (flags & Pattern.COMMENTS) != 0 ? removeComments(regexp) : regexp;
+			for (Map.Entry<String, String> charClass : PREDEFINED_CHARACTER_CLASSES.entrySet()) {
+				regex = regex.replaceAll(charClass.getKey(), charClass.getValue());
+			}
+			automaton = new RegExp(regex).toAutomaton();
+		}
+
+		if ((flags & Pattern.CASE_INSENSITIVE) != 0) {
+			addCaseVariants(automaton, (flags & Pattern.UNICODE_CASE) != 0);
+		}
+		if (notBlank) {
+			// String#trim removes the characters up to a space
+			Automaton notBlankAutomaton = Automaton.makeAnyString()
+				.concatenate(Automaton.makeCharRange((char)(' ' + 1), Character.MAX_VALUE))
+				.concatenate(Automaton.makeAnyString());
+			automaton = automaton.intersection(notBlankAutomaton);
+		}
+		automaton.minimize();
+		return new CompiledRegex(automaton);
+	}
+
+	/**
+	 * Removes whitespaces and comments from # to the end of a line, they are ignored by {@link Pattern#COMMENTS}.
+	 */
+	private static String removeComments(String regex) {
+		StringBuilder builder = new StringBuilder(regex.length());
+		for (int i = 0; i < regex.length(); i++) {
+			char ch = regex.charAt(i);
+			if (ch == '\\' && i + 1 < regex.length()) {
+				builder.append(ch).append(regex.charAt(++i));
+			} else if (ch == '#') {
+				while (i + 1 < regex.length() && regex.charAt(i + 1) != '\n') {
+					i++;
+				}
+			} else if (!Character.isWhitespace(ch)) {
+				builder.append(ch);
+			}
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Adds transitions of the other case of the letters, US-ASCII letters only unless {@code unicodeCase}.
+	 * {@code automaton} is not deterministic after adding them.
+	 */
+	private static void addCaseVariants(Automaton automaton, boolean unicodeCase) {
+		for (State state : automaton.getStates()) {
+			for (Transition transition : new ArrayList<>(state.getTransitions())) {
+				char min = transition.getMin();
+				char max = transition.getMax();
+				State destination = transition.getDest();
+				if (!unicodeCase) {
+					addShiftedRange(state, min, max, 'A', 'Z', 'a' - 'A', destination);
+					addShiftedRange(state, min, max, 'a', 'z', 'A' - 'a', destination);
+					continue;
+				}
+
+				CaseRuns.UPPER_CASE.addShiftedRanges(state, min, max, destination);
+				CaseRuns.LOWER_CASE.addShiftedRanges(state, min, max, destination);
+			}
+		}
+		automaton.setDeterministic(false);
+	}
+
+	private static void addShiftedRange(
+		State state,
+		char min,
+		char max,
+		char rangeMin,
+		char rangeMax,
+		int shift,
+		State destination
+	) {
+		char from = (char)Math.max(min, rangeMin);
+		char to = (char)Math.min(max, rangeMax);
+		if (from <= to) {
+			state.addTransition(new Transition((char)(from + shift), (char)(to + shift), destination));
+		}
+	}
+
+	/**
+	 * The characters whose other case differs, grouped into runs of consecutive characters at the same distance.
+	 * Runs are built once and sorted, a range is folded by visiting only the runs it overlaps.
+	 */
+	private static final class CaseRuns {
+		private static final CaseRuns UPPER_CASE = new CaseRuns(Character::toUpperCase);
+		private static final CaseRuns LOWER_CASE = new CaseRuns(Character::toLowerCase);
+
+		private final char[] starts;
+		private final char[] ends;
+		private final int[] shifts;
+
+		private CaseRuns(IntUnaryOperator toCase) {
+			List<int[]> runs = new ArrayList<>();
+			int[] run = null;
+			for (int ch = Character.MIN_VALUE; ch <= Character.MAX_VALUE; ch++) {
+				int other = toCase.applyAsInt(ch);
+				if (other == ch || other > Character.MAX_VALUE) {
+					run = null;
+					continue;
+				}
+
+				int shift = other - ch;
+				if (run != null && run[2] == shift) {
+					run[1] = ch;
+				} else {
+					run = new int[] {ch, ch, shift};
+					runs.add(run);
+				}
+			}
+
+			this.starts = new char[runs.size()];
+			this.ends = new char[runs.size()];
+			this.shifts = new int[runs.size()];
+			for (int i = 0; i < runs.size(); i++) {
+				this.starts[i] = (char)runs.get(i)[0];
+				this.ends[i] = (char)runs.get(i)[1];
+				this.shifts[i] = runs.get(i)[2];
+			}
+		}
+
+		private void addShiftedRanges(State state, char min, char max, State destination) {
+			int index = Arrays.binarySearch(this.ends, min);
+			for (int i = index < 0 ? -index - 1 : index; i < this.starts.length && this.starts[i] <= max; i++) {
+				int from = Math.max(min, this.starts[i]) + this.shifts[i];
+				int to = Math.min(max, this.ends[i]) + this.shifts[i];
+				if (from < min || to > max) {
+					state.addTransition(new Transition((char)from, (char)to, destination));
+				}
+			}
+		}
+	}
+
+	/**
+	 * An immutable deterministic automaton, the transitions of a state are disjoint character ranges.
+	 */
+	private static final class CompiledRegex {
+		private final boolean[] accepts;
+		private final char[][] transitionMins;
+		private final int[][] transitionSizes;
+		private final int[][] transitionDestinations;
+
+		private CompiledRegex(Automaton automaton) {
+			// numbers the states in breadth-first order of sorted transitions, it does not depend on hashes
+			Map<State, Integer> numbers = new HashMap<>();
+			List<State> states = new ArrayList<>();
+			Queue<State> queue = new ArrayDeque<>();
+			State initialState = automaton.getInitialState();
+			numbers.put(initialState, 0);
+			states.add(initialState);
+			queue.add(initialState);
+			while (!queue.isEmpty()) {
+				for (Transition transition : queue.poll().getSortedTransitions(false)) {
+					State destination = transition.getDest();
+					if (!numbers.containsKey(destination)) {
+						numbers.put(destination, states.size());
+						states.add(destination);
+						queue.add(destination);
+					}
+				}
+			}
+
+			int size = states.size();
+			this.accepts = new boolean[size];
+			this.transitionMins = new char[size][];
+			this.transitionSizes = new int[size][];
+			this.transitionDestinations = new int[size][];
+			for (int i = 0; i < size; i++) {
+				State state = states.get(i);
+				List<Transition> transitions = state.getSortedTransitions(false);
+				this.accepts[i] = state.isAccept();
+				this.transitionMins[i] = new char[transitions.size()];
+				this.transitionSizes[i] = new int[transitions.size()];
+				this.transitionDestinations[i] = new int[transitions.size()];
+				for (int j = 0; j < transitions.size(); j++) {
+					Transition transition = transitions.get(j);
+					this.transitionMins[i][j] = transition.getMin();
+					this.transitionSizes[i][j] = transition.getMax() - transition.getMin() + 1;
+					this.transitionDestinations[i][j] = numbers.get(transition.getDest());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Samples strings of a compiled regex whose length is between given bounds.
+	 * {@code logCounts[n][state]} is the natural logarithm of the number of strings of length n accepted from state,
+	 * logarithms do not overflow even if there are more strings than a double can hold.
+	 */
+	private static final class RegexSampler {
+		private static final int INITIAL_STATE = 0;
+
+		private final CompiledRegex regex;
+		private final double[][] logCounts;
+		private final int[] lengths;
+
+		private RegexSampler(CompiledRegex regex, int minLength, int maxLength) {
+			this.regex = regex;
+			int stateSize = regex.accepts.length;
+			this.logCounts = new double[Math.max(maxLength + 1, 1)][stateSize];
+			for (int state = 0; state < stateSize; state++) {
+				this.logCounts[0][state] = regex.accepts[state] ? 0 : Double.NEGATIVE_INFINITY;
+			}
+
+			for (int length = 1; length <= maxLength; length++) {
+				for (int state = 0; state < stateSize; state++) {
+					double logCount = Double.NEGATIVE_INFINITY;
+					for (int i = 0; i < regex.transitionDestinations[state].length; i++) {
+						double next = this.logCounts[length - 1][regex.transitionDestinations[state][i]];
+						if (next != Double.NEGATIVE_INFINITY) {
+							logCount = logSum(logCount, Math.log(regex.transitionSizes[state][i]) + next);
+						}
+					}
+					this.logCounts[length][state] = logCount;
+				}
+			}
+
+			this.lengths = IntStream.rangeClosed(minLength, maxLength)
+				.filter(length -> this.logCounts[length][INITIAL_STATE] != Double.NEGATIVE_INFINITY)
+				.toArray();
+		}
+
+		private String sample(Random random) {
+			int length = this.lengths[random.nextInt(this.lengths.length)];
+			StringBuilder builder = new StringBuilder(length);
+			int state = INITIAL_STATE;
+			for (int remaining = length; remaining > 0; remaining--) {
+				double target = random.nextDouble();
+				double cumulative = 0;
+				int chosen = -1;
+				for (int i = 0; i < this.regex.transitionDestinations[state].length; i++) {
+					double next = this.logCounts[remaining - 1][this.regex.transitionDestinations[state][i]];
+					if (next == Double.NEGATIVE_INFINITY) {
+						continue;
+					}
+
+					chosen = i;
+					cumulative += Math.exp(
+						Math.log(this.regex.transitionSizes[state][i]) + next - this.logCounts[remaining][state]
+					);
+					if (target < cumulative) {
+						break;
+					}
+				}
+
+				builder.append((char)(this.regex.transitionMins[state][chosen]
+					+ random.nextInt(this.regex.transitionSizes[state][chosen])));
+				state = this.regex.transitionDestinations[state][chosen];
+			}
+			return builder.toString();
+		}
+
+		private static double logSum(double left, double right) {
+			if (left == Double.NEGATIVE_INFINITY) {
+				return right;
+			}
+			double max = Math.max(left, right);
+			return max + Math.log1p(Math.exp(Math.min(left, right) - max));
+		}
+	}
+
+	private static final class RegexKey {
+		private final String regexp;
+		private final int flags;
+		private final boolean notBlank;
+		@Nullable
+		private final Integer min;
+		@Nullable
+		private final Integer max;
+
+		private RegexKey(String regexp, int flags, boolean notBlank, @Nullable Integer min, @Nullable Integer max) {
+			this.regexp = regexp;
+			this.flags = flags;
+			this.notBlank = notBlank;
+			this.min = min;
+			this.max = max;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			RegexKey that = (RegexKey)obj;
+			return flags == that.flags
+				&& notBlank == that.notBlank
+				&& regexp.equals(that.regexp)
+				&& Objects.equals(min, that.min)
+				&& Objects.equals(max, that.max);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(regexp, flags, notBlank, min, max);
+		}
+	}
+}
@@ -18,6 +18,8 @@
 
 package com.navercorp.fixturemonkey.api.introspector;
 
+import javax.annotation.Nullable;
+
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
@@ -27,4 +29,13 @@ import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 @FunctionalInterface
 public interface ArbitraryIntrospector {
 	ArbitraryIntrospectorResult introspect(ArbitraryGeneratorContext context);
+
+	/**
+	 * Returns an instantiator which generates the same objects as {@link #introspect} without an arbitrary.
+	 * It is only used for sampling, null means the objects could only be generated by {@link #introspect}.
+	 */
+	@Nullable
+	default ObjectInstantiator instantiator(ArbitraryGeneratorContext context) {
+		return null;
+	}
 }
@@ -22,6 +22,8 @@ import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.List;
 
+import javax.annotation.Nullable;
+
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
@@ -75,6 +77,27 @@ public final class ArrayIntrospector implements ArbitraryIntrospector, Matcher {
 		return new ArbitraryIntrospectorResult(builderCombinator.build(ArrayBuilder::build));
 	}
 
+	@Nullable
+	@Override
+	public ObjectInstantiator instantiator(ArbitraryGeneratorContext context) {
+		ArbitraryProperty property = context.getArbitraryProperty();
+		ContainerProperty containerProperty = property.getContainerProperty();
+		if (containerProperty == null || containerProperty.getContainerInfo() == null) {
+			return null;
+		}
+
+		Class<?> componentType =
+			Types.getArrayComponentType(property.getObjectProperty().getProperty().getAnnotatedType());
+		List<ArbitraryProperty> elementProperties = context.getChildren();
+		return childValues -> {
+			Object array = Array.newInstance(componentType, elementProperties.size());
+			for (int i = 0; i < elementProperties.size(); i++) {
+				Array.set(array, i, childValues.get(elementProperties.get(i)));
+			}
+			return array;
+		};
+	}
+
 	private static final class ArrayBuilder {
 		private final List<Object> array;
 		private final Class<?> componentType;
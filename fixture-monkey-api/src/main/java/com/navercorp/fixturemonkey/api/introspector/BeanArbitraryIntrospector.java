@@ -22,19 +22,26 @@ import java.beans.PropertyDescriptor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
-import org.junit.platform.commons.util.ReflectionUtils;
 
 import net.jqwik.api.Arbitrary;
 import net.jqwik.api.Builders;
 import net.jqwik.api.Builders.BuilderCombinator;
 
+import com.navercorp.fixturemonkey.api.accessor.AccessorCache;
+import com.navercorp.fixturemonkey.api.accessor.AccessorCache.Setter;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 import com.navercorp.fixturemonkey.api.property.Property;
@@ -58,7 +65,7 @@ public final class BeanArbitraryIntrospector implements ArbitraryIntrospector {
 		Map<String, Arbitrary<?>> childrenArbitraries = context.getChildrenArbitraryContexts()
 			.getArbitrariesByResolvedName();
 		Map<String, PropertyDescriptor> propertyDescriptors = PropertyCache.getPropertyDescriptors(type);
-		BuilderCombinator<?> builderCombinator = Builders.withBuilder(() -> ReflectionUtils.newInstance(type));
+		BuilderCombinator<?> builderCombinator = Builders.withBuilder(AccessorCache.getNoArgsConstructor(type));
 		for (ArbitraryProperty arbitraryProperty : childrenProperties) {
 			String originPropertyName = arbitraryProperty.getObjectProperty().getProperty().getName();
 			PropertyDescriptor propertyDescriptor = propertyDescriptors.get(originPropertyName);
@@ -67,13 +74,14 @@ public final class BeanArbitraryIntrospector implements ArbitraryIntrospector {
 				continue;
 			}
 
+			Setter setter = AccessorCache.getSetter(writeMethod);
 			String resolvePropertyName = arbitraryProperty.getObjectProperty().getResolvedPropertyName();
 			Arbitrary<?> arbitrary = childrenArbitraries.get(resolvePropertyName);
 			if (arbitrary != null) {
 				builderCombinator = builderCombinator.use(arbitrary).in((b, v) -> {
 					try {
 						if (v != null) {
-							writeMethod.invoke(b, v);
+							setter.set(b, v);
 						}
 					} catch (IllegalAccessException | InvocationTargetException e) {
 						log.warn(e,
@@ -87,4 +95,43 @@ public final class BeanArbitraryIntrospector implements ArbitraryIntrospector {
 
 		return new ArbitraryIntrospectorResult(builderCombinator.build());
 	}
+
+	@Nullable
+	@Override
+	public ObjectInstantiator instantiator(ArbitraryGeneratorContext context) {
+		Class<?> type = Types.getActualType(context.getProperty().getType());
+		if (Modifier.isAbstract(type.getModifiers())) {
+			return null;
+		}
+
+		Map<String, PropertyDescriptor> propertyDescriptors = PropertyCache.getPropertyDescriptors(type);
+		Supplier<Object> noArgsConstructor = AccessorCache.getNoArgsConstructor(type);
+		Map<ArbitraryProperty, BiConsumer<Object, Object>> settersByProperty = new LinkedHashMap<>();
+		for (ArbitraryProperty arbitraryProperty : context.getChildren()) {
+			String originPropertyName = arbitraryProperty.getObjectProperty().getProperty().getName();
+			Method writeMethod = propertyDescriptors.get(originPropertyName).getWriteMethod();
+			if (writeMethod == null) {
+				continue;
+			}
+
+			Setter setter = AccessorCache.getSetter(writeMethod);
+			settersByProperty.put(arbitraryProperty, (b, v) -> {
+				try {
+					if (v != null) {
+						setter.set(b, v);
+					}
+				} catch (IllegalAccessException | InvocationTargetException e) {
+					log.warn(e, () -> "set bean property is failed. name: " + writeMethod.getName() + " value: " + v);
+				}
+			});
+		}
+
+		return childValues -> {
+			Object bean = noArgsConstructor.get();
+			for (Entry<ArbitraryProperty, BiConsumer<Object, Object>> setterByProperty : settersByProperty.entrySet()) {
+				setterByProperty.getValue().accept(bean, childValues.get(setterByProperty.getKey()));
+			}
+			return bean;
+		};
+	}
 }
@@ -24,6 +24,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
 
 import org.apiguardian.api.API;
 import org.junit.platform.commons.util.ReflectionUtils;
@@ -32,11 +36,13 @@ import net.jqwik.api.Arbitrary;
 import net.jqwik.api.Builders;
 import net.jqwik.api.Builders.BuilderCombinator;
 
+import com.navercorp.fixturemonkey.api.accessor.AccessorCache;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 import com.navercorp.fixturemonkey.api.property.CompositeProperty;
 import com.navercorp.fixturemonkey.api.property.FieldProperty;
 import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.property.PropertyMetadataIndex;
 import com.navercorp.fixturemonkey.api.type.Types;
 
 @API(since = "0.4.0", status = API.Status.EXPERIMENTAL)
@@ -74,8 +80,9 @@ public final class BuilderArbitraryIntrospector
 		Class<?> builderType = this.getBuilderType(type);
 		Method builderMethod = BUILDER_CACHE.get(type);
 
-		BuilderCombinator<Object> builderCombinator = Builders.withBuilder(() ->
-			ReflectionUtils.invokeMethod(builderMethod, null));
+		BuilderCombinator<Object> builderCombinator = Builders.withBuilder(
+			AccessorCache.getStaticMethod(builderMethod)
+		);
 
 		for (ArbitraryProperty arbitraryProperty : childrenProperties) {
 			String methodName = getFieldName(arbitraryProperty.getObjectProperty().getProperty());
@@ -98,8 +105,9 @@ public final class BuilderArbitraryIntrospector
 				return buildFieldMethod;
 			});
 			if (method != null) {
+				BiFunction<Object, Object, Object> buildFieldMethod = AccessorCache.getSingleParameterMethod(method);
 				builderCombinator = builderCombinator.use(arbitrary)
-					.in((b, v) -> v != null ? ReflectionUtils.invokeMethod(method, b, v) : b);
+					.in((b, v) -> v != null ? buildFieldMethod.apply(b, v) : b);
 			}
 		}
 
@@ -111,11 +119,12 @@ public final class BuilderArbitraryIntrospector
 			method.setAccessible(true);
 			return method;
 		});
+		Function<Object, Object> build = AccessorCache.getInstanceMethod(buildMethod);
 		return new ArbitraryIntrospectorResult(builderCombinator.build(b -> {
 			if (b == null) {
 				return null;
 			}
-			return ReflectionUtils.invokeMethod(buildMethod, b);
+			return build.apply(b);
 		}));
 	}
 
@@ -142,7 +151,10 @@ public final class BuilderArbitraryIntrospector
 	private Class<?> getBuilderType(Class<?> objectType) {
 		Method builderMethod = BUILDER_CACHE.computeIfAbsent(objectType, t -> {
 			String builderMethodName = typedBuilderMethodName.getOrDefault(t, defaultBuilderMethodName);
-			Method method = ReflectionUtils.findMethod(t, builderMethodName).orElse(null);
+			Method method = getIndexedBuilderMethod(t, builderMethodName);
+			if (method == null) {
+				method = ReflectionUtils.findMethod(t, builderMethodName).orElse(null);
+			}
 			if (method != null) {
 				method.setAccessible(true);
 			}
@@ -154,11 +166,24 @@ public final class BuilderArbitraryIntrospector
 		}
 
 		return BUILDER_TYPE_CACHE.computeIfAbsent(objectType, t -> {
+			if (builderMethod.equals(getIndexedBuilderMethod(t, builderMethod.getName()))) {
+				return builderMethod.getReturnType();
+			}
+
 			Object builder = ReflectionUtils.invokeMethod(builderMethod, null);
 			return builder.getClass();
 		});
 	}
 
+	/**
+	 * The builder type of an indexed builder method is its return type, the processor indexes a concrete one only.
+	 */
+	@Nullable
+	private Method getIndexedBuilderMethod(Class<?> objectType, String builderMethodName) {
+		String buildMethodName = typedBuildMethodName.getOrDefault(objectType, defaultBuildMethodName);
+		return PropertyMetadataIndex.getInstance().getBuilderMethod(objectType, builderMethodName, buildMethodName);
+	}
+
 	private String getFieldName(Property property) {
 		if (property instanceof CompositeProperty) {
 			CompositeProperty compositeProperty = (CompositeProperty)property;
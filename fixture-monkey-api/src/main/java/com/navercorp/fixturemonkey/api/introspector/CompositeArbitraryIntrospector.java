@@ -20,14 +20,17 @@ package com.navercorp.fixturemonkey.api.introspector;
 
 import java.util.List;
 
+import javax.annotation.Nullable;
+
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.matcher.Matcher;
+import com.navercorp.fixturemonkey.api.property.Property;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
-public class CompositeArbitraryIntrospector implements ArbitraryIntrospector {
+public class CompositeArbitraryIntrospector implements ArbitraryIntrospector, Matcher {
 	private final List<ArbitraryIntrospector> introspectors;
 
 	public CompositeArbitraryIntrospector(List<ArbitraryIntrospector> introspectors) {
@@ -54,4 +57,33 @@ public class CompositeArbitraryIntrospector implements ArbitraryIntrospector {
 
 		return ArbitraryIntrospectorResult.EMPTY;
 	}
+
+	/**
+	 * Returns the instantiator of the first introspector which may introspect the given context.
+	 * It does not look for the next one, since it could not know if the introspector would return empty.
+	 */
+	@Nullable
+	@Override
+	public ObjectInstantiator instantiator(ArbitraryGeneratorContext context) {
+		for (ArbitraryIntrospector introspector : this.introspectors) {
+			if (introspector instanceof Matcher && !((Matcher)introspector).match(context.getProperty())) {
+				continue;
+			}
+			return introspector.instantiator(context);
+		}
+		return null;
+	}
+
+	/**
+	 * Matches the property if any of the introspectors may introspect it.
+	 */
+	@Override
+	public boolean match(Property property) {
+		for (ArbitraryIntrospector introspector : this.introspectors) {
+			if (!(introspector instanceof Matcher) || ((Matcher)introspector).match(property)) {
+				return true;
+			}
+		}
+		return false;
+	}
 }
@@ -0,0 +1,98 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.introspector;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import net.jqwik.api.Arbitrary;
+
+import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
+import com.navercorp.fixturemonkey.api.matcher.Matcher;
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.type.Types;
+
+/**
+ * Generates not annotated primitives, their wrappers, {@link String}, {@link BigInteger} and {@link BigDecimal}
+ * by the arbitraries of {@link JavaTypeArbitraryGenerator} built once, not building them again for each property.
+ * <p>
+ * The distribution, the edge cases and the characters are the same as {@link JavaArbitraryIntrospector},
+ * {@link JavaArbitraryResolver} is not applied to them. A property having any annotation is not matched,
+ * its constraints are resolved by the other introspectors.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class DirectLeafArbitraryIntrospector implements ArbitraryIntrospector, Matcher {
+	private final Map<Class<?>, Arbitrary<?>> arbitraries;
+
+	public DirectLeafArbitraryIntrospector() {
+		this(
+			new JavaTypeArbitraryGenerator() {
+			}
+		);
+	}
+
+	public DirectLeafArbitraryIntrospector(JavaTypeArbitraryGenerator arbitraryGenerator) {
+		this.arbitraries = arbitraries(arbitraryGenerator);
+	}
+
+	@Override
+	public boolean match(Property property) {
+		return property.getAnnotations().isEmpty()
+			&& this.arbitraries.containsKey(Types.getActualType(property.getType()));
+	}
+
+	@Override
+	public ArbitraryIntrospectorResult introspect(ArbitraryGeneratorContext context) {
+		Arbitrary<?> arbitrary = this.arbitraries.get(Types.getActualType(context.getType()));
+		if (arbitrary == null) {
+			return ArbitraryIntrospectorResult.EMPTY;
+		}
+		return new ArbitraryIntrospectorResult(arbitrary);
+	}
+
+	private static Map<Class<?>, Arbitrary<?>> arbitraries(JavaTypeArbitraryGenerator arbitraryGenerator) {
+		Map<Class<?>, Arbitrary<?>> arbitraries = new HashMap<>();
+
+		arbitraries.put(String.class, arbitraryGenerator.strings());
+		arbitraries.put(Character.class, arbitraryGenerator.characters());
+		arbitraries.put(Short.class, arbitraryGenerator.shorts());
+		arbitraries.put(Byte.class, arbitraryGenerator.bytes());
+		arbitraries.put(Double.class, arbitraryGenerator.doubles());
+		arbitraries.put(Float.class, arbitraryGenerator.floats());
+		arbitraries.put(Integer.class, arbitraryGenerator.integers());
+		arbitraries.put(Long.class, arbitraryGenerator.longs());
+		arbitraries.put(BigInteger.class, arbitraryGenerator.bigIntegers());
+		arbitraries.put(BigDecimal.class, arbitraryGenerator.bigDecimals());
+		arbitraries.put(char.class, arbitraries.get(Character.class));
+		arbitraries.put(short.class, arbitraries.get(Short.class));
+		arbitraries.put(byte.class, arbitraries.get(Byte.class));
+		arbitraries.put(double.class, arbitraries.get(Double.class));
+		arbitraries.put(float.class, arbitraries.get(Float.class));
+		arbitraries.put(int.class, arbitraries.get(Integer.class));
+		arbitraries.put(long.class, arbitraries.get(Long.class));
+
+		return Collections.unmodifiableMap(arbitraries);
+	}
+}
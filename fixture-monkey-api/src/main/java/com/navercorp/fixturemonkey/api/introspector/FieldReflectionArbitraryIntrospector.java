@@ -19,19 +19,26 @@ package com.navercorp.fixturemonkey.api.introspector;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
-import org.junit.platform.commons.util.ReflectionUtils;
 
 import net.jqwik.api.Arbitrary;
 import net.jqwik.api.Builders;
 import net.jqwik.api.Builders.BuilderCombinator;
 
+import com.navercorp.fixturemonkey.api.accessor.AccessorCache;
+import com.navercorp.fixturemonkey.api.accessor.AccessorCache.FieldWriter;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 import com.navercorp.fixturemonkey.api.property.Property;
@@ -55,7 +62,7 @@ public final class FieldReflectionArbitraryIntrospector implements ArbitraryIntr
 		Map<String, Arbitrary<?>> childrenArbitraries = context.getChildrenArbitraryContexts()
 			.getArbitrariesByResolvedName();
 		Map<String, Field> fields = PropertyCache.getFields(type);
-		BuilderCombinator<?> builderCombinator = Builders.withBuilder(() -> ReflectionUtils.newInstance(type));
+		BuilderCombinator<?> builderCombinator = Builders.withBuilder(AccessorCache.getNoArgsConstructor(type));
 		for (ArbitraryProperty arbitraryProperty : childrenProperties) {
 			String originPropertyName = arbitraryProperty.getObjectProperty().getProperty().getName();
 			Field field = fields.get(originPropertyName);
@@ -64,12 +71,13 @@ public final class FieldReflectionArbitraryIntrospector implements ArbitraryIntr
 				continue;
 			}
 
+			FieldWriter fieldWriter = AccessorCache.getFieldWriter(field);
 			String resolvePropertyName = arbitraryProperty.getObjectProperty().getResolvedPropertyName();
 			Arbitrary<?> arbitrary = childrenArbitraries.get(resolvePropertyName);
 			builderCombinator = builderCombinator.use(arbitrary).in((object, value) -> {
 				try {
 					if (value != null) {
-						field.set(object, value);
+						fieldWriter.write(object, value);
 					}
 				} catch (IllegalAccessException e) {
 					log.warn(e,
@@ -82,4 +90,47 @@ public final class FieldReflectionArbitraryIntrospector implements ArbitraryIntr
 
 		return new ArbitraryIntrospectorResult(builderCombinator.build());
 	}
+
+	@Nullable
+	@Override
+	public ObjectInstantiator instantiator(ArbitraryGeneratorContext context) {
+		Class<?> type = Types.getActualType(context.getProperty().getType());
+		if (Modifier.isAbstract(type.getModifiers())) {
+			return null;
+		}
+
+		Map<String, Field> fields = PropertyCache.getFields(type);
+		Supplier<Object> noArgsConstructor = AccessorCache.getNoArgsConstructor(type);
+		Map<ArbitraryProperty, BiConsumer<Object, Object>> writersByProperty = new LinkedHashMap<>();
+		for (ArbitraryProperty arbitraryProperty : context.getChildren()) {
+			String originPropertyName = arbitraryProperty.getObjectProperty().getProperty().getName();
+			Field field = fields.get(originPropertyName);
+
+			if (field == null || Modifier.isFinal(field.getModifiers()) || Modifier.isTransient(field.getModifiers())) {
+				continue;
+			}
+
+			FieldWriter fieldWriter = AccessorCache.getFieldWriter(field);
+			String resolvePropertyName = arbitraryProperty.getObjectProperty().getResolvedPropertyName();
+			writersByProperty.put(arbitraryProperty, (object, value) -> {
+				try {
+					if (value != null) {
+						fieldWriter.write(object, value);
+					}
+				} catch (IllegalAccessException e) {
+					log.warn(e,
+						() -> "set field by reflection is failed. field: " + resolvePropertyName + " value: " + value
+					);
+				}
+			});
+		}
+
+		return childValues -> {
+			Object object = noArgsConstructor.get();
+			for (Entry<ArbitraryProperty, BiConsumer<Object, Object>> writerByProperty : writersByProperty.entrySet()) {
+				writerByProperty.getValue().accept(object, childValues.get(writerByProperty.getKey()));
+			}
+			return object;
+		};
+	}
 }
@@ -0,0 +1,155 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.introspector;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.RandomGenerator;
+import net.jqwik.api.Shrinkable;
+
+import com.navercorp.fixturemonkey.api.generator.ArbitraryContainerInfo;
+import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
+import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
+import com.navercorp.fixturemonkey.api.generator.ContainerProperty;
+import com.navercorp.fixturemonkey.api.generator.LazyContainerPropertyGenerator;
+import com.navercorp.fixturemonkey.api.matcher.AssignableTypeMatcher;
+import com.navercorp.fixturemonkey.api.matcher.ExactTypeMatcher;
+import com.navercorp.fixturemonkey.api.matcher.Matcher;
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.type.Types;
+
+/**
+ * Generates the elements of {@link Stream}, {@link IntStream}, {@link LongStream}, {@link DoubleStream},
+ * {@link Iterator} and {@link Iterable} on demand, without holding them.
+ * The elements are generated by the arbitrary of the first element, which is the template of all the elements.
+ * The size is drawn by each sample, a maximum size of {@link #UNBOUNDED_SIZE} generates elements unboundedly.
+ * An {@link Iterable} generates the same elements for each of its iterators.
+ * The elements are generated by {@link Arbitrary#sampleStream()} when they are consumed.
+ *
+ * @see LazyContainerPropertyGenerator
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class LazyContainerIntrospector implements ArbitraryIntrospector, Matcher {
+	public static final LazyContainerIntrospector INSTANCE = new LazyContainerIntrospector();
+	public static final int UNBOUNDED_SIZE = Integer.MAX_VALUE;
+
+	private static final int GENERATION_SIZE = 1000;
+	private static final List<Matcher> MATCHERS = Arrays.asList(
+		new AssignableTypeMatcher(Stream.class),
+		new AssignableTypeMatcher(IntStream.class),
+		new AssignableTypeMatcher(LongStream.class),
+		new AssignableTypeMatcher(DoubleStream.class),
+		new ExactTypeMatcher(Iterator.class),
+		new ExactTypeMatcher(Iterable.class)
+	);
+
+	@Override
+	public boolean match(Property property) {
+		return MATCHERS.stream().anyMatch(it -> it.match(property));
+	}
+
+	@Override
+	public ArbitraryIntrospectorResult introspect(ArbitraryGeneratorContext context) {
+		ArbitraryProperty property = context.getArbitraryProperty();
+		ContainerProperty containerProperty = property.getContainerProperty();
+		if (containerProperty == null) {
+			throw new IllegalArgumentException(
+				"container property should not null. type : " + property.getObjectProperty().getProperty().getName()
+			);
+		}
+		ArbitraryContainerInfo containerInfo = containerProperty.getContainerInfo();
+		if (containerInfo == null) {
+			return ArbitraryIntrospectorResult.EMPTY;
+		}
+
+		List<Arbitrary<?>> elementArbitraries = context.getChildrenArbitraryContexts().getArbitraries();
+		Arbitrary<?> elementArbitrary = elementArbitraries.isEmpty()
+			? Arbitraries.just(null)
+			: elementArbitraries.get(0);
+		int minSize = containerInfo.getElementMinSize();
+		int maxSize = containerInfo.getElementMaxSize();
+		Class<?> type = Types.getActualType(context.getType());
+
+		return new ArbitraryIntrospectorResult(
+			Arbitraries.randomValue(random -> {
+				long size = maxSize == UNBOUNDED_SIZE ? -1L : minSize + random.nextInt(maxSize - minSize + 1);
+				long seed = random.nextLong();
+				RandomGenerator<?> elementGenerator = elementArbitrary.generator(GENERATION_SIZE);
+				return toContainer(type, () -> elements(elementGenerator, new Random(seed), size), size);
+			})
+		);
+	}
+
+	/**
+	 * Generates the elements after sampling by the {@code random} of the container.
+	 * {@link Arbitrary#sampleStream()} generates each element within the test descriptor of the consuming thread,
+	 * or the one of jqwik for sampling outside a property.
+	 */
+	@SuppressWarnings("unchecked")
+	private static Iterator<Object> elements(RandomGenerator<?> elementGenerator, Random random, long size) {
+		Stream<Object> elements = Arbitraries.fromGenerator(
+				ignored -> (Shrinkable<Object>)elementGenerator.next(random)
+			)
+			.sampleStream();
+		return (size < 0 ? elements : elements.limit(size)).iterator();
+	}
+
+	private static Object toContainer(Class<?> type, Supplier<Iterator<Object>> iterators, long size) {
+		if (type == Iterable.class) {
+			Iterable<Object> iterable = iterators::get;
+			return iterable;
+		}
+
+		Iterator<Object> iterator = iterators.get();
+		if (type == Iterator.class) {
+			return iterator;
+		}
+
+		Spliterator<Object> spliterator = size < 0
+			? Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED)
+			: Spliterators.spliterator(iterator, size, Spliterator.ORDERED);
+		Stream<Object> stream = StreamSupport.stream(spliterator, false);
+		if (IntStream.class.isAssignableFrom(type)) {
+			return stream.mapToInt(Integer.class::cast);
+		}
+		if (LongStream.class.isAssignableFrom(type)) {
+			return stream.mapToLong(Long.class::cast);
+		}
+		if (DoubleStream.class.isAssignableFrom(type)) {
+			return stream.mapToDouble(Double.class::cast);
+		}
+		return stream;
+	}
+}
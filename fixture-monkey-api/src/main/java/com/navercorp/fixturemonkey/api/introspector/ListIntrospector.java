@@ -21,6 +21,8 @@ package com.navercorp.fixturemonkey.api.introspector;
 import java.util.ArrayList;
 import java.util.List;
 
+import javax.annotation.Nullable;
+
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
@@ -70,4 +72,22 @@ public final class ListIntrospector implements ArbitraryIntrospector, Matcher {
 
 		return new ArbitraryIntrospectorResult(builderCombinator.build());
 	}
+
+	@Nullable
+	@Override
+	public ObjectInstantiator instantiator(ArbitraryGeneratorContext context) {
+		ContainerProperty containerProperty = context.getArbitraryProperty().getContainerProperty();
+		if (containerProperty == null || containerProperty.getContainerInfo() == null) {
+			return null;
+		}
+
+		List<ArbitraryProperty> elementProperties = context.getChildren();
+		return childValues -> {
+			List<Object> list = new ArrayList<>(elementProperties.size());
+			for (ArbitraryProperty elementProperty : elementProperties) {
+				list.add(childValues.get(elementProperty));
+			}
+			return list;
+		};
+	}
 }
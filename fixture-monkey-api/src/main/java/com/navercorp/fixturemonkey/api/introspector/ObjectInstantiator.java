@@ -0,0 +1,46 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.introspector;
+
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
+
+/**
+ * Instantiates the object of a property from the sampled values of its children, without composing arbitraries.
+ *
+ * @see ArbitraryIntrospector#instantiator
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+@FunctionalInterface
+public interface ObjectInstantiator {
+	/**
+	 * Instantiates an object.
+	 *
+	 * @param childValues the sampled values of the children properties of the introspected context,
+	 *                    a value could be null
+	 */
+	@Nullable
+	Object instantiate(Map<ArbitraryProperty, Object> childValues);
+}
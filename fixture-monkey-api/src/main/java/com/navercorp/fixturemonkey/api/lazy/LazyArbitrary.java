@@ -38,6 +38,17 @@ public interface LazyArbitrary<T> {
 
 	void clear();
 
+	/**
+	 * Returns a value for one use, it does not change the state of this lazy.
+	 * It is the initialized value if this lazy is fixed, otherwise it is a newly initialized value.
+	 * A lazy shared by several samples could be evaluated by them at the same time.
+	 */
+	default T evaluate() {
+		T value = getValue();
+		clear();
+		return value;
+	}
+
 	static <T> LazyArbitrary<T> lazy(Supplier<T> initializer, boolean fixed, LazyThreadSafetyMode mode) {
 		if (mode == LazyThreadSafetyMode.NONE) {
 			return new UnSafeLazyArbitraryImpl<>(initializer, fixed);
@@ -57,6 +68,14 @@ public interface LazyArbitrary<T> {
 		return lazy(initializer, fixed, LazyThreadSafetyMode.NONE);
 	}
 
+	/**
+	 * Returns a lazy whose value is bound to the {@link LazyArbitraryScope} running on the current thread.
+	 * It is initialized once in a scope, the other scopes have their own values.
+	 */
+	static <T> LazyArbitrary<T> scoped(Supplier<T> initializer) {
+		return new ScopedLazyArbitraryImpl<>(initializer);
+	}
+
 	enum LazyThreadSafetyMode {
 		NONE
 	}
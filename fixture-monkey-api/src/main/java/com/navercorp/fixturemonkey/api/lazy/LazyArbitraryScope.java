@@ -0,0 +1,82 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.lazy;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * A scope which binds the values of scoped lazies, such as a resolution of an arbitrary.
+ * A scope is confined to the thread running it, scopes could be nested.
+ *
+ * @see LazyArbitrary#scoped(Supplier)
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class LazyArbitraryScope {
+	private static final ThreadLocal<LazyArbitraryScope> CURRENT = new ThreadLocal<>();
+
+	private final Map<LazyArbitrary<?>, Object> values = new IdentityHashMap<>();
+
+	private LazyArbitraryScope() {
+	}
+
+	/**
+	 * Runs the {@code action} in a new scope, the scoped lazies evaluated by it are bound to the new scope.
+	 */
+	public static <T> T run(Supplier<T> action) {
+		LazyArbitraryScope previous = CURRENT.get();
+		CURRENT.set(new LazyArbitraryScope());
+		try {
+			return action.get();
+		} finally {
+			if (previous == null) {
+				CURRENT.remove();
+			} else {
+				CURRENT.set(previous);
+			}
+		}
+	}
+
+	@Nullable
+	static LazyArbitraryScope current() {
+		return CURRENT.get();
+	}
+
+	boolean contains(LazyArbitrary<?> lazyArbitrary) {
+		return values.containsKey(lazyArbitrary);
+	}
+
+	Object get(LazyArbitrary<?> lazyArbitrary) {
+		return values.get(lazyArbitrary);
+	}
+
+	void put(LazyArbitrary<?> lazyArbitrary, Object value) {
+		values.put(lazyArbitrary, value);
+	}
+
+	void remove(LazyArbitrary<?> lazyArbitrary) {
+		values.remove(lazyArbitrary);
+	}
+}
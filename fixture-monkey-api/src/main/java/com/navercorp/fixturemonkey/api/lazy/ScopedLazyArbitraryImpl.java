@@ -0,0 +1,78 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.lazy;
+
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * A lazy whose value is bound to the {@link LazyArbitraryScope} running on the current thread.
+ * It is initialized once in a scope, scopes on the same or different threads never share a value.
+ * Outside of a scope, it is initialized whenever its value is needed.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class ScopedLazyArbitraryImpl<T> implements LazyArbitrary<T> {
+	private final Supplier<T> initializer;
+
+	ScopedLazyArbitraryImpl(Supplier<T> initializer) {
+		this.initializer = initializer;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public T getValue() {
+		LazyArbitraryScope scope = LazyArbitraryScope.current();
+		if (scope == null) {
+			return initializer.get();
+		}
+
+		if (scope.contains(this)) {
+			return (T)scope.get(this);
+		}
+
+		// the initializer could run a nested scope, the value is bound after it returns
+		T value = initializer.get();
+		scope.put(this, value);
+		return value;
+	}
+
+	/**
+	 * Returns the value bound to the current scope, it is the same value until the scope ends.
+	 */
+	@Override
+	public T evaluate() {
+		return getValue();
+	}
+
+	@Override
+	public boolean isInitialized() {
+		LazyArbitraryScope scope = LazyArbitraryScope.current();
+		return scope != null && scope.contains(this);
+	}
+
+	@Override
+	public void clear() {
+		LazyArbitraryScope scope = LazyArbitraryScope.current();
+		if (scope != null) {
+			scope.remove(this);
+		}
+	}
+}
@@ -23,6 +23,9 @@ import java.util.function.Supplier;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
+/**
+ * A lazy used by one thread, except {@link #evaluate()} which could be called by several samples at the same time.
+ */
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public final class UnSafeLazyArbitraryImpl<T> implements LazyArbitrary<T> {
 	private static final Object UNINITIALIZED_VALUE = new Object();
@@ -30,7 +33,7 @@ public final class UnSafeLazyArbitraryImpl<T> implements LazyArbitrary<T> {
 	private final Supplier<T> initializer;
 	private final boolean fixed;
 
-	private Object value = UNINITIALIZED_VALUE;
+	private volatile Object value = UNINITIALIZED_VALUE;
 
 	UnSafeLazyArbitraryImpl(T value) {
 		this.value = value;
@@ -55,6 +58,19 @@ public final class UnSafeLazyArbitraryImpl<T> implements LazyArbitrary<T> {
 		return (T)value;
 	}
 
+	/**
+	 * A fixed lazy is initialized once while holding the lock of it, the initialized value is safely published.
+	 */
+	@Override
+	public T evaluate() {
+		if (fixed) {
+			synchronized (this) {
+				return getValue();
+			}
+		}
+		return initializer.get();
+	}
+
 	@Override
 	public boolean isInitialized() {
 		return value != UNINITIALIZED_VALUE;
@@ -36,4 +36,8 @@ public final class ExactTypeMatcher implements Matcher {
 	public boolean match(Property property) {
 		return this.type == Types.getActualType(property.getType());
 	}
+
+	public Class<?> getType() {
+		return type;
+	}
 }
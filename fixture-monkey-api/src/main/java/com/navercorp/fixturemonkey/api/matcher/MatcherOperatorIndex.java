@@ -0,0 +1,136 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.matcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.collection.ConcurrentLruCache;
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.type.Types;
+
+/**
+ * Finds the operator of the first {@link MatcherOperator} matching a property, as iterating over them in order.
+ * <p>
+ * {@link ExactTypeMatcher} and {@link AssignableTypeMatcher} only depend on the actual type of a property,
+ * they are resolved once per actual type. Other matchers may depend on anything of a property,
+ * they are still called in order for each lookup. A lookup stops at the first type matcher which matches.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class MatcherOperatorIndex<T> {
+	private static final int DEFAULT_CACHE_SIZE = 1000;
+
+	private final List<MatcherOperator<T>> matcherOperators;
+	private final Map<Class<?>, Candidates<T>> candidatesByType = new ConcurrentLruCache<>(DEFAULT_CACHE_SIZE);
+
+	public MatcherOperatorIndex(List<MatcherOperator<T>> matcherOperators) {
+		this.matcherOperators = new ArrayList<>(matcherOperators);
+	}
+
+	/**
+	 * Returns the operator of the first matcher operator matching given property,
+	 * {@code null} if nothing matches.
+	 */
+	@Nullable
+	public T findFirst(Property property) {
+		if (matcherOperators.isEmpty()) {
+			return null;
+		}
+
+		Class<?> actualType;
+		try {
+			actualType = Types.getActualType(property.getType());
+		} catch (UnsupportedOperationException ex) {
+			// the actual type of a generic array type is not resolved, calls the matchers in order as they are
+			return findFirstInOrder(property);
+		}
+		return candidatesByType.computeIfAbsent(actualType, this::compile).findFirst(property);
+	}
+
+	@Nullable
+	private T findFirstInOrder(Property property) {
+		for (MatcherOperator<T> matcherOperator : matcherOperators) {
+			if (matcherOperator.match(property)) {
+				return matcherOperator.getOperator();
+			}
+		}
+		return null;
+	}
+
+	private Candidates<T> compile(Class<?> actualType) {
+		List<MatcherOperator<T>> candidates = new ArrayList<>();
+		for (MatcherOperator<T> matcherOperator : matcherOperators) {
+			Matcher matcher = unwrap(matcherOperator.getMatcher());
+			if (matcher instanceof ExactTypeMatcher) {
+				if (((ExactTypeMatcher)matcher).getType() == actualType) {
+					return new Candidates<>(candidates, matcherOperator.getOperator());
+				}
+			} else if (matcher instanceof AssignableTypeMatcher) {
+				if (((AssignableTypeMatcher)matcher).getType().isAssignableFrom(actualType)) {
+					return new Candidates<>(candidates, matcherOperator.getOperator());
+				}
+			} else {
+				candidates.add(matcherOperator);
+			}
+		}
+		return new Candidates<>(candidates, null);
+	}
+
+	private static Matcher unwrap(Matcher matcher) {
+		Matcher unwrapped = matcher;
+		while (unwrapped instanceof MatcherOperator) {
+			unwrapped = ((MatcherOperator<?>)unwrapped).getMatcher();
+		}
+		return unwrapped;
+	}
+
+	private static final class Candidates<T> {
+		/**
+		 * Matchers to be called for each lookup, which precede the first matching type matcher.
+		 */
+		private final List<MatcherOperator<T>> matcherOperators;
+
+		/**
+		 * The operator of the first matching type matcher.
+		 */
+		@Nullable
+		private final T typeMatchedOperator;
+
+		private Candidates(List<MatcherOperator<T>> matcherOperators, @Nullable T typeMatchedOperator) {
+			this.matcherOperators = matcherOperators;
+			this.typeMatchedOperator = typeMatchedOperator;
+		}
+
+		@Nullable
+		private T findFirst(Property property) {
+			for (MatcherOperator<T> matcherOperator : matcherOperators) {
+				if (matcherOperator.match(property)) {
+					return matcherOperator.getOperator();
+				}
+			}
+			return typeMatchedOperator;
+		}
+	}
+}
@@ -61,6 +61,7 @@ import com.navercorp.fixturemonkey.api.generator.SingleValueObjectPropertyGenera
 import com.navercorp.fixturemonkey.api.generator.StreamContainerPropertyGenerator;
 import com.navercorp.fixturemonkey.api.generator.TupleLikeElementsPropertyGenerator;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
+import com.navercorp.fixturemonkey.api.matcher.MatcherOperatorIndex;
 import com.navercorp.fixturemonkey.api.matcher.Matchers;
 import com.navercorp.fixturemonkey.api.property.MapEntryElementProperty;
 import com.navercorp.fixturemonkey.api.property.Property;
@@ -112,6 +113,13 @@ public final class GenerateOptions {
 	@SuppressWarnings("rawtypes")
 	private final List<MatcherOperator<FixtureCustomizer>> arbitraryCustomizers;
 
+	private final MatcherOperatorIndex<ObjectPropertyGenerator> objectPropertyGeneratorIndex;
+	private final MatcherOperatorIndex<ContainerPropertyGenerator> containerPropertyGeneratorIndex;
+	private final MatcherOperatorIndex<PropertyNameResolver> propertyNameResolverIndex;
+	private final MatcherOperatorIndex<NullInjectGenerator> nullInjectGeneratorIndex;
+	private final MatcherOperatorIndex<ArbitraryContainerInfoGenerator> arbitraryContainerInfoGeneratorIndex;
+	private final MatcherOperatorIndex<ArbitraryGenerator> arbitraryGeneratorIndex;
+
 	@SuppressWarnings("rawtypes")
 	public GenerateOptions(
 		PropertyGenerator defaultPropertyGenerator,
@@ -142,6 +150,12 @@ public final class GenerateOptions {
 		this.arbitraryGenerators = arbitraryGenerators;
 		this.defaultArbitraryGenerator = defaultArbitraryGenerator;
 		this.arbitraryCustomizers = arbitraryCustomizers;
+		this.objectPropertyGeneratorIndex = new MatcherOperatorIndex<>(objectPropertyGenerators);
+		this.containerPropertyGeneratorIndex = new MatcherOperatorIndex<>(containerPropertyGenerators);
+		this.propertyNameResolverIndex = new MatcherOperatorIndex<>(propertyNameResolvers);
+		this.nullInjectGeneratorIndex = new MatcherOperatorIndex<>(nullInjectGenerators);
+		this.arbitraryContainerInfoGeneratorIndex = new MatcherOperatorIndex<>(arbitraryContainerInfoGenerators);
+		this.arbitraryGeneratorIndex = new MatcherOperatorIndex<>(arbitraryGenerators);
 	}
 
 	public static GenerateOptionsBuilder builder() {
@@ -157,11 +171,8 @@ public final class GenerateOptions {
 	}
 
 	public ObjectPropertyGenerator getObjectPropertyGenerator(Property property) {
-		return this.getObjectPropertyGenerators().stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(this.getDefaultObjectPropertyGenerator());
+		ObjectPropertyGenerator objectPropertyGenerator = this.objectPropertyGeneratorIndex.findFirst(property);
+		return objectPropertyGenerator != null ? objectPropertyGenerator : this.getDefaultObjectPropertyGenerator();
 	}
 
 	public ObjectPropertyGenerator getDefaultObjectPropertyGenerator() {
@@ -174,11 +185,7 @@ public final class GenerateOptions {
 
 	@Nullable
 	public ContainerPropertyGenerator getContainerPropertyGenerator(Property property) {
-		return this.getContainerPropertyGenerators().stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(null);
+		return this.containerPropertyGeneratorIndex.findFirst(property);
 	}
 
 	public List<MatcherOperator<PropertyNameResolver>> getPropertyNameResolvers() {
@@ -186,11 +193,8 @@ public final class GenerateOptions {
 	}
 
 	public PropertyNameResolver getPropertyNameResolver(Property property) {
-		return this.getPropertyNameResolvers().stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(this.getDefaultPropertyNameResolver());
+		PropertyNameResolver propertyNameResolver = this.propertyNameResolverIndex.findFirst(property);
+		return propertyNameResolver != null ? propertyNameResolver : this.getDefaultPropertyNameResolver();
 	}
 
 	public PropertyNameResolver getDefaultPropertyNameResolver() {
@@ -202,11 +206,8 @@ public final class GenerateOptions {
 	}
 
 	public NullInjectGenerator getNullInjectGenerator(Property property) {
-		return this.getNullInjectGenerators().stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(this.getDefaultNullInjectGenerator());
+		NullInjectGenerator nullInjectGenerator = this.nullInjectGeneratorIndex.findFirst(property);
+		return nullInjectGenerator != null ? nullInjectGenerator : this.getDefaultNullInjectGenerator();
 	}
 
 	public NullInjectGenerator getDefaultNullInjectGenerator() {
@@ -218,11 +219,11 @@ public final class GenerateOptions {
 	}
 
 	public ArbitraryContainerInfoGenerator getArbitraryContainerInfoGenerator(Property property) {
-		return this.getArbitraryContainerInfoGenerators().stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(context -> this.getDefaultArbitraryContainerInfo());
+		ArbitraryContainerInfoGenerator arbitraryContainerInfoGenerator =
+			this.arbitraryContainerInfoGeneratorIndex.findFirst(property);
+		return arbitraryContainerInfoGenerator != null
+			? arbitraryContainerInfoGenerator
+			: context -> this.getDefaultArbitraryContainerInfo();
 	}
 
 	public int getDefaultArbitraryContainerSize() {
@@ -238,11 +239,8 @@ public final class GenerateOptions {
 	}
 
 	public ArbitraryGenerator getArbitraryGenerator(Property property) {
-		return this.getArbitraryGenerators().stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(this.getDefaultArbitraryGenerator());
+		ArbitraryGenerator arbitraryGenerator = this.arbitraryGeneratorIndex.findFirst(property);
+		return arbitraryGenerator != null ? arbitraryGenerator : this.getDefaultArbitraryGenerator();
 	}
 
 	public ArbitraryGenerator getDefaultArbitraryGenerator() {
@@ -37,6 +37,7 @@ import com.navercorp.fixturemonkey.api.generator.DefaultArbitraryGenerator;
 import com.navercorp.fixturemonkey.api.generator.DefaultNullInjectGenerator;
 import com.navercorp.fixturemonkey.api.generator.DefaultPropertyGenerator;
 import com.navercorp.fixturemonkey.api.generator.JavaDefaultArbitraryGeneratorBuilder;
+import com.navercorp.fixturemonkey.api.generator.LazyContainerPropertyGenerator;
 import com.navercorp.fixturemonkey.api.generator.NullInjectGenerator;
 import com.navercorp.fixturemonkey.api.generator.ObjectPropertyGenerator;
 import com.navercorp.fixturemonkey.api.generator.PropertyGenerator;
@@ -45,6 +46,7 @@ import com.navercorp.fixturemonkey.api.introspector.JavaArbitraryResolver;
 import com.navercorp.fixturemonkey.api.introspector.JavaTimeArbitraryResolver;
 import com.navercorp.fixturemonkey.api.introspector.JavaTimeTypeArbitraryGenerator;
 import com.navercorp.fixturemonkey.api.introspector.JavaTypeArbitraryGenerator;
+import com.navercorp.fixturemonkey.api.introspector.LazyContainerIntrospector;
 import com.navercorp.fixturemonkey.api.matcher.Matcher;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
 import com.navercorp.fixturemonkey.api.plugin.Plugin;
@@ -68,6 +70,7 @@ public final class GenerateOptionsBuilder {
 	private ArbitraryContainerInfo defaultArbitraryContainerInfo;
 	private List<MatcherOperator<ArbitraryGenerator>> arbitraryGenerators = new ArrayList<>();
 	private ArbitraryGenerator defaultArbitraryGenerator;
+	private boolean lazyContainerGeneration = false;
 
 	@SuppressWarnings("rawtypes")
 	private List<MatcherOperator<FixtureCustomizer>> arbitraryCustomizers = new ArrayList<>();
@@ -392,6 +395,23 @@ public final class GenerateOptionsBuilder {
 		return this;
 	}
 
+	public GenerateOptionsBuilder directLeafGeneration(boolean directLeafGeneration) {
+		this.javaDefaultArbitraryGeneratorBuilder.directLeafGeneration(directLeafGeneration);
+		return this;
+	}
+
+	/**
+	 * Generates the elements of streams, iterators and iterables on demand from the template of their elements,
+	 * a generated container does not hold its elements. It takes precedence over the container property generators.
+	 *
+	 * @see LazyContainerIntrospector
+	 */
+	public GenerateOptionsBuilder lazyContainerGeneration(boolean lazyContainerGeneration) {
+		this.lazyContainerGeneration = lazyContainerGeneration;
+		this.javaDefaultArbitraryGeneratorBuilder.lazyContainerGeneration(lazyContainerGeneration);
+		return this;
+	}
+
 	public GenerateOptionsBuilder plugin(Plugin plugin) {
 		plugin.accept(this);
 		return this;
@@ -454,12 +474,20 @@ public final class GenerateOptionsBuilder {
 			);
 		ArbitraryGenerator defaultArbitraryGenerator =
 			defaultIfNull(this.defaultArbitraryGenerator, this.javaDefaultArbitraryGeneratorBuilder::build);
+		List<MatcherOperator<ContainerPropertyGenerator>> containerPropertyGenerators =
+			this.containerPropertyGenerators;
+		if (this.lazyContainerGeneration) {
+			containerPropertyGenerators = insertFirst(
+				containerPropertyGenerators,
+				new MatcherOperator<>(LazyContainerIntrospector.INSTANCE, LazyContainerPropertyGenerator.INSTANCE)
+			);
+		}
 
 		return new GenerateOptions(
 			this.defaultPropertyGenerator,
 			this.arbitraryObjectPropertyGenerators,
 			defaultObjectPropertyGenerator,
-			this.containerPropertyGenerators,
+			containerPropertyGenerators,
 			this.propertyNameResolvers,
 			defaultPropertyNameResolver,
 			this.nullInjectGenerators,
@@ -58,9 +58,18 @@ public final class FieldProperty implements Property {
 	 * @param field
 	 */
 	public FieldProperty(AnnotatedType annotatedType, Field field) {
+		this(annotatedType, field, Arrays.asList(field.getAnnotations()));
+	}
+
+	/**
+	 * Use this constructor when the annotations are already known, for example from the property metadata index.
+	 *
+	 * @see PropertyMetadataIndex
+	 */
+	public FieldProperty(AnnotatedType annotatedType, Field field, List<Annotation> annotations) {
 		this.annotatedType = annotatedType;
 		this.field = field;
-		this.annotations = Arrays.asList(field.getAnnotations());
+		this.annotations = annotations;
 		this.annotationsMap = this.annotations.stream()
 			.collect(Collectors.toMap(Annotation::annotationType, Function.identity(), (a1, a2) -> a1));
 	}
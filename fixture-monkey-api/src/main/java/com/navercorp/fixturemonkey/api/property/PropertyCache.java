@@ -23,6 +23,7 @@ import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -40,7 +41,8 @@ import org.junit.platform.commons.util.ReflectionUtils.HierarchyTraversalMode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.navercorp.fixturemonkey.api.collection.LruCache;
+import com.navercorp.fixturemonkey.api.collection.ConcurrentLruCache;
+import com.navercorp.fixturemonkey.api.property.PropertyMetadataIndex.IndexedMember;
 import com.navercorp.fixturemonkey.api.type.Types;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
@@ -48,22 +50,53 @@ public final class PropertyCache {
 	private static final Logger LOGGER = LoggerFactory.getLogger(PropertyCache.class);
 
 	private static final Map<Class<?>, Map<String, PropertyDescriptor>> PROPERTY_DESCRIPTORS =
-		new LruCache<>(2000);
-	private static final Map<Class<?>, Map<String, Field>> FIELDS = new LruCache<>(2000);
+		new ConcurrentLruCache<>(2000);
+	private static final Map<Class<?>, Map<String, Field>> FIELDS = new ConcurrentLruCache<>(2000);
+	private static final Map<List<Object>, ResolvedProperties> RESOLVED_PROPERTIES = new ConcurrentLruCache<>(2000);
 
 	public static List<Property> getProperties(AnnotatedType annotatedType) {
+		return getResolvedProperties(annotatedType).properties;
+	}
+
+	public static Optional<Property> getProperty(AnnotatedType annotatedType, String name) {
+		return Optional.ofNullable(getResolvedProperties(annotatedType).propertiesByName.get(name));
+	}
+
+	private static ResolvedProperties getResolvedProperties(AnnotatedType annotatedType) {
+		return RESOLVED_PROPERTIES.computeIfAbsent(
+			Types.toCanonicalKey(annotatedType, false),
+			key -> resolveProperties(annotatedType)
+		);
+	}
+
+	private static ResolvedProperties resolveProperties(AnnotatedType annotatedType) {
 		Map<String, List<Property>> propertiesMap = new HashMap<>();
 
 		Class<?> actualType = Types.getActualType(annotatedType.getType());
+		PropertyMetadataIndex index = PropertyMetadataIndex.getInstance();
 		Map<String, Field> fieldMap = getFields(actualType);
 		for (Entry<String, Field> entry : fieldMap.entrySet()) {
 			List<Property> properties = propertiesMap.computeIfAbsent(
 				entry.getKey(), name -> new ArrayList<>()
 			);
+			Field field = entry.getValue();
+			IndexedMember indexedField = index.getField(actualType, entry.getKey());
+			// the annotated type of a field of a plain class is the class, it does not need reflection
+			if (indexedField != null && indexedField.isUnannotatedType(field.getType())) {
+				properties.add(
+					new FieldProperty(
+						Types.generateAnnotatedTypeWithoutAnnotation(field.getType()),
+						field,
+						Collections.emptyList()
+					)
+				);
+				continue;
+			}
+
 			properties.add(
 				new FieldProperty(
-					Types.resolveWithTypeReferenceGenerics(annotatedType, entry.getValue()),
-					entry.getValue()
+					Types.resolveWithTypeReferenceGenerics(annotatedType, field),
+					field
 				)
 			);
 		}
@@ -73,34 +106,57 @@ public final class PropertyCache {
 			List<Property> properties = propertiesMap.computeIfAbsent(
 				entry.getValue().getName(), name -> new ArrayList<>()
 			);
+			PropertyDescriptor propertyDescriptor = entry.getValue();
+			Method readMethod = propertyDescriptor.getReadMethod();
+			IndexedMember indexedProperty = index.getProperty(actualType, entry.getKey());
+			if (readMethod != null
+				&& indexedProperty != null
+				&& indexedProperty.isUnannotatedType(readMethod.getReturnType())) {
+				properties.add(
+					new PropertyDescriptorProperty(
+						Types.generateAnnotatedTypeWithoutAnnotation(readMethod.getReturnType()),
+						propertyDescriptor,
+						Collections.emptyList()
+					)
+				);
+				continue;
+			}
+
 			properties.add(
 				new PropertyDescriptorProperty(
-					Types.resolveWithTypeReferenceGenerics(annotatedType, entry.getValue()),
-					entry.getValue()
+					Types.resolveWithTypeReferenceGenerics(annotatedType, propertyDescriptor),
+					propertyDescriptor
 				)
 			);
 		}
 
 		List<Property> result = new ArrayList<>();
+		Map<String, Property> propertiesByName = new HashMap<>();
 		for (List<Property> properties : propertiesMap.values()) {
+			Property property;
 			if (properties.size() == 1) {
-				result.add(properties.get(0));
+				property = properties.get(0);
 			} else {
-				result.add(new CompositeProperty(properties.get(0), properties.get(1)));
+				property = new CompositeProperty(properties.get(0), properties.get(1));
 			}
+			result.add(property);
+			propertiesByName.putIfAbsent(property.getName(), property);
 		}
 
-		return Collections.unmodifiableList(result);
-	}
-
-	public static Optional<Property> getProperty(AnnotatedType annotatedType, String name) {
-		return getProperties(annotatedType).stream()
-			.filter(it -> name.equals(it.getName()))
-			.findFirst();
+		return new ResolvedProperties(
+			Collections.unmodifiableList(result),
+			Collections.unmodifiableMap(propertiesByName)
+		);
 	}
 
 	public static Map<String, Field> getFields(Class<?> clazz) {
 		return FIELDS.computeIfAbsent(clazz, type -> {
+			Map<String, Field> indexed = PropertyMetadataIndex.getInstance().getFields(type);
+			if (indexed != null) {
+				indexed.values().forEach(it -> it.setAccessible(true));
+				return indexed;
+			}
+
 			Map<String, Field> result = new ConcurrentHashMap<>();
 			List<Field> fields = ReflectionUtils.findFields(
 				clazz, field -> !Modifier.isStatic(field.getModifiers()), HierarchyTraversalMode.TOP_DOWN);
@@ -114,6 +170,11 @@ public final class PropertyCache {
 
 	public static Map<String, PropertyDescriptor> getPropertyDescriptors(Class<?> clazz) {
 		return PROPERTY_DESCRIPTORS.computeIfAbsent(clazz, type -> {
+			Map<String, PropertyDescriptor> indexed = PropertyMetadataIndex.getInstance().getPropertyDescriptors(type);
+			if (indexed != null) {
+				return indexed;
+			}
+
 			Map<String, PropertyDescriptor> result = new ConcurrentHashMap<>();
 			try {
 				PropertyDescriptor[] descriptors = Introspector.getBeanInfo(type)
@@ -134,5 +195,16 @@ public final class PropertyCache {
 	public static void clearCache() {
 		PROPERTY_DESCRIPTORS.clear();
 		FIELDS.clear();
+		RESOLVED_PROPERTIES.clear();
+	}
+
+	private static final class ResolvedProperties {
+		private final List<Property> properties;
+		private final Map<String, Property> propertiesByName;
+
+		private ResolvedProperties(List<Property> properties, Map<String, Property> propertiesByName) {
+			this.properties = properties;
+			this.propertiesByName = propertiesByName;
+		}
 	}
 }
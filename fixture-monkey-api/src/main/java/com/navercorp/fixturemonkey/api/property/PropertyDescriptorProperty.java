@@ -60,9 +60,22 @@ public final class PropertyDescriptorProperty implements Property {
 	 * @param propertyDescriptor
 	 */
 	public PropertyDescriptorProperty(AnnotatedType annotatedType, PropertyDescriptor propertyDescriptor) {
+		this(annotatedType, propertyDescriptor, Arrays.asList(propertyDescriptor.getReadMethod().getAnnotations()));
+	}
+
+	/**
+	 * Use this constructor when the annotations are already known, for example from the property metadata index.
+	 *
+	 * @see PropertyMetadataIndex
+	 */
+	public PropertyDescriptorProperty(
+		AnnotatedType annotatedType,
+		PropertyDescriptor propertyDescriptor,
+		List<Annotation> annotations
+	) {
 		this.annotatedType = annotatedType;
 		this.propertyDescriptor = propertyDescriptor;
-		this.annotations = Arrays.asList(propertyDescriptor.getReadMethod().getAnnotations());
+		this.annotations = annotations;
 		this.annotationsMap = this.annotations.stream()
 			.collect(toMap(Annotation::annotationType, Function.identity(), (a1, a2) -> a1));
 	}
@@ -0,0 +1,466 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.property;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.beans.IntrospectionException;
+import java.beans.PropertyDescriptor;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Property metadata of classes generated at compile time by the fixture monkey annotation processor.
+ * Each line of the index is a tab-separated record of a class, given by its binary name.
+ * <pre>
+ * {binaryName}  type
+ * {binaryName}  members   {declaringType}  {fieldCount}  {publicMethodCount}
+ * {binaryName}  field     {name}  {declaringType}  {genericType}  {annotations or -}
+ * {binaryName}  property  {name}  {readMethodName or -}  {writeMethodName or -}  {writeParameterType or -}
+ *                         {genericType}  {annotations or -}
+ * {binaryName}  builder   {builderMethodName}  {buildMethodName}
+ * </pre>
+ * The annotations are the comma-separated runtime annotations of a field or a read method.
+ * The members records are the number of the non-static fields and the public non-static methods
+ * declared in each class of the hierarchy, from the class to the top except {@link Object}.
+ * <p>
+ * The members are looked up by name from the class at runtime, the class is not scanned.
+ * If the declared members are not counted the same at runtime, for example the class is recompiled
+ * without the annotation processor, or a member in the index is not found,
+ * the class falls back to runtime reflection.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class PropertyMetadataIndex {
+	public static final String INDEX_LOCATION = "META-INF/fixture-monkey/property-metadata.index";
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(PropertyMetadataIndex.class);
+	private static final String NONE = "-";
+	private static final Map<String, Class<?>> PRIMITIVE_TYPES = new HashMap<>();
+	private static final PropertyMetadataIndex EMPTY = new PropertyMetadataIndex(Collections.emptyMap());
+	private static final Set<String> MISMATCHED_TYPE_NAMES = ConcurrentHashMap.newKeySet();
+
+	static {
+		for (Class<?> type : Arrays.asList(
+			boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class
+		)) {
+			PRIMITIVE_TYPES.put(type.getName(), type);
+		}
+	}
+
+	private final Map<String, TypeRecord> typeRecordsByName;
+
+	private PropertyMetadataIndex(Map<String, TypeRecord> typeRecordsByName) {
+		this.typeRecordsByName = typeRecordsByName;
+	}
+
+	public static PropertyMetadataIndex getInstance() {
+		return LazyHolder.INSTANCE;
+	}
+
+	/**
+	 * Returns the non-static fields of {@code type} and its superclasses in the index by name.
+	 * They are not accessible yet.
+	 *
+	 * @return null if {@code type} is not indexed or the index does not match it
+	 */
+	@Nullable
+	public Map<String, Field> getFields(Class<?> type) {
+		TypeRecord typeRecord = getTypeRecord(type);
+		if (typeRecord == null) {
+			return null;
+		}
+
+		Map<String, Field> result = new ConcurrentHashMap<>();
+		for (FieldRecord fieldRecord : typeRecord.fields) {
+			Class<?> declaringType = type;
+			while (declaringType != null && !declaringType.getName().equals(fieldRecord.declaringTypeName)) {
+				declaringType = declaringType.getSuperclass();
+			}
+			if (declaringType == null) {
+				return null;
+			}
+
+			try {
+				result.put(fieldRecord.member.getName(), declaringType.getDeclaredField(fieldRecord.member.getName()));
+			} catch (NoSuchFieldException ex) {
+				return null;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the bean properties of {@code type} in the index, the same as {@link java.beans.Introspector} would.
+	 *
+	 * @return null if {@code type} is not indexed or the index does not match it
+	 */
+	@Nullable
+	public Map<String, PropertyDescriptor> getPropertyDescriptors(Class<?> type) {
+		TypeRecord typeRecord = getTypeRecord(type);
+		if (typeRecord == null) {
+			return null;
+		}
+
+		Map<String, PropertyDescriptor> result = new ConcurrentHashMap<>();
+		try {
+			for (PropertyRecord propertyRecord : typeRecord.properties) {
+				Method readMethod = NONE.equals(propertyRecord.readMethodName)
+					? null
+					: type.getMethod(propertyRecord.readMethodName);
+				Method writeMethod = null;
+				if (!NONE.equals(propertyRecord.writeMethodName)) {
+					Class<?> parameterType = readMethod != null
+						&& readMethod.getReturnType().getName().equals(propertyRecord.writeParameterTypeName)
+						? readMethod.getReturnType()
+						: loadType(propertyRecord.writeParameterTypeName, type.getClassLoader());
+					writeMethod = type.getMethod(propertyRecord.writeMethodName, parameterType);
+				}
+
+				String name = propertyRecord.member.getName();
+				result.put(name, new PropertyDescriptor(name, readMethod, writeMethod));
+			}
+		} catch (NoSuchMethodException | ClassNotFoundException | IntrospectionException ex) {
+			return null;
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the field named {@code name} of {@code type} in the index.
+	 */
+	@Nullable
+	public IndexedMember getField(Class<?> type, String name) {
+		TypeRecord typeRecord = getTypeRecord(type);
+		if (typeRecord == null) {
+			return null;
+		}
+
+		for (FieldRecord fieldRecord : typeRecord.fields) {
+			if (fieldRecord.member.getName().equals(name)) {
+				return fieldRecord.member;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the bean property named {@code name} of {@code type} in the index.
+	 */
+	@Nullable
+	public IndexedMember getProperty(Class<?> type, String name) {
+		TypeRecord typeRecord = getTypeRecord(type);
+		if (typeRecord == null) {
+			return null;
+		}
+
+		for (PropertyRecord propertyRecord : typeRecord.properties) {
+			if (propertyRecord.member.getName().equals(name)) {
+				return propertyRecord.member;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the builder method declared in {@code type} if the index has the builder of the given names.
+	 * The builder type is the return type of it, it is not required to invoke the builder method.
+	 *
+	 * @return null if {@code type} is not indexed or the index does not match it
+	 */
+	@Nullable
+	public Method getBuilderMethod(Class<?> type, String builderMethodName, String buildMethodName) {
+		TypeRecord typeRecord = getTypeRecord(type);
+		if (typeRecord == null || typeRecord.builder == null) {
+			return null;
+		}
+
+		String[] builder = typeRecord.builder;
+		if (!builder[0].equals(builderMethodName) || !builder[1].equals(buildMethodName)) {
+			return null;
+		}
+
+		try {
+			Method builderMethod = type.getDeclaredMethod(builderMethodName);
+			if (!Modifier.isStatic(builderMethod.getModifiers())) {
+				return null;
+			}
+			return builderMethod;
+		} catch (NoSuchMethodException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the record of {@code type} if the declared members of its hierarchy are counted the same as the index.
+	 */
+	@Nullable
+	private TypeRecord getTypeRecord(Class<?> type) {
+		TypeRecord typeRecord = typeRecordsByName.get(type.getName());
+		if (typeRecord == null) {
+			return null;
+		}
+
+		if (!matches(type, typeRecord.hierarchy)) {
+			if (MISMATCHED_TYPE_NAMES.add(type.getName())) {
+				LOGGER.warn(
+					"Property metadata index does not match {}, falls back to runtime reflection.",
+					type.getName()
+				);
+			}
+			return null;
+		}
+		return typeRecord;
+	}
+
+	private static boolean matches(Class<?> type, List<MembersRecord> hierarchy) {
+		if (hierarchy.isEmpty()) {
+			return false;
+		}
+
+		Class<?> current = type;
+		for (MembersRecord membersRecord : hierarchy) {
+			if (current == null || !current.getName().equals(membersRecord.declaringTypeName)) {
+				return false;
+			}
+
+			long fieldCount = Arrays.stream(current.getDeclaredFields())
+				.filter(it -> !Modifier.isStatic(it.getModifiers()) && !it.isSynthetic())
+				.count();
+			long methodCount = Arrays.stream(current.getDeclaredMethods())
+				.filter(it -> Modifier.isPublic(it.getModifiers()) && !Modifier.isStatic(it.getModifiers()))
+				.filter(it -> !it.isSynthetic() && !it.isBridge())
+				.count();
+			if (fieldCount != membersRecord.fieldCount || methodCount != membersRecord.methodCount) {
+				return false;
+			}
+			current = current.getSuperclass();
+		}
+		return current == null || current == Object.class;
+	}
+
+	static PropertyMetadataIndex parse(List<String> lines) {
+		Map<String, TypeRecord> typeRecordsByName = new HashMap<>();
+		for (String line : lines) {
+			if (line.isEmpty() || line.startsWith("#")) {
+				continue;
+			}
+
+			String[] record = line.split("\t");
+			TypeRecord typeRecord = typeRecordsByName.computeIfAbsent(record[0], it -> new TypeRecord());
+			if (record.length == 2 && record[1].equals("type")) {
+				continue;
+			}
+
+			if (record.length == 5 && record[1].equals("members")) {
+				try {
+					typeRecord.hierarchy.add(
+						new MembersRecord(record[2], Integer.parseInt(record[3]), Integer.parseInt(record[4]))
+					);
+				} catch (NumberFormatException ex) {
+					throw new IllegalArgumentException("Invalid property metadata index. line: " + line, ex);
+				}
+			} else if (record.length == 6 && record[1].equals("field")) {
+				typeRecord.fields.add(
+					new FieldRecord(
+						new IndexedMember(record[2], record[4], toAnnotationTypeNames(record[5])),
+						record[3]
+					)
+				);
+			} else if (record.length == 8 && record[1].equals("property")) {
+				typeRecord.properties.add(
+					new PropertyRecord(
+						new IndexedMember(record[2], record[6], toAnnotationTypeNames(record[7])),
+						record[3],
+						record[4],
+						record[5]
+					)
+				);
+			} else if (record.length == 4 && record[1].equals("builder")) {
+				typeRecord.builder = new String[] {record[2], record[3]};
+			} else {
+				throw new IllegalArgumentException("Invalid property metadata index. line: " + line);
+			}
+		}
+		return new PropertyMetadataIndex(typeRecordsByName);
+	}
+
+	private static List<String> toAnnotationTypeNames(String annotations) {
+		if (NONE.equals(annotations)) {
+			return Collections.emptyList();
+		}
+		return Collections.unmodifiableList(Arrays.asList(annotations.split(",")));
+	}
+
+	private static Class<?> loadType(String name, @Nullable ClassLoader classLoader) throws ClassNotFoundException {
+		Class<?> primitiveType = PRIMITIVE_TYPES.get(name);
+		if (primitiveType != null) {
+			return primitiveType;
+		}
+		return Class.forName(name, false, classLoader);
+	}
+
+	private static PropertyMetadataIndex load() {
+		ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		if (classLoader == null) {
+			classLoader = PropertyMetadataIndex.class.getClassLoader();
+		}
+
+		try {
+			Enumeration<URL> resources = classLoader.getResources(INDEX_LOCATION);
+			if (!resources.hasMoreElements()) {
+				return EMPTY;
+			}
+
+			Map<String, TypeRecord> typeRecordsByName = new HashMap<>();
+			while (resources.hasMoreElements()) {
+				URL resource = resources.nextElement();
+				List<String> lines = new ArrayList<>();
+				try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openStream(), UTF_8))) {
+					String line;
+					while ((line = reader.readLine()) != null) {
+						lines.add(line);
+					}
+				}
+
+				// a class indexed in the former resource on the classpath takes precedence
+				parse(lines).typeRecordsByName.forEach(typeRecordsByName::putIfAbsent);
+			}
+			return new PropertyMetadataIndex(typeRecordsByName);
+		} catch (IOException | IllegalArgumentException ex) {
+			LOGGER.warn("Loading property metadata index is failed, falls back to runtime reflection.", ex);
+			return EMPTY;
+		}
+	}
+
+	/**
+	 * A field or a bean property in the index.
+	 */
+	public static final class IndexedMember {
+		private final String name;
+		private final String genericTypeName;
+		private final List<String> annotationTypeNames;
+
+		private IndexedMember(String name, String genericTypeName, List<String> annotationTypeNames) {
+			this.name = name;
+			this.genericTypeName = genericTypeName;
+			this.annotationTypeNames = annotationTypeNames;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * Returns the generic type of which a class is given by its binary name,
+		 * for example {@code java.util.List<java.lang.String>}.
+		 */
+		public String getGenericTypeName() {
+			return genericTypeName;
+		}
+
+		/**
+		 * Returns the binary names of the runtime annotations.
+		 */
+		public List<String> getAnnotationTypeNames() {
+			return annotationTypeNames;
+		}
+
+		/**
+		 * Returns true if the member is declared as {@code type} without type arguments and annotations,
+		 * its annotated type is {@code type} itself.
+		 */
+		public boolean isUnannotatedType(Class<?> type) {
+			return annotationTypeNames.isEmpty() && genericTypeName.equals(type.getName());
+		}
+	}
+
+	private static final class TypeRecord {
+		private final List<MembersRecord> hierarchy = new ArrayList<>();
+		private final List<FieldRecord> fields = new ArrayList<>();
+		private final List<PropertyRecord> properties = new ArrayList<>();
+		@Nullable
+		private String[] builder;
+	}
+
+	private static final class MembersRecord {
+		private final String declaringTypeName;
+		private final int fieldCount;
+		private final int methodCount;
+
+		private MembersRecord(String declaringTypeName, int fieldCount, int methodCount) {
+			this.declaringTypeName = declaringTypeName;
+			this.fieldCount = fieldCount;
+			this.methodCount = methodCount;
+		}
+	}
+
+	private static final class FieldRecord {
+		private final IndexedMember member;
+		private final String declaringTypeName;
+
+		private FieldRecord(IndexedMember member, String declaringTypeName) {
+			this.member = member;
+			this.declaringTypeName = declaringTypeName;
+		}
+	}
+
+	private static final class PropertyRecord {
+		private final IndexedMember member;
+		private final String readMethodName;
+		private final String writeMethodName;
+		private final String writeParameterTypeName;
+
+		private PropertyRecord(
+			IndexedMember member,
+			String readMethodName,
+			String writeMethodName,
+			String writeParameterTypeName
+		) {
+			this.member = member;
+			this.readMethodName = readMethodName;
+			this.writeMethodName = writeMethodName;
+			this.writeParameterTypeName = writeParameterTypeName;
+		}
+	}
+
+	private static final class LazyHolder {
+		private static final PropertyMetadataIndex INSTANCE = load();
+	}
+}
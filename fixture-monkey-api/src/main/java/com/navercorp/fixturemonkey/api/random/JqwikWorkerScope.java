@@ -0,0 +1,174 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.random;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.RandomGenerator;
+import net.jqwik.engine.execution.lifecycle.CurrentTestDescriptor;
+
+/**
+ * Runs each worker of a parallel sampling with its own test descriptor,
+ * so that the workers do not share a generator store of jqwik.
+ * It refers to {@link CurrentTestDescriptor} of the jqwik engine 1.7.0, which is not a public API of jqwik.
+ * {@link #isSupported()} checks that the loaded engine behaves as this class expects before any scope is opened.
+ * <p>
+ * The store repository of jqwik is not thread-safe, a store is created when a descriptor memoizes its first generator.
+ * A fixed pool of descriptors is created with their stores once, before any worker runs,
+ * workers only read the repository afterwards and do not lock.
+ * The descriptors are leased from the pool and returned when the call is closed,
+ * a call waits until the other calls return enough descriptors for its workers.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+final class JqwikWorkerScope implements WorkerScope {
+	private static final ThreadLocal<Boolean> IN_WORKER = ThreadLocal.withInitial(() -> false);
+
+	private final List<TestDescriptor> descriptors;
+
+	private JqwikWorkerScope(List<TestDescriptor> descriptors) {
+		this.descriptors = descriptors;
+	}
+
+	/**
+	 * Returns true if the loaded jqwik engine memoizes generators by the descriptor an action runs with.
+	 * It is false if the internals of the engine are changed, the workers could not be isolated then.
+	 */
+	static boolean isSupported() {
+		try {
+			return Pool.SUPPORTED;
+		} catch (LinkageError ex) {
+			return false;
+		}
+	}
+
+	/**
+	 * Leases a descriptor for each of the {@code workers}, waits until the pool has enough idle descriptors.
+	 * {@code workers} should not be larger than {@link WorkerScopes#MAX_WORKERS}, it would wait forever.
+	 * Returns null if it is called by a worker, which already runs with its own descriptor.
+	 *
+	 * @throws IllegalStateException if the thread is interrupted while waiting
+	 */
+	@Nullable
+	static JqwikWorkerScope open(int workers) {
+		if (IN_WORKER.get()) {
+			return null;
+		}
+
+		try {
+			Pool.PERMITS.acquire(workers);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Waiting for the workers is interrupted.", ex);
+		}
+
+		// a permit guarantees an idle descriptor
+		List<TestDescriptor> descriptors = new ArrayList<>(workers);
+		for (int worker = 0; worker < workers; worker++) {
+			descriptors.add(Pool.IDLE_DESCRIPTORS.poll());
+		}
+		return new JqwikWorkerScope(descriptors);
+	}
+
+	@Override
+	public <T> T run(int worker, Supplier<T> action) {
+		IN_WORKER.set(true);
+		try {
+			return CurrentTestDescriptor.runWithDescriptor(descriptors.get(worker), action);
+		} finally {
+			IN_WORKER.remove();
+		}
+	}
+
+	@Override
+	public void close() {
+		Pool.IDLE_DESCRIPTORS.addAll(descriptors);
+		Pool.PERMITS.release(descriptors.size());
+	}
+
+	/**
+	 * Creates the descriptors when the support is first checked.
+	 */
+	private static final class Pool {
+		private static final Queue<TestDescriptor> IDLE_DESCRIPTORS = new ConcurrentLinkedQueue<>();
+		// fair, a call of many workers is not starved by the calls of a few
+		private static final Semaphore PERMITS = new Semaphore(WorkerScopes.MAX_WORKERS, true);
+		private static final boolean SUPPORTED;
+
+		static {
+			for (int sequence = 0; sequence < WorkerScopes.MAX_WORKERS; sequence++) {
+				IDLE_DESCRIPTORS.add(new WorkerDescriptor(sequence));
+			}
+			SUPPORTED = createStores();
+		}
+
+		/**
+		 * Creates the generator store of each descriptor by memoizing a generator of strings,
+		 * a generator of integers is not memoized.
+		 * Returns true if the generator is memoized once per descriptor.
+		 */
+		private static boolean createStores() {
+			Arbitrary<String> arbitrary = Arbitraries.strings();
+			List<RandomGenerator<String>> generators = new ArrayList<>();
+			for (TestDescriptor descriptor : IDLE_DESCRIPTORS) {
+				RandomGenerator<String> generator = CurrentTestDescriptor.runWithDescriptor(
+					descriptor,
+					() -> arbitrary.generator(1)
+				);
+				RandomGenerator<String> memoized = CurrentTestDescriptor.runWithDescriptor(
+					descriptor,
+					() -> arbitrary.generator(1)
+				);
+				if (generator != memoized || generators.contains(generator)) {
+					return false;
+				}
+				generators.add(generator);
+			}
+			return true;
+		}
+	}
+
+	private static final class WorkerDescriptor extends AbstractTestDescriptor {
+		private WorkerDescriptor(long sequence) {
+			super(
+				UniqueId.root("fixture-monkey", "parallel-sampler-" + sequence),
+				"Sampling in parallel outside jqwik thread"
+			);
+		}
+
+		@Override
+		public Type getType() {
+			return Type.TEST;
+		}
+	}
+}
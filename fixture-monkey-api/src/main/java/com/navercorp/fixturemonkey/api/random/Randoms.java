@@ -39,6 +39,7 @@ public class Randoms {
 	private static final boolean USE_JQWIK_ENGINE;
 	private static final Supplier<Random> RNG = ThreadLocalRandom::current;
 	private static final ThreadLocal<Random> CURRENT = ThreadLocal.withInitial(Randoms::newRandom);
+	private static final ThreadLocal<Random> SCOPED = new ThreadLocal<>();
 
 	static {
 		boolean useJqwikEngine;
@@ -87,6 +88,11 @@ public class Randoms {
 	}
 
 	public static Random current() {
+		Random scoped = SCOPED.get();
+		if (scoped != null) {
+			return scoped;
+		}
+
 		return USE_JQWIK_ENGINE
 			? SourceOfRandomness.current()
 			: CURRENT.get();
@@ -96,6 +102,35 @@ public class Randoms {
 		return current().nextInt(bound);
 	}
 
+	/**
+	 * Runs the {@code action} with {@code random} as the current random of this thread.
+	 * The current random before running is restored afterwards, it is not consumed by the {@code action}.
+	 */
+	public static <T> T withRandom(Random random, Supplier<T> action) {
+		Random previous = SCOPED.get();
+		SCOPED.set(random);
+		try {
+			return action.get();
+		} finally {
+			if (previous == null) {
+				SCOPED.remove();
+			} else {
+				SCOPED.set(previous);
+			}
+		}
+	}
+
+	/**
+	 * Derives an independent seed of the {@code index}-th element from the {@code masterSeed}.
+	 * It is a SplitMix64 step, the derived seed does not depend on which thread generates the element.
+	 */
+	public static long derivedSeed(long masterSeed, long index) {
+		long seed = masterSeed + (index + 1) * 0x9E3779B97F4A7C15L;
+		seed = (seed ^ (seed >>> 30)) * 0xBF58476D1CE4E5B9L;
+		seed = (seed ^ (seed >>> 27)) * 0x94D049BB133111EBL;
+		return seed ^ (seed >>> 31);
+	}
+
 	/**
 	 * A faster but not thread safe implementation of {@linkplain java.util.Random}.
 	 * It also has a period of 2^n - 1 and better statistical randomness.
@@ -0,0 +1,47 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.random;
+
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * The context each worker of a parallel sampling runs in.
+ *
+ * @see WorkerScopes
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public interface WorkerScope {
+	WorkerScope NONE = new WorkerScope() {
+		@Override
+		public <T> T run(int worker, Supplier<T> action) {
+			return action.get();
+		}
+
+		@Override
+		public void close() {
+		}
+	};
+
+	<T> T run(int worker, Supplier<T> action);
+
+	void close();
+}
@@ -0,0 +1,101 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.random;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Opens a {@link WorkerScope} for sampling in parallel.
+ * <p>
+ * jqwik memoizes generators in a store of the current test descriptor, which is not thread-safe.
+ * If the jqwik engine is loaded, each worker runs with its own test descriptor, otherwise workers run as they are.
+ * jqwik has no public API to give a thread its own store, the test descriptors are internals of the jqwik engine 1.7.0.
+ * They are referred only by {@link JqwikWorkerScope}, which checks the loaded engine once.
+ * If it is not compatible, the workers could not be isolated and a warning is logged once,
+ * the callers sample on their own threads.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class WorkerScopes {
+	/**
+	 * The maximum number of workers running at the same time, shared by all the calls.
+	 */
+	public static final int MAX_WORKERS = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(WorkerScopes.class);
+	private static final Isolation ISOLATION;
+
+	static {
+		Isolation isolation;
+		try {
+			Class.forName("net.jqwik.engine.execution.lifecycle.CurrentTestDescriptor");
+			isolation = JqwikWorkerScope.isSupported() ? Isolation.JQWIK_ENGINE : Isolation.UNSUPPORTED;
+		} catch (ClassNotFoundException e) {
+			isolation = Isolation.NONE;
+		}
+		if (isolation == Isolation.UNSUPPORTED) {
+			LOGGER.warn(
+				"The loaded jqwik engine is not compatible with jqwik 1.7.0, samples in parallel on one thread."
+			);
+		}
+		ISOLATION = isolation;
+	}
+
+	private WorkerScopes() {
+	}
+
+	/**
+	 * Returns the scope of {@code workers} workers, waits until the other calls close their scopes if needed.
+	 * Returns null if the workers could not run in parallel, the caller should sample on its own thread.
+	 * It is null if it is called by a worker or the loaded jqwik engine is not compatible.
+	 *
+	 * @throws IllegalArgumentException if {@code workers} is larger than {@link #MAX_WORKERS}
+	 */
+	@Nullable
+	public static WorkerScope open(int workers) {
+		if (workers > MAX_WORKERS) {
+			throw new IllegalArgumentException(
+				"workers should not be larger than " + MAX_WORKERS + ". workers: " + workers
+			);
+		}
+
+		switch (ISOLATION) {
+			case NONE:
+				return WorkerScope.NONE;
+			case JQWIK_ENGINE:
+				return JqwikWorkerScope.open(workers);
+			default:
+				return null;
+		}
+	}
+
+	static boolean isolatesWorkers() {
+		return ISOLATION == Isolation.JQWIK_ENGINE;
+	}
+
+	private enum Isolation {
+		NONE,
+		JQWIK_ENGINE,
+		UNSUPPORTED
+	}
+}
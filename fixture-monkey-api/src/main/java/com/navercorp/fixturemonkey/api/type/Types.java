@@ -31,6 +31,7 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -430,6 +431,36 @@ public class Types {
 		);
 	}
 
+	/**
+	 * Returns a key of {@code annotatedType} compared by value,
+	 * since the generated {@link AnnotatedType}s do not implement equals.
+	 * The key consists of the actual type and the annotated type arguments,
+	 * the annotations of the type arguments are always part of the key.
+	 *
+	 * @param withAnnotations whether the annotations of {@code annotatedType} itself are part of the key
+	 */
+	public static List<Object> toCanonicalKey(AnnotatedType annotatedType, boolean withAnnotations) {
+		List<Object> key = new ArrayList<>();
+		if (withAnnotations) {
+			key.add(Arrays.asList(annotatedType.getAnnotations()));
+		}
+
+		if (annotatedType instanceof AnnotatedParameterizedType) {
+			AnnotatedParameterizedType parameterizedType = (AnnotatedParameterizedType)annotatedType;
+			key.add(getActualType(parameterizedType.getType()));
+			for (AnnotatedType argument : parameterizedType.getAnnotatedActualTypeArguments()) {
+				key.add(toCanonicalKey(argument, true));
+			}
+		} else if (annotatedType instanceof AnnotatedArrayType) {
+			AnnotatedArrayType arrayType = (AnnotatedArrayType)annotatedType;
+			key.add(Object[].class);
+			key.add(toCanonicalKey(arrayType.getAnnotatedGenericComponentType(), true));
+		} else {
+			key.add(annotatedType.getType());
+		}
+		return key;
+	}
+
 	public static Class<?> getArrayComponentType(AnnotatedType annotatedType) {
 		return getActualType(getArrayComponentAnnotatedType(annotatedType));
 	}
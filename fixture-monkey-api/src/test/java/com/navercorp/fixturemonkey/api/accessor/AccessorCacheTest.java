@@ -0,0 +1,114 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.accessor;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Test;
+
+class AccessorCacheTest {
+	@Test
+	void getNoArgsConstructor() {
+		Object actual = AccessorCache.getNoArgsConstructor(Sample.class).get();
+
+		then(actual).isExactlyInstanceOf(Sample.class);
+	}
+
+	@Test
+	void getSingleParameterMethodWithPrimitiveParameter() throws Exception {
+		Sample sample = new Sample();
+
+		AccessorCache.getSingleParameterMethod(Sample.class.getDeclaredMethod("setCount", int.class))
+			.apply(sample, 3);
+
+		then(sample.count).isEqualTo(3);
+	}
+
+	@Test
+	void getInstanceMethod() throws Exception {
+		Sample sample = new Sample();
+		sample.name = "name";
+
+		Object actual = AccessorCache.getInstanceMethod(Sample.class.getDeclaredMethod("getName")).apply(sample);
+
+		then(actual).isEqualTo("name");
+	}
+
+	@Test
+	void getStaticMethod() throws Exception {
+		Object actual = AccessorCache.getStaticMethod(Sample.class.getDeclaredMethod("create")).get();
+
+		then(actual).isExactlyInstanceOf(Sample.class);
+	}
+
+	@Test
+	void getFieldWriter() throws Exception {
+		Sample sample = new Sample();
+
+		AccessorCache.getFieldWriter(Sample.class.getDeclaredField("name")).write(sample, "name");
+
+		then(sample.name).isEqualTo("name");
+	}
+
+	@Test
+	void methodThrowsOriginalException() throws Exception {
+		Sample sample = new Sample();
+		Method setCount = Sample.class.getDeclaredMethod("setCount", int.class);
+
+		thenThrownBy(() -> AccessorCache.getSingleParameterMethod(setCount).apply(sample, -1))
+			.isExactlyInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void setterWrapsThrownException() throws Exception {
+		Sample sample = new Sample();
+		Method setCount = Sample.class.getDeclaredMethod("setCount", int.class);
+
+		thenThrownBy(() -> AccessorCache.getSetter(setCount).set(sample, -1))
+			.isExactlyInstanceOf(InvocationTargetException.class)
+			.hasCauseExactlyInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static class Sample {
+		private String name;
+		private int count;
+
+		private Sample() {
+		}
+
+		private static Sample create() {
+			return new Sample();
+		}
+
+		private String getName() {
+			return name;
+		}
+
+		private void setCount(int count) {
+			if (count < 0) {
+				throw new IllegalArgumentException("count should not be negative.");
+			}
+			this.count = count;
+		}
+	}
+}
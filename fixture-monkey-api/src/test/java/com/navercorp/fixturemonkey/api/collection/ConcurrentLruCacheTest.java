@@ -0,0 +1,191 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.collection;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrentLruCacheTest {
+	@Test
+	void evictLeastRecentlyUsed() {
+		ConcurrentLruCache<Integer, String> sut = new ConcurrentLruCache<>(2);
+		sut.put(1, "1");
+		sut.put(2, "2");
+		sut.get(1);
+
+		sut.put(3, "3");
+
+		then(sut).containsOnlyKeys(1, 3);
+		then(sut.getEvictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	void computeIfAbsentRecordsHitAndMiss() {
+		ConcurrentLruCache<Integer, String> sut = new ConcurrentLruCache<>(10);
+
+		sut.computeIfAbsent(1, String::valueOf);
+		sut.computeIfAbsent(1, String::valueOf);
+
+		then(sut.getMissCount()).isEqualTo(1);
+		then(sut.getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	void zeroMaxSizeCachesNothing() {
+		ConcurrentLruCache<Integer, String> sut = new ConcurrentLruCache<>(0);
+
+		sut.put(1, "1");
+
+		then(sut).isEmpty();
+	}
+
+	@Test
+	void computeIfAbsentConcurrentlyReturnsFirstCachedValue() {
+		ConcurrentLruCache<Integer, String> sut = new ConcurrentLruCache<>(2000);
+
+		List<String> actual = IntStream.range(0, 10_000)
+			.parallel()
+			.mapToObj(it -> sut.computeIfAbsent(it % 100, key -> new String(String.valueOf(key))))
+			.collect(Collectors.toList());
+
+		then(actual).hasSize(10_000);
+		then(sut).hasSize(100);
+		for (int i = 0; i < actual.size(); i++) {
+			then(actual.get(i)).isSameAs(sut.get(i % 100));
+		}
+	}
+
+	@Test
+	void computeIfAbsentConcurrentlyComputesOnce() throws Exception {
+		ConcurrentLruCache<Integer, String> sut = new ConcurrentLruCache<>(10);
+		AtomicInteger computeCount = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		CountDownLatch start = new CountDownLatch(1);
+
+		try {
+			List<Future<String>> futures = IntStream.range(0, 8)
+				.mapToObj(it -> executor.submit(() -> {
+					start.await();
+					return sut.computeIfAbsent(1, key -> {
+						computeCount.incrementAndGet();
+						try {
+							// the other threads miss the key while computing
+							Thread.sleep(100);
+						} catch (InterruptedException ex) {
+							Thread.currentThread().interrupt();
+						}
+						return String.valueOf(key);
+					});
+				}))
+				.collect(Collectors.toList());
+			start.countDown();
+
+			for (Future<String> future : futures) {
+				then(future.get(5, TimeUnit.SECONDS)).isEqualTo("1");
+			}
+			then(computeCount.get()).isEqualTo(1);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void computeIfAbsentRecursivelyThrows() {
+		ConcurrentLruCache<Integer, String> sut = new ConcurrentLruCache<>(10);
+
+		thenThrownBy(() -> sut.computeIfAbsent(1, key -> sut.computeIfAbsent(1, String::valueOf)))
+			.isExactlyInstanceOf(IllegalStateException.class);
+		then(sut.computeIfAbsent(1, String::valueOf)).isEqualTo("1");
+	}
+
+	@Test
+	void computeIfAbsentCrossThreadCycleThrows() throws Exception {
+		ConcurrentLruCache<Integer, String> sut = new ConcurrentLruCache<>(10);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		CountDownLatch computing = new CountDownLatch(2);
+
+		try {
+			// each thread computes its key by the key of the other thread
+			List<Future<String>> futures = IntStream.of(1, 2)
+				.mapToObj(it -> executor.submit(() -> sut.computeIfAbsent(it, key -> {
+					computing.countDown();
+					try {
+						computing.await();
+					} catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+					}
+					return sut.computeIfAbsent(3 - key, String::valueOf);
+				})))
+				.collect(Collectors.toList());
+
+			for (Future<String> future : futures) {
+				thenThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+					.isExactlyInstanceOf(ExecutionException.class)
+					.hasCauseExactlyInstanceOf(IllegalStateException.class);
+			}
+			then(sut.computeIfAbsent(1, String::valueOf)).isEqualTo("1");
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void computeIfAbsentNotHoldsLockWhileComputing() throws Exception {
+		ConcurrentLruCache<Integer, String> sut = new ConcurrentLruCache<>(10);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		try {
+			String actual = sut.computeIfAbsent(1, key -> {
+				try {
+					// the same segment is accessed by another thread while computing
+					return executor.submit(() -> sut.computeIfAbsent(2, String::valueOf)).get(5, TimeUnit.SECONDS);
+				} catch (Exception ex) {
+					throw new IllegalStateException(ex);
+				}
+			});
+
+			then(actual).isEqualTo("2");
+			then(sut).containsOnlyKeys(1, 2);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void sizeNotExceedsMaxSize() {
+		ConcurrentLruCache<Integer, String> sut = new ConcurrentLruCache<>(1000);
+
+		IntStream.range(0, 10_000).parallel().forEach(it -> sut.put(it, String.valueOf(it)));
+
+		then(sut.size()).isLessThanOrEqualTo(1000);
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.collection;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrentRingBufferTest {
+	@Test
+	void pollInOfferedOrder() {
+		ConcurrentRingBuffer<Integer> sut = new ConcurrentRingBuffer<>(3);
+		sut.offer(1);
+		sut.offer(2);
+
+		then(sut.poll()).isEqualTo(1);
+		then(sut.poll()).isEqualTo(2);
+		then(sut.poll()).isNull();
+	}
+
+	@Test
+	void offerNotExceedsCapacity() {
+		ConcurrentRingBuffer<Integer> sut = new ConcurrentRingBuffer<>(3);
+
+		boolean[] actual = {sut.offer(1), sut.offer(2), sut.offer(3), sut.offer(4)};
+
+		then(actual).containsExactly(true, true, true, false);
+		then(sut.size()).isEqualTo(3);
+	}
+
+	@Test
+	void offerAfterPollWrapsAround() {
+		ConcurrentRingBuffer<Integer> sut = new ConcurrentRingBuffer<>(2);
+		for (int i = 0; i < 10; i++) {
+			sut.offer(i);
+
+			then(sut.poll()).isEqualTo(i);
+		}
+
+		then(sut.size()).isZero();
+	}
+
+	@Test
+	void pollConcurrentlyPollsEachElementOnce() {
+		ConcurrentRingBuffer<Integer> sut = new ConcurrentRingBuffer<>(10_000);
+		IntStream.range(0, 10_000).parallel().forEach(sut::offer);
+		Set<Integer> polled = ConcurrentHashMap.newKeySet();
+		AtomicInteger pollCount = new AtomicInteger();
+
+		IntStream.range(0, 20_000).parallel().forEach(it -> {
+			Integer element = sut.poll();
+			if (element != null) {
+				polled.add(element);
+				pollCount.incrementAndGet();
+			}
+		});
+
+		then(pollCount.get()).isEqualTo(10_000);
+		then(polled).hasSize(10_000);
+	}
+}
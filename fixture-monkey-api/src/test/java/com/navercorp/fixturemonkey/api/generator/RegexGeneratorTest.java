@@ -0,0 +1,55 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.fixturemonkey.api.generator;
+package com.navercorp.fixturemonkey.api.generator;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import net.jqwik.api.Property;
+
+class RegexGeneratorTest {
+	private static final int UNICODE_CASE_INSENSITIVE = Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+
+	@Property
+	void generateUnicodeCaseInsensitive() {
+		// given
+		Pattern pattern = Pattern.compile("[\u00e0-\u00e5]{3}", UNICODE_CASE_INSENSITIVE);
+
+		// when
+		String actual = new RegexGenerator().generate(pattern.pattern(), pattern.flags()).sample();
+
+		// then
+		then(pattern.matcher(actual).matches()).isTrue();
+	}
+
+	@Property(tries = 10)
+	void generateOtherCaseOfUnicodeLetter() {
+		// when
+		Set<String> actual = new RegexGenerator().generate("\u00e9", UNICODE_CASE_INSENSITIVE)
+			.sampleStream()
+			.limit(100)
+			.collect(Collectors.toSet());
+
+		// then
+		then(actual).containsExactlyInAnyOrder("\u00e9", "\u00c9");
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.introspector;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.RandomGenerator;
+import net.jqwik.api.Shrinkable;
+
+import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
+import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
+import com.navercorp.fixturemonkey.api.generator.ObjectProperty;
+import com.navercorp.fixturemonkey.api.property.PropertyCache;
+import com.navercorp.fixturemonkey.api.property.PropertyNameResolver;
+import com.navercorp.fixturemonkey.api.type.TypeReference;
+
+@SuppressWarnings({"OptionalGetWithoutIsPresent", "ConstantConditions"})
+class DirectLeafArbitraryIntrospectorTest {
+	private static final List<String> PROPERTY_NAMES = Arrays.asList(
+		"str",
+		"chars",
+		"charWrapper",
+		"shorts",
+		"shortWrapper",
+		"bytes",
+		"byteWrapper",
+		"doubles",
+		"doubleWrapper",
+		"floats",
+		"floatWrapper",
+		"ints",
+		"intWrapper",
+		"longs",
+		"longWrapper",
+		"bigIntegers",
+		"bigDecimals"
+	);
+	private static final int GENERATION_SIZE = 1000;
+	private static final int SAMPLE_SIZE = 1000;
+
+	private final DirectLeafArbitraryIntrospector sut = new DirectLeafArbitraryIntrospector();
+	private final JavaArbitraryIntrospector javaArbitraryIntrospector = new JavaArbitraryIntrospector();
+
+	@Property
+	void match() {
+		for (String propertyName : PROPERTY_NAMES) {
+			ArbitraryGeneratorContext context = getArbitraryGeneratorContext(propertyName);
+
+			boolean actual = this.sut.match(context.getProperty());
+
+			then(actual).as(propertyName).isTrue();
+		}
+	}
+
+	@Property(tries = 10)
+	void generateSameValuesAsJavaArbitraryIntrospector(@ForAll long seed) {
+		for (String propertyName : PROPERTY_NAMES) {
+			ArbitraryGeneratorContext context = getArbitraryGeneratorContext(propertyName);
+
+			List<Object> actual = generate(this.sut.introspect(context).getValue(), seed);
+
+			List<Object> expected = generate(this.javaArbitraryIntrospector.introspect(context).getValue(), seed);
+			then(actual).as(propertyName).isEqualTo(expected);
+		}
+	}
+
+	@Property
+	void sameEdgeCasesAsJavaArbitraryIntrospector() {
+		for (String propertyName : PROPERTY_NAMES) {
+			ArbitraryGeneratorContext context = getArbitraryGeneratorContext(propertyName);
+
+			List<Object> actual = edgeCases(this.sut.introspect(context).getValue());
+
+			List<Object> expected = edgeCases(this.javaArbitraryIntrospector.introspect(context).getValue());
+			then(actual).as(propertyName).isNotEmpty().isEqualTo(expected);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Object> generate(Arbitrary<?> arbitrary, long seed) {
+		RandomGenerator<Object> generator = ((Arbitrary<Object>)arbitrary).generator(GENERATION_SIZE, true);
+		Random random = new Random(seed);
+		return IntStream.range(0, SAMPLE_SIZE)
+			.mapToObj(it -> generator.next(random).value())
+			.collect(Collectors.toList());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Object> edgeCases(Arbitrary<?> arbitrary) {
+		List<Object> edgeCases = new ArrayList<>();
+		for (Shrinkable<Object> edgeCase : ((Arbitrary<Object>)arbitrary).edgeCases()) {
+			edgeCases.add(edgeCase.value());
+		}
+		return edgeCases;
+	}
+
+	private static ArbitraryGeneratorContext getArbitraryGeneratorContext(String propertyName) {
+		TypeReference<JavaArbitraryTypeSpec> typeReference = new TypeReference<JavaArbitraryTypeSpec>() {
+		};
+		com.navercorp.fixturemonkey.api.property.Property property =
+			PropertyCache.getProperty(typeReference.getAnnotatedType(), propertyName).get();
+		return new ArbitraryGeneratorContext(
+			new ArbitraryProperty(
+				new ObjectProperty(
+					property,
+					PropertyNameResolver.IDENTITY,
+					0.0D,
+					null,
+					Collections.emptyList()
+				),
+				null
+			),
+			Collections.emptyList(),
+			null,
+			(ctx, prop) -> Arbitraries.just(null),
+			Collections.emptyList()
+		);
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.lazy;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class LazyArbitraryTest {
+	private static final int THREAD_COUNT = 8;
+
+	@Test
+	void scopedInitializesOncePerScope() {
+		AtomicInteger sequence = new AtomicInteger();
+		LazyArbitrary<Integer> sut = LazyArbitrary.scoped(sequence::incrementAndGet);
+
+		int first = LazyArbitraryScope.run(() -> {
+			then(sut.evaluate()).isEqualTo(sut.getValue());
+			return sut.getValue();
+		});
+		int second = LazyArbitraryScope.run(sut::getValue);
+
+		then(first).isEqualTo(1);
+		then(second).isEqualTo(2);
+		then(sut.isInitialized()).isFalse();
+	}
+
+	@Test
+	void scopedNotSharesValueWithNestedScope() {
+		AtomicInteger sequence = new AtomicInteger();
+		LazyArbitrary<Integer> sut = LazyArbitrary.scoped(sequence::incrementAndGet);
+
+		LazyArbitraryScope.run(() -> {
+			int outer = sut.getValue();
+			int inner = LazyArbitraryScope.run(sut::getValue);
+
+			then(inner).isNotEqualTo(outer);
+			then(sut.getValue()).isEqualTo(outer);
+			return null;
+		});
+	}
+
+	@Test
+	void scopedNotSharesValueBetweenThreads() throws Exception {
+		AtomicInteger sequence = new AtomicInteger();
+		LazyArbitrary<Integer> sut = LazyArbitrary.scoped(sequence::incrementAndGet);
+
+		List<Integer> actual = getValuesConcurrently(() -> LazyArbitraryScope.run(sut::getValue));
+
+		then(actual).doesNotHaveDuplicates();
+	}
+
+	@Test
+	void fixedIsNotCleared() {
+		AtomicInteger sequence = new AtomicInteger();
+		LazyArbitrary<Integer> sut = LazyArbitrary.lazy(sequence::incrementAndGet, true);
+		sut.getValue();
+
+		sut.clear();
+
+		then(sut.getValue()).isEqualTo(1);
+	}
+
+	@Test
+	void evaluateNotSharesValue() throws Exception {
+		AtomicInteger sequence = new AtomicInteger();
+		LazyArbitrary<Integer> sut = LazyArbitrary.lazy(sequence::incrementAndGet);
+
+		List<Integer> actual = getValuesConcurrently(sut::evaluate);
+
+		then(actual).doesNotHaveDuplicates();
+		then(sut.isInitialized()).isFalse();
+	}
+
+	@Test
+	void evaluateFixed() {
+		AtomicInteger sequence = new AtomicInteger();
+		LazyArbitrary<Integer> sut = LazyArbitrary.lazy(sequence::incrementAndGet, true);
+
+		sut.evaluate();
+
+		then(sut.evaluate()).isEqualTo(1);
+	}
+
+	@Test
+	void evaluateFixedConcurrentlyInitializesOnce() throws Exception {
+		AtomicInteger sequence = new AtomicInteger();
+		LazyArbitrary<Integer> sut = LazyArbitrary.lazy(sequence::incrementAndGet, true);
+
+		List<Integer> actual = getValuesConcurrently(sut::evaluate);
+
+		then(actual).containsOnly(1);
+		then(sequence).hasValue(1);
+	}
+
+	private static List<Integer> getValuesConcurrently(Supplier<Integer> supplier) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<Integer>> futures = IntStream.range(0, THREAD_COUNT)
+				.mapToObj(it -> executor.submit(() -> {
+					start.await();
+					return supplier.get();
+				}))
+				.collect(Collectors.toList());
+			start.countDown();
+
+			List<Integer> values = new ArrayList<>();
+			for (Future<Integer> future : futures) {
+				values.add(future.get(10, TimeUnit.SECONDS));
+			}
+			return values;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.matcher;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.property.PropertyCache;
+import com.navercorp.fixturemonkey.api.type.TypeReference;
+
+@SuppressWarnings("OptionalGetWithoutIsPresent")
+class MatcherOperatorIndexTest {
+	private static final TypeReference<TypeMatcherSpec> TYPE_REFERENCE = new TypeReference<TypeMatcherSpec>() {
+	};
+
+	@Test
+	void findFirstExactType() {
+		// given
+		MatcherOperatorIndex<String> sut = new MatcherOperatorIndex<>(Arrays.asList(
+			MatcherOperator.exactTypeMatchOperator(Integer.class, "integer"),
+			MatcherOperator.exactTypeMatchOperator(String.class, "string")
+		));
+
+		// when
+		String actual = sut.findFirst(getProperty("str"));
+
+		then(actual).isEqualTo("string");
+	}
+
+	@Test
+	void findFirstAssignableTypeInOrder() {
+		// given
+		MatcherOperatorIndex<String> sut = new MatcherOperatorIndex<>(Arrays.asList(
+			MatcherOperator.assignableTypeMatchOperator(TypeMatcherSpec.class, "assignable"),
+			MatcherOperator.exactTypeMatchOperator(InheritedTypeMatcherSpec.class, "exact")
+		));
+
+		// when
+		String actual = sut.findFirst(getProperty("inherited"));
+
+		then(actual).isEqualTo("assignable");
+	}
+
+	@Test
+	void findFirstMatcherPrecedesTypeMatcher() {
+		// given
+		MatcherOperatorIndex<String> sut = new MatcherOperatorIndex<>(Arrays.asList(
+			new MatcherOperator<>(property -> "inherited".equals(property.getName()), "name"),
+			MatcherOperator.assignableTypeMatchOperator(Object.class, "object")
+		));
+
+		// when
+		String inherited = sut.findFirst(getProperty("inherited"));
+		String str = sut.findFirst(getProperty("str"));
+
+		then(inherited).isEqualTo("name");
+		then(str).isEqualTo("object");
+	}
+
+	@Test
+	void findFirstNotMatched() {
+		// given
+		MatcherOperatorIndex<String> sut = new MatcherOperatorIndex<>(Collections.singletonList(
+			MatcherOperator.exactTypeMatchOperator(Integer.class, "integer")
+		));
+
+		// when
+		String actual = sut.findFirst(getProperty("str"));
+
+		then(actual).isNull();
+	}
+
+	private static Property getProperty(String propertyName) {
+		return PropertyCache.getProperty(TYPE_REFERENCE.getAnnotatedType(), propertyName).get();
+	}
+}
@@ -121,6 +121,36 @@ class PropertyCacheTest {
 		then(sorted.get(3).getType()).isEqualTo(PropertyValue.class);
 	}
 
+	@Test
+	void getPropertiesCachedByValue() {
+		List<Property> expected = PropertyCache.getProperties(
+			new TypeReference<GenericSample<String>>() {
+			}.getAnnotatedType()
+		);
+
+		List<Property> actual = PropertyCache.getProperties(
+			new TypeReference<GenericSample<String>>() {
+			}.getAnnotatedType()
+		);
+
+		then(actual).isSameAs(expected);
+	}
+
+	@Test
+	void getPropertiesNotCachedWithDifferentGenerics() {
+		PropertyCache.getProperties(new TypeReference<GenericSample<String>>() {
+		}.getAnnotatedType());
+
+		Optional<Property> actual = PropertyCache.getProperty(
+			new TypeReference<GenericSample<Integer>>() {
+			}.getAnnotatedType(),
+			"name"
+		);
+
+		then(actual).isPresent();
+		then(actual.get().getType()).isEqualTo(Integer.class);
+	}
+
 	@Test
 	void getProperty() {
 		TypeReference<PropertyValue> typeReference = new TypeReference<PropertyValue>() {
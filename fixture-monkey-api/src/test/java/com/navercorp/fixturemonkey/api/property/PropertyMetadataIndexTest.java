@@ -0,0 +1,222 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.property;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+class PropertyMetadataIndexTest {
+	private static final String SAMPLE = IndexSample.class.getName();
+	private static final String SAMPLE_MEMBERS = "\tmembers\t" + SAMPLE + "\t2\t3";
+
+	@Test
+	void getPropertyDescriptors() throws NoSuchMethodException {
+		PropertyMetadataIndex sut = PropertyMetadataIndex.parse(Arrays.asList(
+			"# generated",
+			SAMPLE + "\ttype",
+			SAMPLE + SAMPLE_MEMBERS,
+			SAMPLE + "\tproperty\tname\tgetName\tsetName\tjava.lang.String\tjava.lang.String\t-",
+			SAMPLE + "\tproperty\tvalue\tisValue\t-\t-\tboolean\t-"
+		));
+
+		Map<String, PropertyDescriptor> actual = sut.getPropertyDescriptors(IndexSample.class);
+
+		then(actual).hasSize(2);
+		then(actual.get("name").getReadMethod()).isEqualTo(IndexSample.class.getMethod("getName"));
+		then(actual.get("name").getWriteMethod()).isEqualTo(IndexSample.class.getMethod("setName", String.class));
+		then(actual.get("value").getReadMethod()).isEqualTo(IndexSample.class.getMethod("isValue"));
+		then(actual.get("value").getWriteMethod()).isNull();
+	}
+
+	@Test
+	void getPropertyDescriptorsNotIndexed() {
+		PropertyMetadataIndex sut = PropertyMetadataIndex.parse(Arrays.asList(SAMPLE + "\ttype"));
+
+		Map<String, PropertyDescriptor> actual = sut.getPropertyDescriptors(PropertyValue.class);
+
+		then(actual).isNull();
+	}
+
+	@Test
+	void getPropertyDescriptorsNotMatched() {
+		PropertyMetadataIndex sut = PropertyMetadataIndex.parse(Arrays.asList(
+			SAMPLE + "\ttype",
+			SAMPLE + SAMPLE_MEMBERS,
+			SAMPLE + "\tproperty\tname\tgetName\tsetNotExists\tjava.lang.String\tjava.lang.String\t-"
+		));
+
+		Map<String, PropertyDescriptor> actual = sut.getPropertyDescriptors(IndexSample.class);
+
+		then(actual).isNull();
+	}
+
+	@Test
+	void getFields() throws NoSuchFieldException {
+		PropertyMetadataIndex sut = PropertyMetadataIndex.parse(Arrays.asList(
+			SAMPLE + "\ttype",
+			SAMPLE + SAMPLE_MEMBERS,
+			SAMPLE + "\tfield\tname\t" + SAMPLE + "\tjava.lang.String\t-",
+			SAMPLE + "\tfield\tvalue\t" + SAMPLE + "\tboolean\t-"
+		));
+
+		Map<String, Field> actual = sut.getFields(IndexSample.class);
+
+		then(actual).hasSize(2);
+		then(actual.get("name")).isEqualTo(IndexSample.class.getDeclaredField("name"));
+		then(actual.get("value")).isEqualTo(IndexSample.class.getDeclaredField("value"));
+	}
+
+	@Test
+	void getFieldsOfSuperclass() throws NoSuchFieldException {
+		String type = ChildIndexSample.class.getName();
+		PropertyMetadataIndex sut = PropertyMetadataIndex.parse(Arrays.asList(
+			type + "\ttype",
+			type + "\tmembers\t" + type + "\t0\t0",
+			type + SAMPLE_MEMBERS,
+			type + "\tfield\tname\t" + SAMPLE + "\tjava.lang.String\t-"
+		));
+
+		Map<String, Field> actual = sut.getFields(ChildIndexSample.class);
+
+		then(actual.get("name")).isEqualTo(IndexSample.class.getDeclaredField("name"));
+	}
+
+	@Test
+	void getFieldsNotMatched() {
+		PropertyMetadataIndex sut = PropertyMetadataIndex.parse(Arrays.asList(
+			SAMPLE + "\ttype",
+			SAMPLE + SAMPLE_MEMBERS,
+			SAMPLE + "\tfield\tnotExists\t" + SAMPLE + "\tjava.lang.String\t-"
+		));
+
+		Map<String, Field> actual = sut.getFields(IndexSample.class);
+
+		then(actual).isNull();
+	}
+
+	@Test
+	void getFieldsMembersNotMatched() {
+		PropertyMetadataIndex sut = PropertyMetadataIndex.parse(Arrays.asList(
+			SAMPLE + "\ttype",
+			SAMPLE + "\tmembers\t" + SAMPLE + "\t1\t2",
+			SAMPLE + "\tfield\tname\t" + SAMPLE + "\tjava.lang.String\t-"
+		));
+
+		Map<String, Field> actual = sut.getFields(IndexSample.class);
+
+		then(actual).isNull();
+	}
+
+	@Test
+	void getFieldsWithoutMembers() {
+		PropertyMetadataIndex sut = PropertyMetadataIndex.parse(Arrays.asList(
+			SAMPLE + "\ttype",
+			SAMPLE + "\tfield\tname\t" + SAMPLE + "\tjava.lang.String\t-"
+		));
+
+		Map<String, Field> actual = sut.getFields(IndexSample.class);
+
+		then(actual).isNull();
+	}
+
+	@Test
+	void getFieldIsUnannotatedType() {
+		PropertyMetadataIndex sut = PropertyMetadataIndex.parse(Arrays.asList(
+			SAMPLE + "\ttype",
+			SAMPLE + SAMPLE_MEMBERS,
+			SAMPLE + "\tfield\tname\t" + SAMPLE + "\tjava.lang.String\t-",
+			SAMPLE + "\tfield\tvalue\t" + SAMPLE + "\tboolean\tjavax.annotation.Nonnull"
+		));
+
+		then(sut.getField(IndexSample.class, "name").isUnannotatedType(String.class)).isTrue();
+		then(sut.getField(IndexSample.class, "value").isUnannotatedType(boolean.class)).isFalse();
+		then(sut.getField(IndexSample.class, "value").getAnnotationTypeNames())
+			.containsExactly("javax.annotation.Nonnull");
+	}
+
+	@Test
+	void getPropertyIsNotUnannotatedGenericType() {
+		PropertyMetadataIndex sut = PropertyMetadataIndex.parse(Arrays.asList(
+			SAMPLE + "\ttype",
+			SAMPLE + SAMPLE_MEMBERS,
+			SAMPLE + "\tproperty\tnames\tgetNames\t-\t-\tjava.util.List<java.lang.String>\t-"
+		));
+
+		then(sut.getProperty(IndexSample.class, "names").isUnannotatedType(List.class)).isFalse();
+	}
+
+	@Test
+	void getBuilderMethod() throws NoSuchMethodException {
+		String type = BuilderIndexSample.class.getName();
+		PropertyMetadataIndex sut = PropertyMetadataIndex.parse(Arrays.asList(
+			type + "\ttype",
+			type + "\tmembers\t" + type + "\t1\t1",
+			type + "\tbuilder\tbuilder\tbuild"
+		));
+
+		Method actual = sut.getBuilderMethod(BuilderIndexSample.class, "builder", "build");
+
+		then(actual).isEqualTo(BuilderIndexSample.class.getDeclaredMethod("builder"));
+	}
+
+	@Test
+	void getBuilderMethodWithOtherName() {
+		String type = BuilderIndexSample.class.getName();
+		PropertyMetadataIndex sut = PropertyMetadataIndex.parse(Arrays.asList(
+			type + "\ttype",
+			type + "\tmembers\t" + type + "\t1\t1",
+			type + "\tbuilder\tbuilder\tbuild"
+		));
+
+		Method actual = sut.getBuilderMethod(BuilderIndexSample.class, "customBuilder", "build");
+
+		then(actual).isNull();
+	}
+
+	@Getter
+	@Setter
+	public static class IndexSample {
+		private String name;
+
+		@Setter(AccessLevel.NONE)
+		private boolean value;
+	}
+
+	public static class ChildIndexSample extends IndexSample {
+	}
+
+	@Getter
+	@Builder
+	static class BuilderIndexSample {
+		private String name;
+	}
+}
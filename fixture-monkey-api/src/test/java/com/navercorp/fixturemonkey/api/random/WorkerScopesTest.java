@@ -0,0 +1,73 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.random;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class WorkerScopesTest {
+	@Test
+	void isolatesWorkersByLoadedJqwikEngine() {
+		then(WorkerScopes.isolatesWorkers())
+			.as("the internals of the loaded jqwik engine are not compatible with JqwikWorkerScope")
+			.isTrue();
+	}
+
+	@Test
+	void openWaitsUntilWorkersAreReleased() throws Exception {
+		// given
+		WorkerScope scope = WorkerScopes.open(WorkerScopes.MAX_WORKERS);
+
+		// when
+		CompletableFuture<WorkerScope> waiting = CompletableFuture.supplyAsync(() -> WorkerScopes.open(1));
+
+		// then
+		Thread.sleep(100);
+		then(waiting).isNotDone();
+
+		scope.close();
+		WorkerScope actual = waiting.get(10, TimeUnit.SECONDS);
+		then(actual).isNotNull();
+		actual.close();
+	}
+
+	@Test
+	void openInWorkerReturnsNull() {
+		// given
+		WorkerScope scope = WorkerScopes.open(1);
+
+		// when
+		WorkerScope actual = scope.run(0, () -> WorkerScopes.open(1));
+
+		// then
+		then(actual).isNull();
+		scope.close();
+	}
+
+	@Test
+	void openMoreThanMaxWorkersThrows() {
+		thenThrownBy(() -> WorkerScopes.open(WorkerScopes.MAX_WORKERS + 1))
+			.isExactlyInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,429 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.jackson;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.fasterxml.jackson.dataformat.csv.CsvFactory;
+import com.fasterxml.jackson.dataformat.csv.CsvGenerator;
+import com.fasterxml.jackson.dataformat.csv.CsvMappingException;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+import com.navercorp.fixturemonkey.ArbitraryBuilder;
+import com.navercorp.fixturemonkey.api.random.Randoms;
+import com.navercorp.fixturemonkey.builder.DefaultArbitraryBuilder;
+
+/**
+ * Exports generated instances as JSON Lines or CSV without holding them in memory.
+ * Instances of a {@link DefaultArbitraryBuilder} are produced in batches of {@link #batchSize(int)}
+ * on {@link #parallelism(int)} threads, the other builders are pulled from {@link ArbitraryBuilder#sampleStream()}
+ * one by one. They are written through a single {@link SequenceWriter}, the output is flushed after each batch.
+ * <p>
+ * CSV rows are written by a {@link CsvSchema} of which columns are the serializable properties of the type
+ * of the first instance, or the keys of the first instance if it is a map. Instances of the other types
+ * are written in a single column. Nested values are written as JSON.
+ * An instance having a property which is not a column fails the export, such as a subtype or a map with other keys.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class JacksonDatasetExporter {
+	private static final int DEFAULT_BATCH_SIZE = 10_000;
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final String LINE_SEPARATOR = "\n";
+
+	private final ObjectMapper objectMapper;
+	private Format format = Format.JSON_LINES;
+	private int batchSize = DEFAULT_BATCH_SIZE;
+	private int parallelism = 1;
+
+	public JacksonDatasetExporter(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
+	public JacksonDatasetExporter() {
+		this(FixtureMonkeyJackson.defaultObjectMapper());
+	}
+
+	public JacksonDatasetExporter format(Format format) {
+		this.format = format;
+		return this;
+	}
+
+	public JacksonDatasetExporter batchSize(int batchSize) {
+		if (batchSize < 1) {
+			throw new IllegalArgumentException("batchSize should be positive. batchSize: " + batchSize);
+		}
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	/**
+	 * Produces each batch on {@code parallelism} threads if the exported builder is a {@link DefaultArbitraryBuilder},
+	 * the other builders are sampled one by one on the calling thread.
+	 * Each batch of a {@link DefaultArbitraryBuilder} is sampled by a seed derived from the calling thread,
+	 * the output is the same regardless of {@code parallelism} including {@code 1}.
+	 *
+	 * @see DefaultArbitraryBuilder#sampleList(int, int, long)
+	 */
+	public JacksonDatasetExporter parallelism(int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("parallelism should be positive. parallelism: " + parallelism);
+		}
+		this.parallelism = parallelism;
+		return this;
+	}
+
+	/**
+	 * Writes {@code count} instances into {@code path}, the file is truncated if it exists.
+	 *
+	 * @return the number of written instances
+	 */
+	public <T> long export(ArbitraryBuilder<T> arbitraryBuilder, long count, Path path) throws IOException {
+		try (
+			FileChannel channel = FileChannel.open(
+				path,
+				StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING,
+				StandardOpenOption.WRITE
+			);
+			OutputStream outputStream = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE)
+		) {
+			return export(arbitraryBuilder, count, outputStream);
+		}
+	}
+
+	/**
+	 * Writes {@code count} instances into {@code outputStream}, which is flushed but not closed.
+	 *
+	 * @return the number of written instances
+	 */
+	public <T> long export(
+		ArbitraryBuilder<T> arbitraryBuilder,
+		long count,
+		OutputStream outputStream
+	) throws IOException {
+		if (count < 0) {
+			throw new IllegalArgumentException("count should not be negative. count: " + count);
+		}
+
+		long written = 0;
+		try (RowWriter rowWriter = newRowWriter(outputStream)) {
+			if (!(arbitraryBuilder instanceof DefaultArbitraryBuilder)) {
+				Iterator<T> iterator = arbitraryBuilder.sampleStream().limit(count).iterator();
+				while (iterator.hasNext()) {
+					rowWriter.write(iterator.next());
+					if (++written % batchSize == 0) {
+						rowWriter.flush();
+					}
+				}
+			} else {
+				long masterSeed = Randoms.current().nextLong();
+				for (long batch = 0; written < count; batch++) {
+					int size = (int)Math.min(batchSize, count - written);
+					long seed = Randoms.derivedSeed(masterSeed, batch);
+					List<T> rows = ((DefaultArbitraryBuilder<T>)arbitraryBuilder).sampleList(size, parallelism, seed);
+					for (T row : rows) {
+						rowWriter.write(row);
+					}
+					written += size;
+					rowWriter.flush();
+				}
+			}
+		}
+		return written;
+	}
+
+	private RowWriter newRowWriter(OutputStream outputStream) throws IOException {
+		ObjectWriter objectWriter = objectMapper.writer()
+			.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		if (format == Format.CSV) {
+			return new CsvRowWriter(objectMapper, objectWriter, outputStream);
+		}
+		return new JsonLinesRowWriter(objectWriter, outputStream);
+	}
+
+	public enum Format {
+		JSON_LINES,
+		CSV
+	}
+
+	private interface RowWriter extends Flushable, Closeable {
+		void write(Object row) throws IOException;
+	}
+
+	private static final class JsonLinesRowWriter implements RowWriter {
+		private final OutputStream outputStream;
+		private final SequenceWriter sequenceWriter;
+		private boolean empty = true;
+
+		private JsonLinesRowWriter(ObjectWriter objectWriter, OutputStream outputStream) throws IOException {
+			this.outputStream = outputStream;
+			this.sequenceWriter = objectWriter.withRootValueSeparator(LINE_SEPARATOR).writeValues(outputStream);
+		}
+
+		@Override
+		public void write(Object row) throws IOException {
+			sequenceWriter.write(row);
+			empty = false;
+		}
+
+		@Override
+		public void flush() throws IOException {
+			sequenceWriter.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			// does not close the target, the separator is only written between rows
+			sequenceWriter.close();
+			if (!empty) {
+				outputStream.write(LINE_SEPARATOR.getBytes(UTF_8));
+			}
+			outputStream.flush();
+		}
+	}
+
+	private static final class CsvRowWriter implements RowWriter {
+		private static final String VALUE_COLUMN = "value";
+		private static final CsvFactory CSV_FACTORY = new CsvFactory()
+			.configure(CsvGenerator.Feature.STRICT_CHECK_FOR_QUOTING, true);
+
+		private final ObjectMapper objectMapper;
+		private final ObjectWriter objectWriter;
+		private final OutputStream outputStream;
+		private CsvGenerator csvGenerator;
+		private SequenceWriter sequenceWriter;
+		private List<String> columns;
+		private boolean valueColumn;
+
+		private CsvRowWriter(ObjectMapper objectMapper, ObjectWriter objectWriter, OutputStream outputStream) {
+			this.objectMapper = objectMapper;
+			this.objectWriter = objectWriter;
+			this.outputStream = outputStream;
+		}
+
+		@Override
+		public void write(Object row) throws IOException {
+			if (sequenceWriter == null) {
+				open(row);
+			}
+
+			try {
+				sequenceWriter.write(valueColumn ? Collections.singletonMap(VALUE_COLUMN, row) : row);
+			} catch (CsvMappingException ex) {
+				throw new IllegalArgumentException(
+					"CSV row has a property which is not a column. columns: " + columns
+						+ ", cause: " + ex.getOriginalMessage(),
+					ex
+				);
+			}
+		}
+
+		@Override
+		public void flush() throws IOException {
+			if (sequenceWriter != null) {
+				sequenceWriter.flush();
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			// does not close the target
+			if (sequenceWriter != null) {
+				sequenceWriter.close();
+				csvGenerator.close();
+			}
+			outputStream.flush();
+		}
+
+		private void open(Object row) throws IOException {
+			Set<String> columnSet = columns(row);
+			valueColumn = columnSet == null;
+			columns = valueColumn ? Collections.singletonList(VALUE_COLUMN) : new ArrayList<>(columnSet);
+
+			CsvSchema.Builder schema = CsvSchema.builder();
+			columns.forEach(schema::addColumn);
+			csvGenerator = CSV_FACTORY.createGenerator(outputStream);
+			csvGenerator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			csvGenerator.setSchema(schema.setUseHeader(true).build());
+			sequenceWriter = objectWriter.writeValues(new NestedJsonGenerator(csvGenerator, objectMapper.getFactory()));
+		}
+
+		/**
+		 * Returns null if the row is not written as an object, only the first row is buffered to find its columns.
+		 */
+		@Nullable
+		private Set<String> columns(Object row) throws IOException {
+			TokenBuffer buffer = new TokenBuffer(objectMapper, false);
+			objectWriter.writeValue(buffer, row);
+			JsonParser parser = buffer.asParser();
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				return null;
+			}
+
+			// written properties keep their order, the properties not written for the row follow them
+			Set<String> columns = new LinkedHashSet<>();
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				columns.add(parser.getCurrentName());
+				parser.nextToken();
+				parser.skipChildren();
+			}
+			if (!(row instanceof Map)) {
+				BeanDescription description = objectMapper.getSerializationConfig()
+					.introspect(objectMapper.constructType(row.getClass()));
+				for (BeanPropertyDefinition property : description.findProperties()) {
+					if (property.couldSerialize()) {
+						columns.add(property.getName());
+					}
+				}
+			}
+			return columns;
+		}
+	}
+
+	/**
+	 * Writes the objects and arrays nested in a row as JSON strings, a CSV row only has scalar columns.
+	 */
+	private static final class NestedJsonGenerator extends JsonGeneratorDelegate {
+		private final CsvGenerator csvGenerator;
+		private final JsonFactory jsonFactory;
+		private final StringWriter nestedWriter = new StringWriter();
+		private int rowDepth = 0;
+		private int nestedDepth = 0;
+
+		private NestedJsonGenerator(CsvGenerator csvGenerator, JsonFactory jsonFactory) {
+			super(csvGenerator, false);
+			this.csvGenerator = csvGenerator;
+			this.jsonFactory = jsonFactory;
+		}
+
+		@Override
+		public void writeStartArray() throws IOException {
+			startStructure();
+			super.writeStartArray();
+		}
+
+		@SuppressWarnings("deprecation")
+		@Override
+		public void writeStartArray(int size) throws IOException {
+			startStructure();
+			super.writeStartArray(size);
+		}
+
+		@Override
+		public void writeStartArray(Object forValue) throws IOException {
+			startStructure();
+			super.writeStartArray(forValue);
+		}
+
+		@Override
+		public void writeStartArray(Object forValue, int size) throws IOException {
+			startStructure();
+			super.writeStartArray(forValue, size);
+		}
+
+		@Override
+		public void writeStartObject() throws IOException {
+			startStructure();
+			super.writeStartObject();
+		}
+
+		@Override
+		public void writeStartObject(Object forValue) throws IOException {
+			startStructure();
+			super.writeStartObject(forValue);
+		}
+
+		@Override
+		public void writeStartObject(Object forValue, int size) throws IOException {
+			startStructure();
+			super.writeStartObject(forValue, size);
+		}
+
+		@Override
+		public void writeEndArray() throws IOException {
+			super.writeEndArray();
+			endStructure();
+		}
+
+		@Override
+		public void writeEndObject() throws IOException {
+			super.writeEndObject();
+			endStructure();
+		}
+
+		private void startStructure() throws IOException {
+			if (nestedDepth > 0) {
+				nestedDepth++;
+			} else if (rowDepth > 0) {
+				nestedWriter.getBuffer().setLength(0);
+				delegate = jsonFactory.createGenerator(nestedWriter);
+				nestedDepth = 1;
+			} else {
+				rowDepth++;
+			}
+		}
+
+		private void endStructure() throws IOException {
+			if (nestedDepth == 0) {
+				rowDepth--;
+				return;
+			}
+
+			if (--nestedDepth == 0) {
+				delegate.close();
+				delegate = csvGenerator;
+				csvGenerator.writeString(nestedWriter.toString());
+			}
+		}
+	}
+}
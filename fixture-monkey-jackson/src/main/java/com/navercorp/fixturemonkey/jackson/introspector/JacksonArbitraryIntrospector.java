@@ -20,13 +20,20 @@ package com.navercorp.fixturemonkey.jackson.introspector;
 
 import static com.navercorp.fixturemonkey.jackson.property.JacksonAnnotations.getJacksonAnnotation;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAccessor;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
@@ -40,7 +47,10 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.annotation.JsonTypeInfo.Id;
 import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
@@ -58,13 +68,33 @@ public final class JacksonArbitraryIntrospector implements ArbitraryIntrospector
 	);
 
 	private final ObjectMapper objectMapper;
+	private final boolean streaming;
+	private final Map<Class<?>, ObjectReader> readersByType = new ConcurrentHashMap<>();
+	private final Map<String, DateTimeFormatter> dateTimeFormattersByPattern = new ConcurrentHashMap<>();
 
 	public JacksonArbitraryIntrospector(ObjectMapper objectMapper) {
+		this(objectMapper, false);
+	}
+
+	/**
+	 * Creates an introspector generating objects by Jackson.
+	 *
+	 * @param objectMapper the mapper deserializing generated properties
+	 * @param streaming    whether generated properties are written into a {@link TokenBuffer} read by
+	 *                     an {@link ObjectReader} cached per type,
+	 *                     instead of nested maps converted by {@link ObjectMapper#convertValue}
+	 */
+	public JacksonArbitraryIntrospector(ObjectMapper objectMapper, boolean streaming) {
 		this.objectMapper = objectMapper;
+		this.streaming = streaming;
 	}
 
 	@Override
 	public ArbitraryIntrospectorResult introspect(ArbitraryGeneratorContext context) {
+		if (streaming) {
+			return introspectStreaming(context);
+		}
+
 		Property property = context.getProperty();
 		Class<?> actualType = Types.getActualType(property.getType());
 
@@ -80,16 +110,14 @@ public final class JacksonArbitraryIntrospector implements ArbitraryIntrospector
 				resolvePropertyName,
 				Arbitraries.just(null)
 			);
+			JsonFormat jsonFormat = arbitraryProperty.getObjectProperty()
+				.getProperty()
+				.getAnnotation(JsonFormat.class)
+				.orElse(null);
 
 			builderCombinator = builderCombinator.use(propertyArbitrary).in((map, value) -> {
 				if (value != null) {
-					Object jsonFormatted = arbitraryProperty.getObjectProperty()
-						.getProperty()
-						.getAnnotation(JsonFormat.class)
-						.map(it -> format(value, it))
-						.orElse(value);
-
-					map.put(resolvePropertyName, jsonFormatted);
+					map.put(resolvePropertyName, format(value, jsonFormat));
 				}
 				return map;
 			});
@@ -107,6 +135,70 @@ public final class JacksonArbitraryIntrospector implements ArbitraryIntrospector
 		);
 	}
 
+	private ArbitraryIntrospectorResult introspectStreaming(ArbitraryGeneratorContext context) {
+		Property property = context.getProperty();
+		Class<?> actualType = Types.getActualType(property.getType());
+
+		List<ArbitraryProperty> childrenProperties = context.getChildren();
+		Map<String, Arbitrary<?>> childrenArbitraries = context.getChildrenArbitraryContexts()
+			.getArbitrariesByResolvedName();
+
+		Map<String, Object> typeInfo = initializeMap(property);
+		BuilderCombinator<TokenBuffer> builderCombinator = Builders.withBuilder(() -> {
+			TokenBuffer tokenBuffer = new TokenBuffer(objectMapper, false);
+			writeJson(() -> {
+				tokenBuffer.writeStartObject();
+				for (Entry<String, Object> entry : typeInfo.entrySet()) {
+					tokenBuffer.writeStringField(entry.getKey(), (String)entry.getValue());
+				}
+			});
+			return tokenBuffer;
+		});
+
+		for (ArbitraryProperty arbitraryProperty : childrenProperties) {
+			String resolvePropertyName = arbitraryProperty.getObjectProperty().getResolvedPropertyName();
+			Arbitrary<?> propertyArbitrary = childrenArbitraries.getOrDefault(
+				resolvePropertyName,
+				Arbitraries.just(null)
+			);
+			JsonFormat jsonFormat = arbitraryProperty.getObjectProperty()
+				.getProperty()
+				.getAnnotation(JsonFormat.class)
+				.orElse(null);
+
+			builderCombinator = builderCombinator.use(propertyArbitrary).in((tokenBuffer, value) -> {
+				if (value != null) {
+					writeJson(() -> {
+						tokenBuffer.writeFieldName(resolvePropertyName);
+						writeValue(tokenBuffer, format(value, jsonFormat));
+					});
+				}
+				return tokenBuffer;
+			});
+		}
+
+		return new ArbitraryIntrospectorResult(
+			builderCombinator.build(
+				tokenBuffer -> {
+					writeJson(tokenBuffer::writeEndObject);
+					if (property instanceof RootProperty) {
+						return read(tokenBuffer, actualType);
+					}
+					return tokenBuffer;
+				}
+			)
+		);
+	}
+
+	private Object read(TokenBuffer tokenBuffer, Class<?> type) {
+		ObjectReader objectReader = readersByType.computeIfAbsent(type, objectMapper::readerFor);
+		try {
+			return objectReader.readValue(tokenBuffer.asParser());
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
 	private Map<String, Object> initializeMap(Property property) {
 		Map<String, Object> defaultMap = new HashMap<>();
 
@@ -141,22 +233,89 @@ public final class JacksonArbitraryIntrospector implements ArbitraryIntrospector
 		return defaultMap;
 	}
 
-	private Object format(Object object, JsonFormat jsonFormat) {
-		DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(jsonFormat.pattern())
-			.withZone(ZoneId.systemDefault());
+	private Object format(Object object, @Nullable JsonFormat jsonFormat) {
+		if (jsonFormat == null) {
+			return object;
+		}
 
 		if (object instanceof TemporalAccessor) {
 			TemporalAccessor temporalAccessor = (TemporalAccessor)object;
-			return dateTimeFormatter.format(temporalAccessor);
+			return getDateTimeFormatter(jsonFormat).format(temporalAccessor);
 		} else if (object instanceof Date) {
 			TemporalAccessor dateTemporalAccessor = ((Date)object).toInstant()
 				.atZone(ZoneId.systemDefault())
 				.toLocalDate();
-			return dateTimeFormatter.format(dateTemporalAccessor);
+			return getDateTimeFormatter(jsonFormat).format(dateTemporalAccessor);
 		} else if (object instanceof Enum && jsonFormat.shape().isNumeric()) {
 			return ((Enum<?>)object).ordinal();
 		} else {
 			return object;
 		}
 	}
+
+	private DateTimeFormatter getDateTimeFormatter(JsonFormat jsonFormat) {
+		return dateTimeFormattersByPattern.computeIfAbsent(
+			jsonFormat.pattern(),
+			pattern -> DateTimeFormatter.ofPattern(pattern).withZone(ZoneId.systemDefault())
+		);
+	}
+
+	private static void writeValue(JsonGenerator generator, @Nullable Object value) throws IOException {
+		if (value == null) {
+			generator.writeNull();
+		} else if (value instanceof TokenBuffer) {
+			((TokenBuffer)value).serialize(generator);
+		} else if (value instanceof String) {
+			generator.writeString((String)value);
+		} else if (value instanceof Integer) {
+			generator.writeNumber((Integer)value);
+		} else if (value instanceof Long) {
+			generator.writeNumber((Long)value);
+		} else if (value instanceof Boolean) {
+			generator.writeBoolean((Boolean)value);
+		} else if (value instanceof Collection) {
+			generator.writeStartArray();
+			for (Object element : (Collection<?>)value) {
+				writeValue(generator, element);
+			}
+			generator.writeEndArray();
+		} else if (value instanceof Object[]) {
+			generator.writeStartArray();
+			for (Object element : (Object[])value) {
+				writeValue(generator, element);
+			}
+			generator.writeEndArray();
+		} else if (value instanceof Map && hasStringKeys((Map<?, ?>)value)) {
+			generator.writeStartObject();
+			for (Entry<?, ?> entry : ((Map<?, ?>)value).entrySet()) {
+				generator.writeFieldName((String)entry.getKey());
+				writeValue(generator, entry.getValue());
+			}
+			generator.writeEndObject();
+		} else {
+			generator.writeObject(value);
+		}
+	}
+
+	private static boolean hasStringKeys(Map<?, ?> map) {
+		for (Object key : map.keySet()) {
+			if (!(key instanceof String)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static void writeJson(JsonWriting jsonWriting) {
+		try {
+			jsonWriting.write();
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	@FunctionalInterface
+	private interface JsonWriting {
+		void write() throws IOException;
+	}
 }
@@ -45,6 +45,7 @@ public final class JacksonPlugin implements Plugin {
 	private final ObjectMapper objectMapper;
 	private final List<Matcher> matchers = new ArrayList<>();
 	private boolean defaultOptions = true;
+	private boolean streaming = false;
 
 	public JacksonPlugin(ObjectMapper objectMapper) {
 		this.objectMapper = objectMapper;
@@ -69,19 +70,32 @@ public final class JacksonPlugin implements Plugin {
 		return this;
 	}
 
+	/**
+	 * Writes generated properties into a {@link com.fasterxml.jackson.databind.util.TokenBuffer}
+	 * instead of converting nested maps.
+	 *
+	 * @see JacksonArbitraryIntrospector#JacksonArbitraryIntrospector(ObjectMapper, boolean)
+	 */
+	public JacksonPlugin streaming(boolean streaming) {
+		this.streaming = streaming;
+		return this;
+	}
+
 	@Override
 	public void accept(GenerateOptionsBuilder optionsBuilder) {
 		if (!this.matchers.isEmpty()) {
 			Matcher matcher = property -> matchers.stream().anyMatch(it -> it.match(property));
+			JacksonArbitraryIntrospector arbitraryIntrospector =
+				new JacksonArbitraryIntrospector(objectMapper, streaming);
 
 			optionsBuilder
-				.insertFirstArbitraryIntrospector(matcher, new JacksonArbitraryIntrospector(objectMapper))
+				.insertFirstArbitraryIntrospector(matcher, arbitraryIntrospector)
 				.insertFirstPropertyNameResolver(matcher, new JacksonPropertyNameResolver());
 		}
 
 		if (this.defaultOptions) {
 			optionsBuilder
-				.objectIntrospector(it -> new JacksonArbitraryIntrospector(objectMapper))
+				.objectIntrospector(it -> new JacksonArbitraryIntrospector(objectMapper, streaming))
 				.defaultPropertyNameResolver(new JacksonPropertyNameResolver());
 		}
 		optionsBuilder
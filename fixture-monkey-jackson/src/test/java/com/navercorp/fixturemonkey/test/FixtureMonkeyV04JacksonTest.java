@@ -1,7 +1,13 @@
 package com.navercorp.fixturemonkey.test;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.BDDAssertions.thenNoException;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -10,19 +16,33 @@ import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import net.jqwik.api.Property;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonFormat.Shape;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.annotation.JsonTypeInfo.Id;
 import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 
 import lombok.Value;
 
+import com.navercorp.fixturemonkey.FixtureMonkey;
 import com.navercorp.fixturemonkey.LabMonkey;
+import com.navercorp.fixturemonkey.api.random.Randoms;
+import com.navercorp.fixturemonkey.api.type.TypeReference;
+import com.navercorp.fixturemonkey.jackson.JacksonDatasetExporter;
+import com.navercorp.fixturemonkey.jackson.JacksonDatasetExporter.Format;
 import com.navercorp.fixturemonkey.jackson.plugin.JacksonPlugin;
 
 class FixtureMonkeyV04JacksonTest {
@@ -30,6 +50,10 @@ class FixtureMonkeyV04JacksonTest {
 		.plugin(new JacksonPlugin())
 		.build();
 
+	private static final LabMonkey STREAMING_SUT = LabMonkey.labMonkeyBuilder()
+		.plugin(new JacksonPlugin().streaming(true))
+		.build();
+
 	@Property
 	void jsonFormat() {
 		thenNoException().isThrownBy(() -> SUT.giveMeOne(JsonFormatSpec.class));
@@ -60,6 +84,214 @@ class FixtureMonkeyV04JacksonTest {
 		thenNoException().isThrownBy(() -> SUT.giveMeBuilder(TypeWithAnnotationsListSpec.class));
 	}
 
+	@Property(tries = 1)
+	void sampleJsonSubTypesOfListElement() {
+		Set<Class<?>> actual = SUT.giveMeBuilder(JsonTypeInfoListSpec.class)
+			.size("types", 1)
+			.sampleList(100)
+			.stream()
+			.map(it -> it.getTypes().get(0).getClass())
+			.collect(Collectors.toSet());
+
+		then(actual).containsExactlyInAnyOrder(TypeA.class, TypeB.class);
+	}
+
+	@Property(tries = 1)
+	void sampleJsonSubTypesOfEachListElement() {
+		List<Type> actual = SUT.giveMeBuilder(JsonTypeInfoListSpec.class)
+			.size("types", 50)
+			.sample()
+			.getTypes();
+
+		then(actual).extracting(Object::getClass).contains(TypeA.class, TypeB.class);
+	}
+
+	@Property(tries = 1)
+	void sampleJsonSubTypesOfEachResizedListElement() {
+		List<Type> actual = SUT.giveMeBuilder(JsonTypeInfoListSpec.class)
+			.size("types", 50, 60)
+			.sample()
+			.getTypes();
+
+		then(actual).extracting(Object::getClass).contains(TypeA.class, TypeB.class);
+	}
+
+	@Property
+	void streamingJsonFormat() {
+		thenNoException().isThrownBy(() -> STREAMING_SUT.giveMeOne(JsonFormatSpec.class));
+	}
+
+	@Property
+	void streamingJsonTypeListInfo() {
+		List<Type> actual = STREAMING_SUT.giveMeBuilder(JsonTypeInfoListSpec.class)
+			.size("types", 3)
+			.sample()
+			.getTypes();
+
+		then(actual).hasSize(3);
+	}
+
+	@Property
+	void streamingSetNested() {
+		TypeA actual = STREAMING_SUT.giveMeBuilder(NestedSpec.class)
+			.set("typeA.value", "test")
+			.sample()
+			.getTypeA();
+
+		then(actual.getValue()).isEqualTo("test");
+	}
+
+	@Property
+	void exportJsonLines() throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		long actual = new JacksonDatasetExporter()
+			.batchSize(7)
+			.export(SUT.giveMeBuilder(TypeA.class).set("value", "a,b"), 20, outputStream);
+
+		then(actual).isEqualTo(20);
+		then(outputStream.toString("UTF-8").split("\n"))
+			.hasSize(20)
+			.allMatch(it -> it.equals("{\"value\":\"a,b\"}"));
+	}
+
+	@Property
+	void exportJsonLinesInParallel() throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		long actual = new JacksonDatasetExporter()
+			.batchSize(7)
+			.parallelism(3)
+			.export(SUT.giveMeBuilder(TypeB.class), 20, outputStream);
+
+		then(actual).isEqualTo(20);
+		then(outputStream.toString("UTF-8").split("\n")).hasSize(20);
+	}
+
+	@Property
+	void exportSameRegardlessOfParallelism() {
+		long seed = Randoms.current().nextLong();
+
+		String actual = exportTypeB(3, seed);
+
+		String expected = exportTypeB(1, seed);
+		then(actual).isEqualTo(expected);
+	}
+
+	@Property
+	void exportInParallelSamplesOtherBuilderSequentially() throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		long actual = new JacksonDatasetExporter()
+			.parallelism(3)
+			.export(FixtureMonkey.create().giveMeBuilder(String.class).set("test"), 5, outputStream);
+
+		then(actual).isEqualTo(5);
+		then(outputStream.toString("UTF-8").split("\n"))
+			.hasSize(5)
+			.allMatch(it -> it.equals("\"test\""));
+	}
+
+	@Property
+	void exportCsvList() throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		new JacksonDatasetExporter()
+			.format(Format.CSV)
+			.export(
+				SUT.giveMeBuilder(new TypeReference<List<String>>() {
+					})
+					.size("$", 2)
+					.set("$[*]", "a"),
+				2,
+				outputStream
+			);
+
+		then(outputStream.toString("UTF-8").split("\n")).containsExactly(
+			"value",
+			"\"[\"\"a\"\",\"\"a\"\"]\"",
+			"\"[\"\"a\"\",\"\"a\"\"]\""
+		);
+	}
+
+	@Property
+	void exportCsv() throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		new JacksonDatasetExporter()
+			.format(Format.CSV)
+			.export(
+				SUT.giveMeBuilder(NestedSpec.class).set("typeA.value", "a,\"b\""),
+				3,
+				outputStream
+			);
+
+		then(outputStream.toString("UTF-8").split("\n")).containsExactly(
+			"typeA",
+			"\"{\"\"value\"\":\"\"a,\\\"\"b\\\"\"\"\"}\"",
+			"\"{\"\"value\"\":\"\"a,\\\"\"b\\\"\"\"\"}\"",
+			"\"{\"\"value\"\":\"\"a,\\\"\"b\\\"\"\"\"}\""
+		);
+	}
+
+	@Property
+	void exportCsvColumnsOfType() throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		new JacksonDatasetExporter(new ObjectMapper().setSerializationInclusion(Include.NON_NULL))
+			.format(Format.CSV)
+			.export(SUT.giveMeBuilder(TypeA.class).setNull("value"), 2, outputStream);
+
+		then(outputStream.toString("UTF-8").split("\n", -1)).containsExactly("value", "", "", "");
+	}
+
+	@Property
+	void exportCsvUnknownColumnThrows() {
+		AtomicInteger sequence = new AtomicInteger();
+		ObjectMapper objectMapper = new ObjectMapper().registerModule(
+			new SimpleModule().addSerializer(TypeA.class, new JsonSerializer<TypeA>() {
+				@Override
+				public void serialize(
+					TypeA value,
+					JsonGenerator generator,
+					SerializerProvider serializers
+				) throws IOException {
+					generator.writeStartObject();
+					generator.writeStringField("column" + sequence.incrementAndGet(), value.getValue());
+					generator.writeEndObject();
+				}
+			})
+		);
+
+		thenThrownBy(
+			() -> new JacksonDatasetExporter(objectMapper)
+				.format(Format.CSV)
+				.export(SUT.giveMeBuilder(TypeA.class), 2, new ByteArrayOutputStream())
+		)
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("CSV row has a property which is not a column");
+	}
+
+	private static String exportTypeB(int parallelism, long seed) {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		Randoms.withRandom(Randoms.newRandom(seed), () -> {
+			try {
+				return new JacksonDatasetExporter()
+					.batchSize(7)
+					.parallelism(parallelism)
+					.export(SUT.giveMeBuilder(TypeB.class), 20, outputStream);
+			} catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		});
+		return new String(outputStream.toByteArray(), UTF_8);
+	}
+
+	@Value
+	public static class NestedSpec {
+		TypeA typeA;
+	}
+
 	@Value
 	public static class JsonFormatSpec {
 		@JsonFormat(shape = Shape.NUMBER)
@@ -18,11 +18,8 @@
 
 package com.navercorp.fixturemonkey.javax.validation.introspector;
 
-import static java.util.stream.Collectors.toList;
-
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.List;
 import java.util.Optional;
 
 import javax.validation.constraints.Email;
@@ -33,6 +30,7 @@ import org.apiguardian.api.API.Status;
 
 import net.jqwik.api.Arbitraries;
 import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
 import net.jqwik.api.arbitraries.BigDecimalArbitrary;
 import net.jqwik.api.arbitraries.BigIntegerArbitrary;
 import net.jqwik.api.arbitraries.ByteArbitrary;
@@ -46,11 +44,17 @@ import net.jqwik.api.arbitraries.StringArbitrary;
 import net.jqwik.web.api.Web;
 
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
+import com.navercorp.fixturemonkey.api.generator.RegexGenerator;
 import com.navercorp.fixturemonkey.api.introspector.JavaArbitraryResolver;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public final class JavaxValidationJavaArbitraryResolver implements JavaArbitraryResolver {
-	private static final String CONTROL_BLOCK = "\u0000-\u001f\u007f";
+	private static final int MIN_EMAIL_LENGTH = 3;
+	private static final int MAX_LOCAL_PART_LENGTH = 64;
+	private static final int MAX_DOMAIN_LENGTH = 255;
+	private static final int MAX_DOMAIN_LABEL_LENGTH = 63;
+	private static final int MAX_EMAIL_LENGTH = MAX_LOCAL_PART_LENGTH + 1 + MAX_DOMAIN_LENGTH;
+	private static final Arbitrary<Character> NON_WHITESPACE_CHARACTER = Arbitraries.chars().range('!', '~');
 	private static final RegexGenerator REGEX_GENERATOR = new RegexGenerator();
 
 	private final JavaxValidationConstraintGenerator constraintGenerator;
@@ -74,58 +78,73 @@ public final class JavaxValidationJavaArbitraryResolver implements JavaArbitrary
 		boolean digits = constraint.isDigits();
 		boolean notBlank = constraint.isNotBlank();
 
+		// a not blank string has at least one character
+		int minLength = min != null ? min.intValue() : 0;
+		if (notBlank) {
+			minLength = Math.max(minLength, 1);
+		}
+		if (max != null && minLength > max.intValue()) {
+			throw new IllegalArgumentException(
+				"String length min should not be greater than max. min: " + minLength + ", max: " + max
+					+ (notBlank ? ", a not blank string has at least one character" : "")
+			);
+		}
+
 		Optional<Pattern> pattern = context.findAnnotation(Pattern.class);
 		if (pattern.isPresent()) {
 			Integer minValue = min != null ? min.intValue() : null;
 			Integer maxValue = max != null ? max.intValue() : null;
-			List<String> values = REGEX_GENERATOR.generateAll(pattern.get(), minValue, maxValue);
-			if (notBlank) {
-				values = values.stream()
-					.filter(it -> it != null && it.trim().isEmpty())
-					.collect(toList());
+			int flags = 0;
+			for (Pattern.Flag flag : pattern.get().flags()) {
+				flags |= flag.getValue();
 			}
-
-			return Arbitraries.of(values);
+			return REGEX_GENERATOR.generate(pattern.get().regexp(), flags, minValue, maxValue, notBlank);
 		}
 
-		Arbitrary<String> arbitrary;
 		if (context.findAnnotation(Email.class).isPresent()) {
-			arbitrary = Web.emails().allowIpv4Host();
-			if (min != null) {
-				int emailMinLength = min.intValue();
-				arbitrary = arbitrary.filter(it -> it != null && it.length() >= emailMinLength);
+			// generated emails are never blank
+			if (max == null && (min == null || min.intValue() <= MIN_EMAIL_LENGTH)) {
+				return Web.emails().allowIpv4Host();
+			}
+
+			int emailMinLength = min != null ? Math.max(min.intValue(), MIN_EMAIL_LENGTH) : MIN_EMAIL_LENGTH;
+			int emailMaxLength = max != null ? Math.min(max.intValue(), MAX_EMAIL_LENGTH) : MAX_EMAIL_LENGTH;
+			if (emailMinLength > emailMaxLength) {
+				throw new IllegalArgumentException(
+					"Email length should be between " + MIN_EMAIL_LENGTH + " and " + MAX_EMAIL_LENGTH
+						+ ". min: " + min + ", max: " + max
+				);
 			}
+			return emails(emailMinLength, emailMaxLength);
+		}
+
+		if (digits) {
+			// a numeric string is blank only if it is empty
+			stringArbitrary = stringArbitrary.numeric().ofMinLength(minLength);
 			if (max != null) {
-				int emailMaxLength = max.intValue();
-				arbitrary = arbitrary.filter(it -> it != null && it.length() <= emailMaxLength);
+				stringArbitrary = stringArbitrary.ofMaxLength(max.intValue());
 			}
-		} else {
+			return stringArbitrary;
+		}
+
+		stringArbitrary = stringArbitrary.ascii();
+		if (!notBlank) {
 			if (min != null) {
 				stringArbitrary = stringArbitrary.ofMinLength(min.intValue());
 			}
 			if (max != null) {
 				stringArbitrary = stringArbitrary.ofMaxLength(max.intValue());
 			}
-			if (digits) {
-				stringArbitrary = stringArbitrary.numeric();
-			} else {
-				stringArbitrary = stringArbitrary.ascii();
-			}
-			arbitrary = stringArbitrary;
+			return stringArbitrary;
 		}
 
-		return arbitrary
-			.filter(it -> {
-				if (!notBlank) {
-					return true;
-				}
-
-				if (it == null || it.trim().length() == 0) {
-					return false;
-				}
-
-				return !CONTROL_BLOCK.equals(it.trim());
-			});
+		// a non-whitespace character followed by the rest, it is not blank by construction
+		stringArbitrary = stringArbitrary.ofMinLength(minLength - 1);
+		if (max != null) {
+			stringArbitrary = stringArbitrary.ofMaxLength(max.intValue() - 1);
+		}
+		return Combinators.combine(NON_WHITESPACE_CHARACTER, stringArbitrary)
+			.as((first, rest) -> first + rest);
 	}
 
 	@Override
@@ -317,4 +336,33 @@ public final class JavaxValidationJavaArbitraryResolver implements JavaArbitrary
 
 		return bigDecimalArbitrary;
 	}
+
+	/**
+	 * Generates an email of which length is between {@code minLength} and {@code maxLength} by construction.
+	 * The local part and the domain are alphanumeric, the domain is split into labels not longer than 63.
+	 */
+	private static Arbitrary<String> emails(int minLength, int maxLength) {
+		return Arbitraries.integers().between(minLength, maxLength)
+			.flatMap(length -> {
+				int minLocalPartLength = Math.max(1, length - 1 - MAX_DOMAIN_LENGTH);
+				int maxLocalPartLength = Math.min(MAX_LOCAL_PART_LENGTH, length - 2);
+				return Arbitraries.integers().between(minLocalPartLength, maxLocalPartLength)
+					.flatMap(localPartLength -> Combinators.combine(
+						alphanumerics(localPartLength),
+						alphanumerics(length - 1 - localPartLength).map(JavaxValidationJavaArbitraryResolver::toDomain)
+					).as((localPart, domain) -> localPart + "@" + domain));
+			});
+	}
+
+	private static Arbitrary<String> alphanumerics(int length) {
+		return Arbitraries.strings().alpha().numeric().ofLength(length);
+	}
+
+	private static String toDomain(String alphanumerics) {
+		char[] domain = alphanumerics.toCharArray();
+		for (int i = MAX_DOMAIN_LABEL_LENGTH - 1; i < domain.length - 1; i += MAX_DOMAIN_LABEL_LENGTH) {
+			domain[i] = '.';
+		}
+		return new String(domain);
+	}
 }
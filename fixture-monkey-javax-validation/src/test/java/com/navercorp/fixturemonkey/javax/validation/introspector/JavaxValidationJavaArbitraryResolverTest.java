@@ -18,16 +18,20 @@
 
 package com.navercorp.fixturemonkey.javax.validation.introspector;
 
+import static java.util.stream.Collectors.toSet;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.BDDAssertions.thenNoException;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Collections;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import net.jqwik.api.Arbitraries;
 import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Example;
 import net.jqwik.api.Property;
 import net.jqwik.api.arbitraries.BigDecimalArbitrary;
 import net.jqwik.api.arbitraries.BigIntegerArbitrary;
@@ -161,6 +165,82 @@ class JavaxValidationJavaArbitraryResolverTest {
 		}
 	}
 
+	@Property
+	void stringPatternSize() {
+		// given
+		StringArbitrary stringArbitrary = Arbitraries.strings();
+		ArbitraryGeneratorContext context = makeContext(
+			new TypeReference<StringIntrospectorSpec>() {
+			},
+			"patternSize"
+		);
+
+		// when
+		String actual = this.sut.strings(stringArbitrary, context).sample();
+
+		// then
+		then(actual).matches("[a-z]{5,8}");
+	}
+
+	@Example
+	void stringPatternGeneratesMoreThanHundredValues() {
+		// given
+		StringArbitrary stringArbitrary = Arbitraries.strings();
+		ArbitraryGeneratorContext context = makeContext(
+			new TypeReference<StringIntrospectorSpec>() {
+			},
+			"hexPattern"
+		);
+
+		// when
+		Set<String> actual = this.sut.strings(stringArbitrary, context)
+			.sampleStream()
+			.limit(1000)
+			.collect(toSet());
+
+		// then
+		then(actual).hasSizeGreaterThan(100);
+		then(actual).allMatch(it -> it.matches("[0-9a-f]{8}"));
+	}
+
+	@Example
+	void stringCaseInsensitivePattern() {
+		// given
+		StringArbitrary stringArbitrary = Arbitraries.strings();
+		ArbitraryGeneratorContext context = makeContext(
+			new TypeReference<StringIntrospectorSpec>() {
+			},
+			"caseInsensitivePattern"
+		);
+
+		// when
+		Set<String> actual = this.sut.strings(stringArbitrary, context)
+			.sampleStream()
+			.limit(1000)
+			.collect(toSet());
+
+		// then
+		then(actual).allMatch(it -> it.matches("[a-cA-C]{3}"));
+		then(actual).anyMatch(it -> !it.equals(it.toLowerCase()));
+	}
+
+	@Property
+	void stringCommentsPattern() {
+		// given
+		StringArbitrary stringArbitrary = Arbitraries.strings();
+		ArbitraryGeneratorContext context = makeContext(
+			new TypeReference<StringIntrospectorSpec>() {
+			},
+			"commentsPattern"
+		);
+
+		// when
+		String actual = this.sut.strings(stringArbitrary, context).sample();
+
+		// then
+		then(actual).isEqualTo("ab");
+	}
+
 	@Property
 	void stringEmail() {
 		// given
@@ -178,6 +258,116 @@ class JavaxValidationJavaArbitraryResolverTest {
 		then(actual).containsOnlyOnce("@");
 	}
 
+	@Property
+	void stringsNotBlankSize() {
+		// given
+		StringArbitrary stringArbitrary = Arbitraries.strings();
+		ArbitraryGeneratorContext context = makeContext(
+			new TypeReference<StringIntrospectorSpec>() {
+			},
+			"notBlankSize"
+		);
+
+		// when
+		String actual = this.sut.strings(stringArbitrary, context).sample();
+
+		// then
+		then(actual).isNotBlank();
+		then(actual).hasSize(1);
+	}
+
+	@Property
+	void stringsNotBlankPattern() {
+		// given
+		StringArbitrary stringArbitrary = Arbitraries.strings();
+		ArbitraryGeneratorContext context = makeContext(
+			new TypeReference<StringIntrospectorSpec>() {
+			},
+			"notBlankPattern"
+		);
+
+		// when
+		String actual = this.sut.strings(stringArbitrary, context).sample();
+
+		// then
+		then(actual).isEqualTo("a");
+	}
+
+	@Property
+	void stringEmailSize() {
+		// given
+		StringArbitrary stringArbitrary = Arbitraries.strings();
+		ArbitraryGeneratorContext context = makeContext(
+			new TypeReference<StringIntrospectorSpec>() {
+			},
+			"emailSize"
+		);
+
+		// when
+		String actual = this.sut.strings(stringArbitrary, context).sample();
+
+		// then
+		then(actual).containsOnlyOnce("@");
+		then(actual.length()).isBetween(5, 10);
+	}
+
+	@Property
+	void stringLongEmail() {
+		// given
+		StringArbitrary stringArbitrary = Arbitraries.strings();
+		ArbitraryGeneratorContext context = makeContext(
+			new TypeReference<StringIntrospectorSpec>() {
+			},
+			"longEmail"
+		);
+
+		// when
+		String actual = this.sut.strings(stringArbitrary, context).sample();
+
+		// then
+		String[] parts = actual.split("@");
+		then(parts).hasSize(2);
+		then(parts[0].length()).isLessThanOrEqualTo(64);
+		then(parts[1].length()).isLessThanOrEqualTo(255);
+		then(actual.length()).isGreaterThanOrEqualTo(300);
+		for (String label : parts[1].split("\\.")) {
+			then(label).isNotEmpty();
+			then(label.length()).isLessThanOrEqualTo(63);
+		}
+	}
+
+	@Example
+	void stringsNotBlankZeroSizeThrows() {
+		// given
+		StringArbitrary stringArbitrary = Arbitraries.strings();
+		ArbitraryGeneratorContext context = makeContext(
+			new TypeReference<StringIntrospectorSpec>() {
+			},
+			"notBlankZeroSize"
+		);
+
+		// when, then
+		thenThrownBy(() -> this.sut.strings(stringArbitrary, context))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("min: 1, max: 0");
+	}
+
+	@Example
+	void stringsMinGreaterThanMaxSizeThrows() {
+		// given
+		StringArbitrary stringArbitrary = Arbitraries.strings();
+		ArbitraryGeneratorContext context = makeContext(
+			new TypeReference<StringIntrospectorSpec>() {
+			},
+			"minGreaterThanMaxSize"
+		);
+
+		// when, then
+		thenThrownBy(() -> this.sut.strings(stringArbitrary, context))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("min: 5, max: 3");
+	}
+
 	@Property
 	void characters() {
 		// given
@@ -45,4 +45,40 @@ class StringIntrospectorSpec {
 
 	@Email
 	private String email;
+
+	@NotBlank
+	@Size(max = 1)
+	private String notBlankSize;
+
+	@NotBlank
+	@Pattern(regexp = "[ a]")
+	private String notBlankPattern;
+
+	@Email
+	@Size(min = 5, max = 10)
+	private String emailSize;
+
+	@Pattern(regexp = "[a-z]{3,20}")
+	@Size(min = 5, max = 8)
+	private String patternSize;
+
+	@Pattern(regexp = "[0-9a-f]{8}")
+	private String hexPattern;
+
+	@Pattern(regexp = "[a-c]{3}", flags = Pattern.Flag.CASE_INSENSITIVE)
+	private String caseInsensitivePattern;
+
+	@Pattern(regexp = "a b # comment", flags = Pattern.Flag.COMMENTS)
+	private String commentsPattern;
+
+	@Email
+	@Size(min = 300)
+	private String longEmail;
+
+	@NotBlank
+	@Size(max = 0)
+	private String notBlankZeroSize;
+
+	@Size(min = 5, max = 3)
+	private String minGreaterThanMaxSize;
 }
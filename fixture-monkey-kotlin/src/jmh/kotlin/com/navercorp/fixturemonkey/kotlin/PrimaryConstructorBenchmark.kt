@@ -0,0 +1,119 @@
+package com.navercorp.fixturemonkey.kotlin
+
+import com.navercorp.fixturemonkey.ArbitraryBuilder
+import com.navercorp.fixturemonkey.LabMonkey
+import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext
+import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector
+import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospectorResult
+import com.navercorp.fixturemonkey.api.type.Types
+import com.navercorp.fixturemonkey.kotlin.introspector.PrimaryConstructorArbitraryIntrospector
+import net.jqwik.api.Builders
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Level
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.infra.Blackhole
+import java.util.concurrent.TimeUnit
+import kotlin.reflect.KParameter
+import kotlin.reflect.full.primaryConstructor
+
+/**
+ * Measures sampling data classes instantiated by [PrimaryConstructorArbitraryIntrospector]
+ * and by [KFunction.callBy][kotlin.reflect.KFunction.callBy] with arguments mapped by [KParameter].
+ * The size of the nested list is fixed, the instances of both are the same in size.
+ * The constructor parameter of [UnsetDefaultParameterClass] is not a property, its default value is used.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+open class PrimaryConstructorBenchmark {
+    @Param("false", "true")
+    var callBy: Boolean = false
+
+    private lateinit var labMonkey: LabMonkey
+    private lateinit var nestedBuilder: ArbitraryBuilder<NestedDataClass>
+
+    @Setup(Level.Trial)
+    fun setUp() {
+        labMonkey = LabMonkey.labMonkeyBuilder()
+            .plugin(KotlinPlugin())
+            .apply {
+                if (callBy) {
+                    objectIntrospector(CallByArbitraryIntrospector())
+                }
+            }
+            .build()
+        nestedBuilder = labMonkey.giveMeBuilder(NestedDataClass::class.java)
+            .size("values", 3)
+    }
+
+    @Benchmark
+    fun sampleDataClass(blackhole: Blackhole) {
+        blackhole.consume(labMonkey.giveMeOne(WideDataClass::class.java))
+    }
+
+    @Benchmark
+    fun sampleNestedDataClass(blackhole: Blackhole) {
+        blackhole.consume(nestedBuilder.sample())
+    }
+
+    @Benchmark
+    fun sampleUnsetDefaultParameterClass(blackhole: Blackhole) {
+        blackhole.consume(labMonkey.giveMeOne(UnsetDefaultParameterClass::class.java))
+    }
+
+    class CallByArbitraryIntrospector : ArbitraryIntrospector {
+        override fun introspect(context: ArbitraryGeneratorContext): ArbitraryIntrospectorResult {
+            val constructor = Types.getActualType(context.property.type).kotlin.primaryConstructor!!
+            val arbitrariesByPropertyName = context.childrenArbitraryContexts.arbitrariesByPropertyName
+
+            var builderCombinator = Builders.withBuilder { mutableMapOf<KParameter, Any?>() }
+            for (parameter in constructor.parameters) {
+                val parameterArbitrary = arbitrariesByPropertyName[parameter.name]
+                if (parameter.isOptional && parameterArbitrary == null) {
+                    continue
+                }
+
+                builderCombinator = builderCombinator.use(parameterArbitrary).`in` { map, value ->
+                    map.apply {
+                        this[parameter] = value
+                    }
+                }
+            }
+            return ArbitraryIntrospectorResult(builderCombinator.build { constructor.callBy(it) })
+        }
+    }
+
+    data class WideDataClass(
+        val int1: Int,
+        val int2: Int,
+        val long1: Long,
+        val long2: Long,
+        val double1: Double,
+        val boolean1: Boolean,
+        val string1: String,
+        val string2: String,
+        val string3: String?,
+        val string4: String = "default"
+    )
+
+    class UnsetDefaultParameterClass(
+        val int1: Int,
+        val long1: Long,
+        val string1: String,
+        stringParameter: String = "default"
+    ) {
+        val string2 = stringParameter
+    }
+
+    data class NestedDataClass(
+        val id: String,
+        val values: List<WideDataClass>,
+        val child: WideDataClass?
+    )
+}
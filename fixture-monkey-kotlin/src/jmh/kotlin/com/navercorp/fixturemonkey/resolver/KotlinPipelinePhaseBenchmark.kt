@@ -0,0 +1,240 @@
+package com.navercorp.fixturemonkey.resolver
+
+import com.navercorp.fixturemonkey.api.generator.ArbitraryContainerInfo
+import com.navercorp.fixturemonkey.api.option.GenerateOptions
+import com.navercorp.fixturemonkey.api.property.PropertyCache
+import com.navercorp.fixturemonkey.api.property.RootProperty
+import com.navercorp.fixturemonkey.api.type.TypeReference
+import com.navercorp.fixturemonkey.kotlin.KotlinPlugin
+import com.navercorp.fixturemonkey.kotlin.introspector.PrimaryConstructorArbitraryIntrospector
+import net.jqwik.api.Arbitrary
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Level
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Warmup
+import org.openjdk.jmh.infra.Blackhole
+import java.util.concurrent.TimeUnit
+
+/**
+ * Measures each phase of generating an instance of Kotlin classes by [PrimaryConstructorArbitraryIntrospector],
+ * the Kotlin case of `PipelinePhaseBenchmark` of fixture-monkey with the same shapes of classes.
+ * traverse → manipulate → generate → sample
+ * The classes are not validated, they are not annotated by javax validation.
+ * The nodes are not generic, a node class is declared for each depth.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 10, time = 1)
+@State(Scope.Benchmark)
+open class KotlinPipelinePhaseBenchmark {
+    @Param("NARROW", "WIDE")
+    var width: Width = Width.NARROW
+
+    @Param("1", "3")
+    var depth: Int = 1
+
+    @Param("1", "10")
+    var containerSize: Int = 1
+
+    private lateinit var generateOptions: GenerateOptions
+    private lateinit var traverser: ArbitraryTraverser
+    private lateinit var monkeyContext: MonkeyContext
+    private lateinit var rootProperty: RootProperty
+    private lateinit var manipulators: List<ArbitraryManipulator>
+    private lateinit var arbitrary: Arbitrary<*>
+
+    @Setup(Level.Trial)
+    fun setUp() {
+        PropertyCache.clearCache()
+        generateOptions = GenerateOptions.builder()
+            .plugin(KotlinPlugin())
+            .insertFirstArbitraryContainerInfoGenerator(
+                { true },
+                { ArbitraryContainerInfo(containerSize, containerSize, false) }
+            )
+            .build()
+
+        val manipulateOptions = ManipulateOptions.builder()
+            .propertyNameResolvers(generateOptions.propertyNameResolvers)
+            .defaultPropertyNameResolver(generateOptions.defaultPropertyNameResolver)
+            .build()
+        traverser = ArbitraryTraverser(generateOptions)
+        monkeyContext = MonkeyContext.builder().build()
+        rootProperty = RootProperty(rootType(width, depth).annotatedType)
+        manipulators = listOf(
+            set(manipulateOptions, "name", "name"),
+            set(manipulateOptions, "tags[*]", "tag")
+        )
+
+        arbitrary = newArbitraryTree(true).generate()
+    }
+
+    @Benchmark
+    fun traverse(blackhole: Blackhole) {
+        blackhole.consume(traverser.traverse(rootProperty, emptyList()))
+    }
+
+    @Benchmark
+    fun manipulate(traversedTree: TraversedTree, blackhole: Blackhole) {
+        for (manipulator in manipulators) {
+            manipulator.manipulate(traversedTree.arbitraryTree)
+        }
+        blackhole.consume(traversedTree.arbitraryTree)
+    }
+
+    @Benchmark
+    fun generate(manipulatedTree: ManipulatedTree, blackhole: Blackhole) {
+        blackhole.consume(manipulatedTree.arbitraryTree.generate())
+    }
+
+    @Benchmark
+    fun sample(blackhole: Blackhole) {
+        blackhole.consume(arbitrary.sample())
+    }
+
+    internal fun newArbitraryTree(manipulated: Boolean): ArbitraryTree {
+        val arbitraryTree = ArbitraryTree(
+            traverser.traverse(rootProperty, emptyList()),
+            generateOptions,
+            monkeyContext,
+            emptyList()
+        )
+
+        if (manipulated) {
+            for (manipulator in manipulators) {
+                manipulator.manipulate(arbitraryTree)
+            }
+        }
+        return arbitraryTree
+    }
+
+    private fun set(manipulateOptions: ManipulateOptions, expression: String, value: Any): ArbitraryManipulator =
+        ArbitraryManipulator(
+            manipulateOptions.defaultMonkeyExpressionFactory.from(expression).toNodeResolver(),
+            NodeSetDecomposedValueManipulator(traverser, manipulateOptions, value)
+        )
+
+    private fun rootType(width: Width, depth: Int): TypeReference<*> = when {
+        width == Width.NARROW && depth == 1 -> object : TypeReference<NarrowNode>() {}
+        width == Width.NARROW && depth == 3 -> object : TypeReference<NarrowNode3>() {}
+        width == Width.WIDE && depth == 1 -> object : TypeReference<WideNode>() {}
+        width == Width.WIDE && depth == 3 -> object : TypeReference<WideNode3>() {}
+        else -> throw IllegalArgumentException("Not supported depth: $depth")
+    }
+
+    enum class Width {
+        NARROW,
+        WIDE
+    }
+
+    /**
+     * A tree traversed for each invocation, manipulating a tree changes it.
+     */
+    @State(Scope.Thread)
+    open class TraversedTree {
+        internal lateinit var arbitraryTree: ArbitraryTree
+
+        @Setup(Level.Invocation)
+        fun setUp(benchmark: KotlinPipelinePhaseBenchmark) {
+            arbitraryTree = benchmark.newArbitraryTree(false)
+        }
+    }
+
+    /**
+     * A tree traversed and manipulated for each invocation, generating a tree changes it.
+     */
+    @State(Scope.Thread)
+    open class ManipulatedTree {
+        internal lateinit var arbitraryTree: ArbitraryTree
+
+        @Setup(Level.Invocation)
+        fun setUp(benchmark: KotlinPipelinePhaseBenchmark) {
+            arbitraryTree = benchmark.newArbitraryTree(true)
+        }
+    }
+
+    data class NarrowNode(
+        val name: String,
+        val tags: List<String>,
+        val child: NarrowObject?
+    )
+
+    data class NarrowNode2(
+        val name: String,
+        val tags: List<String>,
+        val child: NarrowNode?
+    )
+
+    data class NarrowNode3(
+        val name: String,
+        val tags: List<String>,
+        val child: NarrowNode2?
+    )
+
+    data class WideNode(
+        val name: String,
+        val tags: List<String>,
+        val child: WideObject?
+    )
+
+    data class WideNode2(
+        val name: String,
+        val tags: List<String>,
+        val child: WideNode?
+    )
+
+    data class WideNode3(
+        val name: String,
+        val tags: List<String>,
+        val child: WideNode2?
+    )
+
+    data class NarrowObject(
+        val name: String,
+        val count: Int?,
+        val amount: Long?,
+        val enabled: Boolean?,
+        val description: String?
+    )
+
+    data class WideObject(
+        val field0: String,
+        val field1: Int?,
+        val field2: Long?,
+        val field3: String?,
+        val field4: Int?,
+        val field5: Long?,
+        val field6: String?,
+        val field7: Int?,
+        val field8: Long?,
+        val field9: String?,
+        val field10: Int?,
+        val field11: Long?,
+        val field12: String?,
+        val field13: Int?,
+        val field14: Long?,
+        val field15: String?,
+        val field16: Int?,
+        val field17: Long?,
+        val field18: String?,
+        val field19: Int?,
+        val field20: Long?,
+        val field21: String?,
+        val field22: Int?,
+        val field23: Long?,
+        val field24: String?,
+        val field25: Int?,
+        val field26: Long?,
+        val field27: String?,
+        val field28: Int?,
+        val field29: Long?
+    )
+}
@@ -18,7 +18,7 @@
 
 package com.navercorp.fixturemonkey.kotlin.introspector
 
-import com.navercorp.fixturemonkey.api.collection.LruCache
+import com.navercorp.fixturemonkey.api.collection.ConcurrentLruCache
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospectorResult
@@ -27,17 +27,13 @@ import net.jqwik.api.Builders
 import org.apiguardian.api.API
 import org.apiguardian.api.API.Status.EXPERIMENTAL
 import java.lang.reflect.Modifier
-import kotlin.jvm.internal.Reflection
-import kotlin.reflect.KClass
-import kotlin.reflect.KFunction
-import kotlin.reflect.KParameter
-import kotlin.reflect.full.primaryConstructor
+import java.util.BitSet
 
 @API(since = "0.4.0", status = EXPERIMENTAL)
 class PrimaryConstructorArbitraryIntrospector : ArbitraryIntrospector {
     companion object {
         val INSTANCE = PrimaryConstructorArbitraryIntrospector()
-        private val CONSTRUCTOR_CACHE = LruCache<Class<*>, KFunction<*>>(2000)
+        private val CONSTRUCTOR_INVOKER_CACHE = ConcurrentLruCache<Class<*>, PrimaryConstructorInvoker>(2000)
     }
 
     override fun introspect(context: ArbitraryGeneratorContext): ArbitraryIntrospectorResult {
@@ -48,23 +44,32 @@ class PrimaryConstructorArbitraryIntrospector : ArbitraryIntrospector {
 
         val arbitrariesByPropertyName = context.childrenArbitraryContexts.arbitrariesByPropertyName
 
-        val kotlinClass = Reflection.createKotlinClass(type) as KClass<*>
-        val constructor = CONSTRUCTOR_CACHE.computeIfAbsent(type) {
-            requireNotNull(kotlinClass.primaryConstructor) { "No kotlin primary constructor provided for $kotlinClass" }
+        val constructorInvoker = CONSTRUCTOR_INVOKER_CACHE.computeIfAbsent(type) { PrimaryConstructorInvoker.of(it) }
+        val parameters = constructorInvoker.parameters
+        val omittedParameterIndexes = BitSet(parameters.size)
+        for ((index, parameter) in parameters.withIndex()) {
+            if (parameter.isOptional && arbitrariesByPropertyName[parameter.name] == null) {
+                omittedParameterIndexes.set(index)
+            }
         }
+        val invoker = constructorInvoker.invoker(omittedParameterIndexes)
+
+        var builderCombinator = Builders.withBuilder { arrayOfNulls<Any?>(parameters.size) }
+        for ((index, parameter) in parameters.withIndex()) {
+            if (omittedParameterIndexes[index]) {
+                continue
+            }
 
-        var builderCombinator = Builders.withBuilder { mutableMapOf<KParameter, Any?>() }
-        for (parameter in constructor.parameters) {
             val parameterArbitrary = arbitrariesByPropertyName[parameter.name]
-            builderCombinator = builderCombinator.use(parameterArbitrary).`in` { map, value ->
-                map.apply {
-                    this[parameter] = value
+            builderCombinator = builderCombinator.use(parameterArbitrary).`in` { arguments, value ->
+                arguments.apply {
+                    this[index] = value
                 }
             }
         }
         return ArbitraryIntrospectorResult(
             builderCombinator.build {
-                constructor.callBy(it)
+                invoker(it)
             }
         )
     }
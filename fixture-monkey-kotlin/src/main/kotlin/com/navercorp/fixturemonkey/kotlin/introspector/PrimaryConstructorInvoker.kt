@@ -0,0 +1,160 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.kotlin.introspector
+
+import java.lang.invoke.MethodHandle
+import java.lang.invoke.MethodHandles
+import java.lang.invoke.MethodType
+import java.lang.reflect.Constructor
+import java.util.BitSet
+import java.util.concurrent.ConcurrentHashMap
+import kotlin.reflect.KFunction
+import kotlin.reflect.KParameter
+import kotlin.reflect.full.primaryConstructor
+import kotlin.reflect.jvm.javaConstructor
+
+/**
+ * Invokes the primary constructor of a Kotlin class through [MethodHandle]s taking positional arguments,
+ * instead of [KFunction.callBy] taking arguments mapped by [KParameter].
+ * Omitted optional parameters are passed to the synthetic constructor with the mask of default arguments.
+ */
+internal class PrimaryConstructorInvoker private constructor(
+    val parameters: List<KParameter>,
+    private val constructor: KFunction<*>,
+    private val parameterTypes: Array<Class<*>>,
+    private val handle: MethodHandle?,
+    private val defaultArgumentsHandle: MethodHandle?
+) {
+    private val invokersByOmittedParameterIndexes = ConcurrentHashMap<BitSet, (Array<Any?>) -> Any?>()
+
+    /**
+     * Returns the function instantiating by the arguments of [parameters] in order.
+     * The arguments of [omittedParameterIndexes] are ignored, the default values of the parameters are used instead.
+     * The function is cached by [omittedParameterIndexes], it should not be changed after.
+     */
+    fun invoker(omittedParameterIndexes: BitSet): (Array<Any?>) -> Any? =
+        invokersByOmittedParameterIndexes.computeIfAbsent(omittedParameterIndexes) { newInvoker(it) }
+
+    private fun newInvoker(omittedParameterIndexes: BitSet): (Array<Any?>) -> Any? {
+        val handle = this.handle
+        val defaultArgumentsHandle = this.defaultArgumentsHandle
+        if (handle == null || (!omittedParameterIndexes.isEmpty && defaultArgumentsHandle == null)) {
+            return { arguments -> callBy(arguments, omittedParameterIndexes) }
+        }
+
+        if (defaultArgumentsHandle == null || omittedParameterIndexes.isEmpty) {
+            return { arguments -> handle.invoke(arguments) }
+        }
+
+        val maskCount = (parameters.size + Int.SIZE_BITS - 1) / Int.SIZE_BITS
+        val defaultArgumentsTemplate = arrayOfNulls<Any?>(parameters.size + maskCount + 1)
+        val masks = IntArray(maskCount)
+        val givenParameterIndexes = parameters.indices.filterNot { omittedParameterIndexes[it] }.toIntArray()
+        for (index in parameters.indices) {
+            if (omittedParameterIndexes[index]) {
+                defaultArgumentsTemplate[index] = zeroValue(parameterTypes[index])
+                masks[index / Int.SIZE_BITS] = masks[index / Int.SIZE_BITS] or (1 shl (index % Int.SIZE_BITS))
+            }
+        }
+        for ((index, mask) in masks.withIndex()) {
+            defaultArgumentsTemplate[parameters.size + index] = mask
+        }
+
+        return { arguments ->
+            val defaultArguments = defaultArgumentsTemplate.copyOf()
+            for (index in givenParameterIndexes) {
+                defaultArguments[index] = arguments[index]
+            }
+            defaultArgumentsHandle.invoke(defaultArguments)
+        }
+    }
+
+    private fun callBy(arguments: Array<Any?>, omittedParameterIndexes: BitSet): Any? {
+        val argumentsByParameter = HashMap<KParameter, Any?>()
+        for ((index, parameter) in parameters.withIndex()) {
+            if (!omittedParameterIndexes[index]) {
+                argumentsByParameter[parameter] = arguments[index]
+            }
+        }
+        return constructor.callBy(argumentsByParameter)
+    }
+
+    companion object {
+        private const val DEFAULT_CONSTRUCTOR_MARKER = "kotlin.jvm.internal.DefaultConstructorMarker"
+        private val LOOKUP = MethodHandles.lookup()
+
+        fun of(type: Class<*>): PrimaryConstructorInvoker {
+            val kotlinClass = type.kotlin
+            val constructor = requireNotNull(kotlinClass.primaryConstructor) {
+                "No kotlin primary constructor provided for $kotlinClass"
+            }
+            val parameters = constructor.parameters
+
+            val javaConstructor = constructor.javaConstructor
+            if (
+                javaConstructor == null ||
+                javaConstructor.parameterCount != parameters.size ||
+                parameters.any { it.kind != KParameter.Kind.VALUE }
+            ) {
+                return PrimaryConstructorInvoker(parameters, constructor, emptyArray(), null, null)
+            }
+
+            val parameterTypes = javaConstructor.parameterTypes
+            val maskCount = (parameters.size + Int.SIZE_BITS - 1) / Int.SIZE_BITS
+            val defaultArgumentsConstructor = type.declaredConstructors.firstOrNull {
+                it.isSynthetic &&
+                    it.parameterCount == parameters.size + maskCount + 1 &&
+                    it.parameterTypes.last().name == DEFAULT_CONSTRUCTOR_MARKER &&
+                    it.parameterTypes.copyOf(parameters.size).contentEquals(parameterTypes)
+            }
+
+            return PrimaryConstructorInvoker(
+                parameters,
+                constructor,
+                parameterTypes,
+                toSpreadHandle(javaConstructor),
+                defaultArgumentsConstructor?.let { toSpreadHandle(it) }
+            )
+        }
+
+        private fun toSpreadHandle(constructor: Constructor<*>): MethodHandle? {
+            val handle = try {
+                constructor.isAccessible = true
+                LOOKUP.unreflectConstructor(constructor)
+            } catch (ex: Exception) {
+                return null
+            }
+
+            return handle.asSpreader(Array<Any?>::class.java, constructor.parameterCount)
+                .asType(MethodType.methodType(Any::class.java, Array<Any?>::class.java))
+        }
+
+        private fun zeroValue(type: Class<*>): Any? = when (type) {
+            Boolean::class.javaPrimitiveType -> false
+            Char::class.javaPrimitiveType -> Char.MIN_VALUE
+            Byte::class.javaPrimitiveType -> 0.toByte()
+            Short::class.javaPrimitiveType -> 0.toShort()
+            Int::class.javaPrimitiveType -> 0
+            Long::class.javaPrimitiveType -> 0L
+            Float::class.javaPrimitiveType -> 0.0f
+            Double::class.javaPrimitiveType -> 0.0
+            else -> null
+        }
+    }
+}
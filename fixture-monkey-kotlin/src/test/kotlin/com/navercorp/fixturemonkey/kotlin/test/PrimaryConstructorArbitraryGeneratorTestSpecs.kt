@@ -78,6 +78,53 @@ class SecondaryConstructor(
     constructor(another: String) : this(0, "default_value")
 }
 
+class DefaultParameter(
+    val intValue: Int,
+    stringParameter: String = "default_value"
+) {
+    val stringValue = stringParameter
+}
+
+class WideDefaultParameter(
+    firstParameter: String = "first_default_value",
+    val int1: Int,
+    val int2: Int,
+    val int3: Int,
+    val int4: Int,
+    val int5: Int,
+    val int6: Int,
+    val int7: Int,
+    val int8: Int,
+    val int9: Int,
+    val int10: Int,
+    val int11: Int,
+    val int12: Int,
+    val int13: Int,
+    val int14: Int,
+    val int15: Int,
+    val int16: Int,
+    val int17: Int,
+    val int18: Int,
+    val int19: Int,
+    val int20: Int,
+    val int21: Int,
+    val int22: Int,
+    val int23: Int,
+    val int24: Int,
+    val int25: Int,
+    val int26: Int,
+    val int27: Int,
+    val int28: Int,
+    val int29: Int,
+    val int30: Int,
+    val int31: Int,
+    val int32: Int,
+    lastParameter: String = "last_default_value"
+) {
+    val firstValue = firstParameter
+    val lastValue = lastParameter
+}
+
 interface InterfaceClass {
     fun test()
 }
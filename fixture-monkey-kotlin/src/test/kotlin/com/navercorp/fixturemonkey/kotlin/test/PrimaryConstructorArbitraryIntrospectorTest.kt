@@ -22,9 +22,11 @@ import com.navercorp.fixturemonkey.FixtureMonkey
 import com.navercorp.fixturemonkey.LabMonkey
 import com.navercorp.fixturemonkey.kotlin.KotlinPlugin
 import com.navercorp.fixturemonkey.kotlin.giveMeOne
+import com.navercorp.fixturemonkey.kotlin.introspector.PrimaryConstructorInvoker
 import net.jqwik.api.Property
 import org.assertj.core.api.BDDAssertions.then
 import org.assertj.core.api.BDDAssertions.thenNoException
+import java.util.BitSet
 
 class PrimaryConstructorArbitraryIntrospectorTest {
     private val sut: LabMonkey = FixtureMonkey.labMonkeyBuilder()
@@ -46,6 +48,17 @@ class PrimaryConstructorArbitraryIntrospectorTest {
         thenNoException().isThrownBy { sut.giveMeOne<DataValue>() }
     }
 
+    @Property
+    fun sampleDataClassSetValue() {
+        // when
+        val actual = sut.giveMeBuilder(DataValue::class.java)
+            .set("intValue", 1)
+            .set("stringValue", "test")
+            .sample()
+
+        then(actual).isEqualTo(DataValue(1, "test"))
+    }
+
     @Property
     fun sampleVarValue() {
         thenNoException().isThrownBy { sut.giveMeOne<VarValue>() }
@@ -64,6 +77,34 @@ class PrimaryConstructorArbitraryIntrospectorTest {
         then(actual).isNotEqualTo("default_value")
     }
 
+    @Property
+    fun sampleUnsetDefaultParameter() {
+        // when
+        val actual = sut.giveMeOne<DefaultParameter>().stringValue
+
+        then(actual).isEqualTo("default_value")
+    }
+
+    @Property
+    fun sampleUnsetDefaultParametersOfSeveralMasks() {
+        // when
+        val actual = sut.giveMeOne<WideDefaultParameter>()
+
+        then(actual.firstValue).isEqualTo("first_default_value")
+        then(actual.lastValue).isEqualTo("last_default_value")
+    }
+
+    @Property
+    fun invokerCachedByOmittedParameterIndexes() {
+        val invoker = PrimaryConstructorInvoker.of(DefaultParameter::class.java)
+
+        // when
+        val actual = invoker.invoker(BitSet().apply { set(1) })
+
+        then(invoker.invoker(BitSet().apply { set(1) })).isSameAs(actual)
+        then(invoker.invoker(BitSet())).isNotSameAs(actual)
+    }
+
     @Property
     fun sampleSecondaryConstructor() {
         // when
@@ -0,0 +1,52 @@
+package com.navercorp.fixturemonkey;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.navercorp.fixturemonkey.api.property.PropertyCache;
+import com.navercorp.fixturemonkey.javax.validation.plugin.JavaxValidationPlugin;
+
+@SuppressWarnings("unused")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ArbitraryTreeTemplateBenchmark {
+	@Param({"0", "500"})
+	private int treeTemplateCacheSize;
+
+	private LabMonkey labMonkey;
+
+	@Setup(value = Level.Iteration)
+	public void setUp() {
+		PropertyCache.clearCache();
+		labMonkey = LabMonkey.labMonkeyBuilder()
+			.treeTemplateCacheSize(treeTemplateCacheSize)
+			.plugin(new JavaxValidationPlugin())
+			.build();
+	}
+
+	@Benchmark
+	public void sampleOrderSheet(Blackhole blackhole) {
+		blackhole.consume(labMonkey.giveMeOne(OrderSheet.class));
+	}
+
+	@Benchmark
+	public void sampleOrderSheetWithSet(Blackhole blackhole) {
+		blackhole.consume(
+			labMonkey.giveMeBuilder(OrderSheet.class)
+				.set("id", "id")
+				.size("products", 1)
+				.sample()
+		);
+	}
+}
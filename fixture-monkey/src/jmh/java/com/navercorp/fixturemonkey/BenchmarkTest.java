@@ -83,6 +83,15 @@ public class BenchmarkTest {
 		blackhole.consume(generateOrderSheet(labMonkey));
 	}
 
+	@Benchmark
+	public void jacksonStreamingGenerateOrderSheetWithLabMonkey(Blackhole blackhole) throws Exception {
+		LabMonkey labMonkey = LabMonkey.labMonkeyBuilder()
+			.plugin(new JacksonPlugin().streaming(true))
+			.plugin(new JavaxValidationPlugin())
+			.build();
+		blackhole.consume(generateOrderSheet(labMonkey));
+	}
+
 	@Benchmark
 	public void jacksonGenerateOrderSheetWithFixtureMonkey(Blackhole blackhole) throws Exception {
 		FixtureMonkey fixtureMonkey = FixtureMonkey.builder()
@@ -0,0 +1,48 @@
+package com.navercorp.fixturemonkey;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.navercorp.fixturemonkey.builder.DefaultArbitraryBuilder;
+import com.navercorp.fixturemonkey.javax.validation.plugin.JavaxValidationPlugin;
+
+/**
+ * Measures sampling a builder having a limited set by several workers.
+ * Resolutions of the same builder run concurrently.
+ */
+@SuppressWarnings("unused")
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ConcurrentSamplingBenchmark {
+	private static final int SAMPLE_SIZE = 256;
+
+	@Param({"1", "4", "8"})
+	private int parallelism;
+
+	private DefaultArbitraryBuilder<OrderSheet> builder;
+
+	@Setup(value = Level.Trial)
+	public void setUp() {
+		LabMonkey labMonkey = LabMonkey.labMonkeyBuilder()
+			.plugin(new JavaxValidationPlugin())
+			.build();
+		builder = labMonkey.giveMeBuilder(OrderSheet.class);
+		builder.set("id", "id", 1);
+	}
+
+	@Benchmark
+	public void sampleList(Blackhole blackhole) {
+		blackhole.consume(builder.sampleList(SAMPLE_SIZE, parallelism));
+	}
+}
@@ -0,0 +1,73 @@
+package com.navercorp.fixturemonkey;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures sampling a variant of a base builder manipulating {@code baseSetCount} properties.
+ * {@code deriveAndSample} copies the sampled base builder, {@code buildAndSample} manipulates a new builder.
+ */
+@SuppressWarnings("unused")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class DerivedBuilderBenchmark {
+	@Param({"1", "10", "27"})
+	private int baseSetCount;
+
+	private LabMonkey labMonkey;
+	private ArbitraryBuilder<WideBean> baseBuilder;
+
+	@Setup(value = Level.Trial)
+	public void setUp() {
+		labMonkey = LabMonkey.labMonkey();
+		baseBuilder = setBase(labMonkey.giveMeBuilder(WideBean.class));
+		baseBuilder.sample();
+	}
+
+	@Benchmark
+	public void deriveAndSample(Blackhole blackhole) {
+		blackhole.consume(
+			baseBuilder.copy()
+				.set("field27", "variant")
+				.sample()
+		);
+	}
+
+	@Benchmark
+	public void buildAndSample(Blackhole blackhole) {
+		blackhole.consume(
+			setBase(labMonkey.giveMeBuilder(WideBean.class))
+				.set("field27", "variant")
+				.sample()
+		);
+	}
+
+	private ArbitraryBuilder<WideBean> setBase(ArbitraryBuilder<WideBean> builder) {
+		for (int i = 0; i < baseSetCount; i++) {
+			builder = builder.set("field" + i, baseValue(i));
+		}
+		return builder;
+	}
+
+	private static Object baseValue(int index) {
+		switch (index % 3) {
+			case 0:
+				return "base";
+			case 1:
+				return index;
+			default:
+				return (long)index;
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package com.navercorp.fixturemonkey;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.navercorp.fixturemonkey.javax.validation.plugin.JavaxValidationPlugin;
+
+/**
+ * Measures sampling objects with and without {@code directSampling},
+ * which instantiates objects from sampled children instead of combining arbitraries.
+ */
+@SuppressWarnings("unused")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class DirectSamplingBenchmark {
+	@Param({"false", "true"})
+	private boolean directSampling;
+
+	@Param({"false", "true"})
+	private boolean directLeafGeneration;
+
+	private LabMonkey labMonkey;
+
+	@Setup(value = Level.Trial)
+	public void setUp() {
+		labMonkey = LabMonkey.labMonkeyBuilder()
+			.plugin(new JavaxValidationPlugin())
+			.directSampling(directSampling)
+			.directLeafGeneration(directLeafGeneration)
+			.build();
+	}
+
+	@Benchmark
+	public void sampleWideBean(Blackhole blackhole) {
+		blackhole.consume(labMonkey.giveMeOne(WideBean.class));
+	}
+
+	@Benchmark
+	public void sampleOrderSheet(Blackhole blackhole) {
+		blackhole.consume(labMonkey.giveMeOne(OrderSheet.class));
+	}
+}
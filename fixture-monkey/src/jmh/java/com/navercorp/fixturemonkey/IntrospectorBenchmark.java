@@ -0,0 +1,55 @@
+package com.navercorp.fixturemonkey;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector;
+import com.navercorp.fixturemonkey.api.introspector.BeanArbitraryIntrospector;
+import com.navercorp.fixturemonkey.api.introspector.BuilderArbitraryIntrospector;
+import com.navercorp.fixturemonkey.api.introspector.FieldReflectionArbitraryIntrospector;
+
+@SuppressWarnings("unused")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class IntrospectorBenchmark {
+	@Param({"BEAN", "FIELD", "BUILDER"})
+	private IntrospectorType introspectorType;
+
+	private LabMonkey labMonkey;
+
+	@Setup(value = Level.Trial)
+	public void setUp() {
+		labMonkey = LabMonkey.labMonkeyBuilder()
+			.objectIntrospector(introspectorType.introspector)
+			.defaultNotNull(true)
+			.build();
+	}
+
+	@Benchmark
+	public void sampleWideBean(Blackhole blackhole) {
+		blackhole.consume(labMonkey.giveMeOne(WideBean.class));
+	}
+
+	public enum IntrospectorType {
+		BEAN(BeanArbitraryIntrospector.INSTANCE),
+		FIELD(FieldReflectionArbitraryIntrospector.INSTANCE),
+		BUILDER(BuilderArbitraryIntrospector.INSTANCE);
+
+		private final ArbitraryIntrospector introspector;
+
+		IntrospectorType(ArbitraryIntrospector introspector) {
+			this.introspector = introspector;
+		}
+	}
+}
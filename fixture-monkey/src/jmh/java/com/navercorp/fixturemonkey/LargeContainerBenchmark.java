@@ -0,0 +1,55 @@
+package com.navercorp.fixturemonkey;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.navercorp.fixturemonkey.api.type.TypeReference;
+
+/**
+ * Measures sampling a list of {@code size} beans of which only one element is manipulated.
+ * The elements which are not manipulated share one template node.
+ */
+@SuppressWarnings("unused")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class LargeContainerBenchmark {
+	private static final TypeReference<List<WideBean>> TYPE = new TypeReference<List<WideBean>>() {
+	};
+
+	@Param({"100", "1000", "10000"})
+	private int size;
+
+	@Param({"false", "true"})
+	private boolean directSampling;
+
+	private LabMonkey labMonkey;
+
+	@Setup(value = Level.Trial)
+	public void setUp() {
+		labMonkey = LabMonkey.labMonkeyBuilder()
+			.directSampling(directSampling)
+			.build();
+	}
+
+	@Benchmark
+	public void sampleSetElement(Blackhole blackhole) {
+		blackhole.consume(
+			labMonkey.giveMeBuilder(TYPE)
+				.size("$", size)
+				.set("$[0].field0", "manipulated")
+				.sample()
+		);
+	}
+}
@@ -0,0 +1,53 @@
+package com.navercorp.fixturemonkey;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.navercorp.fixturemonkey.api.type.TypeReference;
+
+/**
+ * Measures sampling a stream of {@code size} beans and consuming it.
+ * With {@code lazyContainerGeneration}, the elements are generated while the stream is consumed.
+ */
+@SuppressWarnings("unused")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class LazyContainerBenchmark {
+	private static final TypeReference<Stream<WideBean>> TYPE = new TypeReference<Stream<WideBean>>() {
+	};
+
+	@Param({"100", "10000"})
+	private int size;
+
+	@Param({"false", "true"})
+	private boolean lazyContainerGeneration;
+
+	private LabMonkey labMonkey;
+
+	@Setup(value = Level.Trial)
+	public void setUp() {
+		labMonkey = LabMonkey.labMonkeyBuilder()
+			.lazyContainerGeneration(lazyContainerGeneration)
+			.build();
+	}
+
+	@Benchmark
+	public void sampleAndConsume(Blackhole blackhole) {
+		labMonkey.giveMeBuilder(TYPE)
+			.size("$", size)
+			.sample()
+			.forEach(blackhole::consume);
+	}
+}
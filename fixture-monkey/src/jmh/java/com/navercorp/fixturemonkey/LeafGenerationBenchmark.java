@@ -0,0 +1,41 @@
+package com.navercorp.fixturemonkey;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures sampling {@link WideBean} having 30 leaf properties, with and without {@code directLeafGeneration}.
+ * The allocation per leaf is {@code gc.alloc.rate.norm} of the gc profiler divided by 30.
+ */
+@SuppressWarnings("unused")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class LeafGenerationBenchmark {
+	@Param({"false", "true"})
+	private boolean directLeafGeneration;
+
+	private LabMonkey labMonkey;
+
+	@Setup(value = Level.Trial)
+	public void setUp() {
+		labMonkey = LabMonkey.labMonkeyBuilder()
+			.directLeafGeneration(directLeafGeneration)
+			.build();
+	}
+
+	@Benchmark
+	public void sample(Blackhole blackhole) {
+		blackhole.consume(labMonkey.giveMeOne(WideBean.class));
+	}
+}
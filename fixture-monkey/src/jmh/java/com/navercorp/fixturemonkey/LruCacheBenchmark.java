@@ -0,0 +1,56 @@
+package com.navercorp.fixturemonkey;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.navercorp.fixturemonkey.api.collection.ConcurrentLruCache;
+import com.navercorp.fixturemonkey.api.collection.LruCache;
+
+@SuppressWarnings("unused")
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Threads(8)
+public class LruCacheBenchmark {
+	private static final int MAX_SIZE = 2000;
+
+	// keys over max size causes evictions
+	@Param({"1000", "4000"})
+	private int keyCount;
+
+	private Map<Integer, String> synchronizedLruCache;
+	private Map<Integer, String> concurrentLruCache;
+
+	@Setup(value = Level.Iteration)
+	public void setUp() {
+		synchronizedLruCache = Collections.synchronizedMap(new LruCache<>(MAX_SIZE));
+		concurrentLruCache = new ConcurrentLruCache<>(MAX_SIZE);
+	}
+
+	@Benchmark
+	public String synchronizedLruCache() {
+		return synchronizedLruCache.computeIfAbsent(nextKey(), String::valueOf);
+	}
+
+	@Benchmark
+	public String concurrentLruCache() {
+		return concurrentLruCache.computeIfAbsent(nextKey(), String::valueOf);
+	}
+
+	private Integer nextKey() {
+		return ThreadLocalRandom.current().nextInt(keyCount);
+	}
+}
@@ -0,0 +1,70 @@
+package com.navercorp.fixturemonkey;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.navercorp.fixturemonkey.resolver.DefaultManipulatorOptimizer;
+import com.navercorp.fixturemonkey.resolver.ManipulatorOptimizer;
+import com.navercorp.fixturemonkey.resolver.NoneManipulatorOptimizer;
+
+/**
+ * Measures building and sampling a builder setting all the properties {@code overwriteCount} times.
+ * The manipulators of the former rounds are overwritten by the last round.
+ */
+@SuppressWarnings("unused")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ManipulatorOptimizerBenchmark {
+	private static final int FIELD_COUNT = 30;
+
+	@Param({"none", "default"})
+	private String optimizer;
+
+	@Param({"1", "4", "16"})
+	private int overwriteCount;
+
+	private LabMonkey labMonkey;
+
+	@Setup(value = Level.Trial)
+	public void setUp() {
+		ManipulatorOptimizer manipulatorOptimizer = "none".equals(optimizer)
+			? new NoneManipulatorOptimizer()
+			: new DefaultManipulatorOptimizer();
+		labMonkey = LabMonkey.labMonkeyBuilder()
+			.manipulatorOptimizer(manipulatorOptimizer)
+			.build();
+	}
+
+	@Benchmark
+	public void buildAndSample(Blackhole blackhole) {
+		ArbitraryBuilder<WideBean> builder = labMonkey.giveMeBuilder(WideBean.class);
+		for (int count = 0; count < overwriteCount; count++) {
+			for (int i = 0; i < FIELD_COUNT; i++) {
+				builder = builder.set("field" + i, value(i, count));
+			}
+		}
+		blackhole.consume(builder.sample());
+	}
+
+	private static Object value(int index, int count) {
+		switch (index % 3) {
+			case 0:
+				return "value" + count;
+			case 1:
+				return count;
+			default:
+				return (long)count;
+		}
+	}
+}
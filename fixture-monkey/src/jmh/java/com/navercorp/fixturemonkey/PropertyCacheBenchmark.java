@@ -0,0 +1,87 @@
+package com.navercorp.fixturemonkey;
+
+import java.lang.reflect.AnnotatedType;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.property.PropertyCache;
+import com.navercorp.fixturemonkey.api.type.TypeReference;
+
+@SuppressWarnings("unused")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PropertyCacheBenchmark {
+	private static final int MAX_DEPTH = 5;
+
+	private final AnnotatedType deepGenericType = new TypeReference<Wrapper<Wrapper<Wrapper<Pair<String, Long>>>>>() {
+	}.getAnnotatedType();
+
+	@Benchmark
+	public void getPropertiesDeepGenerics(Blackhole blackhole) {
+		traverse(deepGenericType, 0, blackhole);
+	}
+
+	@Benchmark
+	public void getPropertyDeepGenerics(Blackhole blackhole) {
+		blackhole.consume(PropertyCache.getProperty(deepGenericType, "value"));
+	}
+
+	private static void traverse(AnnotatedType annotatedType, int depth, Blackhole blackhole) {
+		if (depth == MAX_DEPTH) {
+			return;
+		}
+
+		List<Property> properties = PropertyCache.getProperties(annotatedType);
+		blackhole.consume(properties);
+		for (Property property : properties) {
+			traverse(property.getAnnotatedType(), depth + 1, blackhole);
+		}
+	}
+
+	public static class Wrapper<T> {
+		private T value;
+		private List<T> values;
+		private Map<String, T> valuesByName;
+		private Pair<T, T> pair;
+
+		public T getValue() {
+			return value;
+		}
+
+		public List<T> getValues() {
+			return values;
+		}
+
+		public Map<String, T> getValuesByName() {
+			return valuesByName;
+		}
+
+		public Pair<T, T> getPair() {
+			return pair;
+		}
+	}
+
+	public static class Pair<L, R> {
+		private L left;
+		private R right;
+
+		public L getLeft() {
+			return left;
+		}
+
+		public R getRight() {
+			return right;
+		}
+	}
+}
@@ -0,0 +1,48 @@
+package com.navercorp.fixturemonkey;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.navercorp.fixturemonkey.javax.validation.plugin.JavaxValidationPlugin;
+
+/**
+ * Measures the latency of {@code giveMeOne} seen by the caller.
+ * With {@code reservoir}, instances are generated by a background thread and polled by the caller,
+ * the caller generates inline when the reservoir runs dry.
+ */
+@SuppressWarnings("unused")
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ReservoirBenchmark {
+	@Param({"false", "true"})
+	private boolean reservoir;
+
+	private LabMonkey labMonkey;
+
+	@Setup(value = Level.Trial)
+	public void setUp() {
+		LabMonkeyBuilder builder = LabMonkey.labMonkeyBuilder()
+			.plugin(new JavaxValidationPlugin());
+		if (reservoir) {
+			builder.reservoir(OrderSheet.class, 1024, 256)
+				.reservoirParallelism(2);
+		}
+		labMonkey = builder.build();
+	}
+
+	@Benchmark
+	public void giveMeOne(Blackhole blackhole) {
+		blackhole.consume(labMonkey.giveMeOne(OrderSheet.class));
+	}
+}
@@ -0,0 +1,126 @@
+package com.navercorp.fixturemonkey;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.constraints.Digits;
+import javax.validation.constraints.Email;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import lombok.Data;
+
+import com.navercorp.fixturemonkey.javax.validation.plugin.JavaxValidationPlugin;
+import com.navercorp.fixturemonkey.listener.HistogramGenerationListener;
+
+/**
+ * Measures generating strings constrained by javax validation annotations.
+ * {@code filterMisses} counts the generated values rejected by validation per operation.
+ */
+@SuppressWarnings("unused")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class StringConstraintBenchmark {
+	@Param({"NOT_BLANK", "NOT_BLANK_SIZE", "NOT_BLANK_PATTERN", "DIGITS", "EMAIL", "EMAIL_SIZE"})
+	private Constraint constraint;
+
+	private LabMonkey labMonkey;
+	private HistogramGenerationListener listener;
+
+	@Setup(value = Level.Trial)
+	public void setUp() {
+		listener = new HistogramGenerationListener();
+		labMonkey = LabMonkey.labMonkeyBuilder()
+			.plugin(new JavaxValidationPlugin())
+			.defaultNotNull(true)
+			.generationListener(listener)
+			.build();
+	}
+
+	@Benchmark
+	public void sample(FilterMissCounters counters, Blackhole blackhole) {
+		listener.reset();
+		blackhole.consume(labMonkey.giveMeOne(constraint.type));
+		counters.filterMisses += listener.getFilterMissesByPath().values().stream()
+			.mapToLong(Long::longValue)
+			.sum();
+	}
+
+	public enum Constraint {
+		NOT_BLANK(NotBlankString.class),
+		NOT_BLANK_SIZE(NotBlankSizeString.class),
+		NOT_BLANK_PATTERN(NotBlankPatternString.class),
+		DIGITS(DigitsString.class),
+		EMAIL(EmailString.class),
+		EMAIL_SIZE(EmailSizeString.class);
+
+		private final Class<?> type;
+
+		Constraint(Class<?> type) {
+			this.type = type;
+		}
+	}
+
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	@State(Scope.Thread)
+	public static class FilterMissCounters {
+		public long filterMisses;
+
+		@Setup(value = Level.Iteration)
+		public void setUp() {
+			filterMisses = 0;
+		}
+	}
+
+	@Data
+	public static class NotBlankString {
+		@NotBlank
+		private String value;
+	}
+
+	@Data
+	public static class NotBlankSizeString {
+		@NotBlank
+		@Size(max = 2)
+		private String value;
+	}
+
+	@Data
+	public static class NotBlankPatternString {
+		@NotBlank
+		@Pattern(regexp = "[ a-c]{1,2}")
+		private String value;
+	}
+
+	@Data
+	public static class DigitsString {
+		@Digits(integer = 3, fraction = 0)
+		private String value;
+	}
+
+	@Data
+	public static class EmailString {
+		@Email
+		private String value;
+	}
+
+	@Data
+	public static class EmailSizeString {
+		@Email
+		@Size(min = 5, max = 10)
+		private String value;
+	}
+}
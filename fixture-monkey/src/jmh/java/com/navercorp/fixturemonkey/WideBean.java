@@ -0,0 +1,43 @@
+package com.navercorp.fixturemonkey;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WideBean {
+	private String field0;
+	private Integer field1;
+	private Long field2;
+	private String field3;
+	private Integer field4;
+	private Long field5;
+	private String field6;
+	private Integer field7;
+	private Long field8;
+	private String field9;
+	private Integer field10;
+	private Long field11;
+	private String field12;
+	private Integer field13;
+	private Long field14;
+	private String field15;
+	private Integer field16;
+	private Long field17;
+	private String field18;
+	private Integer field19;
+	private Long field20;
+	private String field21;
+	private Integer field22;
+	private Long field23;
+	private String field24;
+	private Integer field25;
+	private Long field26;
+	private String field27;
+	private Integer field28;
+	private Long field29;
+}
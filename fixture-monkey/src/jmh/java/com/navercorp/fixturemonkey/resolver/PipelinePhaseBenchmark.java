@@ -0,0 +1,191 @@
+package com.navercorp.fixturemonkey.resolver;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.jqwik.api.Arbitrary;
+
+import com.navercorp.fixturemonkey.api.generator.ArbitraryContainerInfo;
+import com.navercorp.fixturemonkey.api.introspector.BeanArbitraryIntrospector;
+import com.navercorp.fixturemonkey.api.introspector.BuilderArbitraryIntrospector;
+import com.navercorp.fixturemonkey.api.introspector.FieldReflectionArbitraryIntrospector;
+import com.navercorp.fixturemonkey.api.option.GenerateOptions;
+import com.navercorp.fixturemonkey.api.option.GenerateOptionsBuilder;
+import com.navercorp.fixturemonkey.api.property.PropertyCache;
+import com.navercorp.fixturemonkey.api.property.RootProperty;
+import com.navercorp.fixturemonkey.jackson.plugin.JacksonPlugin;
+import com.navercorp.fixturemonkey.javax.validation.plugin.JavaxValidationPlugin;
+import com.navercorp.fixturemonkey.resolver.PipelinePhaseSpecs.Width;
+import com.navercorp.fixturemonkey.validator.ArbitraryValidator;
+import com.navercorp.fixturemonkey.validator.DefaultArbitraryValidator;
+
+/**
+ * Measures each phase of generating an instance by LabMonkey separately.
+ * traverse → manipulate → generate → sample → validate
+ * The phases of Kotlin classes by {@code PrimaryConstructorArbitraryIntrospector} are measured by
+ * {@code KotlinPipelinePhaseBenchmark} of fixture-monkey-kotlin.
+ */
+@SuppressWarnings("unused")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 10, time = 1)
+@State(Scope.Benchmark)
+public class PipelinePhaseBenchmark {
+	@Param({"BEAN", "FIELD", "BUILDER", "JACKSON"})
+	private Introspector introspector;
+
+	@Param({"NARROW", "WIDE"})
+	private Width width;
+
+	@Param({"1", "3"})
+	private int depth;
+
+	@Param({"1", "10"})
+	private int containerSize;
+
+	private GenerateOptions generateOptions;
+	private ArbitraryTraverser traverser;
+	private MonkeyContext monkeyContext;
+	private RootProperty rootProperty;
+	private List<ArbitraryManipulator> manipulators;
+	private Arbitrary<?> arbitrary;
+	private Object sample;
+	private ArbitraryValidator validator;
+
+	@Setup(value = Level.Trial)
+	public void setUp() {
+		PropertyCache.clearCache();
+		GenerateOptionsBuilder generateOptionsBuilder = GenerateOptions.builder()
+			.plugin(new JavaxValidationPlugin());
+		introspector.configurer.accept(generateOptionsBuilder);
+		generateOptions = generateOptionsBuilder
+			.insertFirstArbitraryContainerInfoGenerator(
+				property -> true,
+				context -> new ArbitraryContainerInfo(containerSize, containerSize, false)
+			)
+			.build();
+
+		ManipulateOptions manipulateOptions = ManipulateOptions.builder()
+			.propertyNameResolvers(generateOptions.getPropertyNameResolvers())
+			.defaultPropertyNameResolver(generateOptions.getDefaultPropertyNameResolver())
+			.build();
+		traverser = new ArbitraryTraverser(generateOptions);
+		monkeyContext = MonkeyContext.builder().build();
+		rootProperty = new RootProperty(PipelinePhaseSpecs.rootType(width, depth).getAnnotatedType());
+		manipulators = Arrays.asList(
+			set(manipulateOptions, "name", "name"),
+			set(manipulateOptions, "tags[*]", "tag")
+		);
+
+		arbitrary = newArbitraryTree(true).generate();
+		sample = arbitrary.sample();
+		validator = new DefaultArbitraryValidator();
+	}
+
+	@Benchmark
+	public void traverse(Blackhole blackhole) {
+		blackhole.consume(traverser.traverse(rootProperty, Collections.emptyList()));
+	}
+
+	@Benchmark
+	public void manipulate(TraversedTree traversedTree, Blackhole blackhole) {
+		for (ArbitraryManipulator manipulator : manipulators) {
+			manipulator.manipulate(traversedTree.arbitraryTree);
+		}
+		blackhole.consume(traversedTree.arbitraryTree);
+	}
+
+	@Benchmark
+	public void generate(ManipulatedTree manipulatedTree, Blackhole blackhole) {
+		blackhole.consume(manipulatedTree.arbitraryTree.generate());
+	}
+
+	@Benchmark
+	public void sample(Blackhole blackhole) {
+		blackhole.consume(arbitrary.sample());
+	}
+
+	@Benchmark
+	public void validate() {
+		validator.validate(sample);
+	}
+
+	ArbitraryTree newArbitraryTree(boolean manipulated) {
+		ArbitraryTree arbitraryTree = new ArbitraryTree(
+			traverser.traverse(rootProperty, Collections.emptyList()),
+			generateOptions,
+			monkeyContext,
+			Collections.emptyList()
+		);
+
+		if (manipulated) {
+			for (ArbitraryManipulator manipulator : manipulators) {
+				manipulator.manipulate(arbitraryTree);
+			}
+		}
+		return arbitraryTree;
+	}
+
+	private ArbitraryManipulator set(ManipulateOptions manipulateOptions, String expression, Object value) {
+		return new ArbitraryManipulator(
+			manipulateOptions.getDefaultMonkeyExpressionFactory().from(expression).toNodeResolver(),
+			new NodeSetDecomposedValueManipulator<>(traverser, manipulateOptions, value)
+		);
+	}
+
+	public enum Introspector {
+		BEAN(it -> it.objectIntrospector(introspector -> BeanArbitraryIntrospector.INSTANCE)),
+		FIELD(it -> it.objectIntrospector(introspector -> FieldReflectionArbitraryIntrospector.INSTANCE)),
+		BUILDER(it -> it.objectIntrospector(introspector -> BuilderArbitraryIntrospector.INSTANCE)),
+		JACKSON(it -> it.plugin(new JacksonPlugin()));
+
+		private final Consumer<GenerateOptionsBuilder> configurer;
+
+		Introspector(Consumer<GenerateOptionsBuilder> configurer) {
+			this.configurer = configurer;
+		}
+	}
+
+	/**
+	 * A tree traversed for each invocation, manipulating a tree changes it.
+	 */
+	@State(Scope.Thread)
+	public static class TraversedTree {
+		private ArbitraryTree arbitraryTree;
+
+		@Setup(value = Level.Invocation)
+		public void setUp(PipelinePhaseBenchmark benchmark) {
+			arbitraryTree = benchmark.newArbitraryTree(false);
+		}
+	}
+
+	/**
+	 * A tree traversed and manipulated for each invocation, generating a tree changes it.
+	 */
+	@State(Scope.Thread)
+	public static class ManipulatedTree {
+		private ArbitraryTree arbitraryTree;
+
+		@Setup(value = Level.Invocation)
+		public void setUp(PipelinePhaseBenchmark benchmark) {
+			arbitraryTree = benchmark.newArbitraryTree(true);
+		}
+	}
+}
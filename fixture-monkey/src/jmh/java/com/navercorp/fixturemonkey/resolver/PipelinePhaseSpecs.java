@@ -0,0 +1,123 @@
+package com.navercorp.fixturemonkey.resolver;
+
+import java.util.List;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import com.navercorp.fixturemonkey.api.type.TypeReference;
+
+public class PipelinePhaseSpecs {
+	@SuppressWarnings("unchecked")
+	static <T> TypeReference<T> rootType(Width width, int depth) {
+		if (width == Width.NARROW) {
+			switch (depth) {
+				case 1:
+					return (TypeReference<T>)new TypeReference<Node<NarrowObject>>() {
+					};
+				case 3:
+					return (TypeReference<T>)new TypeReference<Node<Node<Node<NarrowObject>>>>() {
+					};
+				default:
+					break;
+			}
+		} else {
+			switch (depth) {
+				case 1:
+					return (TypeReference<T>)new TypeReference<Node<WideObject>>() {
+					};
+				case 3:
+					return (TypeReference<T>)new TypeReference<Node<Node<Node<WideObject>>>>() {
+					};
+				default:
+					break;
+			}
+		}
+		throw new IllegalArgumentException("Not supported depth: " + depth);
+	}
+
+	public enum Width {
+		NARROW,
+		WIDE
+	}
+
+	@Data
+	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Node<T> {
+		@NotNull
+		@Size(max = 10)
+		private String name;
+
+		@NotNull
+		private List<String> tags;
+
+		private T child;
+	}
+
+	@Data
+	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class NarrowObject {
+		@NotNull
+		@Size(max = 10)
+		private String name;
+
+		@Positive
+		private Integer count;
+
+		private Long amount;
+		private Boolean enabled;
+		private String description;
+	}
+
+	@Data
+	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class WideObject {
+		@NotNull
+		@Size(max = 10)
+		private String field0;
+
+		@Positive
+		private Integer field1;
+
+		private Long field2;
+		private String field3;
+		private Integer field4;
+		private Long field5;
+		private String field6;
+		private Integer field7;
+		private Long field8;
+		private String field9;
+		private Integer field10;
+		private Long field11;
+		private String field12;
+		private Integer field13;
+		private Long field14;
+		private String field15;
+		private Integer field16;
+		private Long field17;
+		private String field18;
+		private Integer field19;
+		private Long field20;
+		private String field21;
+		private Integer field22;
+		private Long field23;
+		private String field24;
+		private Integer field25;
+		private Long field26;
+		private String field27;
+		private Integer field28;
+		private Long field29;
+	}
+}
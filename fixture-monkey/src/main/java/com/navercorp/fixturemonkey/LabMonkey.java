@@ -37,6 +37,8 @@ import com.navercorp.fixturemonkey.api.property.RootProperty;
 import com.navercorp.fixturemonkey.api.type.LazyAnnotatedType;
 import com.navercorp.fixturemonkey.api.type.TypeReference;
 import com.navercorp.fixturemonkey.builder.DefaultArbitraryBuilder;
+import com.navercorp.fixturemonkey.builder.SampleReservoir;
+import com.navercorp.fixturemonkey.builder.SampleReservoirs;
 import com.navercorp.fixturemonkey.resolver.ArbitraryBuilderContext;
 import com.navercorp.fixturemonkey.resolver.ArbitraryManipulator;
 import com.navercorp.fixturemonkey.resolver.ArbitraryResolver;
@@ -57,8 +59,8 @@ public class LabMonkey extends FixtureMonkey {
 	private final ManipulatorOptimizer manipulatorOptimizer;
 	private final ArbitraryValidator validator;
 	private final MonkeyContext monkeyContext;
+	private final SampleReservoirs sampleReservoirs;
 
-	@SuppressFBWarnings("NP_NULL_PARAM_DEREF_NONVIRTUAL")
 	public LabMonkey(
 		GenerateOptions generateOptions,
 		ManipulateOptionsBuilder manipulateOptionsBuilder,
@@ -66,6 +68,27 @@ public class LabMonkey extends FixtureMonkey {
 		ManipulatorOptimizer manipulatorOptimizer,
 		ArbitraryValidator validator,
 		MonkeyContext monkeyContext
+	) {
+		this(
+			generateOptions,
+			manipulateOptionsBuilder,
+			traverser,
+			manipulatorOptimizer,
+			validator,
+			monkeyContext,
+			SampleReservoirs.NONE
+		);
+	}
+
+	@SuppressFBWarnings("NP_NULL_PARAM_DEREF_NONVIRTUAL")
+	public LabMonkey(
+		GenerateOptions generateOptions,
+		ManipulateOptionsBuilder manipulateOptionsBuilder,
+		ArbitraryTraverser traverser,
+		ManipulatorOptimizer manipulatorOptimizer,
+		ArbitraryValidator validator,
+		MonkeyContext monkeyContext,
+		SampleReservoirs sampleReservoirs
 	) {
 		super(null, null, null, null, null);
 		this.generateOptions = generateOptions;
@@ -74,6 +97,7 @@ public class LabMonkey extends FixtureMonkey {
 		this.manipulatorOptimizer = manipulatorOptimizer;
 		this.validator = validator;
 		this.monkeyContext = monkeyContext;
+		this.sampleReservoirs = sampleReservoirs;
 		manipulateOptionsBuilder.propertyNameResolvers(generateOptions.getPropertyNameResolvers());
 		manipulateOptionsBuilder.defaultPropertyNameResolver(generateOptions.getDefaultPropertyNameResolver());
 		manipulateOptionsBuilder.sampleRegisteredArbitraryBuilder(this);
@@ -155,12 +179,12 @@ public class LabMonkey extends FixtureMonkey {
 
 	@Override
 	public <T> Stream<T> giveMe(Class<T> type) {
-		return this.giveMeBuilder(type).build().sampleStream();
+		return this.giveMeBuilder(type).sampleStream();
 	}
 
 	@Override
 	public <T> Stream<T> giveMe(TypeReference<T> typeReference) {
-		return this.giveMeBuilder(typeReference).build().sampleStream();
+		return this.giveMeBuilder(typeReference).sampleStream();
 	}
 
 	@Override
@@ -173,8 +197,33 @@ public class LabMonkey extends FixtureMonkey {
 		return this.giveMe(typeReference).limit(size).collect(toList());
 	}
 
+	/**
+	 * Generates {@code size} instances on {@code parallelism} threads.
+	 * The result is reproducible by the seed of the calling thread regardless of {@code parallelism}.
+	 */
+	public <T> List<T> giveMe(Class<T> type, int size, int parallelism) {
+		return this.giveMeBuilder(type).sampleList(size, parallelism);
+	}
+
+	/**
+	 * Generates {@code size} instances on {@code parallelism} threads.
+	 * The result is reproducible by the seed of the calling thread regardless of {@code parallelism}.
+	 */
+	public <T> List<T> giveMe(TypeReference<T> typeReference, int size, int parallelism) {
+		return this.giveMeBuilder(typeReference).sampleList(size, parallelism);
+	}
+
 	@Override
 	public <T> T giveMeOne(Class<T> type) {
+		SampleReservoir<T> reservoir = sampleReservoirs.get(
+			type,
+			this,
+			() -> this.giveMeBuilder(type),
+			monkeyContext.getGenerationListener()
+		);
+		if (reservoir != null) {
+			return reservoir.sample(() -> this.giveMe(type, 1).get(0));
+		}
 		return this.giveMe(type, 1).get(0);
 	}
 
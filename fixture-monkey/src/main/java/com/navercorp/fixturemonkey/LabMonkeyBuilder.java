@@ -24,9 +24,11 @@ import static com.navercorp.fixturemonkey.api.generator.DefaultNullInjectGenerat
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.function.Function;
@@ -57,15 +59,20 @@ import com.navercorp.fixturemonkey.api.option.GenerateOptionsBuilder;
 import com.navercorp.fixturemonkey.api.plugin.Plugin;
 import com.navercorp.fixturemonkey.api.property.PropertyNameResolver;
 import com.navercorp.fixturemonkey.api.type.Types;
+import com.navercorp.fixturemonkey.builder.SampleReservoirs;
+import com.navercorp.fixturemonkey.builder.SampleReservoirs.ReservoirSize;
 import com.navercorp.fixturemonkey.expression.MonkeyExpressionFactory;
+import com.navercorp.fixturemonkey.listener.CompositeGenerationListener;
+import com.navercorp.fixturemonkey.listener.GenerationListener;
 import com.navercorp.fixturemonkey.resolver.ArbitraryTraverser;
 import com.navercorp.fixturemonkey.resolver.DecomposableContainerValue;
 import com.navercorp.fixturemonkey.resolver.DecomposedContainerValueFactory;
+import com.navercorp.fixturemonkey.resolver.DefaultManipulatorOptimizer;
 import com.navercorp.fixturemonkey.resolver.ManipulateOptions;
 import com.navercorp.fixturemonkey.resolver.ManipulateOptionsBuilder;
 import com.navercorp.fixturemonkey.resolver.ManipulatorOptimizer;
 import com.navercorp.fixturemonkey.resolver.MonkeyContext;
-import com.navercorp.fixturemonkey.resolver.NoneManipulatorOptimizer;
+import com.navercorp.fixturemonkey.resolver.MonkeyContextBuilder;
 import com.navercorp.fixturemonkey.validator.ArbitraryValidator;
 import com.navercorp.fixturemonkey.validator.DefaultArbitraryValidator;
 
@@ -74,7 +81,7 @@ public class LabMonkeyBuilder {
 	private final GenerateOptionsBuilder generateOptionsBuilder = GenerateOptions.builder();
 	private final ManipulateOptionsBuilder manipulateOptionsBuilder = ManipulateOptions.builder();
 	private ArbitraryValidator arbitraryValidator = new DefaultArbitraryValidator();
-	private ManipulatorOptimizer manipulatorOptimizer = new NoneManipulatorOptimizer();
+	private ManipulatorOptimizer manipulatorOptimizer = new DefaultManipulatorOptimizer();
 	private NullInjectGenerator defaultNullInjectGenerator = null;
 	private boolean defaultNotNull = false;
 	private boolean nullableContainer = false;
@@ -85,6 +92,10 @@ public class LabMonkeyBuilder {
 		);
 	};
 	private final Map<Class<?>, DecomposedContainerValueFactory> decomposableContainerFactoryMap = new HashMap<>();
+	private final MonkeyContextBuilder monkeyContextBuilder = MonkeyContext.builder();
+	private final List<GenerationListener> generationListeners = new ArrayList<>();
+	private final Map<Class<?>, ReservoirSize> reservoirSizesByType = new HashMap<>();
+	private int reservoirParallelism = 1;
 
 	public LabMonkeyBuilder manipulatorOptimizer(ManipulatorOptimizer manipulatorOptimizer) {
 		this.manipulatorOptimizer = manipulatorOptimizer;
@@ -282,6 +293,31 @@ public class LabMonkeyBuilder {
 		return this;
 	}
 
+	/**
+	 * Generates not annotated primitives, their wrappers, String, BigInteger and BigDecimal by the arbitraries of
+	 * the given {@link #javaTypeArbitraryGenerator} built once, instead of building them for each property.
+	 * The generated values are distributed as before. The given {@link #javaArbitraryResolver} would not be applied
+	 * to them, annotated properties are generated as before.
+	 *
+	 * @see com.navercorp.fixturemonkey.api.introspector.DirectLeafArbitraryIntrospector
+	 */
+	public LabMonkeyBuilder directLeafGeneration(boolean directLeafGeneration) {
+		generateOptionsBuilder.directLeafGeneration(directLeafGeneration);
+		return this;
+	}
+
+	/**
+	 * Generates the elements of Stream, IntStream, LongStream, DoubleStream, Iterator and Iterable on demand,
+	 * so that a sampled container does not hold its elements. Its elements are generated from a single template,
+	 * an element could not be manipulated by its index. {@code size(expression, Integer.MAX_VALUE)} makes it unbounded.
+	 *
+	 * @see com.navercorp.fixturemonkey.api.introspector.LazyContainerIntrospector
+	 */
+	public LabMonkeyBuilder lazyContainerGeneration(boolean lazyContainerGeneration) {
+		generateOptionsBuilder.lazyContainerGeneration(lazyContainerGeneration);
+		return this;
+	}
+
 	public LabMonkeyBuilder arbitraryValidator(ArbitraryValidator arbitraryValidator) {
 		this.arbitraryValidator = arbitraryValidator;
 		return this;
@@ -473,6 +509,64 @@ public class LabMonkeyBuilder {
 		return this;
 	}
 
+	/**
+	 * Sets the number of compiled tree templates to keep, a template is reused by every sample of the same type.
+	 * Zero would traverse the type graph for every sample.
+	 */
+	public LabMonkeyBuilder treeTemplateCacheSize(int treeTemplateCacheSize) {
+		this.monkeyContextBuilder.treeTemplateCacheSize(treeTemplateCacheSize);
+		return this;
+	}
+
+	/**
+	 * Adds a listener which receives timings and counters of generating instances.
+	 * Nothing is measured if no listener is added.
+	 *
+	 * @see com.navercorp.fixturemonkey.listener.HistogramGenerationListener
+	 */
+	public LabMonkeyBuilder generationListener(GenerationListener generationListener) {
+		this.generationListeners.add(generationListener);
+		return this;
+	}
+
+	/**
+	 * Samples by instantiating the objects of a resolved tree directly, without generating jqwik shrinkables.
+	 * Only the types of which introspectors provide an instantiator are instantiated directly,
+	 * such as beans, lists and arrays. The arbitraries given by {@code giveMeArbitrary} are not affected.
+	 *
+	 * @see com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector#instantiator
+	 */
+	public LabMonkeyBuilder directSampling(boolean directSampling) {
+		this.monkeyContextBuilder.directSampling(directSampling);
+		return this;
+	}
+
+	/**
+	 * Serves {@code giveMeOne(type)} from a reservoir of up to {@code capacity} pre-generated instances.
+	 * The reservoir is refilled in background when it has {@code lowWatermark} instances or fewer,
+	 * {@code giveMeOne} generates inline when it runs dry.
+	 * The served instances are not reproducible by the seed of the calling thread.
+	 *
+	 * @see com.navercorp.fixturemonkey.listener.GenerationCacheType#RESERVOIR
+	 */
+	public LabMonkeyBuilder reservoir(Class<?> type, int capacity, int lowWatermark) {
+		if (lowWatermark < 0 || lowWatermark >= capacity) {
+			throw new IllegalArgumentException(
+				"lowWatermark should be in [0, capacity). lowWatermark: " + lowWatermark + ", capacity: " + capacity
+			);
+		}
+		this.reservoirSizesByType.put(type, new ReservoirSize(capacity, lowWatermark));
+		return this;
+	}
+
+	/**
+	 * Sets the number of threads generating the instances of a reservoir refill.
+	 */
+	public LabMonkeyBuilder reservoirParallelism(int reservoirParallelism) {
+		this.reservoirParallelism = reservoirParallelism;
+		return this;
+	}
+
 	public LabMonkey build() {
 		if (defaultNullInjectGenerator != null) {
 			generateOptionsBuilder.defaultNullInjectGenerator(defaultNullInjectGenerator);
@@ -507,6 +601,12 @@ public class LabMonkeyBuilder {
 			}
 		);
 
+		if (generationListeners.size() == 1) {
+			monkeyContextBuilder.generationListener(generationListeners.get(0));
+		} else if (generationListeners.size() > 1) {
+			monkeyContextBuilder.generationListener(new CompositeGenerationListener(generationListeners));
+		}
+
 		GenerateOptions generateOptions = generateOptionsBuilder.build();
 		ArbitraryTraverser traverser = new ArbitraryTraverser(generateOptions);
 
@@ -516,7 +616,10 @@ public class LabMonkeyBuilder {
 			traverser,
 			manipulatorOptimizer,
 			this.arbitraryValidator,
-			MonkeyContext.builder().build()
+			monkeyContextBuilder.build(),
+			reservoirSizesByType.isEmpty()
+				? SampleReservoirs.NONE
+				: new SampleReservoirs(reservoirSizesByType, reservoirParallelism)
 		);
 	}
 
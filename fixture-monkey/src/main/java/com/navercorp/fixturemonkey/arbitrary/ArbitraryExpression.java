@@ -29,6 +29,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
@@ -45,6 +47,9 @@ import com.navercorp.fixturemonkey.resolver.PropertyNameNodePredicate;
 public final class ArbitraryExpression implements MonkeyExpression, Comparable<ArbitraryExpression> {
 	private final List<Exp> expList;
 
+	@Nullable
+	private volatile NodeResolver nodeResolver;
+
 	private ArbitraryExpression(List<Exp> expList) {
 		this.expList = expList;
 	}
@@ -132,8 +137,14 @@ public final class ArbitraryExpression implements MonkeyExpression, Comparable<A
 			.collect(Collectors.joining("."));
 	}
 
+	/**
+	 * Returns the node resolver of this expression, it is created once since node resolvers are immutable.
+	 */
 	public NodeResolver toNodeResolver() {
-		NodeResolver nodeResolver = null;
+		NodeResolver nodeResolver = this.nodeResolver;
+		if (nodeResolver != null) {
+			return nodeResolver;
+		}
 
 		for (Exp exp : expList) {
 			if (nodeResolver == null) {
@@ -142,6 +153,7 @@ public final class ArbitraryExpression implements MonkeyExpression, Comparable<A
 				nodeResolver = new CompositeNodeResolver(nodeResolver, exp.toNodeResolver());
 			}
 		}
+		this.nodeResolver = nodeResolver;
 		return nodeResolver;
 	}
 
@@ -18,12 +18,30 @@
 
 package com.navercorp.fixturemonkey.arbitrary;
 
+import java.util.Map;
+
+import com.navercorp.fixturemonkey.api.collection.ConcurrentLruCache;
 import com.navercorp.fixturemonkey.expression.MonkeyExpression;
 import com.navercorp.fixturemonkey.expression.MonkeyExpressionFactory;
 
+/**
+ * Parses an expression once, the parsed expressions are kept in a bounded cache of the factory.
+ */
 public final class ArbitraryExpressionFactory implements MonkeyExpressionFactory {
+	private static final int DEFAULT_CACHE_SIZE = 2048;
+
+	private final Map<String, ArbitraryExpression> expressionsByString;
+
+	public ArbitraryExpressionFactory() {
+		this(DEFAULT_CACHE_SIZE);
+	}
+
+	public ArbitraryExpressionFactory(int cacheSize) {
+		this.expressionsByString = new ConcurrentLruCache<>(cacheSize);
+	}
+
 	@Override
 	public MonkeyExpression from(String expression) {
-		return ArbitraryExpression.from(expression);
+		return expressionsByString.computeIfAbsent(expression, ArbitraryExpression::from);
 	}
 }
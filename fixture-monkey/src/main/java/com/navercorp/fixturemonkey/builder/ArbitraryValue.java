@@ -20,6 +20,7 @@ package com.navercorp.fixturemonkey.builder;
 
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -38,6 +39,9 @@ import net.jqwik.api.RandomGenerator;
 import net.jqwik.api.Shrinkable;
 import net.jqwik.api.TooManyFilterMissesException;
 
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.listener.GenerationListener;
+import com.navercorp.fixturemonkey.listener.GenerationPhase;
 import com.navercorp.fixturemonkey.validator.ArbitraryValidator;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
@@ -47,9 +51,17 @@ final class ArbitraryValue<T> implements Arbitrary<T> {
 	public ArbitraryValue(
 		Supplier<Arbitrary<T>> generateArbitrary,
 		ArbitraryValidator validator,
-		boolean validOnly
+		boolean validOnly,
+		Property rootProperty,
+		GenerationListener generationListener
 	) {
-		this.monkeyRandomGenerator = new MonkeyRandomGenerator<>(generateArbitrary, validator, validOnly);
+		this.monkeyRandomGenerator = new MonkeyRandomGenerator<>(
+			generateArbitrary,
+			validator,
+			validOnly,
+			rootProperty,
+			generationListener
+		);
 	}
 
 	@Override
@@ -68,28 +80,46 @@ final class ArbitraryValue<T> implements Arbitrary<T> {
 		private final Supplier<Arbitrary<T>> generateArbitrary;
 		private final boolean validOnly;
 		private final ArbitraryValidator validator;
+		private final Property rootProperty;
+		private final GenerationListener generationListener;
 		@SuppressWarnings("rawtypes")
 		private final Map<String, ConstraintViolation> violations = new ConcurrentHashMap<>();
-		private Exception lastException;
+		private volatile Set<ConstraintViolation<?>> lastViolations;
 
 		private MonkeyRandomGenerator(
 			Supplier<Arbitrary<T>> generateArbitrary,
 			ArbitraryValidator validator,
-			boolean validOnly
+			boolean validOnly,
+			Property rootProperty,
+			GenerationListener generationListener
 		) {
 			this.generateArbitrary = generateArbitrary;
 			this.validator = validator;
 			this.validOnly = validOnly;
+			this.rootProperty = rootProperty;
+			this.generationListener = generationListener;
 		}
 
 		@SuppressWarnings("unchecked")
 		@Override
 		public Shrinkable<T> next(Random random) {
+			Arbitrary<T> arbitrary = getArbitrary();
+			boolean listening = generationListener != GenerationListener.NONE;
+			long startNanos = listening ? System.nanoTime() : 0L;
 			try {
-				return getArbitrary()
+				Shrinkable<T> shrinkable = arbitrary
 					.filter((Predicate<T>)this.validateFilter(validOnly))
 					.generator(1000)
 					.next(random);
+
+				if (listening) {
+					generationListener.onPhaseCompleted(
+						GenerationPhase.SAMPLE,
+						rootProperty,
+						System.nanoTime() - startNanos
+					);
+				}
+				return shrinkable;
 			} catch (TooManyFilterMissesException ex) {
 				StringBuilder builder = new StringBuilder();
 				this.violations.values().forEach(violation -> builder
@@ -99,9 +129,15 @@ final class ArbitraryValue<T> implements Arbitrary<T> {
 					.append(", invalidValue: ").append(violation.getInvalidValue())
 					.append("\n"));
 
+				Set<ConstraintViolation<?>> lastViolations = this.lastViolations;
+				Exception lastException = lastViolations == null ? null : new ConstraintViolationException(
+					"ConstraintViolations. type: " + rootProperty.getType().getTypeName(),
+					lastViolations
+				);
 				log.error("Fail to create valid arbitrary."
 					+ "\n\nFixture factory Constraint Violation messages. \n\n" + builder, lastException);
 
+				generationListener.onTooManyFilterMisses(rootProperty, ex, lastException);
 				throw ex;
 			}
 		}
@@ -117,24 +153,49 @@ final class ArbitraryValue<T> implements Arbitrary<T> {
 					return true;
 				}
 
+				boolean listening = generationListener != GenerationListener.NONE;
+				long startNanos = listening ? System.nanoTime() : 0L;
 				try {
-					this.validator.validate(fixture);
-					return true;
-				} catch (ConstraintViolationException ex) {
-					ex.getConstraintViolations().forEach(violation ->
+					Set<ConstraintViolation<?>> violations = this.validator.findViolations(fixture);
+					if (violations.isEmpty()) {
+						return true;
+					}
+
+					violations.forEach(violation -> {
 						this.violations.put(
 							violation.getRootBeanClass().getName() + violation.getPropertyPath(),
 							violation
-						)
-					);
-					this.lastException = ex;
+						);
+						if (listening) {
+							generationListener.onFilterMissed(toPropertyPath(violation));
+						}
+					});
+					this.lastViolations = violations;
+				} finally {
+					if (listening) {
+						generationListener.onPhaseCompleted(
+							GenerationPhase.VALIDATE,
+							rootProperty,
+							System.nanoTime() - startNanos
+						);
+					}
 				}
 				return false;
 			};
 		}
 
-		private synchronized Arbitrary<T> getArbitrary() {
+		/**
+		 * Resolves a new arbitrary per sample. Each resolution owns its tree and manipulator state,
+		 * lazy values are evaluated per node without being shared, resolutions could run concurrently.
+		 */
+		private Arbitrary<T> getArbitrary() {
 			return generateArbitrary.get();
 		}
+
+		@SuppressWarnings("rawtypes")
+		private static String toPropertyPath(ConstraintViolation violation) {
+			String propertyPath = violation.getPropertyPath().toString();
+			return propertyPath.isEmpty() ? "$" : "$." + propertyPath;
+		}
 	}
 }
@@ -56,6 +56,7 @@ import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
 import com.navercorp.fixturemonkey.api.property.PropertyNameResolver;
 import com.navercorp.fixturemonkey.api.property.RootProperty;
 import com.navercorp.fixturemonkey.api.random.Randoms;
+import com.navercorp.fixturemonkey.api.random.WorkerScopes;
 import com.navercorp.fixturemonkey.api.type.LazyAnnotatedType;
 import com.navercorp.fixturemonkey.api.type.Types;
 import com.navercorp.fixturemonkey.arbitrary.BuilderManipulator;
@@ -73,6 +74,7 @@ import com.navercorp.fixturemonkey.resolver.BuilderManipulatorAdapter;
 import com.navercorp.fixturemonkey.resolver.ContainerInfoManipulator;
 import com.navercorp.fixturemonkey.resolver.IdentityNodeResolver;
 import com.navercorp.fixturemonkey.resolver.ManipulateOptions;
+import com.navercorp.fixturemonkey.resolver.ManipulatorChain;
 import com.navercorp.fixturemonkey.resolver.NodeFilterManipulator;
 import com.navercorp.fixturemonkey.resolver.NodeNullityManipulator;
 import com.navercorp.fixturemonkey.resolver.NodeResolver;
@@ -285,7 +287,7 @@ public final class DefaultArbitraryBuilder<T> extends OldArbitraryBuilderImpl<T>
 
 	@Override
 	public ArbitraryBuilder<T> fixed() {
-		this.context.getContainerInfoManipulators().forEach(ContainerInfoManipulator::fixed);
+		this.context.fixContainerInfoManipulators();
 
 		this.context.addManipulator(
 			new ArbitraryManipulator(
@@ -300,7 +302,7 @@ public final class DefaultArbitraryBuilder<T> extends OldArbitraryBuilderImpl<T>
 	public ArbitraryBuilder<T> apply(
 		BiConsumer<T, ArbitraryBuilder<T>> biConsumer
 	) {
-		this.context.getContainerInfoManipulators().forEach(ContainerInfoManipulator::fixed);
+		this.context.fixContainerInfoManipulators();
 
 		ArbitraryBuilder<T> appliedBuilder = this.copy();
 
@@ -429,13 +431,13 @@ public final class DefaultArbitraryBuilder<T> extends OldArbitraryBuilderImpl<T>
 
 	@Override
 	public <U> ArbitraryBuilder<U> map(Function<T, U> mapper) {
-		LazyArbitrary<U> lazyArbitrary = LazyArbitrary.lazy(() -> mapper.apply(this.sample()));
+		LazyArbitrary<U> lazyArbitrary = LazyArbitrary.scoped(() -> mapper.apply(this.sample()));
 		return generateArbitraryBuilderLazily(lazyArbitrary);
 	}
 
 	@Override
 	public <U, R> ArbitraryBuilder<R> zipWith(ArbitraryBuilder<U> other, BiFunction<T, U, R> combinator) {
-		LazyArbitrary<R> lazyArbitrary = LazyArbitrary.lazy(() -> combinator.apply(this.sample(), other.sample()));
+		LazyArbitrary<R> lazyArbitrary = LazyArbitrary.scoped(() -> combinator.apply(this.sample(), other.sample()));
 		return generateArbitraryBuilderLazily(lazyArbitrary);
 	}
 
@@ -445,7 +447,7 @@ public final class DefaultArbitraryBuilder<T> extends OldArbitraryBuilderImpl<T>
 		ArbitraryBuilder<V> another,
 		F3<T, U, V, R> combinator
 	) {
-		LazyArbitrary<R> lazyArbitrary = LazyArbitrary.lazy(
+		LazyArbitrary<R> lazyArbitrary = LazyArbitrary.scoped(
 			() -> combinator.apply(this.sample(), other.sample(), another.sample())
 		);
 		return generateArbitraryBuilderLazily(lazyArbitrary);
@@ -458,7 +460,7 @@ public final class DefaultArbitraryBuilder<T> extends OldArbitraryBuilderImpl<T>
 		ArbitraryBuilder<W> theOther,
 		F4<T, U, V, W, R> combinator
 	) {
-		LazyArbitrary<R> lazyArbitrary = LazyArbitrary.lazy(
+		LazyArbitrary<R> lazyArbitrary = LazyArbitrary.scoped(
 			() -> combinator.apply(this.sample(), other.sample(), another.sample(), theOther.sample())
 		);
 		return generateArbitraryBuilderLazily(lazyArbitrary);
@@ -470,7 +472,7 @@ public final class DefaultArbitraryBuilder<T> extends OldArbitraryBuilderImpl<T>
 		List<ArbitraryBuilder<?>> others,
 		Function<List<?>, R> combinator
 	) {
-		LazyArbitrary<R> lazyArbitrary = LazyArbitrary.lazy(
+		LazyArbitrary<R> lazyArbitrary = LazyArbitrary.scoped(
 			() -> {
 				List combinedList = new ArrayList<>();
 				combinedList.add(this.sample());
@@ -494,34 +496,19 @@ public final class DefaultArbitraryBuilder<T> extends OldArbitraryBuilderImpl<T>
 		return this;
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public Arbitrary<T> build() {
-		List<ArbitraryManipulator> buildManipulators = new ArrayList<>(this.context.getManipulators());
-
-		return new ArbitraryValue<>(
-			() -> {
-				Arbitrary<T> arbitrary = (Arbitrary<T>)this.resolver.resolve(
-					this.rootProperty,
-					buildManipulators,
-					context.getCustomizers(),
-					context.getContainerInfoManipulators()
-				);
-				return arbitrary;
-			},
-			this.validator,
-			context.isValidOnly()
-		);
+		return this.build(false);
 	}
 
 	@Override
 	public T sample() {
-		return this.build().sample();
+		return this.build(true).sample();
 	}
 
 	@Override
 	public Stream<T> sampleStream() {
-		return this.build().sampleStream();
+		return this.build(true).sampleStream();
 	}
 
 	@Override
@@ -529,6 +516,59 @@ public final class DefaultArbitraryBuilder<T> extends OldArbitraryBuilderImpl<T>
 		return this.sampleStream().limit(size).collect(toList());
 	}
 
+	/**
+	 * Samples {@code size} values on {@code parallelism} threads.
+	 * The master seed is taken from the current random of the calling thread.
+	 *
+	 * @see #sampleList(int, int, long)
+	 */
+	public List<T> sampleList(int size, int parallelism) {
+		return this.sampleList(size, parallelism, Randoms.current().nextLong());
+	}
+
+	/**
+	 * Samples {@code size} values on {@code parallelism} threads.
+	 * Each element is generated by its own random, seeded by {@code masterSeed} and the index of the element,
+	 * the result is the same regardless of {@code parallelism}.
+	 * {@code parallelism} is capped to {@link WorkerScopes#MAX_WORKERS} shared by all the calls,
+	 * a call waits until the other calls release enough threads.
+	 * The suppliers given by {@code setLazy}, {@code map} or {@code zipWith} could be called by the threads
+	 * at the same time.
+	 */
+	public List<T> sampleList(int size, int parallelism, long masterSeed) {
+		return ParallelSampler.sampleList(this.build(true), size, parallelism, masterSeed);
+	}
+
+	/**
+	 * Builds an arbitrary, {@code sampling} is true if the arbitrary is only sampled not used in property tests.
+	 */
+	@SuppressWarnings("unchecked")
+	private Arbitrary<T> build(boolean sampling) {
+		// the built arbitrary is not affected by manipulating this builder afterwards
+		ManipulatorChain buildManipulators = this.context.getManipulatorChain();
+		List<MatcherOperator<? extends FixtureCustomizer>> buildCustomizers =
+			new ArrayList<>(this.context.getCustomizers());
+		List<ContainerInfoManipulator> buildContainerInfoManipulators =
+			new ArrayList<>(this.context.getContainerInfoManipulators());
+
+		return new ArbitraryValue<>(
+			() -> {
+				Arbitrary<T> arbitrary = (Arbitrary<T>)this.resolver.resolve(
+					this.rootProperty,
+					buildManipulators,
+					buildCustomizers,
+					buildContainerInfoManipulators,
+					sampling
+				);
+				return arbitrary;
+			},
+			this.validator,
+			context.isValidOnly(),
+			this.rootProperty,
+			this.resolver.getGenerationListener()
+		);
+	}
+
 	@Override
 	public ArbitraryBuilder<T> copy() {
 		return new DefaultArbitraryBuilder<>(
@@ -548,6 +588,10 @@ public final class DefaultArbitraryBuilder<T> extends OldArbitraryBuilderImpl<T>
 		});
 	}
 
+	/**
+	 * The {@code lazyArbitrary} should be scoped, the type of the root and the value set to it are evaluated
+	 * once in a resolution.
+	 */
 	private <R> DefaultArbitraryBuilder<R> generateArbitraryBuilderLazily(LazyArbitrary<R> lazyArbitrary) {
 		ArbitraryBuilderContext context = new ArbitraryBuilderContext();
 		context.addManipulator(
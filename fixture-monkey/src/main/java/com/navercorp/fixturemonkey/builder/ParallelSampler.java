@@ -0,0 +1,181 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.builder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.jqwik.api.Arbitrary;
+
+import com.navercorp.fixturemonkey.api.random.Randoms;
+import com.navercorp.fixturemonkey.api.random.WorkerScope;
+import com.navercorp.fixturemonkey.api.random.WorkerScopes;
+
+/**
+ * Samples an arbitrary on the threads of a shared executor.
+ * Each element is generated within {@link Randoms#withRandom(Random, Supplier)} by its own random,
+ * seeded by the master seed and the index of the element.
+ * <p>
+ * Each worker runs in a {@link WorkerScope} opened for the call, which isolates the workers from each other in jqwik.
+ * At most {@link WorkerScopes#MAX_WORKERS} workers run at the same time, a larger parallelism is capped to it
+ * and a call waits until the other calls release enough workers.
+ * A call of a single worker samples on the calling thread, a call made by a worker samples on the worker thread.
+ * The result does not depend on the parallelism.
+ * jqwik loads its facades lazily which is not thread-safe either,
+ * the first element is sampled by the calling thread to load them before the workers start.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+final class ParallelSampler {
+	private static final Logger LOGGER = LoggerFactory.getLogger(ParallelSampler.class);
+	private static final int GENERATION_SIZE = 1000;
+	private static final AtomicInteger THREAD_SEQUENCE = new AtomicInteger();
+	private static final AtomicBoolean PARALLELISM_CAPPED = new AtomicBoolean();
+	private static final ExecutorService EXECUTOR = newExecutor();
+
+	private ParallelSampler() {
+	}
+
+	@SuppressWarnings("unchecked")
+	static <T> List<T> sampleList(Arbitrary<T> arbitrary, int size, int parallelism, long masterSeed) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("parallelism should be positive. parallelism: " + parallelism);
+		}
+		if (size == 0) {
+			return new ArrayList<>();
+		}
+
+		int workers = Math.min(parallelism, WorkerScopes.MAX_WORKERS);
+		if (workers < parallelism && PARALLELISM_CAPPED.compareAndSet(false, true)) {
+			LOGGER.warn(
+				"parallelism {} is larger than the maximum number of workers, it is capped to {}.",
+				parallelism,
+				WorkerScopes.MAX_WORKERS
+			);
+		}
+
+		Object[] samples = new Object[size];
+		WorkerScope scope = workers == 1 ? null : WorkerScopes.open(workers);
+		if (scope == null) {
+			for (int index = 0; index < size; index++) {
+				samples[index] = sample(arbitrary, Randoms.derivedSeed(masterSeed, index));
+			}
+			return new ArrayList<>((List<T>)Arrays.asList(samples));
+		}
+
+		try {
+			samples[0] = scope.run(0, () -> sample(arbitrary, Randoms.derivedSeed(masterSeed, 0)));
+
+			List<Future<?>> tasks = new ArrayList<>(workers);
+			for (int worker = 0; worker < workers; worker++) {
+				int start = worker == 0 ? workers : worker;
+				int scopeIndex = worker;
+				tasks.add(EXECUTOR.submit(() -> scope.run(scopeIndex, () -> {
+					for (int index = start; index < size; index += workers) {
+						samples[index] = sample(arbitrary, Randoms.derivedSeed(masterSeed, index));
+					}
+					return null;
+				})));
+			}
+			awaitAll(tasks);
+		} finally {
+			scope.close();
+		}
+		return new ArrayList<>((List<T>)Arrays.asList(samples));
+	}
+
+	/**
+	 * The threads are bounded by the maximum number of workers.
+	 * Idle threads are terminated, daemon threads do not prevent the JVM from exiting.
+	 */
+	private static ExecutorService newExecutor() {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(
+			WorkerScopes.MAX_WORKERS,
+			WorkerScopes.MAX_WORKERS,
+			60L,
+			TimeUnit.SECONDS,
+			new LinkedBlockingQueue<>(),
+			runnable -> {
+				Thread thread = new Thread(
+					runnable,
+					"fixture-monkey-parallel-sampler-" + THREAD_SEQUENCE.incrementAndGet()
+				);
+				thread.setDaemon(true);
+				return thread;
+			}
+		);
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	private static <T> T sample(Arbitrary<T> arbitrary, long seed) {
+		// the random is also used in resolving, it does not replace the random of the calling thread
+		Random random = Randoms.newRandom(seed);
+		return Randoms.withRandom(random, () -> arbitrary.generator(GENERATION_SIZE).next(random).value());
+	}
+
+	/**
+	 * Waits for all the tasks even if one of them fails, the scope should not be closed while a worker is running.
+	 */
+	private static void awaitAll(List<Future<?>> tasks) {
+		RuntimeException failure = null;
+		for (Future<?> task : tasks) {
+			try {
+				task.get();
+			} catch (ExecutionException ex) {
+				if (failure == null) {
+					failure = toRuntimeException(ex.getCause());
+				}
+			} catch (InterruptedException ex) {
+				tasks.forEach(it -> it.cancel(true));
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Sampling in parallel is interrupted.", ex);
+			}
+		}
+
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	private static RuntimeException toRuntimeException(Throwable throwable) {
+		if (throwable instanceof RuntimeException) {
+			return (RuntimeException)throwable;
+		}
+		if (throwable instanceof Error) {
+			throw (Error)throwable;
+		}
+		return new IllegalStateException(throwable);
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.builder;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.navercorp.fixturemonkey.api.collection.ConcurrentRingBuffer;
+import com.navercorp.fixturemonkey.listener.GenerationCacheType;
+import com.navercorp.fixturemonkey.listener.GenerationListener;
+
+/**
+ * A bounded buffer of pre-generated instances, polled without locks.
+ * It is refilled up to its capacity in background when its size drops to the low watermark.
+ * Callers generate inline when it runs dry, the instances in it do not follow the seed of the caller.
+ * A failed refill is retried after a backoff, which doubles by each consecutive failure up to 10 seconds.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class SampleReservoir<T> {
+	private static final Logger LOGGER = LoggerFactory.getLogger(SampleReservoir.class);
+	private static final Object NULL = new Object();
+	private static final long INITIAL_BACKOFF_MILLIS = 100;
+	private static final long MAX_BACKOFF_MILLIS = 10_000;
+
+	private final ConcurrentRingBuffer<Object> buffer;
+	private final int lowWatermark;
+	private final IntFunction<List<T>> sampler;
+	private final Executor refillExecutor;
+	private final GenerationListener generationListener;
+	private final AtomicBoolean refilling = new AtomicBoolean();
+	private volatile int refillFailures = 0;
+	private volatile long refillBackoffDeadline;
+
+	/**
+	 * Creates a reservoir.
+	 *
+	 * @param capacity           the maximum number of pre-generated instances
+	 * @param lowWatermark       the size which triggers a refill
+	 * @param sampler            generates the given number of instances, it runs on {@code refillExecutor}
+	 * @param refillExecutor     the executor refilling the reservoir
+	 * @param generationListener the listener notified of {@link GenerationCacheType#RESERVOIR} hits and misses
+	 */
+	public SampleReservoir(
+		int capacity,
+		int lowWatermark,
+		IntFunction<List<T>> sampler,
+		Executor refillExecutor,
+		GenerationListener generationListener
+	) {
+		if (lowWatermark < 0 || lowWatermark >= capacity) {
+			throw new IllegalArgumentException(
+				"lowWatermark should be in [0, capacity). lowWatermark: " + lowWatermark + ", capacity: " + capacity
+			);
+		}
+
+		this.buffer = new ConcurrentRingBuffer<>(capacity);
+		this.lowWatermark = lowWatermark;
+		this.sampler = sampler;
+		this.refillExecutor = refillExecutor;
+		this.generationListener = generationListener;
+	}
+
+	/**
+	 * Returns a pre-generated instance, or the instance of {@code inlineSampler} if it runs dry.
+	 */
+	@SuppressWarnings("unchecked")
+	public T sample(Supplier<T> inlineSampler) {
+		Object sampled = buffer.poll();
+		generationListener.onCacheAccessed(GenerationCacheType.RESERVOIR, sampled != null);
+
+		// the inline sample of the first miss loads jqwik on the calling thread before the refill starts
+		T sample = sampled == null ? inlineSampler.get() : sampled == NULL ? null : (T)sampled;
+		if (buffer.size() <= lowWatermark) {
+			refill();
+		}
+		return sample;
+	}
+
+	public int size() {
+		return buffer.size();
+	}
+
+	private void refill() {
+		if (refillFailures > 0 && System.nanoTime() - refillBackoffDeadline < 0) {
+			return;
+		}
+		if (!refilling.compareAndSet(false, true)) {
+			return;
+		}
+
+		try {
+			refillExecutor.execute(() -> {
+				try {
+					int missing = buffer.getCapacity() - buffer.size();
+					if (missing > 0) {
+						for (T sample : sampler.apply(missing)) {
+							buffer.offer(sample == null ? NULL : sample);
+						}
+					}
+					refillFailures = 0;
+				} catch (RuntimeException ex) {
+					// callers keep generating inline until the retry, which surfaces the failure to them
+					int failures = refillFailures + 1;
+					long backoffMillis = Math.min(
+						INITIAL_BACKOFF_MILLIS << Math.min(failures - 1, 16),
+						MAX_BACKOFF_MILLIS
+					);
+					refillBackoffDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMillis);
+					refillFailures = failures;
+					LOGGER.warn("Refilling the reservoir failed {} times in a row, it is retried in {} ms.",
+						failures, backoffMillis, ex);
+				} finally {
+					refilling.set(false);
+				}
+			});
+		} catch (RejectedExecutionException ex) {
+			refilling.set(false);
+		}
+	}
+}
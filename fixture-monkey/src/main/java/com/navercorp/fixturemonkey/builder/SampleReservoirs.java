@@ -0,0 +1,148 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.builder;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.listener.GenerationListener;
+
+/**
+ * The {@link SampleReservoir}s of the registered types.
+ * Reservoirs are created on their first access, each refill samples on {@code parallelism} threads.
+ * A reservoir is kept for each type and configuration of the builders refilling it,
+ * instances generated by one configuration are not served to another.
+ * The reservoirs of all instances share one executor refilling them, a reservoir runs one refill at a time.
+ * Its threads are terminated when idle, reservoirs no longer used leave no thread behind.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class SampleReservoirs {
+	public static final SampleReservoirs NONE = new SampleReservoirs(Collections.emptyMap(), 1);
+
+	private static final AtomicInteger THREAD_SEQUENCE = new AtomicInteger();
+	// idle threads are terminated, daemon threads do not prevent the JVM from exiting
+	private static final ExecutorService REFILL_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+		Thread thread = new Thread(runnable, "fixture-monkey-reservoir-refill-" + THREAD_SEQUENCE.incrementAndGet());
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private final Map<Class<?>, ReservoirSize> reservoirSizesByType;
+	private final int parallelism;
+	private final Map<ReservoirKey, SampleReservoir<?>> reservoirsByKey = new ConcurrentHashMap<>();
+
+	public SampleReservoirs(Map<Class<?>, ReservoirSize> reservoirSizesByType, int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("parallelism should be positive. parallelism: " + parallelism);
+		}
+
+		this.reservoirSizesByType = new HashMap<>(reservoirSizesByType);
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Returns the reservoir of given type and configuration, null if the type is not registered.
+	 * The {@code builderSupplier} and {@code generationListener} are captured when the reservoir is created,
+	 * they should be determined by the {@code configuration}.
+	 *
+	 * @param configuration   the configuration the builders are created by, compared by its equality
+	 * @param builderSupplier supplies the builder of given type which refills the reservoir
+	 */
+	@SuppressWarnings("unchecked")
+	@Nullable
+	public <T> SampleReservoir<T> get(
+		Class<T> type,
+		Object configuration,
+		Supplier<DefaultArbitraryBuilder<T>> builderSupplier,
+		GenerationListener generationListener
+	) {
+		ReservoirSize reservoirSize = reservoirSizesByType.get(type);
+		if (reservoirSize == null) {
+			return null;
+		}
+
+		return (SampleReservoir<T>)reservoirsByKey.computeIfAbsent(
+			new ReservoirKey(type, configuration),
+			it -> new SampleReservoir<>(
+				reservoirSize.getCapacity(),
+				reservoirSize.getLowWatermark(),
+				size -> builderSupplier.get().sampleList(size, parallelism),
+				REFILL_EXECUTOR,
+				generationListener
+			)
+		);
+	}
+
+	private static final class ReservoirKey {
+		private final Class<?> type;
+		private final Object configuration;
+
+		private ReservoirKey(Class<?> type, Object configuration) {
+			this.type = type;
+			this.configuration = configuration;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			ReservoirKey that = (ReservoirKey)obj;
+			return type.equals(that.type) && configuration.equals(that.configuration);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(type, configuration);
+		}
+	}
+
+	public static final class ReservoirSize {
+		private final int capacity;
+		private final int lowWatermark;
+
+		public ReservoirSize(int capacity, int lowWatermark) {
+			this.capacity = capacity;
+			this.lowWatermark = lowWatermark;
+		}
+
+		public int getCapacity() {
+			return capacity;
+		}
+
+		public int getLowWatermark() {
+			return lowWatermark;
+		}
+	}
+}
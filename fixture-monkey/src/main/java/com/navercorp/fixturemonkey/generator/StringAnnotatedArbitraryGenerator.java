@@ -18,10 +18,7 @@
 
 package com.navercorp.fixturemonkey.generator;
 
-import static java.util.stream.Collectors.toList;
-
 import java.math.BigDecimal;
-import java.util.List;
 import java.util.Optional;
 
 import javax.validation.constraints.Digits;
@@ -34,6 +31,8 @@ import net.jqwik.api.Arbitrary;
 import net.jqwik.api.arbitraries.StringArbitrary;
 import net.jqwik.web.api.Web;
 
+import com.navercorp.fixturemonkey.api.generator.RegexGenerator;
+
 public class StringAnnotatedArbitraryGenerator implements AnnotatedArbitraryGenerator<String> {
 	public static final StringAnnotatedArbitraryGenerator INSTANCE = new StringAnnotatedArbitraryGenerator();
 	private static final java.util.regex.Pattern EMPTY_PATTERN = java.util.regex.Pattern.compile("");
@@ -72,13 +71,11 @@ public class StringAnnotatedArbitraryGenerator implements AnnotatedArbitraryGene
 		if (pattern.isPresent()) {
 			Integer minValue = min != null ? min.intValue() : null;
 			Integer maxValue = max != null ? max.intValue() : null;
-			List<String> values = REGEX_GENERATOR.generateAll(pattern.get(), minValue, maxValue);
-			if (notBlank) {
-				values = values.stream()
-					.filter(this::isNotBlank)
-					.collect(toList());
+			int flags = 0;
+			for (Pattern.Flag flag : pattern.get().flags()) {
+				flags |= flag.getValue();
 			}
-			return Arbitraries.of(values);
+			return REGEX_GENERATOR.generate(pattern.get().regexp(), flags, minValue, maxValue, notBlank);
 		}
 
 		Arbitrary<String> arbitrary;
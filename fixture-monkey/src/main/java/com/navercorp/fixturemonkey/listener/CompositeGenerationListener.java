@@ -0,0 +1,79 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.listener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import net.jqwik.api.TooManyFilterMissesException;
+
+import com.navercorp.fixturemonkey.api.property.Property;
+
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class CompositeGenerationListener implements GenerationListener {
+	private final List<GenerationListener> listeners;
+
+	public CompositeGenerationListener(List<GenerationListener> listeners) {
+		this.listeners = new ArrayList<>(listeners);
+	}
+
+	@Override
+	public void onPhaseCompleted(GenerationPhase phase, Property rootProperty, long elapsedNanos) {
+		for (GenerationListener listener : listeners) {
+			listener.onPhaseCompleted(phase, rootProperty, elapsedNanos);
+		}
+	}
+
+	@Override
+	public void onTreeTraversed(Property rootProperty, int nodeCount) {
+		for (GenerationListener listener : listeners) {
+			listener.onTreeTraversed(rootProperty, nodeCount);
+		}
+	}
+
+	@Override
+	public void onCacheAccessed(GenerationCacheType cacheType, boolean hit) {
+		for (GenerationListener listener : listeners) {
+			listener.onCacheAccessed(cacheType, hit);
+		}
+	}
+
+	@Override
+	public void onFilterMissed(String propertyPath) {
+		for (GenerationListener listener : listeners) {
+			listener.onFilterMissed(propertyPath);
+		}
+	}
+
+	@Override
+	public void onTooManyFilterMisses(
+		Property rootProperty,
+		TooManyFilterMissesException exception,
+		@Nullable Throwable rootCause
+	) {
+		for (GenerationListener listener : listeners) {
+			listener.onTooManyFilterMisses(rootProperty, exception, rootCause);
+		}
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.listener;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public enum GenerationCacheType {
+	/**
+	 * Arbitraries of not manipulated properties.
+	 */
+	ARBITRARY,
+
+	/**
+	 * Compiled tree templates of root types.
+	 */
+	TREE_TEMPLATE,
+
+	/**
+	 * Trees manipulated by the prefixes of manipulator chains.
+	 */
+	MANIPULATED_TREE,
+
+	/**
+	 * Direct sampling generators of not manipulated properties.
+	 */
+	GENERATOR,
+
+	/**
+	 * Pre-generated instances of the types having a reservoir.
+	 */
+	RESERVOIR
+}
@@ -0,0 +1,78 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.listener;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import net.jqwik.api.TooManyFilterMissesException;
+
+import com.navercorp.fixturemonkey.api.property.Property;
+
+/**
+ * Receives what happens while generating instances, it could be registered by
+ * {@link com.navercorp.fixturemonkey.LabMonkeyBuilder#generationListener(GenerationListener)}.
+ * <p>
+ * It is called by the threads generating instances, an implementation should be thread-safe.
+ * Nothing is measured if no listener is registered.
+ *
+ * @see HistogramGenerationListener
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public interface GenerationListener {
+	GenerationListener NONE = new GenerationListener() {
+	};
+
+	/**
+	 * Called when a phase of generating an instance of {@code rootProperty} is completed.
+	 */
+	default void onPhaseCompleted(GenerationPhase phase, Property rootProperty, long elapsedNanos) {
+	}
+
+	/**
+	 * Called when a tree of {@code rootProperty} is traversed.
+	 */
+	default void onTreeTraversed(Property rootProperty, int nodeCount) {
+	}
+
+	default void onCacheAccessed(GenerationCacheType cacheType, boolean hit) {
+	}
+
+	/**
+	 * Called when a sampled value is filtered out.
+	 *
+	 * @param propertyPath the path of the property filtered out, for example {@code $.orders[0].id}
+	 */
+	default void onFilterMissed(String propertyPath) {
+	}
+
+	/**
+	 * Called when sampling a value of {@code rootProperty} fails because too many values are filtered out.
+	 *
+	 * @param rootCause the last validation failure, {@code null} if no value is failed to validate
+	 */
+	default void onTooManyFilterMisses(
+		Property rootProperty,
+		TooManyFilterMissesException exception,
+		@Nullable Throwable rootCause
+	) {
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.listener;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Phases of generating an instance by {@link com.navercorp.fixturemonkey.LabMonkey}, in the order they run.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public enum GenerationPhase {
+	/**
+	 * Traverses the type graph into a tree of nodes, or instantiates a cached tree template.
+	 */
+	TRAVERSE,
+
+	/**
+	 * Applies manipulators to the nodes of a tree.
+	 */
+	MANIPULATE,
+
+	/**
+	 * Combines the arbitraries of the nodes into an arbitrary of the root.
+	 */
+	GENERATE,
+
+	/**
+	 * Samples a value from the arbitrary of the root, including filtering and validation.
+	 */
+	SAMPLE,
+
+	/**
+	 * Validates a sampled value.
+	 */
+	VALIDATE
+}
@@ -0,0 +1,298 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.listener;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import net.jqwik.api.TooManyFilterMissesException;
+
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.type.Types;
+
+/**
+ * Collects timings and counters in memory, {@link #dump()} them at the end of a test run.
+ * Timings are kept in histograms of power of two buckets, percentiles are the upper bound of a bucket.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class HistogramGenerationListener implements GenerationListener {
+	private final Map<GenerationPhase, Histogram> phaseHistograms = new EnumMap<>(GenerationPhase.class);
+	private final Histogram nodeCountHistogram = new Histogram();
+	private final Map<GenerationCacheType, LongAdder> cacheHits = new EnumMap<>(GenerationCacheType.class);
+	private final Map<GenerationCacheType, LongAdder> cacheMisses = new EnumMap<>(GenerationCacheType.class);
+	private final Map<String, LongAdder> filterMissesByPath = new ConcurrentHashMap<>();
+	private final Map<String, LongAdder> tooManyFilterMissesByPropertyPath = new ConcurrentHashMap<>();
+
+	public HistogramGenerationListener() {
+		for (GenerationPhase phase : GenerationPhase.values()) {
+			phaseHistograms.put(phase, new Histogram());
+		}
+
+		for (GenerationCacheType cacheType : GenerationCacheType.values()) {
+			cacheHits.put(cacheType, new LongAdder());
+			cacheMisses.put(cacheType, new LongAdder());
+		}
+	}
+
+	@Override
+	public void onPhaseCompleted(GenerationPhase phase, Property rootProperty, long elapsedNanos) {
+		phaseHistograms.get(phase).record(elapsedNanos);
+	}
+
+	@Override
+	public void onTreeTraversed(Property rootProperty, int nodeCount) {
+		nodeCountHistogram.record(nodeCount);
+	}
+
+	@Override
+	public void onCacheAccessed(GenerationCacheType cacheType, boolean hit) {
+		(hit ? cacheHits : cacheMisses).get(cacheType).increment();
+	}
+
+	@Override
+	public void onFilterMissed(String propertyPath) {
+		filterMissesByPath.computeIfAbsent(propertyPath, it -> new LongAdder()).increment();
+	}
+
+	@Override
+	public void onTooManyFilterMisses(
+		Property rootProperty,
+		TooManyFilterMissesException exception,
+		@Nullable Throwable rootCause
+	) {
+		String rootTypeName = Types.getActualType(rootProperty.getType()).getName();
+		Set<String> violatedPropertyPaths = violatedPropertyPaths(rootCause);
+		if (violatedPropertyPaths.isEmpty()) {
+			tooManyFilterMissesByPropertyPath.computeIfAbsent(rootTypeName, it -> new LongAdder()).increment();
+			return;
+		}
+
+		for (String violatedPropertyPath : violatedPropertyPaths) {
+			tooManyFilterMissesByPropertyPath.computeIfAbsent(
+				rootTypeName + "." + violatedPropertyPath,
+				it -> new LongAdder()
+			).increment();
+		}
+	}
+
+	public Histogram getPhaseHistogram(GenerationPhase phase) {
+		return phaseHistograms.get(phase);
+	}
+
+	public Histogram getNodeCountHistogram() {
+		return nodeCountHistogram;
+	}
+
+	public long getCacheHitCount(GenerationCacheType cacheType) {
+		return cacheHits.get(cacheType).sum();
+	}
+
+	public long getCacheMissCount(GenerationCacheType cacheType) {
+		return cacheMisses.get(cacheType).sum();
+	}
+
+	public Map<String, Long> getFilterMissesByPath() {
+		return snapshot(filterMissesByPath);
+	}
+
+	/**
+	 * Returns the counts by the root type and the property path violated by the last sampled value,
+	 * or by the root type if no property is violated such as a post-condition is not satisfied.
+	 */
+	public Map<String, Long> getTooManyFilterMissesByPropertyPath() {
+		return snapshot(tooManyFilterMissesByPropertyPath);
+	}
+
+	public void reset() {
+		phaseHistograms.values().forEach(Histogram::reset);
+		nodeCountHistogram.reset();
+		cacheHits.values().forEach(LongAdder::reset);
+		cacheMisses.values().forEach(LongAdder::reset);
+		filterMissesByPath.clear();
+		tooManyFilterMissesByPropertyPath.clear();
+	}
+
+	/**
+	 * Returns a human readable report of what is collected so far.
+	 */
+	public String dump() {
+		StringBuilder builder = new StringBuilder();
+		builder.append(String.format(
+			"%-12s %10s %12s %12s %12s %12s%n", "phase", "count", "mean(us)", "p50(us)", "p99(us)", "max(us)"
+		));
+		for (Entry<GenerationPhase, Histogram> entry : phaseHistograms.entrySet()) {
+			Histogram histogram = entry.getValue();
+			builder.append(String.format(
+				"%-12s %10d %12.1f %12.1f %12.1f %12.1f%n",
+				entry.getKey(),
+				histogram.getCount(),
+				toMicros(histogram.getMean()),
+				toMicros(histogram.getPercentile(0.5d)),
+				toMicros(histogram.getPercentile(0.99d)),
+				toMicros(histogram.getMax())
+			));
+		}
+
+		builder.append(String.format(
+			"%nnodes per tree: count %d, mean %.1f, p99 %d, max %d%n",
+			nodeCountHistogram.getCount(),
+			nodeCountHistogram.getMean(),
+			nodeCountHistogram.getPercentile(0.99d),
+			nodeCountHistogram.getMax()
+		));
+
+		for (GenerationCacheType cacheType : GenerationCacheType.values()) {
+			builder.append(String.format(
+				"cache %s: hits %d, misses %d%n",
+				cacheType,
+				getCacheHitCount(cacheType),
+				getCacheMissCount(cacheType)
+			));
+		}
+
+		appendCounts(builder, "filter misses by property path", getFilterMissesByPath());
+		appendCounts(
+			builder,
+			"too many filter misses by violated property path",
+			getTooManyFilterMissesByPropertyPath()
+		);
+		return builder.toString();
+	}
+
+	private static void appendCounts(StringBuilder builder, String title, Map<String, Long> counts) {
+		if (counts.isEmpty()) {
+			return;
+		}
+
+		builder.append(String.format("%n%s%n", title));
+		counts.forEach((key, count) -> builder.append(String.format("  %s: %d%n", key, count)));
+	}
+
+	private static Set<String> violatedPropertyPaths(@Nullable Throwable rootCause) {
+		Set<String> violatedPropertyPaths = new TreeSet<>();
+		if (rootCause instanceof ConstraintViolationException) {
+			Set<ConstraintViolation<?>> violations =
+				((ConstraintViolationException)rootCause).getConstraintViolations();
+			if (violations != null) {
+				for (ConstraintViolation<?> violation : violations) {
+					violatedPropertyPaths.add(String.valueOf(violation.getPropertyPath()));
+				}
+			}
+		}
+		return violatedPropertyPaths;
+	}
+
+	private static Map<String, Long> snapshot(Map<String, LongAdder> counters) {
+		Map<String, Long> snapshot = new TreeMap<>();
+		counters.forEach((key, counter) -> snapshot.put(key, counter.sum()));
+		return Collections.unmodifiableMap(snapshot);
+	}
+
+	private static double toMicros(double nanos) {
+		return nanos / TimeUnit.MICROSECONDS.toNanos(1);
+	}
+
+	/**
+	 * A lock-free histogram of non-negative values in power of two buckets.
+	 */
+	public static final class Histogram {
+		private static final int BUCKET_COUNT = Long.SIZE + 1;
+
+		private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+		private final LongAdder count = new LongAdder();
+		private final LongAdder sum = new LongAdder();
+		private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+		private Histogram() {
+		}
+
+		void record(long value) {
+			long recorded = Math.max(0L, value);
+			buckets.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(recorded));
+			count.increment();
+			sum.add(recorded);
+			max.accumulate(recorded);
+		}
+
+		public long getCount() {
+			return count.sum();
+		}
+
+		public double getMean() {
+			long count = getCount();
+			return count == 0L ? 0.0d : (double)sum.sum() / count;
+		}
+
+		public long getMax() {
+			return max.get();
+		}
+
+		/**
+		 * Returns the upper bound of the bucket which has the value at given {@code percentile}.
+		 *
+		 * @param percentile between 0 and 1
+		 */
+		public long getPercentile(double percentile) {
+			long count = getCount();
+			if (count == 0L) {
+				return 0L;
+			}
+
+			long rank = Math.max(1L, (long)Math.ceil(count * percentile));
+			long accumulated = 0L;
+			for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+				accumulated += buckets.get(bucket);
+				if (accumulated >= rank) {
+					return Math.min(upperBound(bucket), getMax());
+				}
+			}
+			return getMax();
+		}
+
+		private void reset() {
+			for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+				buckets.set(bucket, 0L);
+			}
+			count.reset();
+			sum.reset();
+			max.reset();
+		}
+
+		private static long upperBound(int bucket) {
+			return bucket == Long.SIZE ? Long.MAX_VALUE : (1L << bucket) - 1;
+		}
+	}
+}
@@ -18,9 +18,13 @@
 
 package com.navercorp.fixturemonkey.resolver;
 
+/**
+ * Applies the manipulator to at most {@code count} nodes in a resolution.
+ * The number of applied nodes is kept in {@link ResolutionContext}, it is stateless.
+ */
 public final class ApplyNodeCountManipulator implements NodeManipulator {
 	private final NodeManipulator nodeManipulator;
-	private int count;
+	private final int count;
 
 	public ApplyNodeCountManipulator(NodeManipulator nodeManipulator, int count) {
 		this.nodeManipulator = nodeManipulator;
@@ -28,10 +32,22 @@ public final class ApplyNodeCountManipulator implements NodeManipulator {
 	}
 
 	@Override
-	public void manipulate(ArbitraryNode arbitraryNode) {
-		if (count > 0) {
-			count--;
-			nodeManipulator.manipulate(arbitraryNode);
+	public void manipulate(ArbitraryNode arbitraryNode, ResolutionContext resolutionContext) {
+		if (resolutionContext.tryApply(this, count)) {
+			nodeManipulator.manipulate(arbitraryNode, resolutionContext);
 		}
 	}
+
+	NodeManipulator getNodeManipulator() {
+		return nodeManipulator;
+	}
+
+	int getCount() {
+		return count;
+	}
+
+	@Override
+	public boolean isDeterministic() {
+		return nodeManipulator.isDeterministic();
+	}
 }
@@ -19,6 +19,7 @@
 package com.navercorp.fixturemonkey.resolver;
 
 import java.util.List;
+import java.util.Objects;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
@@ -45,4 +46,25 @@ public final class ApplyStrictModeResolver implements NodeResolver {
 	public List<NextNodePredicate> toNextNodePredicate() {
 		return nodeResolver.toNextNodePredicate();
 	}
+
+	NodeResolver getNodeResolver() {
+		return nodeResolver;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		ApplyStrictModeResolver that = (ApplyStrictModeResolver)obj;
+		return nodeResolver.equals(that.nodeResolver);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(nodeResolver);
+	}
 }
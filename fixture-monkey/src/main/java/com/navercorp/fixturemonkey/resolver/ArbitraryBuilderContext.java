@@ -22,7 +22,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
@@ -33,7 +32,7 @@ import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public final class ArbitraryBuilderContext {
-	private final List<ArbitraryManipulator> manipulators;
+	private ManipulatorChain manipulators;
 	@SuppressWarnings("rawtypes")
 	private final List<MatcherOperator<? extends FixtureCustomizer>> customizers;
 	private final List<ContainerInfoManipulator> containerInfoManipulators;
@@ -46,6 +45,16 @@ public final class ArbitraryBuilderContext {
 		List<MatcherOperator<? extends FixtureCustomizer>> customizers,
 		List<ContainerInfoManipulator> containerInfoManipulators,
 		boolean validOnly
+	) {
+		this(ManipulatorChain.of(manipulators), customizers, containerInfoManipulators, validOnly);
+	}
+
+	@SuppressWarnings("rawtypes")
+	private ArbitraryBuilderContext(
+		ManipulatorChain manipulators,
+		List<MatcherOperator<? extends FixtureCustomizer>> customizers,
+		List<ContainerInfoManipulator> containerInfoManipulators,
+		boolean validOnly
 	) {
 		this.manipulators = manipulators;
 		this.customizers = customizers;
@@ -54,36 +63,32 @@ public final class ArbitraryBuilderContext {
 	}
 
 	public ArbitraryBuilderContext() {
-		this(new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), true);
+		this(ManipulatorChain.empty(), new ArrayList<>(), new ArrayList<>(), true);
 	}
 
 	public ArbitraryBuilderContext copy() {
-		List<ContainerInfoManipulator> copiedContainerInfoManipulators = this.containerInfoManipulators.stream()
-			.map(it -> new ContainerInfoManipulator(
-					it.getNodeResolver(),
-					it.getContainerInfo()
-				)
-			)
-			.collect(Collectors.toList());
-
 		return new ArbitraryBuilderContext(
-			new ArrayList<>(this.manipulators),
+			this.manipulators, // shared, appending to a chain does not change it
 			new ArrayList<>(this.customizers),
-			copiedContainerInfoManipulators,
+			new ArrayList<>(this.containerInfoManipulators),
 			this.validOnly
 		);
 	}
 
 	public void addManipulator(ArbitraryManipulator arbitraryManipulator) {
-		this.manipulators.add(arbitraryManipulator);
+		this.manipulators = this.manipulators.append(arbitraryManipulator);
 	}
 
 	public void addManipulators(Collection<ArbitraryManipulator> arbitraryManipulators) {
-		this.manipulators.addAll(arbitraryManipulators);
+		this.manipulators = this.manipulators.appendAll(arbitraryManipulators);
 	}
 
 	public List<ArbitraryManipulator> getManipulators() {
-		return Collections.unmodifiableList(manipulators);
+		return manipulators.getManipulators();
+	}
+
+	public ManipulatorChain getManipulatorChain() {
+		return manipulators;
 	}
 
 	@SuppressWarnings("rawtypes")
@@ -104,6 +109,10 @@ public final class ArbitraryBuilderContext {
 		this.containerInfoManipulators.addAll(containerInfoManipulators);
 	}
 
+	public void fixContainerInfoManipulators() {
+		this.containerInfoManipulators.replaceAll(ContainerInfoManipulator::fixed);
+	}
+
 	public List<ContainerInfoManipulator> getContainerInfoManipulators() {
 		return Collections.unmodifiableList(containerInfoManipulators);
 	}
@@ -39,7 +39,19 @@ public final class ArbitraryManipulator {
 	public void manipulate(ArbitraryTree tree) {
 		List<ArbitraryNode> nodes = nodeResolver.resolve(tree.findRoot());
 		for (ArbitraryNode node : nodes) {
-			nodeManipulator.manipulate(node);
+			nodeManipulator.manipulate(node, tree.getResolutionContext());
 		}
 	}
+
+	NodeResolver getNodeResolver() {
+		return nodeResolver;
+	}
+
+	NodeManipulator getNodeManipulator() {
+		return nodeManipulator;
+	}
+
+	boolean isDeterministic() {
+		return nodeManipulator.isDeterministic();
+	}
 }
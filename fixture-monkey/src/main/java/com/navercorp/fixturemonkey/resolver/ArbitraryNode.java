@@ -19,7 +19,10 @@
 package com.navercorp.fixturemonkey.resolver;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
@@ -38,6 +41,21 @@ final class ArbitraryNode {
 
 	private List<ArbitraryNode> children;
 
+	/**
+	 * The subtree shared by the elements which are not materialized, null if every child has its own node.
+	 */
+	@Nullable
+	private ArbitraryNode elementTemplate;
+
+	@Nullable
+	private List<ArbitraryProperty> elementArbitraryProperties;
+
+	@Nullable
+	private Map<Integer, ArbitraryNode> materializedElements;
+
+	@Nullable
+	private Map<String, List<ArbitraryNode>> childrenByResolvedPropertyName;
+
 	@Nullable
 	private Arbitrary<?> arbitrary;
 
@@ -54,12 +72,35 @@ final class ArbitraryNode {
 		this.children = children;
 	}
 
+	/**
+	 * Creates a container node of which elements share {@code elementTemplate}.
+	 * An element gets its own copy of the template only when it is resolved by its sequence,
+	 * or when all the children are required by {@link #getChildren()}.
+	 *
+	 * @param elementArbitraryProperties the properties of the elements in order of their sequences
+	 */
+	ArbitraryNode(
+		ArbitraryProperty arbitraryProperty,
+		ArbitraryNode elementTemplate,
+		List<ArbitraryProperty> elementArbitraryProperties
+	) {
+		this.arbitraryProperty = arbitraryProperty;
+		this.children = Collections.emptyList();
+		this.elementTemplate = elementTemplate;
+		this.elementArbitraryProperties = elementArbitraryProperties;
+		this.materializedElements = new HashMap<>();
+	}
+
 	public void setArbitraryProperty(ArbitraryProperty arbitraryProperty) {
 		this.arbitraryProperty = arbitraryProperty;
 	}
 
 	public void setChildren(List<ArbitraryNode> children) {
 		this.children = children;
+		this.childrenByResolvedPropertyName = null;
+		this.elementTemplate = null;
+		this.elementArbitraryProperties = null;
+		this.materializedElements = null;
 	}
 
 	public ArbitraryProperty getArbitraryProperty() {
@@ -70,10 +111,105 @@ final class ArbitraryNode {
 		return this.getArbitraryProperty().getObjectProperty().getProperty();
 	}
 
+	/**
+	 * Returns the children, the elements sharing a template are materialized by the first call.
+	 */
 	public List<ArbitraryNode> getChildren() {
+		if (this.elementTemplate != null) {
+			List<ArbitraryNode> elements = new ArrayList<>(this.elementArbitraryProperties.size());
+			for (int sequence = 0; sequence < this.elementArbitraryProperties.size(); sequence++) {
+				elements.add(findElement(sequence));
+			}
+			setChildren(elements);
+		}
 		return this.children;
 	}
 
+	int getChildSize() {
+		return this.elementTemplate != null ? this.elementArbitraryProperties.size() : this.children.size();
+	}
+
+	/**
+	 * Returns the node of the element of {@code sequence}, only the element is materialized from its template.
+	 */
+	ArbitraryNode findElement(int sequence) {
+		if (this.elementTemplate == null) {
+			return this.children.get(sequence);
+		}
+
+		return this.materializedElements.computeIfAbsent(sequence, it -> {
+			ArbitraryNode element = this.elementTemplate.copy();
+			element.arbitraryProperty = this.elementArbitraryProperties.get(it);
+			return element;
+		});
+	}
+
+	/**
+	 * Returns the property of the child of {@code sequence} without materializing it.
+	 */
+	ArbitraryProperty getChildArbitraryProperty(int sequence) {
+		if (this.elementTemplate == null) {
+			return this.children.get(sequence).getArbitraryProperty();
+		}
+
+		ArbitraryNode element = this.materializedElements.get(sequence);
+		return element != null ? element.getArbitraryProperty() : this.elementArbitraryProperties.get(sequence);
+	}
+
+	/**
+	 * Returns the node generating the child of {@code sequence} without materializing it,
+	 * the element template generates the elements which are not materialized.
+	 */
+	ArbitraryNode getGeneratingChild(int sequence) {
+		if (this.elementTemplate == null) {
+			return this.children.get(sequence);
+		}
+		return this.materializedElements.getOrDefault(sequence, this.elementTemplate);
+	}
+
+	/**
+	 * Returns the allocated child nodes, the element template and the materialized elements if it has a template.
+	 */
+	List<ArbitraryNode> getAllocatedChildren() {
+		if (this.elementTemplate == null) {
+			return this.children;
+		}
+
+		List<ArbitraryNode> allocatedChildren = new ArrayList<>(this.materializedElements.size() + 1);
+		allocatedChildren.add(this.elementTemplate);
+		allocatedChildren.addAll(this.materializedElements.values());
+		return allocatedChildren;
+	}
+
+	@Nullable
+	ArbitraryNode getElementTemplate() {
+		return this.elementTemplate;
+	}
+
+	@Nullable
+	List<ArbitraryProperty> getElementArbitraryProperties() {
+		return this.elementArbitraryProperties;
+	}
+
+	/**
+	 * Returns the children of which resolved property name is {@code resolvedPropertyName} in order.
+	 * The children are indexed by the first call after they are set, the returned list should not be modified.
+	 */
+	List<ArbitraryNode> findChildrenByResolvedPropertyName(String resolvedPropertyName) {
+		Map<String, List<ArbitraryNode>> childrenByResolvedPropertyName = this.childrenByResolvedPropertyName;
+		if (childrenByResolvedPropertyName == null) {
+			childrenByResolvedPropertyName = new HashMap<>();
+			for (ArbitraryNode child : this.getChildren()) {
+				childrenByResolvedPropertyName.computeIfAbsent(
+					child.getArbitraryProperty().getObjectProperty().getResolvedPropertyName(),
+					it -> new ArrayList<>(1)
+				).add(child);
+			}
+			this.childrenByResolvedPropertyName = childrenByResolvedPropertyName;
+		}
+		return childrenByResolvedPropertyName.getOrDefault(resolvedPropertyName, Collections.emptyList());
+	}
+
 	@Nullable
 	public Arbitrary<?> getArbitrary() {
 		return this.arbitrary;
@@ -100,4 +236,32 @@ final class ArbitraryNode {
 	public void setManipulated(boolean manipulated) {
 		this.manipulated = manipulated;
 	}
+
+	/**
+	 * Copies the subtree, an arbitrary set to a node is shared by the copy.
+	 */
+	ArbitraryNode copy() {
+		ArbitraryNode copied;
+		if (this.elementTemplate != null) {
+			copied = new ArbitraryNode(
+				this.arbitraryProperty,
+				this.elementTemplate.copy(),
+				this.elementArbitraryProperties
+			);
+			for (Map.Entry<Integer, ArbitraryNode> element : this.materializedElements.entrySet()) {
+				copied.materializedElements.put(element.getKey(), element.getValue().copy());
+			}
+		} else {
+			List<ArbitraryNode> copiedChildren = new ArrayList<>(this.children.size());
+			for (ArbitraryNode child : this.children) {
+				copiedChildren.add(child.copy());
+			}
+			copied = new ArbitraryNode(this.arbitraryProperty, copiedChildren);
+		}
+
+		copied.arbitrary = this.arbitrary;
+		copied.manipulated = this.manipulated;
+		copied.arbitraryFilters.addAll(this.arbitraryFilters);
+		return copied;
+	}
 }
@@ -34,10 +34,15 @@ import net.jqwik.api.Arbitrary;
 import com.navercorp.fixturemonkey.ArbitraryBuilder;
 import com.navercorp.fixturemonkey.api.customizer.FixtureCustomizer;
 import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary;
+import com.navercorp.fixturemonkey.api.lazy.LazyArbitraryScope;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
 import com.navercorp.fixturemonkey.api.option.GenerateOptions;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.property.RootProperty;
+import com.navercorp.fixturemonkey.api.type.LazyAnnotatedType;
+import com.navercorp.fixturemonkey.listener.GenerationCacheType;
+import com.navercorp.fixturemonkey.listener.GenerationListener;
+import com.navercorp.fixturemonkey.listener.GenerationPhase;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public final class ArbitraryResolver {
@@ -69,45 +74,200 @@ public final class ArbitraryResolver {
 		List<MatcherOperator<? extends FixtureCustomizer>> customizers,
 		List<ContainerInfoManipulator> containerInfoManipulators
 	) {
-		ArbitraryTree arbitraryTree = new ArbitraryTree(
-			this.traverser.traverse(rootProperty, containerInfoManipulators),
-			generateOptions,
-			monkeyContext,
-			customizers
-		);
+		return resolve(rootProperty, ManipulatorChain.of(manipulators), customizers, containerInfoManipulators);
+	}
 
-		containerInfoManipulators.stream()
-			.flatMap(it -> it.getNodeResolver().resolve(arbitraryTree.findRoot()).stream())
-			.forEach(it -> it.setManipulated(true));
+	/**
+	 * Resolves an arbitrary manipulated by {@code manipulatorChain}.
+	 * A chain of deterministic manipulators on a tree of the same shape keeps its manipulated tree,
+	 * the chains derived from it only replay the manipulators appended to it.
+	 */
+	@SuppressWarnings("rawtypes")
+	public Arbitrary<?> resolve(
+		RootProperty rootProperty,
+		ManipulatorChain manipulatorChain,
+		List<MatcherOperator<? extends FixtureCustomizer>> customizers,
+		List<ContainerInfoManipulator> containerInfoManipulators
+	) {
+		return resolve(rootProperty, manipulatorChain, customizers, containerInfoManipulators, false);
+	}
 
-		List<ArbitraryManipulator> registeredManipulators = getRegisteredToManipulators(
-			manipulateOptions,
-			arbitraryTree.getMetadata()
+	/**
+	 * Resolves an arbitrary manipulated by {@code manipulatorChain}.
+	 * If {@code sampling} and direct sampling is enabled, the arbitrary instantiates the objects of the tree directly
+	 * and generates unshrinkable values, it should only be sampled.
+	 * The scoped lazies, such as the root of a mapped builder, are bound to this resolution.
+	 */
+	@SuppressWarnings("rawtypes")
+	public Arbitrary<?> resolve(
+		RootProperty rootProperty,
+		ManipulatorChain manipulatorChain,
+		List<MatcherOperator<? extends FixtureCustomizer>> customizers,
+		List<ContainerInfoManipulator> containerInfoManipulators,
+		boolean sampling
+	) {
+		return LazyArbitraryScope.run(
+			() -> resolveInScope(rootProperty, manipulatorChain, customizers, containerInfoManipulators, sampling)
 		);
+	}
+
+	@SuppressWarnings("rawtypes")
+	private Arbitrary<?> resolveInScope(
+		RootProperty rootProperty,
+		ManipulatorChain manipulatorChain,
+		List<MatcherOperator<? extends FixtureCustomizer>> customizers,
+		List<ContainerInfoManipulator> containerInfoManipulators,
+		boolean sampling
+	) {
+		GenerationListener listener = monkeyContext.getGenerationListener();
+		boolean listening = listener != GenerationListener.NONE;
+		long startNanos = listening ? System.nanoTime() : 0L;
+
+		ArbitraryTreeTemplate.Key key = null;
+		ArbitraryTreeTemplate treeTemplate = null;
+		// the type of a lazy root is decided by each sample
+		if (!(rootProperty.getAnnotatedType() instanceof LazyAnnotatedType)) {
+			key = new ArbitraryTreeTemplate.Key(rootProperty, containerInfoManipulators);
+			treeTemplate = getTreeTemplate(key, rootProperty, containerInfoManipulators);
+		}
+
+		boolean reusable = treeTemplate != null && treeTemplate.isDeterministic() && !manipulatorChain.isEmpty();
+		ManipulatorChain resolvedPrefix = null;
+		if (reusable) {
+			resolvedPrefix = manipulatorChain.findResolvedPrefix(monkeyContext, key);
+			listener.onCacheAccessed(GenerationCacheType.MANIPULATED_TREE, resolvedPrefix != null);
+		}
+
+		ArbitraryTree arbitraryTree;
+		List<ArbitraryManipulator> manipulators;
+		if (resolvedPrefix == null) {
+			ArbitraryNode rootNode = treeTemplate != null
+				? treeTemplate.instantiate()
+				: this.traverser.traverse(rootProperty, containerInfoManipulators);
+			arbitraryTree = new ArbitraryTree(
+				rootNode,
+				generateOptions,
+				monkeyContext,
+				customizers
+			);
+
+			containerInfoManipulators.stream()
+				.flatMap(it -> it.getNodeResolver().resolve(arbitraryTree.findRoot()).stream())
+				.forEach(it -> it.setManipulated(true));
+
+			List<ArbitraryManipulator> registeredManipulators = getRegisteredToManipulators(
+				manipulateOptions,
+				arbitraryTree
+			);
+			// the manipulators of registered builders are lazy
+			reusable = reusable && registeredManipulators.isEmpty();
 
-		List<ArbitraryManipulator> joinedManipulators =
-			Stream.concat(registeredManipulators.stream(), manipulators.stream())
+			manipulators = Stream.concat(registeredManipulators.stream(), manipulatorChain.getManipulators().stream())
 				.collect(Collectors.toList());
+		} else {
+			ManipulatedTree manipulatedTree = resolvedPrefix.getManipulatedTree();
+			// generating does not change nodes, the tree is shared if there is nothing to manipulate more
+			ArbitraryNode rootNode = resolvedPrefix == manipulatorChain
+				? manipulatedTree.getRootNode()
+				: manipulatedTree.copyRootNode();
+			arbitraryTree = new ArbitraryTree(
+				rootNode,
+				generateOptions,
+				monkeyContext,
+				customizers,
+				manipulatedTree.copyResolutionContext()
+			);
+			manipulators = manipulatorChain.getManipulatorsAfter(resolvedPrefix);
+		}
+
+		if (listening) {
+			startNanos = completePhase(GenerationPhase.TRAVERSE, rootProperty, startNanos);
+			listener.onTreeTraversed(rootProperty, countNodes(arbitraryTree.findRoot()));
+		}
 
 		List<ArbitraryManipulator> optimizedManipulator = manipulatorOptimizer
-			.optimize(joinedManipulators)
+			.optimize(manipulators, containerInfoManipulators)
 			.getManipulators();
 
 		for (ArbitraryManipulator manipulator : optimizedManipulator) {
 			manipulator.manipulate(arbitraryTree);
 		}
 
-		return arbitraryTree.generate();
+		if (reusable && resolvedPrefix != manipulatorChain && manipulatorChain.isDeterministic()) {
+			manipulatorChain.setManipulatedTreeIfAbsent(
+				new ManipulatedTree(
+					monkeyContext,
+					key,
+					arbitraryTree.findRoot(),
+					arbitraryTree.getResolutionContext()
+				)
+			);
+		}
+
+		if (listening) {
+			startNanos = completePhase(GenerationPhase.MANIPULATE, rootProperty, startNanos);
+		}
+
+		Arbitrary<?> arbitrary = sampling && monkeyContext.isDirectSampling()
+			? arbitraryTree.generateSampling()
+			: arbitraryTree.generate();
+
+		if (listening) {
+			completePhase(GenerationPhase.GENERATE, rootProperty, startNanos);
+		}
+		return arbitrary;
+	}
+
+	public GenerationListener getGenerationListener() {
+		return monkeyContext.getGenerationListener();
+	}
+
+	private ArbitraryTreeTemplate getTreeTemplate(
+		ArbitraryTreeTemplate.Key key,
+		RootProperty rootProperty,
+		List<ContainerInfoManipulator> containerInfoManipulators
+	) {
+		ArbitraryTreeTemplate treeTemplate = monkeyContext.getCachedTreeTemplate(key);
+		monkeyContext.getGenerationListener()
+			.onCacheAccessed(GenerationCacheType.TREE_TEMPLATE, treeTemplate != null);
+		if (treeTemplate == null) {
+			treeTemplate = this.traverser.compile(rootProperty, containerInfoManipulators);
+			monkeyContext.putCachedTreeTemplate(key, treeTemplate);
+		}
+		return treeTemplate;
+	}
+
+	/**
+	 * Returns the time the phase is completed.
+	 */
+	private long completePhase(GenerationPhase phase, RootProperty rootProperty, long startNanos) {
+		long completedNanos = System.nanoTime();
+		monkeyContext.getGenerationListener().onPhaseCompleted(phase, rootProperty, completedNanos - startNanos);
+		return completedNanos;
+	}
+
+	private static int countNodes(ArbitraryNode arbitraryNode) {
+		int count = 1;
+		// the elements sharing a template are counted once
+		for (ArbitraryNode child : arbitraryNode.getAllocatedChildren()) {
+			count += countNodes(child);
+		}
+		return count;
 	}
 
 	private List<ArbitraryManipulator> getRegisteredToManipulators(
 		ManipulateOptions manipulateOptions,
-		ArbitraryTreeMetadata metadata
+		ArbitraryTree arbitraryTree
 	) {
-		List<ArbitraryManipulator> manipulators = new ArrayList<>();
-		Map<Property, List<ArbitraryNode>> nodesByType = metadata.getNodesByProperty();
 		List<MatcherOperator<? extends ArbitraryBuilder<?>>> registeredArbitraryBuilders =
 			manipulateOptions.getRegisteredArbitraryBuilders();
+		// collecting metadata materializes the elements sharing a template
+		if (registeredArbitraryBuilders.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<ArbitraryManipulator> manipulators = new ArrayList<>();
+		Map<Property, List<ArbitraryNode>> nodesByType = arbitraryTree.getMetadata().getNodesByProperty();
 
 		for (Entry<Property, List<ArbitraryNode>> nodeByType : nodesByType.entrySet()) {
 			Property property = nodeByType.getKey();
@@ -146,10 +306,7 @@ public final class ArbitraryResolver {
 							return Collections.emptyList(); // Do not need node predicate since it is SetLazyManipulator
 						}
 					},
-					arbitraryNode -> {
-						nodeManipulator.manipulate(arbitraryNode);
-						lazyArbitrary.clear();
-					}
+					nodeManipulator
 				)
 			);
 		}
@@ -19,7 +19,15 @@
 package com.navercorp.fixturemonkey.resolver;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
@@ -34,11 +42,15 @@ import com.navercorp.fixturemonkey.api.generator.ObjectPropertyGenerator;
 import com.navercorp.fixturemonkey.api.generator.ObjectPropertyGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.SingleValueObjectPropertyGenerator;
 import com.navercorp.fixturemonkey.api.option.GenerateOptions;
+import com.navercorp.fixturemonkey.api.property.ElementProperty;
 import com.navercorp.fixturemonkey.api.property.MapEntryElementProperty;
 import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.random.Randoms;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public final class ArbitraryTraverser {
+	private static final int ELEMENT_TEMPLATE_MIN_SIZE = 2;
+
 	private final GenerateOptions generateOptions;
 
 	public ArbitraryTraverser(GenerateOptions generateOptions) {
@@ -48,6 +60,97 @@ public final class ArbitraryTraverser {
 	public ArbitraryNode traverse(
 		Property property,
 		List<ContainerInfoManipulator> containerInfoManipulators
+	) {
+		return this.traverse(
+			property,
+			new TraverseContext(
+				new ArrayList<>(),
+				containerInfoManipulators
+			)
+		);
+	}
+
+	ArbitraryTreeTemplate compile(
+		Property property,
+		List<ContainerInfoManipulator> containerInfoManipulators
+	) {
+		// the elements of resizable containers are traversed while instantiating, possibly concurrently
+		Set<ContainerProperty> resizableContainerProperties =
+			Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+		Map<ContainerProperty, LazyContainerElements> lazyContainerElements =
+			Collections.synchronizedMap(new IdentityHashMap<>());
+		Map<ArbitraryNode, Supplier<ArbitraryNode>> randomSubtrees = new ConcurrentHashMap<>();
+		TraverseContext context = new TraverseContext(
+			new ArrayList<>(),
+			containerInfoManipulators,
+			resizableContainerProperties,
+			lazyContainerElements,
+			randomSubtrees
+		);
+
+		// compiling should not consume the random of the caller, the random choices are made by each instance
+		RecordingRandom random = new RecordingRandom(Randoms.newRandom());
+		ArbitraryProperty rootArbitraryProperty = Randoms.withRandom(
+			random,
+			() -> generateArbitraryProperty(property, context)
+		);
+		ArbitraryNode rootNode;
+		if (random.isDrawn()) {
+			rootNode = new ArbitraryNode(rootArbitraryProperty, new ArrayList<>());
+			randomSubtrees.put(rootNode, () -> this.traverse(property, containerInfoManipulators));
+		} else {
+			rootNode = Randoms.withRandom(Randoms.newRandom(), () -> this.traverse(rootArbitraryProperty, context));
+		}
+		return new ArbitraryTreeTemplate(rootNode, resizableContainerProperties, lazyContainerElements, randomSubtrees);
+	}
+
+	/**
+	 * Generates the property of the element at {@code sequence} of a resizable container in a template.
+	 */
+	ArbitraryProperty compileElementArbitraryProperty(
+		ArbitraryProperty containerArbitraryProperty,
+		int sequence,
+		TraverseContext context
+	) {
+		Property elementProperty = containerArbitraryProperty.getContainerProperty()
+			.getElementProperties()
+			.get(sequence);
+		return Randoms.withRandom(
+			Randoms.newRandom(),
+			() -> generateChildArbitraryProperty(elementProperty, sequence, containerArbitraryProperty, context)
+		);
+	}
+
+	/**
+	 * Traverses the element at {@code sequence} of a resizable container in a template.
+	 * The element is traversed while instantiating,
+	 * it draws from {@code random} not to consume the random of the caller.
+	 */
+	ArbitraryNode compileElement(
+		ArbitraryProperty containerArbitraryProperty,
+		int sequence,
+		TraverseContext context,
+		RecordingRandom random
+	) {
+		Property elementProperty = containerArbitraryProperty.getContainerProperty()
+			.getElementProperties()
+			.get(sequence);
+		return Randoms.withRandom(
+			random,
+			() -> traverseChild(elementProperty, sequence, containerArbitraryProperty, context)
+		);
+	}
+
+	private ArbitraryNode traverse(
+		Property property,
+		TraverseContext context
+	) {
+		return this.traverse(generateArbitraryProperty(property, context), context);
+	}
+
+	private ArbitraryProperty generateArbitraryProperty(
+		Property property,
+		TraverseContext context
 	) {
 		ContainerPropertyGenerator containerPropertyGenerator =
 			this.generateOptions.getContainerPropertyGenerator(property);
@@ -72,33 +175,28 @@ public final class ArbitraryTraverser {
 
 		ContainerProperty containerProperty = null;
 		if (container) {
-			ArbitraryContainerInfo containerInfo = containerInfoManipulators.stream()
+			ArbitraryContainerInfo containerInfo = context.getContainerInfoManipulators().stream()
 				.filter(it -> it.getNodeResolver().equals(IdentityNodeResolver.INSTANCE))
 				.findFirst()
 				.map(ContainerInfoManipulator::getContainerInfo)
 				.orElse(null);
 
-			containerProperty = containerPropertyGenerator.generate(
+			containerProperty = generateContainerProperty(
+				containerPropertyGenerator,
 				new ContainerPropertyGeneratorContext(
 					property,
 					null,
 					containerInfo,
 					generateOptions
-				)
+				),
+				context
 			);
 		}
 
-		ArbitraryProperty arbitraryProperty = new ArbitraryProperty(
+		return new ArbitraryProperty(
 			objectProperty,
 			containerProperty
 		);
-		return this.traverse(
-			arbitraryProperty,
-			new TraverseContext(
-				new ArrayList<>(),
-				containerInfoManipulators
-			)
-		);
 	}
 
 	private ArbitraryNode traverse(
@@ -111,6 +209,21 @@ public final class ArbitraryTraverser {
 		List<ArbitraryNode> children;
 		if (containerProperty != null) {
 			List<Property> elementProperties = containerProperty.getElementProperties();
+			if (context.isResizable(containerProperty)) {
+				LazyContainerElements lazyContainerElements = new LazyContainerElements(
+					this,
+					arbitraryProperty,
+					context,
+					isElementTemplateCandidate(elementProperties)
+				);
+				context.putLazyContainerElements(containerProperty, lazyContainerElements);
+				return new ArbitraryNode(arbitraryProperty, new ArrayList<>());
+			}
+
+			ArbitraryNode containerNode = traverseElements(elementProperties, arbitraryProperty, context);
+			if (containerNode != null) {
+				return containerNode;
+			}
 			children = generateChildrenNodes(elementProperties, arbitraryProperty, context);
 		} else {
 			List<Property> childProperties = objectProperty.getChildProperties();
@@ -129,69 +242,245 @@ public final class ArbitraryTraverser {
 		TraverseContext context
 	) {
 		List<ArbitraryNode> children = new ArrayList<>();
-		List<ContainerInfoManipulator> containerInfoManipulators = context.getContainerInfoManipulators();
-		boolean container = parentArbitraryProperty.getContainerProperty() != null;
-
 		for (int sequence = 0; sequence < properties.size(); sequence++) {
-			Property childProperty = properties.get(sequence);
+			children.add(traverseChild(properties.get(sequence), sequence, parentArbitraryProperty, context));
+		}
+		return children;
+	}
 
-			ContainerPropertyGenerator containerPropertyGenerator =
-				this.generateOptions.getContainerPropertyGenerator(childProperty);
-			boolean childContainer = containerPropertyGenerator != null;
+	/**
+	 * Traverses the child at {@code sequence} of {@code parentArbitraryProperty}.
+	 * In a template, the child of which property is generated by drawing a random, such as a random subtype or
+	 * the size of a container which could not be resized, is traversed again by each instance.
+	 * The template does not freeze the random choice of it.
+	 */
+	private ArbitraryNode traverseChild(
+		Property childProperty,
+		int sequence,
+		ArbitraryProperty parentArbitraryProperty,
+		TraverseContext context
+	) {
+		if (!context.isTemplate()) {
+			ArbitraryProperty childArbitraryProperty =
+				generateChildArbitraryProperty(childProperty, sequence, parentArbitraryProperty, context);
+			return this.traverse(childArbitraryProperty, context.appendArbitraryProperty(childArbitraryProperty));
+		}
 
-			ObjectPropertyGenerator objectPropertyGenerator;
-			if (childContainer) {
-				objectPropertyGenerator = SingleValueObjectPropertyGenerator.INSTANCE;
-			} else {
-				objectPropertyGenerator = this.generateOptions.getObjectPropertyGenerator(childProperty);
-			}
+		RecordingRandom random = new RecordingRandom(Randoms.current());
+		ArbitraryProperty childArbitraryProperty = Randoms.withRandom(
+			random,
+			() -> generateChildArbitraryProperty(childProperty, sequence, parentArbitraryProperty, context)
+		);
+		if (random.isDrawn()) {
+			TraverseContext traversalContext = context.withoutTemplate();
+			ArbitraryNode childNode = new ArbitraryNode(childArbitraryProperty, new ArrayList<>());
+			context.putRandomSubtree(
+				childNode,
+				() -> traverseChild(childProperty, sequence, parentArbitraryProperty, traversalContext)
+			);
+			return childNode;
+		}
+		return this.traverse(childArbitraryProperty, context.appendArbitraryProperty(childArbitraryProperty));
+	}
+
+	/**
+	 * Traverses only the first element if every element would be traversed to the same subtree,
+	 * the elements share it as their template. Returns null if the elements could not share a template.
+	 * The elements of which subtree has a container or a random choice are traversed one by one,
+	 * since each element has its own size and choice.
+	 */
+	@Nullable
+	private ArbitraryNode traverseElements(
+		List<Property> elementProperties,
+		ArbitraryProperty parentArbitraryProperty,
+		TraverseContext context
+	) {
+		if (!isElementTemplateCandidate(elementProperties)) {
+			return null;
+		}
 
-			int index = sequence;
-			if (parentArbitraryProperty.getObjectProperty().getProperty() instanceof MapEntryElementProperty) {
-				index /= 2;
+		RecordingRandom random = new RecordingRandom(Randoms.current());
+		List<ArbitraryProperty> elementArbitraryProperties = new ArrayList<>(elementProperties.size());
+		ArbitraryNode elementTemplate = Randoms.withRandom(random, () -> {
+			for (int sequence = 0; sequence < elementProperties.size(); sequence++) {
+				elementArbitraryProperties.add(
+					generateChildArbitraryProperty(
+						elementProperties.get(sequence),
+						sequence,
+						parentArbitraryProperty,
+						context
+					)
+				);
 			}
 
-			ObjectProperty childObjectProperty = objectPropertyGenerator.generate(
-				new ObjectPropertyGeneratorContext(
+			ArbitraryProperty templateArbitraryProperty = elementArbitraryProperties.get(0);
+			return this.traverse(templateArbitraryProperty, context.appendArbitraryProperty(templateArbitraryProperty));
+		});
+
+		if (random.isDrawn() && context.isTemplate()) {
+			// the random choices of the elements are made by each instance
+			return null;
+		}
+
+		if (!random.isDrawn() && !hasContainer(elementTemplate)) {
+			return new ArbitraryNode(parentArbitraryProperty, elementTemplate, elementArbitraryProperties);
+		}
+
+		List<ArbitraryNode> children = new ArrayList<>(elementArbitraryProperties.size());
+		children.add(elementTemplate);
+		for (int sequence = 1; sequence < elementArbitraryProperties.size(); sequence++) {
+			ArbitraryProperty elementArbitraryProperty = elementArbitraryProperties.get(sequence);
+			children.add(
+				this.traverse(elementArbitraryProperty, context.appendArbitraryProperty(elementArbitraryProperty))
+			);
+		}
+		return new ArbitraryNode(parentArbitraryProperty, children);
+	}
+
+	/**
+	 * Returns true if the elements could share a template, if the subtree of the first element has no container.
+	 */
+	private boolean isElementTemplateCandidate(List<Property> elementProperties) {
+		return elementProperties.size() >= ELEMENT_TEMPLATE_MIN_SIZE
+			&& elementProperties.get(0) instanceof ElementProperty
+			&& this.generateOptions.getContainerPropertyGenerator(elementProperties.get(0)) == null;
+	}
+
+	private ArbitraryProperty generateChildArbitraryProperty(
+		Property childProperty,
+		int sequence,
+		ArbitraryProperty parentArbitraryProperty,
+		TraverseContext context
+	) {
+		boolean container = parentArbitraryProperty.getContainerProperty() != null;
+
+		ContainerPropertyGenerator containerPropertyGenerator =
+			this.generateOptions.getContainerPropertyGenerator(childProperty);
+		boolean childContainer = containerPropertyGenerator != null;
+
+		ObjectPropertyGenerator objectPropertyGenerator;
+		if (childContainer) {
+			objectPropertyGenerator = SingleValueObjectPropertyGenerator.INSTANCE;
+		} else {
+			objectPropertyGenerator = this.generateOptions.getObjectPropertyGenerator(childProperty);
+		}
+
+		int index = sequence;
+		if (parentArbitraryProperty.getObjectProperty().getProperty() instanceof MapEntryElementProperty) {
+			index /= 2;
+		}
+
+		ObjectProperty childObjectProperty = objectPropertyGenerator.generate(
+			new ObjectPropertyGeneratorContext(
+				childProperty,
+				container ? index : null,
+				parentArbitraryProperty,
+				childContainer,
+				this.generateOptions
+			)
+		);
+
+		ContainerProperty childContainerProperty = null;
+		if (childContainer) {
+			ArbitraryContainerInfo containerInfo = null;
+			for (ContainerInfoManipulator containerInfoManipulator : context.getContainerInfoManipulators()) {
+				if (containerInfoManipulator.isMatch(
+					context.getArbitraryProperties(),
+					childObjectProperty
+				)) {
+					containerInfo = containerInfoManipulator.getContainerInfo();
+				}
+			}
+			childContainerProperty = generateContainerProperty(
+				containerPropertyGenerator,
+				new ContainerPropertyGeneratorContext(
 					childProperty,
 					container ? index : null,
-					parentArbitraryProperty,
-					childContainer,
-					this.generateOptions
-				)
+					containerInfo,
+					generateOptions
+				),
+				context
 			);
+		}
 
-			ContainerProperty childContainerProperty = null;
-			if (childContainer) {
-				ArbitraryContainerInfo containerInfo = null;
-				for (ContainerInfoManipulator containerInfoManipulator : containerInfoManipulators) {
-					if (containerInfoManipulator.isMatch(
-						context.getArbitraryProperties(),
-						childObjectProperty
-					)) {
-						containerInfo = containerInfoManipulator.getContainerInfo();
-					}
-				}
-				childContainerProperty = containerPropertyGenerator.generate(
-					new ContainerPropertyGeneratorContext(
-						childProperty,
-						container ? index : null,
-						containerInfo,
-						generateOptions
-					)
-				);
+		return new ArbitraryProperty(
+			childObjectProperty,
+			childContainerProperty
+		);
+	}
+
+	static boolean hasContainer(ArbitraryNode node) {
+		if (node.getArbitraryProperty().getContainerProperty() != null) {
+			return true;
+		}
+
+		for (ArbitraryNode child : node.getChildren()) {
+			if (hasContainer(child)) {
+				return true;
 			}
+		}
+		return false;
+	}
 
-			ArbitraryProperty childArbitraryProperty = new ArbitraryProperty(
-				childObjectProperty,
-				childContainerProperty
-			);
-			ArbitraryNode childNode = this.traverse(
-				childArbitraryProperty,
-				context.appendArbitraryProperty(childArbitraryProperty)
-			);
-			children.add(childNode);
+	private ContainerProperty generateContainerProperty(
+		ContainerPropertyGenerator containerPropertyGenerator,
+		ContainerPropertyGeneratorContext containerPropertyGeneratorContext,
+		TraverseContext context
+	) {
+		if (context.isTemplate()) {
+			ContainerProperty resizableContainerProperty =
+				generateResizableContainerProperty(containerPropertyGenerator, containerPropertyGeneratorContext);
+			if (resizableContainerProperty != null) {
+				context.addResizableContainerProperty(resizableContainerProperty);
+				return resizableContainerProperty;
+			}
 		}
-		return children;
+
+		return containerPropertyGenerator.generate(containerPropertyGeneratorContext);
+	}
+
+	/**
+	 * Returns the container property having the elements of the maximum size, an instance takes a random size of them.
+	 * Returns null if the container has a fixed size or its generator does not size its elements by the container info.
+	 */
+	@Nullable
+	private ContainerProperty generateResizableContainerProperty(
+		ContainerPropertyGenerator containerPropertyGenerator,
+		ContainerPropertyGeneratorContext containerPropertyGeneratorContext
+	) {
+		// the size drawn here is discarded
+		ContainerProperty containerProperty = Randoms.withRandom(
+			Randoms.newRandom(),
+			() -> containerPropertyGenerator.generate(containerPropertyGeneratorContext)
+		);
+		ArbitraryContainerInfo containerInfo = containerProperty.getContainerInfo();
+		int maxSize = containerInfo.getElementMaxSize();
+		if (containerInfo.getElementMinSize() == maxSize) {
+			return null;
+		}
+
+		ArbitraryContainerInfo maxSizeContainerInfo = new ArbitraryContainerInfo(
+			maxSize,
+			maxSize,
+			containerInfo.isManipulated()
+		);
+		ContainerProperty maxSizeContainerProperty = containerPropertyGenerator.generate(
+			new ContainerPropertyGeneratorContext(
+				containerPropertyGeneratorContext.getProperty(),
+				containerPropertyGeneratorContext.getElementIndex(),
+				maxSizeContainerInfo,
+				containerPropertyGeneratorContext.getGenerateOptions()
+			)
+		);
+
+		if (maxSizeContainerProperty.getContainerInfo() != maxSizeContainerInfo
+			|| maxSizeContainerProperty.getElementProperties().size() != maxSize) {
+			return null;
+		}
+
+		return new ContainerProperty(
+			maxSizeContainerProperty.getElementProperties(),
+			containerInfo
+		);
 	}
 }
@@ -20,6 +20,7 @@ package com.navercorp.fixturemonkey.resolver;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
@@ -31,21 +32,31 @@ import org.apiguardian.api.API.Status;
 
 import net.jqwik.api.Arbitraries;
 import net.jqwik.api.Arbitrary;
+import net.jqwik.api.RandomGenerator;
+import net.jqwik.api.Shrinkable;
 
 import com.navercorp.fixturemonkey.api.customizer.FixtureCustomizer;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
+import com.navercorp.fixturemonkey.api.generator.ObjectProperty;
+import com.navercorp.fixturemonkey.api.introspector.ObjectInstantiator;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
 import com.navercorp.fixturemonkey.api.option.GenerateOptions;
+import com.navercorp.fixturemonkey.listener.GenerationCacheType;
+import com.navercorp.fixturemonkey.listener.GenerationListener;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 final class ArbitraryTree {
+	private static final int GENERATION_SIZE = 1000;
+
 	private final ArbitraryNode rootNode;
 	private final GenerateOptions generateOptions;
-	private final ArbitraryTreeMetadata metadata;
+	@Nullable
+	private ArbitraryTreeMetadata metadata;
 	private final MonkeyContext monkeyContext;
 	@SuppressWarnings("rawtypes")
 	private final List<MatcherOperator<? extends FixtureCustomizer>> customizers;
+	private final ResolutionContext resolutionContext;
 
 	@SuppressWarnings("rawtypes")
 	ArbitraryTree(
@@ -53,16 +64,29 @@ final class ArbitraryTree {
 		GenerateOptions generateOptions,
 		MonkeyContext monkeyContext,
 		List<MatcherOperator<? extends FixtureCustomizer>> customizers
+	) {
+		this(rootNode, generateOptions, monkeyContext, customizers, new ResolutionContext());
+	}
+
+	@SuppressWarnings("rawtypes")
+	ArbitraryTree(
+		ArbitraryNode rootNode,
+		GenerateOptions generateOptions,
+		MonkeyContext monkeyContext,
+		List<MatcherOperator<? extends FixtureCustomizer>> customizers,
+		ResolutionContext resolutionContext
 	) {
 		this.rootNode = rootNode;
 		this.generateOptions = generateOptions;
 		this.monkeyContext = monkeyContext;
 		this.customizers = customizers;
-		MetadataCollector metadataCollector = new MetadataCollector(rootNode);
-		this.metadata = metadataCollector.collect();
+		this.resolutionContext = resolutionContext;
 	}
 
 	public ArbitraryTreeMetadata getMetadata() {
+		if (metadata == null) {
+			metadata = new MetadataCollector(rootNode).collect();
+		}
 		return metadata;
 	}
 
@@ -70,11 +94,26 @@ final class ArbitraryTree {
 		return rootNode;
 	}
 
+	ResolutionContext getResolutionContext() {
+		return resolutionContext;
+	}
+
 	Arbitrary<?> generate() {
 		ArbitraryGeneratorContext context = generateContext(rootNode, customizers, null);
 		return generateArbitrary(context, rootNode);
 	}
 
+	/**
+	 * Generates an arbitrary only for sampling, it generates unshrinkable values.
+	 * The nodes which have an {@link ObjectInstantiator} are instantiated from the sampled values of their children,
+	 * the others are sampled from their arbitraries.
+	 */
+	@SuppressWarnings("unchecked")
+	Arbitrary<?> generateSampling() {
+		ArbitraryGeneratorContext context = generateContext(rootNode, customizers, null);
+		return Arbitraries.fromGenerator((RandomGenerator<Object>)generator(context, rootNode));
+	}
+
 	@SuppressWarnings("rawtypes")
 	private ArbitraryGeneratorContext generateContext(
 		ArbitraryNode arbitraryNode,
@@ -83,9 +122,14 @@ final class ArbitraryTree {
 	) {
 		Map<ArbitraryProperty, ArbitraryNode> childNodesByArbitraryProperty = new HashMap<>();
 		List<ArbitraryProperty> childrenProperties = new ArrayList<>();
-		for (ArbitraryNode childNode : arbitraryNode.getChildren()) {
-			childNodesByArbitraryProperty.put(childNode.getArbitraryProperty(), childNode);
-			childrenProperties.add(childNode.getArbitraryProperty());
+		ArbitraryNode elementTemplate = arbitraryNode.getElementTemplate();
+		for (int sequence = 0; sequence < arbitraryNode.getChildSize(); sequence++) {
+			ArbitraryNode childNode = arbitraryNode.getGeneratingChild(sequence);
+			ArbitraryProperty childProperty = arbitraryNode.getChildArbitraryProperty(sequence);
+			if (childNode != elementTemplate) {
+				childNodesByArbitraryProperty.put(childProperty, childNode);
+			}
+			childrenProperties.add(childProperty);
 		}
 		List<MatcherOperator<? extends FixtureCustomizer>> arbitraryCustomizers = new ArrayList<>();
 		arbitraryCustomizers.addAll(generateOptions.getArbitraryCustomizers());
@@ -97,6 +141,10 @@ final class ArbitraryTree {
 			parentContext,
 			(ctx, prop) -> {
 				ArbitraryNode node = childNodesByArbitraryProperty.get(prop);
+				if (node == null && elementTemplate != null) {
+					// the elements which are not materialized are generated by their template
+					node = elementTemplate;
+				}
 				if (node == null) {
 					return Arbitraries.just(null);
 				}
@@ -113,26 +161,28 @@ final class ArbitraryTree {
 		ArbitraryNode node
 	) {
 		ArbitraryProperty prop = node.getArbitraryProperty();
+		FixtureCustomizer customizer = findCustomizer(ctx, node);
 
 		Arbitrary<?> generated;
 		if (node.getArbitrary() != null) {
 			generated = node.getArbitrary() // fixed
 				.injectNull(node.getArbitraryProperty().getObjectProperty().getNullInject());
 		} else {
-			ArbitraryGeneratorContext childArbitraryGeneratorContext = this.generateContext(node, customizers, ctx);
-
 			Arbitrary<?> cached = monkeyContext.getCachedArbitrary(node.getProperty());
 
-			boolean notCustomized = ctx.getArbitraryCustomizers().stream()
-				.noneMatch(it -> it.match(node.getProperty()));
+			boolean cacheable = node.isNotManipulated() && customizer == null;
+			if (cacheable) {
+				monkeyContext.getGenerationListener().onCacheAccessed(GenerationCacheType.ARBITRARY, cached != null);
+			}
 
-			if (node.isNotManipulated() && notCustomized && cached != null) {
+			if (cacheable && cached != null) {
 				generated = cached;
 			} else {
+				ArbitraryGeneratorContext childArbitraryGeneratorContext = this.generateContext(node, customizers, ctx);
 				generated = this.generateOptions.getArbitraryGenerator(prop.getObjectProperty().getProperty())
 					.generate(childArbitraryGeneratorContext);
 
-				if (node.isNotManipulated() && notCustomized) {
+				if (cacheable) {
 					monkeyContext.putCachedArbitrary(
 						node.getProperty(),
 						generated
@@ -142,17 +192,140 @@ final class ArbitraryTree {
 		}
 
 		List<Predicate> arbitraryFilters = node.getArbitraryFilters();
+		GenerationListener listener = monkeyContext.getGenerationListener();
 		for (Predicate predicate : arbitraryFilters) {
-			generated = generated.filter(predicate);
+			if (listener == GenerationListener.NONE) {
+				generated = generated.filter(predicate);
+				continue;
+			}
+
+			String propertyPath = toPropertyPath(ctx, node);
+			generated = generated.filter(value -> {
+				boolean accepted = predicate.test(value);
+				if (!accepted) {
+					listener.onFilterMissed(propertyPath);
+				}
+				return accepted;
+			});
 		}
 
-		return generated.map(
-			object -> ctx.getArbitraryCustomizers().stream()
-				.filter(it -> it.match(node.getProperty()))
-				.map(MatcherOperator::getOperator)
-				.findFirst()
-				.map(it -> it.customizeFixture(object))
-				.orElse(object)
-		);
+		if (customizer == null) {
+			return generated;
+		}
+
+		return generated.map(object -> {
+			Object customized = customizer.customizeFixture(object);
+			return customized != null ? customized : object;
+		});
+	}
+
+	@SuppressWarnings("rawtypes")
+	private RandomGenerator<?> generator(ArbitraryGeneratorContext ctx, ArbitraryNode node) {
+		FixtureCustomizer customizer = findCustomizer(ctx, node);
+		boolean direct = node.getArbitrary() == null && node.getArbitraryFilters().isEmpty() && customizer == null;
+		boolean cacheable = direct && node.isNotManipulated();
+		if (cacheable) {
+			RandomGenerator<?> cached = monkeyContext.getCachedGenerator(node.getProperty());
+			monkeyContext.getGenerationListener().onCacheAccessed(GenerationCacheType.GENERATOR, cached != null);
+			if (cached != null) {
+				return cached;
+			}
+		}
+
+		RandomGenerator<?> generator = null;
+		// leaves, fixed, filtered or customized nodes are sampled from their arbitraries
+		if (direct && node.getChildSize() != 0) {
+			ArbitraryGeneratorContext nodeContext = this.generateContext(node, customizers, ctx);
+			ObjectInstantiator instantiator = this.generateOptions.getArbitraryGenerator(node.getProperty())
+				.instantiator(nodeContext);
+			if (instantiator != null) {
+				generator = instantiatingGenerator(nodeContext, node, instantiator);
+			}
+		}
+
+		if (generator == null) {
+			generator = generateArbitrary(ctx, node).generator(GENERATION_SIZE);
+		}
+
+		if (cacheable) {
+			monkeyContext.putCachedGenerator(node.getProperty(), generator);
+		}
+		return generator;
+	}
+
+	private RandomGenerator<?> instantiatingGenerator(
+		ArbitraryGeneratorContext nodeContext,
+		ArbitraryNode node,
+		ObjectInstantiator instantiator
+	) {
+		int childSize = node.getChildSize();
+		ArbitraryProperty[] childProperties = new ArbitraryProperty[childSize];
+		RandomGenerator<?>[] childGenerators = new RandomGenerator<?>[childSize];
+		ArbitraryNode elementTemplate = node.getElementTemplate();
+		RandomGenerator<?> elementTemplateGenerator = null;
+		for (int i = 0; i < childSize; i++) {
+			ArbitraryNode child = node.getGeneratingChild(i);
+			childProperties[i] = node.getChildArbitraryProperty(i);
+			if (child != elementTemplate) {
+				childGenerators[i] = generator(nodeContext, child);
+				continue;
+			}
+
+			// the elements which are not materialized loop over the generator of their template
+			if (elementTemplateGenerator == null) {
+				elementTemplateGenerator = generator(nodeContext, elementTemplate);
+			}
+			childGenerators[i] = elementTemplateGenerator;
+		}
+
+		double nullInject = node.getArbitraryProperty().getObjectProperty().getNullInject();
+		return random -> {
+			if (nullInject > 0 && random.nextDouble() < nullInject) {
+				return Shrinkable.unshrinkable(null);
+			}
+
+			Map<ArbitraryProperty, Object> childValues = new HashMap<>();
+			for (int i = 0; i < childProperties.length; i++) {
+				childValues.put(childProperties[i], childGenerators[i].next(random).value());
+			}
+			return Shrinkable.unshrinkable(instantiator.instantiate(childValues));
+		};
+	}
+
+	@SuppressWarnings("rawtypes")
+	@Nullable
+	private static FixtureCustomizer findCustomizer(ArbitraryGeneratorContext ctx, ArbitraryNode node) {
+		return ctx.getArbitraryCustomizers().stream()
+			.filter(it -> it.match(node.getProperty()))
+			.map(MatcherOperator::getOperator)
+			.findFirst()
+			.orElse(null);
+	}
+
+	private static String toPropertyPath(ArbitraryGeneratorContext ownerContext, ArbitraryNode node) {
+		LinkedList<ObjectProperty> objectProperties = new LinkedList<>();
+		objectProperties.add(node.getArbitraryProperty().getObjectProperty());
+		for (
+			ArbitraryGeneratorContext context = ownerContext;
+			context != null;
+			context = context.getOwnerContext()
+		) {
+			ObjectProperty objectProperty = context.getArbitraryProperty().getObjectProperty();
+			if (objectProperties.getFirst() != objectProperty) { // the root is the owner of itself
+				objectProperties.addFirst(objectProperty);
+			}
+		}
+
+		StringBuilder propertyPath = new StringBuilder();
+		for (ObjectProperty objectProperty : objectProperties) {
+			if (objectProperty.isRoot()) {
+				propertyPath.append("$");
+			} else if (objectProperty.getElementIndex() != null) {
+				propertyPath.append("[").append(objectProperty.getElementIndex()).append("]");
+			} else {
+				propertyPath.append(".").append(objectProperty.getResolvedPropertyName());
+			}
+		}
+		return propertyPath.toString();
 	}
 }
@@ -0,0 +1,141 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.resolver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
+import com.navercorp.fixturemonkey.api.generator.ContainerProperty;
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.type.Types;
+
+/**
+ * A traversed tree compiled once and instantiated per sample.
+ * The template is never manipulated, each sample manipulates its own copy of nodes.
+ * The elements of a resizable container are traversed lazily up to the largest size instantiated so far,
+ * an instance takes a random size of them.
+ * A subtree of which property is generated by a random choice, such as a random subtype, is traversed by each instance.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+final class ArbitraryTreeTemplate {
+	private final ArbitraryNode rootNode;
+	private final Set<ContainerProperty> resizableContainerProperties;
+	private final Map<ContainerProperty, LazyContainerElements> lazyContainerElements;
+	private final Map<ArbitraryNode, Supplier<ArbitraryNode>> randomSubtrees;
+
+	ArbitraryTreeTemplate(
+		ArbitraryNode rootNode,
+		Set<ContainerProperty> resizableContainerProperties,
+		Map<ContainerProperty, LazyContainerElements> lazyContainerElements,
+		Map<ArbitraryNode, Supplier<ArbitraryNode>> randomSubtrees
+	) {
+		this.rootNode = rootNode;
+		this.resizableContainerProperties = resizableContainerProperties;
+		this.lazyContainerElements = lazyContainerElements;
+		this.randomSubtrees = randomSubtrees;
+	}
+
+	ArbitraryNode instantiate() {
+		return instantiate(rootNode);
+	}
+
+	/**
+	 * Returns true if every instance has the same shape,
+	 * none of its containers is resized and none of its subtrees is traversed by instantiating.
+	 */
+	boolean isDeterministic() {
+		return resizableContainerProperties.isEmpty() && randomSubtrees.isEmpty();
+	}
+
+	private ArbitraryNode instantiate(ArbitraryNode templateNode) {
+		Supplier<ArbitraryNode> randomSubtree = randomSubtrees.get(templateNode);
+		if (randomSubtree != null) {
+			return randomSubtree.get();
+		}
+
+		ArbitraryProperty arbitraryProperty = templateNode.getArbitraryProperty();
+		ContainerProperty containerProperty = arbitraryProperty.getContainerProperty();
+		LazyContainerElements elements = containerProperty != null
+			? lazyContainerElements.get(containerProperty)
+			: null;
+		if (elements != null) {
+			int size = containerProperty.getContainerInfo().getRandomSize();
+			return elements.instantiate(
+				arbitraryProperty.withElementProperties(containerProperty.getElementProperties().subList(0, size)),
+				size,
+				this::instantiate
+			);
+		}
+
+		// the elements sharing a template are never materialized in the template
+		ArbitraryNode elementTemplate = templateNode.getElementTemplate();
+		if (elementTemplate != null) {
+			return new ArbitraryNode(
+				arbitraryProperty,
+				instantiate(elementTemplate),
+				templateNode.getElementArbitraryProperties()
+			);
+		}
+
+		List<ArbitraryNode> templateChildren = templateNode.getChildren();
+		List<ArbitraryNode> children = new ArrayList<>(templateChildren.size());
+		for (ArbitraryNode templateChild : templateChildren) {
+			children.add(instantiate(templateChild));
+		}
+		return new ArbitraryNode(arbitraryProperty, children);
+	}
+
+	static final class Key {
+		private final List<Object> rootTypeKey;
+		private final List<ContainerInfoManipulator> containerInfoManipulators;
+
+		Key(Property rootProperty, List<ContainerInfoManipulator> containerInfoManipulators) {
+			// the type arguments and their annotations decide the tree, not only the actual type
+			this.rootTypeKey = Types.toCanonicalKey(rootProperty.getAnnotatedType(), true);
+			// a builder keeps adding manipulators to its list, the key holds the snapshot of it.
+			this.containerInfoManipulators = new ArrayList<>(containerInfoManipulators);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			Key that = (Key)obj;
+			return rootTypeKey.equals(that.rootTypeKey)
+				&& containerInfoManipulators.equals(that.containerInfoManipulators);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(rootTypeKey, containerInfoManipulators);
+		}
+	}
+}
@@ -29,9 +29,19 @@ public final class CompositeNodeManipulator implements NodeManipulator {
 	}
 
 	@Override
-	public void manipulate(ArbitraryNode arbitraryNode) {
+	public void manipulate(ArbitraryNode arbitraryNode, ResolutionContext resolutionContext) {
 		for (NodeManipulator manipulator : manipulators) {
-			manipulator.manipulate(arbitraryNode);
+			manipulator.manipulate(arbitraryNode, resolutionContext);
 		}
 	}
+
+	@Override
+	public boolean isDeterministic() {
+		for (NodeManipulator manipulator : manipulators) {
+			if (!manipulator.isDeterministic()) {
+				return false;
+			}
+		}
+		return true;
+	}
 }
@@ -20,6 +20,8 @@ package com.navercorp.fixturemonkey.resolver;
 
 import static com.navercorp.fixturemonkey.Constants.NO_OR_ALL_INDEX_INTEGER_VALUE;
 
+import java.util.Objects;
+
 import javax.annotation.Nullable;
 
 import org.apiguardian.api.API;
@@ -53,4 +55,25 @@ public final class ContainerElementPredicate implements NextNodePredicate {
 		ElementProperty elementProperty = (ElementProperty)property;
 		return sequence == NO_OR_ALL_INDEX_INTEGER_VALUE || sequence == elementProperty.getSequence();
 	}
+
+	int getSequence() {
+		return sequence;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		ContainerElementPredicate that = (ContainerElementPredicate)obj;
+		return sequence == that.sequence;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(sequence);
+	}
 }
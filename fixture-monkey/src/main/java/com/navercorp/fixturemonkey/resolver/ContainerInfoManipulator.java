@@ -19,6 +19,7 @@
 package com.navercorp.fixturemonkey.resolver;
 
 import java.util.List;
+import java.util.Objects;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
@@ -30,7 +31,7 @@ import com.navercorp.fixturemonkey.api.generator.ObjectProperty;
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public final class ContainerInfoManipulator {
 	private final NodeResolver nodeResolver;
-	private ArbitraryContainerInfo containerInfo;
+	private final ArbitraryContainerInfo containerInfo;
 
 	public ContainerInfoManipulator(NodeResolver nodeResolver, ArbitraryContainerInfo containerInfo) {
 		this.nodeResolver = nodeResolver;
@@ -45,13 +46,23 @@ public final class ContainerInfoManipulator {
 		return containerInfo;
 	}
 
-	public void fixed() {
+	public ContainerInfoManipulator copy() {
+		return new ContainerInfoManipulator(nodeResolver, containerInfo);
+	}
+
+	/**
+	 * Returns a manipulator of which container size is fixed to a random size of this.
+	 */
+	public ContainerInfoManipulator fixed() {
 		int fixedSize = this.containerInfo.getRandomSize();
 
-		this.containerInfo = new ArbitraryContainerInfo(
-			fixedSize,
-			fixedSize,
-			true
+		return new ContainerInfoManipulator(
+			nodeResolver,
+			new ArbitraryContainerInfo(
+				fixedSize,
+				fixedSize,
+				true
+			)
 		);
 	}
 
@@ -91,4 +102,22 @@ public final class ContainerInfoManipulator {
 			null
 		);
 	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		ContainerInfoManipulator that = (ContainerInfoManipulator)obj;
+		return nodeResolver.equals(that.nodeResolver)
+			&& containerInfo.equals(that.containerInfo);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(nodeResolver, containerInfo);
+	}
 }
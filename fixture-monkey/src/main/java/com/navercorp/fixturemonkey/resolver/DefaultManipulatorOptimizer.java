@@ -0,0 +1,441 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.fixturemonkey.resolver;
+
+import static com.navercorp.fixturemonkey.Constants.ALL_INDEX_STRING;
+import static com.navercorp.fixturemonkey.Constants.MAX_MANIPULATION_COUNT;
+import static com.navercorp.fixturemonkey.Constants.NO_OR_ALL_INDEX_INTEGER_VALUE;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Removes manipulators which do not change the result and fuses the filters applied to the same nodes.
+ * <p>
+ * Manipulators are grouped by the path of their {@link NodeResolver}.
+ * A manipulator is removed if a later value-set is applied to all of its nodes or their ancestors
+ * and no manipulator in between resolves the nodes.
+ * A value-set of {@link IdentityNodeResolver} removes all the manipulators before it in the same way.
+ * Filters are never removed since the set value is still filtered.
+ * Consecutive filters of the same {@link NodeResolver} are fused into one filter.
+ * <p>
+ * A removed manipulator is not applied and its lazy value is not evaluated,
+ * a removed value-set is replaced by a manipulator validating the type of its value on the same nodes.
+ * The manipulators of unknown {@link NodeResolver} or {@link NodeManipulator} are kept as they are.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class DefaultManipulatorOptimizer implements ManipulatorOptimizer {
+	@Override
+	public OptimizedManipulatorResult optimize(List<ArbitraryManipulator> manipulators) {
+		return new OptimizedManipulatorResult(fuseFilters(manipulators));
+	}
+
+	/**
+	 * A value-set does not overwrite the elements of a container which size is manipulated,
+	 * value-sets on them do not remove manipulators.
+	 */
+	@Override
+	public OptimizedManipulatorResult optimize(
+		List<ArbitraryManipulator> manipulators,
+		List<ContainerInfoManipulator> containerInfoManipulators
+	) {
+		if (manipulators.size() <= 1) {
+			return new OptimizedManipulatorResult(manipulators);
+		}
+
+		List<Path> containerInfoPaths = new ArrayList<>();
+		for (ContainerInfoManipulator containerInfoManipulator : containerInfoManipulators) {
+			containerInfoPaths.add(Path.from(containerInfoManipulator.getNodeResolver()));
+		}
+
+		return new OptimizedManipulatorResult(fuseFilters(removeShadowed(manipulators, containerInfoPaths)));
+	}
+
+	private static List<ArbitraryManipulator> removeShadowed(
+		List<ArbitraryManipulator> manipulators,
+		List<Path> containerInfoPaths
+	) {
+		// the survived manipulators after the current one, the nearest is the last
+		List<Entry> laterEntries = new ArrayList<>();
+		List<Entry> broadEntries = new ArrayList<>();
+		Map<String, List<Entry>> entriesByFirstName = new HashMap<>();
+		// the validators of the removed value-sets, they do not change the nodes
+		List<Entry> validatorEntries = new ArrayList<>();
+
+		for (int i = manipulators.size() - 1; i >= 0; i--) {
+			Entry entry = new Entry(i, manipulators.get(i), containerInfoPaths);
+			String firstName = entry.path.getFirstName();
+
+			if (entry.removable) {
+				// the manipulators starting with another property name are not related
+				List<Entry> candidates = firstName == null ? laterEntries : broadEntries;
+				List<Entry> sameFirstNameEntries = firstName == null
+					? Collections.emptyList()
+					: entriesByFirstName.getOrDefault(firstName, Collections.emptyList());
+				if (isShadowed(entry, candidates, sameFirstNameEntries)) {
+					ArbitraryManipulator typeValidator = entry.toTypeValidator();
+					if (typeValidator != null) {
+						validatorEntries.add(new Entry(i, typeValidator, containerInfoPaths));
+					}
+					continue;
+				}
+			}
+
+			laterEntries.add(entry);
+			if (firstName == null) {
+				broadEntries.add(entry);
+			} else {
+				entriesByFirstName.computeIfAbsent(firstName, it -> new ArrayList<>()).add(entry);
+			}
+		}
+
+		if (laterEntries.size() == manipulators.size()) {
+			return manipulators;
+		}
+
+		List<ArbitraryManipulator> optimized = new ArrayList<>(laterEntries.size() + validatorEntries.size());
+		int index = laterEntries.size() - 1;
+		int validatorIndex = validatorEntries.size() - 1;
+		while (index >= 0 || validatorIndex >= 0) {
+			if (validatorIndex < 0
+				|| (index >= 0 && laterEntries.get(index).index < validatorEntries.get(validatorIndex).index)) {
+				optimized.add(laterEntries.get(index--).manipulator);
+			} else {
+				optimized.add(validatorEntries.get(validatorIndex--).manipulator);
+			}
+		}
+		return optimized;
+	}
+
+	/**
+	 * Checks the survived manipulators after {@code entry} in both lists from the nearest one.
+	 * The manipulators in neither of them do not resolve the nodes of {@code entry}.
+	 */
+	private static boolean isShadowed(Entry entry, List<Entry> laterEntries, List<Entry> otherLaterEntries) {
+		int index = laterEntries.size() - 1;
+		int otherIndex = otherLaterEntries.size() - 1;
+		while (index >= 0 || otherIndex >= 0) {
+			Entry later;
+			if (otherIndex < 0
+				|| (index >= 0 && laterEntries.get(index).index < otherLaterEntries.get(otherIndex).index)) {
+				later = laterEntries.get(index--);
+			} else {
+				later = otherLaterEntries.get(otherIndex--);
+			}
+
+			if (later.overwrites(entry.path)) {
+				return true;
+			}
+			if (later.path.mayResolveUnder(entry.path)) {
+				return false;
+			}
+		}
+		return false;
+	}
+
+	private static List<ArbitraryManipulator> fuseFilters(List<ArbitraryManipulator> manipulators) {
+		List<ArbitraryManipulator> fused = null;
+		ArbitraryManipulator previous = null;
+		for (int i = 0; i < manipulators.size(); i++) {
+			ArbitraryManipulator current = manipulators.get(i);
+			ArbitraryManipulator fusedFilter = previous == null ? null : fuseFilter(previous, current);
+			if (fusedFilter == null) {
+				if (fused != null) {
+					fused.add(current);
+				}
+				previous = current;
+				continue;
+			}
+
+			if (fused == null) {
+				fused = new ArrayList<>(manipulators.subList(0, i - 1));
+			} else {
+				fused.remove(fused.size() - 1);
+			}
+			fused.add(fusedFilter);
+			previous = fusedFilter;
+		}
+		return fused == null ? manipulators : fused;
+	}
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	@Nullable
+	private static ArbitraryManipulator fuseFilter(ArbitraryManipulator previous, ArbitraryManipulator current) {
+		if (!previous.getNodeResolver().equals(current.getNodeResolver())) {
+			return null;
+		}
+
+		NodeManipulator previousManipulator = previous.getNodeManipulator();
+		NodeManipulator currentManipulator = current.getNodeManipulator();
+		int count = MAX_MANIPULATION_COUNT;
+		if (previousManipulator instanceof ApplyNodeCountManipulator
+			&& currentManipulator instanceof ApplyNodeCountManipulator) {
+			count = ((ApplyNodeCountManipulator)previousManipulator).getCount();
+			if (count != ((ApplyNodeCountManipulator)currentManipulator).getCount()) {
+				return null;
+			}
+			previousManipulator = ((ApplyNodeCountManipulator)previousManipulator).getNodeManipulator();
+			currentManipulator = ((ApplyNodeCountManipulator)currentManipulator).getNodeManipulator();
+		} else if (previousManipulator instanceof ApplyNodeCountManipulator
+			|| currentManipulator instanceof ApplyNodeCountManipulator) {
+			return null;
+		}
+
+		if (!(previousManipulator instanceof NodeFilterManipulator)
+			|| !(currentManipulator instanceof NodeFilterManipulator)) {
+			return null;
+		}
+
+		NodeFilterManipulator previousFilter = (NodeFilterManipulator)previousManipulator;
+		NodeFilterManipulator currentFilter = (NodeFilterManipulator)currentManipulator;
+		if (!previousFilter.getType().equals(currentFilter.getType())) {
+			return null;
+		}
+
+		Predicate fusedPredicate = previousFilter.getFilter().and(currentFilter.getFilter());
+		NodeManipulator fusedManipulator = new NodeFilterManipulator(previousFilter.getType(), fusedPredicate);
+		if (previous.getNodeManipulator() instanceof ApplyNodeCountManipulator) {
+			fusedManipulator = new ApplyNodeCountManipulator(fusedManipulator, count);
+		}
+		return new ArbitraryManipulator(previous.getNodeResolver(), fusedManipulator);
+	}
+
+	private static final class Entry {
+		private final int index;
+		private final ArbitraryManipulator manipulator;
+		private final Path path;
+		private final boolean removable;
+		private final boolean overwriting;
+
+		private Entry(int index, ArbitraryManipulator manipulator, List<Path> containerInfoPaths) {
+			this.index = index;
+			this.manipulator = manipulator;
+			this.path = Path.from(manipulator.getNodeResolver());
+
+			NodeManipulator nodeManipulator = manipulator.getNodeManipulator();
+			boolean unlimited = true;
+			if (nodeManipulator instanceof ApplyNodeCountManipulator) {
+				ApplyNodeCountManipulator applyNodeCountManipulator = (ApplyNodeCountManipulator)nodeManipulator;
+				unlimited = applyNodeCountManipulator.getCount() == MAX_MANIPULATION_COUNT;
+				nodeManipulator = applyNodeCountManipulator.getNodeManipulator();
+			}
+
+			// a strict resolver throws if nothing is resolved
+			this.removable = path.known
+				&& !path.strict
+				&& (nodeManipulator instanceof NodeSetDecomposedValueManipulator
+				|| nodeManipulator instanceof NodeSetLazyManipulator
+				|| nodeManipulator instanceof NodeNullityManipulator);
+			this.overwriting = path.known
+				&& unlimited
+				&& nodeManipulator instanceof NodeSetDecomposedValueManipulator
+				&& ((NodeSetDecomposedValueManipulator<?>)nodeManipulator).getValue() != null
+				&& containerInfoPaths.stream().noneMatch(it -> it.mayResolveUnder(path));
+		}
+
+		/**
+		 * Returns the manipulator validating the type of the value set by this on the same nodes.
+		 * It keeps the validation of the value-set even if this is removed.
+		 */
+		@Nullable
+		private ArbitraryManipulator toTypeValidator() {
+			NodeManipulator nodeManipulator = manipulator.getNodeManipulator();
+			Integer count = null;
+			if (nodeManipulator instanceof ApplyNodeCountManipulator) {
+				count = ((ApplyNodeCountManipulator)nodeManipulator).getCount();
+				nodeManipulator = ((ApplyNodeCountManipulator)nodeManipulator).getNodeManipulator();
+			}
+
+			if (!(nodeManipulator instanceof NodeSetDecomposedValueManipulator)
+				|| ((NodeSetDecomposedValueManipulator<?>)nodeManipulator).getValue() == null) {
+				return null;
+			}
+
+			NodeManipulator typeValidator = ((NodeSetDecomposedValueManipulator<?>)nodeManipulator).toTypeValidator();
+			if (count != null) {
+				typeValidator = new ApplyNodeCountManipulator(typeValidator, count);
+			}
+			return new ArbitraryManipulator(manipulator.getNodeResolver(), typeValidator);
+		}
+
+		/**
+		 * Returns whether this is applied to all the nodes resolved by {@code path} or their ancestors,
+		 * overwriting all the manipulations of them.
+		 */
+		private boolean overwrites(Path path) {
+			return overwriting && this.path.covers(path);
+		}
+	}
+
+	/**
+	 * The predicates of the nodes from the root to the resolved nodes.
+	 */
+	private static final class Path {
+		private static final Path UNKNOWN = new Path(Collections.emptyList(), false, false);
+
+		private final List<NextNodePredicate> predicates;
+		private final boolean known;
+		private final boolean strict;
+
+		private Path(List<NextNodePredicate> predicates, boolean known, boolean strict) {
+			this.predicates = predicates;
+			this.known = known;
+			this.strict = strict;
+		}
+
+		private static Path from(NodeResolver nodeResolver) {
+			boolean strict = false;
+			if (nodeResolver instanceof ApplyStrictModeResolver) {
+				strict = true;
+				nodeResolver = ((ApplyStrictModeResolver)nodeResolver).getNodeResolver();
+			}
+
+			List<NextNodePredicate> predicates = new ArrayList<>();
+			if (!collectPredicates(nodeResolver, predicates)) {
+				return UNKNOWN;
+			}
+			return new Path(predicates, true, strict);
+		}
+
+		private static boolean collectPredicates(NodeResolver nodeResolver, List<NextNodePredicate> predicates) {
+			if (nodeResolver == IdentityNodeResolver.INSTANCE) {
+				return true;
+			}
+
+			// a subclass may resolve other nodes
+			if (nodeResolver.getClass() == DefaultNodeResolver.class) {
+				predicates.addAll(nodeResolver.toNextNodePredicate());
+				return true;
+			}
+
+			if (nodeResolver instanceof CompositeNodeResolver) {
+				for (NodeResolver child : ((CompositeNodeResolver)nodeResolver).flatten()) {
+					if (!collectPredicates(child, predicates)) {
+						return false;
+					}
+				}
+				return true;
+			}
+			return false;
+		}
+
+		/**
+		 * Returns the property name of the first node if it is resolved by its name.
+		 */
+		@Nullable
+		private String getFirstName() {
+			if (!known || predicates.isEmpty()) {
+				return null;
+			}
+
+			String propertyName = getPropertyName(predicates.get(0));
+			return ALL_INDEX_STRING.equals(propertyName) ? null : propertyName;
+		}
+
+		/**
+		 * Returns whether each node resolved by {@code path} is resolved by this or is a descendant of them.
+		 */
+		private boolean covers(Path path) {
+			if (!known || !path.known || predicates.size() > path.predicates.size()) {
+				return false;
+			}
+
+			for (int i = 0; i < predicates.size(); i++) {
+				if (!covers(predicates.get(i), path.predicates.get(i))) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Returns whether this may resolve the nodes resolved by {@code path} or their descendants.
+		 */
+		private boolean mayResolveUnder(Path path) {
+			if (!known || !path.known) {
+				return true;
+			}
+
+			if (predicates.size() < path.predicates.size()) {
+				return false;
+			}
+
+			for (int i = 0; i < path.predicates.size(); i++) {
+				if (isDisjoint(predicates.get(i), path.predicates.get(i))) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private static boolean covers(NextNodePredicate predicate, NextNodePredicate other) {
+			if (predicate.equals(other) || ALL_INDEX_STRING.equals(getPropertyName(predicate))) {
+				return true;
+			}
+
+			Integer sequence = getSequence(predicate);
+			return sequence != null
+				&& sequence == NO_OR_ALL_INDEX_INTEGER_VALUE
+				&& other instanceof ContainerElementPredicate;
+		}
+
+		private static boolean isDisjoint(NextNodePredicate predicate, NextNodePredicate other) {
+			String propertyName = getPropertyName(predicate);
+			String otherPropertyName = getPropertyName(other);
+			if (propertyName != null && otherPropertyName != null) {
+				return !ALL_INDEX_STRING.equals(propertyName)
+					&& !ALL_INDEX_STRING.equals(otherPropertyName)
+					&& !propertyName.equals(otherPropertyName);
+			}
+
+			Integer sequence = getSequence(predicate);
+			Integer otherSequence = getSequence(other);
+			if (sequence != null && otherSequence != null) {
+				return sequence != NO_OR_ALL_INDEX_INTEGER_VALUE
+					&& otherSequence != NO_OR_ALL_INDEX_INTEGER_VALUE
+					&& !sequence.equals(otherSequence);
+			}
+			return false;
+		}
+
+		@Nullable
+		private static String getPropertyName(NextNodePredicate predicate) {
+			return predicate instanceof PropertyNameNodePredicate
+				? ((PropertyNameNodePredicate)predicate).getPropertyName()
+				: null;
+		}
+
+		@Nullable
+		private static Integer getSequence(NextNodePredicate predicate) {
+			return predicate instanceof ContainerElementPredicate
+				? ((ContainerElementPredicate)predicate).getSequence()
+				: null;
+		}
+	}
+}
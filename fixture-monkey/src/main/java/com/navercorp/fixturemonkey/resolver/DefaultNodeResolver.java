@@ -17,6 +17,8 @@
  */
 package com.navercorp.fixturemonkey.resolver;
 
+import static com.navercorp.fixturemonkey.Constants.ALL_INDEX_STRING;
+import static com.navercorp.fixturemonkey.Constants.NO_OR_ALL_INDEX_INTEGER_VALUE;
 import static com.navercorp.fixturemonkey.api.generator.DefaultNullInjectGenerator.NOT_NULL_INJECT;
 
 import java.util.Collections;
@@ -27,6 +29,9 @@ import java.util.stream.Collectors;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
+import com.navercorp.fixturemonkey.api.property.ElementProperty;
+import com.navercorp.fixturemonkey.api.property.Property;
+
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public class DefaultNodeResolver implements NodeResolver {
 	private final NextNodePredicate nextNodePredicate;
@@ -37,13 +42,7 @@ public class DefaultNodeResolver implements NodeResolver {
 
 	@Override
 	public List<ArbitraryNode> resolve(ArbitraryNode arbitraryNode) {
-		List<ArbitraryNode> resolved = arbitraryNode.getChildren().stream()
-			.filter(it -> nextNodePredicate.test(
-				arbitraryNode.getArbitraryProperty(),
-				it.getArbitraryProperty().getObjectProperty(),
-				it.getArbitraryProperty().getContainerProperty()
-			))
-			.collect(Collectors.toList());
+		List<ArbitraryNode> resolved = findNextNodes(arbitraryNode);
 
 		arbitraryNode.setManipulated(true);
 		arbitraryNode.setArbitraryProperty(arbitraryNode.getArbitraryProperty().withNullInject(NOT_NULL_INJECT));
@@ -55,6 +54,36 @@ public class DefaultNodeResolver implements NodeResolver {
 		return resolved;
 	}
 
+	/**
+	 * A property name or an element index finds the next nodes without testing all the children.
+	 */
+	private List<ArbitraryNode> findNextNodes(ArbitraryNode arbitraryNode) {
+		if (nextNodePredicate instanceof PropertyNameNodePredicate) {
+			String propertyName = ((PropertyNameNodePredicate)nextNodePredicate).getPropertyName();
+			if (!ALL_INDEX_STRING.equals(propertyName)) {
+				return arbitraryNode.findChildrenByResolvedPropertyName(propertyName);
+			}
+		} else if (nextNodePredicate instanceof ContainerElementPredicate) {
+			int sequence = ((ContainerElementPredicate)nextNodePredicate).getSequence();
+			if (sequence != NO_OR_ALL_INDEX_INTEGER_VALUE && sequence >= 0 && sequence < arbitraryNode.getChildSize()) {
+				// the elements are ordered by their sequences, only the element is materialized from its template
+				ArbitraryNode child = arbitraryNode.findElement(sequence);
+				Property property = child.getProperty();
+				if (property instanceof ElementProperty && ((ElementProperty)property).getSequence() == sequence) {
+					return Collections.singletonList(child);
+				}
+			}
+		}
+
+		return arbitraryNode.getChildren().stream()
+			.filter(it -> nextNodePredicate.test(
+				arbitraryNode.getArbitraryProperty(),
+				it.getArbitraryProperty().getObjectProperty(),
+				it.getArbitraryProperty().getContainerProperty()
+			))
+			.collect(Collectors.toList());
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (this == obj) {
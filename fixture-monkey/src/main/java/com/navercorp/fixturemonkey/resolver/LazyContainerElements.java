@@ -0,0 +1,115 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.resolver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
+import com.navercorp.fixturemonkey.api.random.Randoms;
+
+/**
+ * The elements of a resizable container in an {@link ArbitraryTreeTemplate}.
+ * The container property has the elements of its maximum size, but they are traversed only
+ * up to the largest size instantiated so far. Instances of the template may be created concurrently.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+final class LazyContainerElements {
+	private final ArbitraryTraverser traverser;
+	private final ArbitraryProperty containerArbitraryProperty;
+	private final TraverseContext context;
+	private final boolean elementTemplateCandidate;
+
+	private final List<ArbitraryProperty> elementArbitraryProperties = new ArrayList<>();
+	private final List<ArbitraryNode> elementNodes = new ArrayList<>();
+	@Nullable
+	private ArbitraryNode elementTemplate;
+
+	LazyContainerElements(
+		ArbitraryTraverser traverser,
+		ArbitraryProperty containerArbitraryProperty,
+		TraverseContext context,
+		boolean elementTemplateCandidate
+	) {
+		this.traverser = traverser;
+		this.containerArbitraryProperty = containerArbitraryProperty;
+		this.context = context;
+		this.elementTemplateCandidate = elementTemplateCandidate;
+	}
+
+	/**
+	 * Instantiates the container node of {@code size} elements,
+	 * {@code instantiator} instantiates the traversed nodes of the elements.
+	 */
+	ArbitraryNode instantiate(
+		ArbitraryProperty arbitraryProperty,
+		int size,
+		UnaryOperator<ArbitraryNode> instantiator
+	) {
+		ArbitraryNode template;
+		List<ArbitraryProperty> arbitraryProperties;
+		List<ArbitraryNode> nodes;
+		synchronized (this) {
+			traverse(size);
+			template = elementTemplate;
+			arbitraryProperties = new ArrayList<>(elementArbitraryProperties.subList(0, size));
+			nodes = template == null ? new ArrayList<>(elementNodes.subList(0, size)) : null;
+		}
+
+		if (template != null) {
+			return new ArbitraryNode(arbitraryProperty, instantiator.apply(template), arbitraryProperties);
+		}
+
+		List<ArbitraryNode> children = new ArrayList<>(size);
+		for (ArbitraryNode node : nodes) {
+			children.add(instantiator.apply(node));
+		}
+		return new ArbitraryNode(arbitraryProperty, children);
+	}
+
+	private void traverse(int size) {
+		for (int sequence = elementArbitraryProperties.size(); sequence < size; sequence++) {
+			if (elementTemplate != null) {
+				// the elements are generated by the same generators, they do not draw a random as the first one
+				elementArbitraryProperties.add(
+					traverser.compileElementArbitraryProperty(containerArbitraryProperty, sequence, context)
+				);
+				continue;
+			}
+
+			RecordingRandom random = new RecordingRandom(Randoms.newRandom());
+			ArbitraryNode elementNode = traverser.compileElement(containerArbitraryProperty, sequence, context, random);
+			elementArbitraryProperties.add(elementNode.getArbitraryProperty());
+			if (sequence == 0
+				&& elementTemplateCandidate
+				&& !random.isDrawn()
+				&& !ArbitraryTraverser.hasContainer(elementNode)) {
+				elementTemplate = elementNode;
+			} else {
+				elementNodes.add(elementNode);
+			}
+		}
+	}
+}
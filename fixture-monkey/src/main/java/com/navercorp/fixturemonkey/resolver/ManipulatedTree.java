@@ -0,0 +1,68 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.resolver;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * A tree manipulated by a deterministic {@link ManipulatorChain}, cached by the chain.
+ * It is never manipulated again, a resolution manipulating more copies it.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+final class ManipulatedTree {
+	private final MonkeyContext monkeyContext;
+	private final ArbitraryTreeTemplate.Key key;
+	private final ArbitraryNode rootNode;
+	private final ResolutionContext resolutionContext;
+
+	ManipulatedTree(
+		MonkeyContext monkeyContext,
+		ArbitraryTreeTemplate.Key key,
+		ArbitraryNode rootNode,
+		ResolutionContext resolutionContext
+	) {
+		this.monkeyContext = monkeyContext;
+		this.key = key;
+		this.rootNode = rootNode;
+		this.resolutionContext = resolutionContext;
+	}
+
+	/**
+	 * Returns true if it is manipulated on the tree of {@code key} traversed by {@code monkeyContext}.
+	 */
+	boolean isManipulatedOn(MonkeyContext monkeyContext, ArbitraryTreeTemplate.Key key) {
+		return this.monkeyContext == monkeyContext && this.key.equals(key);
+	}
+
+	/**
+	 * Returns the root node which should not be manipulated, generating does not change nodes.
+	 */
+	ArbitraryNode getRootNode() {
+		return rootNode;
+	}
+
+	ArbitraryNode copyRootNode() {
+		return rootNode.copy();
+	}
+
+	ResolutionContext copyResolutionContext() {
+		return resolutionContext.copy();
+	}
+}
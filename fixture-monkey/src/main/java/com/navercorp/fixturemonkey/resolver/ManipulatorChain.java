@@ -0,0 +1,151 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.resolver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * A persistent list of {@link ArbitraryManipulator}s. Appending returns a new chain sharing this one as its prefix,
+ * so copying a builder copies a reference and derived builders share the manipulators of their parent.
+ * <p>
+ * A chain caches the tree manipulated by its manipulators.
+ * A derived chain is resolved from the cached tree of its longest resolved prefix,
+ * only the manipulators appended after the prefix are replayed.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class ManipulatorChain {
+	private static final ManipulatorChain EMPTY = new ManipulatorChain(null, null);
+
+	@Nullable
+	private final ManipulatorChain prefix;
+	@Nullable
+	private final ArbitraryManipulator last;
+	private final int size;
+	private final boolean deterministic;
+
+	@Nullable
+	private volatile List<ArbitraryManipulator> manipulators;
+	@Nullable
+	private volatile ManipulatedTree manipulatedTree;
+
+	private ManipulatorChain(@Nullable ManipulatorChain prefix, @Nullable ArbitraryManipulator last) {
+		this.prefix = prefix;
+		this.last = last;
+		this.size = prefix == null ? 0 : prefix.size + 1;
+		this.deterministic = prefix == null || (prefix.deterministic && last.isDeterministic());
+	}
+
+	public static ManipulatorChain empty() {
+		return EMPTY;
+	}
+
+	public static ManipulatorChain of(Collection<ArbitraryManipulator> manipulators) {
+		return EMPTY.appendAll(manipulators);
+	}
+
+	public ManipulatorChain append(ArbitraryManipulator manipulator) {
+		return new ManipulatorChain(this, manipulator);
+	}
+
+	public ManipulatorChain appendAll(Collection<ArbitraryManipulator> manipulators) {
+		ManipulatorChain chain = this;
+		for (ArbitraryManipulator manipulator : manipulators) {
+			chain = chain.append(manipulator);
+		}
+		return chain;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public List<ArbitraryManipulator> getManipulators() {
+		List<ArbitraryManipulator> manipulators = this.manipulators;
+		if (manipulators == null) {
+			manipulators = Collections.unmodifiableList(getManipulatorsAfter(EMPTY));
+			this.manipulators = manipulators;
+		}
+		return manipulators;
+	}
+
+	/**
+	 * Returns true if every manipulator of this chain is {@link NodeManipulator#isDeterministic() deterministic}.
+	 */
+	boolean isDeterministic() {
+		return deterministic;
+	}
+
+	/**
+	 * Returns the manipulators appended after {@code prefix}, {@code prefix} should be this chain or its prefix.
+	 */
+	List<ArbitraryManipulator> getManipulatorsAfter(ManipulatorChain prefix) {
+		ArbitraryManipulator[] manipulators = new ArbitraryManipulator[this.size - prefix.size];
+		ManipulatorChain chain = this;
+		for (int i = manipulators.length - 1; i >= 0; i--) {
+			manipulators[i] = chain.last;
+			chain = chain.prefix;
+		}
+
+		if (chain != prefix) {
+			throw new IllegalArgumentException("Given chain is not a prefix of this chain.");
+		}
+		return new ArrayList<>(Arrays.asList(manipulators));
+	}
+
+	/**
+	 * Returns the longest prefix including this chain which has the tree manipulated on the tree of {@code key}.
+	 */
+	@Nullable
+	ManipulatorChain findResolvedPrefix(MonkeyContext monkeyContext, ArbitraryTreeTemplate.Key key) {
+		for (ManipulatorChain chain = this; chain != null; chain = chain.prefix) {
+			ManipulatedTree manipulatedTree = chain.manipulatedTree;
+			if (manipulatedTree != null && manipulatedTree.isManipulatedOn(monkeyContext, key)) {
+				return chain;
+			}
+		}
+		return null;
+	}
+
+	@Nullable
+	ManipulatedTree getManipulatedTree() {
+		return manipulatedTree;
+	}
+
+	/**
+	 * Sets the manipulated tree once, a found prefix keeps the tree it is found with.
+	 */
+	synchronized void setManipulatedTreeIfAbsent(ManipulatedTree manipulatedTree) {
+		if (this.manipulatedTree == null) {
+			this.manipulatedTree = manipulatedTree;
+		}
+	}
+}
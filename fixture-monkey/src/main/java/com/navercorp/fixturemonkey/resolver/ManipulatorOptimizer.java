@@ -27,4 +27,14 @@ import org.apiguardian.api.API.Status;
 @FunctionalInterface
 public interface ManipulatorOptimizer {
 	OptimizedManipulatorResult optimize(List<ArbitraryManipulator> manipulators);
+
+	/**
+	 * Optimizes {@code manipulators} applied to a tree whose containers are sized by {@code containerInfoManipulators}.
+	 */
+	default OptimizedManipulatorResult optimize(
+		List<ArbitraryManipulator> manipulators,
+		List<ContainerInfoManipulator> containerInfoManipulators
+	) {
+		return optimize(manipulators);
+	}
 }
@@ -18,20 +18,38 @@
 
 package com.navercorp.fixturemonkey.resolver;
 
+import javax.annotation.Nullable;
+
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import net.jqwik.api.Arbitrary;
+import net.jqwik.api.RandomGenerator;
 
-import com.navercorp.fixturemonkey.api.collection.LruCache;
+import com.navercorp.fixturemonkey.api.collection.ConcurrentLruCache;
 import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.listener.GenerationListener;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public final class MonkeyContext {
-	private final LruCache<Property, Arbitrary<?>> arbitrariesByProperty;
+	private final ConcurrentLruCache<Property, Arbitrary<?>> arbitrariesByProperty;
+	private final ConcurrentLruCache<ArbitraryTreeTemplate.Key, ArbitraryTreeTemplate> treeTemplatesByKey;
+	private final ConcurrentLruCache<Property, RandomGenerator<?>> generatorsByProperty;
+	private final GenerationListener generationListener;
+	private final boolean directSampling;
 
-	MonkeyContext(LruCache<Property, Arbitrary<?>> arbitrariesByProperty) {
+	MonkeyContext(
+		ConcurrentLruCache<Property, Arbitrary<?>> arbitrariesByProperty,
+		ConcurrentLruCache<ArbitraryTreeTemplate.Key, ArbitraryTreeTemplate> treeTemplatesByKey,
+		ConcurrentLruCache<Property, RandomGenerator<?>> generatorsByProperty,
+		GenerationListener generationListener,
+		boolean directSampling
+	) {
 		this.arbitrariesByProperty = arbitrariesByProperty;
+		this.treeTemplatesByKey = treeTemplatesByKey;
+		this.generatorsByProperty = generatorsByProperty;
+		this.generationListener = generationListener;
+		this.directSampling = directSampling;
 	}
 
 	public static MonkeyContextBuilder builder() {
@@ -45,4 +63,30 @@ public final class MonkeyContext {
 	public void putCachedArbitrary(Property property, Arbitrary<?> arbitrary) {
 		arbitrariesByProperty.put(property, arbitrary);
 	}
+
+	public GenerationListener getGenerationListener() {
+		return generationListener;
+	}
+
+	public boolean isDirectSampling() {
+		return directSampling;
+	}
+
+	@Nullable
+	ArbitraryTreeTemplate getCachedTreeTemplate(ArbitraryTreeTemplate.Key key) {
+		return treeTemplatesByKey.get(key);
+	}
+
+	void putCachedTreeTemplate(ArbitraryTreeTemplate.Key key, ArbitraryTreeTemplate treeTemplate) {
+		treeTemplatesByKey.put(key, treeTemplate);
+	}
+
+	@Nullable
+	RandomGenerator<?> getCachedGenerator(Property property) {
+		return generatorsByProperty.get(property);
+	}
+
+	void putCachedGenerator(Property property, RandomGenerator<?> generator) {
+		generatorsByProperty.put(property, generator);
+	}
 }
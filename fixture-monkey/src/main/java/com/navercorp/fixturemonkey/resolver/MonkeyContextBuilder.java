@@ -23,15 +23,21 @@ import org.apiguardian.api.API.Status;
 
 import net.jqwik.api.Arbitrary;
 
-import com.navercorp.fixturemonkey.api.collection.LruCache;
+import com.navercorp.fixturemonkey.api.collection.ConcurrentLruCache;
 import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.listener.GenerationListener;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public final class MonkeyContextBuilder {
-	private LruCache<Property, Arbitrary<?>> arbitrariesByProperty;
+	private ConcurrentLruCache<Property, Arbitrary<?>> arbitrariesByProperty;
 	private int cacheSize = 2000;
+	private int treeTemplateCacheSize = 500;
+	private GenerationListener generationListener = GenerationListener.NONE;
+	private boolean directSampling = false;
 
-	public MonkeyContextBuilder arbitrariesByProperty(LruCache<Property, Arbitrary<?>> arbitrariesByProperty) {
+	public MonkeyContextBuilder arbitrariesByProperty(
+		ConcurrentLruCache<Property, Arbitrary<?>> arbitrariesByProperty
+	) {
 		this.arbitrariesByProperty = arbitrariesByProperty;
 		return this;
 	}
@@ -41,11 +47,32 @@ public final class MonkeyContextBuilder {
 		return this;
 	}
 
+	public MonkeyContextBuilder treeTemplateCacheSize(int treeTemplateCacheSize) {
+		this.treeTemplateCacheSize = treeTemplateCacheSize;
+		return this;
+	}
+
+	public MonkeyContextBuilder generationListener(GenerationListener generationListener) {
+		this.generationListener = generationListener;
+		return this;
+	}
+
+	public MonkeyContextBuilder directSampling(boolean directSampling) {
+		this.directSampling = directSampling;
+		return this;
+	}
+
 	public MonkeyContext build() {
 		if (arbitrariesByProperty == null) {
-			arbitrariesByProperty = new LruCache<>(cacheSize);
+			arbitrariesByProperty = new ConcurrentLruCache<>(cacheSize);
 		}
 
-		return new MonkeyContext(arbitrariesByProperty);
+		return new MonkeyContext(
+			arbitrariesByProperty,
+			new ConcurrentLruCache<>(treeTemplateCacheSize),
+			new ConcurrentLruCache<>(cacheSize),
+			generationListener,
+			directSampling
+		);
 	}
 }
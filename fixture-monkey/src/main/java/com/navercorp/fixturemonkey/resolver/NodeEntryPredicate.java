@@ -18,6 +18,8 @@
 
 package com.navercorp.fixturemonkey.resolver;
 
+import java.util.Objects;
+
 import javax.annotation.Nullable;
 
 import org.apiguardian.api.API;
@@ -54,4 +56,21 @@ public final class NodeEntryPredicate implements NextNodePredicate {
 		int elementIndex = currentObjectProperty.getElementIndex();
 		return elementIndex == index;
 	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		NodeEntryPredicate that = (NodeEntryPredicate)obj;
+		return index == that.index;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(index);
+	}
 }
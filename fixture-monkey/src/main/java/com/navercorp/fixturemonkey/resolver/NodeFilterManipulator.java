@@ -37,7 +37,7 @@ public final class NodeFilterManipulator implements NodeManipulator {
 	}
 
 	@Override
-	public void manipulate(ArbitraryNode arbitraryNode) {
+	public void manipulate(ArbitraryNode arbitraryNode, ResolutionContext resolutionContext) {
 		Class<?> actualType = Types.getActualType(arbitraryNode.getProperty().getType());
 		if (!actualType.isAssignableFrom(type)) {
 			throw new IllegalArgumentException(
@@ -46,4 +46,17 @@ public final class NodeFilterManipulator implements NodeManipulator {
 		}
 		arbitraryNode.addArbitraryFilter(filter);
 	}
+
+	Class<?> getType() {
+		return type;
+	}
+
+	Predicate getFilter() {
+		return filter;
+	}
+
+	@Override
+	public boolean isDeterministic() {
+		return true;
+	}
 }
@@ -18,6 +18,8 @@
 
 package com.navercorp.fixturemonkey.resolver;
 
+import java.util.Objects;
+
 import javax.annotation.Nullable;
 
 import org.apiguardian.api.API;
@@ -49,4 +51,21 @@ public final class NodeKeyValuePredicate implements NextNodePredicate {
 			return currentObjectProperty.getProperty() instanceof MapValueElementProperty;
 		}
 	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		NodeKeyValuePredicate that = (NodeKeyValuePredicate)obj;
+		return key == that.key;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(key);
+	}
 }
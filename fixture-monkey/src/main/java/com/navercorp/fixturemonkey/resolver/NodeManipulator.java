@@ -24,5 +24,17 @@ import org.apiguardian.api.API.Status;
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 @FunctionalInterface
 public interface NodeManipulator {
-	void manipulate(ArbitraryNode arbitraryNode);
+	/**
+	 * Manipulates the node in a resolution, the state of a resolution should be kept in {@code resolutionContext}.
+	 * The context is given by the tree being resolved, a manipulator applied to other nodes passes it on.
+	 */
+	void manipulate(ArbitraryNode arbitraryNode, ResolutionContext resolutionContext);
+
+	/**
+	 * Returns true if manipulating the same node always has the same effect.
+	 * A tree manipulated only by deterministic manipulators could be reused by other resolutions.
+	 */
+	default boolean isDeterministic() {
+		return false;
+	}
 }
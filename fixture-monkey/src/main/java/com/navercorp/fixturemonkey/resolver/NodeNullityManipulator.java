@@ -31,7 +31,7 @@ public class NodeNullityManipulator implements NodeManipulator {
 	}
 
 	@Override
-	public void manipulate(ArbitraryNode arbitraryNode) {
+	public void manipulate(ArbitraryNode arbitraryNode, ResolutionContext resolutionContext) {
 		ArbitraryProperty arbitraryProperty = arbitraryNode.getArbitraryProperty();
 		if (toNull) {
 			arbitraryNode.setArbitraryProperty(arbitraryProperty.withNullInject(ALWAYS_NULL_INJECT));
@@ -45,4 +45,9 @@ public class NodeNullityManipulator implements NodeManipulator {
 			arbitraryNode.setArbitraryProperty(arbitraryProperty.withNullInject(NOT_NULL_INJECT));
 		}
 	}
+
+	@Override
+	public boolean isDeterministic() {
+		return true;
+	}
 }
@@ -22,8 +22,11 @@ import static com.navercorp.fixturemonkey.api.generator.DefaultNullInjectGenerat
 import static com.navercorp.fixturemonkey.api.generator.DefaultNullInjectGenerator.NOT_NULL_INJECT;
 import static com.navercorp.fixturemonkey.api.type.Types.isAssignable;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
 
 import javax.annotation.Nullable;
 
@@ -57,7 +60,20 @@ public final class NodeSetDecomposedValueManipulator<T> implements NodeManipulat
 	}
 
 	@Override
-	public void manipulate(ArbitraryNode arbitraryNode) {
+	public void manipulate(ArbitraryNode arbitraryNode, ResolutionContext resolutionContext) {
+		validateType(arbitraryNode);
+		setValue(arbitraryNode, value);
+	}
+
+	/**
+	 * Returns the manipulator which only validates the type of the value, the value is not set.
+	 * It replaces this manipulator if the value is overwritten by a later manipulator.
+	 */
+	NodeManipulator toTypeValidator() {
+		return new TypeValidator();
+	}
+
+	private void validateType(ArbitraryNode arbitraryNode) {
 		Class<?> actualType = Types.getActualType(arbitraryNode.getProperty().getType());
 		if (value != null && !isAssignable(value.getClass(), actualType)) {
 			throw new IllegalArgumentException(
@@ -69,7 +85,6 @@ public final class NodeSetDecomposedValueManipulator<T> implements NodeManipulat
 					+ " value type: " + value.getClass().getTypeName()
 			);
 		}
-		setValue(arbitraryNode, value);
 	}
 
 	private void setValue(ArbitraryNode arbitraryNode, @Nullable Object value) {
@@ -133,4 +148,40 @@ public final class NodeSetDecomposedValueManipulator<T> implements NodeManipulat
 			setValue(child, childProperty.getValue(value));
 		}
 	}
+
+	@Nullable
+	T getValue() {
+		return value;
+	}
+
+	/**
+	 * Returns true if the value is immutable, it is decomposed to the same nodes whenever it is decomposed.
+	 * A mutable value could be changed between samples, it is decomposed by each sample.
+	 */
+	@Override
+	public boolean isDeterministic() {
+		return value == null || isImmutable(value.getClass());
+	}
+
+	private static boolean isImmutable(Class<?> type) {
+		return type == String.class
+			|| Types.wrapperToPrimitive(type) != null
+			|| Enum.class.isAssignableFrom(type)
+			|| type == BigInteger.class
+			|| type == BigDecimal.class
+			|| type == UUID.class
+			|| type.getName().startsWith("java.time.");
+	}
+
+	private final class TypeValidator implements NodeManipulator {
+		@Override
+		public void manipulate(ArbitraryNode arbitraryNode, ResolutionContext resolutionContext) {
+			validateType(arbitraryNode);
+		}
+
+		@Override
+		public boolean isDeterministic() {
+			return true;
+		}
+	}
 }
@@ -41,14 +41,18 @@ public final class NodeSetLazyManipulator<T> implements NodeManipulator {
 		this.lazyArbitrary = lazyArbitrary;
 	}
 
+	/**
+	 * Sets a value evaluated for this node only.
+	 * The lazy could be shared by several resolutions and threads, its state is never changed.
+	 */
 	@SuppressWarnings("unchecked")
 	@Override
-	public void manipulate(ArbitraryNode arbitraryNode) {
-		T value = lazyArbitrary.getValue();
+	public void manipulate(ArbitraryNode arbitraryNode, ResolutionContext resolutionContext) {
+		T value = lazyArbitrary.evaluate();
 
 		if (value == null) {
 			NodeNullityManipulator nullityManipulator = new NodeNullityManipulator(true);
-			nullityManipulator.manipulate(arbitraryNode);
+			nullityManipulator.manipulate(arbitraryNode, resolutionContext);
 			return;
 		}
 
@@ -58,7 +62,6 @@ public final class NodeSetLazyManipulator<T> implements NodeManipulator {
 
 		NodeSetDecomposedValueManipulator<T> nodeSetDecomposedValueManipulator =
 			new NodeSetDecomposedValueManipulator<>(traverser, manipulateOptions, value);
-		nodeSetDecomposedValueManipulator.manipulate(arbitraryNode);
-		lazyArbitrary.clear();
+		nodeSetDecomposedValueManipulator.manipulate(arbitraryNode, resolutionContext);
 	}
 }
@@ -49,6 +49,10 @@ public final class PropertyNameNodePredicate implements NextNodePredicate {
 		return ALL_INDEX_STRING.equals(propertyName) || propertyName.equals(nodePropertyName);
 	}
 
+	String getPropertyName() {
+		return propertyName;
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (this == obj) {
@@ -0,0 +1,50 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.resolver;
+
+import java.util.Random;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * A random recording whether it is drawn, it draws from {@code delegate}.
+ * A traversal draws a random for a random choice such as a subtype or the size of a container,
+ * the choice is made by each sample, the traversed node of it could not be shared.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+final class RecordingRandom extends Random {
+	private final Random delegate;
+	private boolean drawn = false;
+
+	RecordingRandom(Random delegate) {
+		super(0L);
+		this.delegate = delegate;
+	}
+
+	boolean isDrawn() {
+		return drawn;
+	}
+
+	@Override
+	protected int next(int bits) {
+		this.drawn = true;
+		return delegate.nextInt() >>> (Integer.SIZE - bits);
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.resolver;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * The state of resolving one sample, a new one is created for each {@link ArbitraryTree}.
+ * Manipulators keep their state of a sample here instead of their fields,
+ * one manipulator could be applied by several samples and threads at the same time.
+ * It is not thread-safe, a resolution runs on one thread.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class ResolutionContext {
+	private final Map<NodeManipulator, Integer> appliedCounts = new IdentityHashMap<>();
+
+	/**
+	 * Counts applying the {@code manipulator}.
+	 *
+	 * @return true if it was applied less than {@code limit} times in this resolution
+	 */
+	public boolean tryApply(NodeManipulator manipulator, int limit) {
+		int appliedCount = appliedCounts.getOrDefault(manipulator, 0);
+		if (appliedCount >= limit) {
+			return false;
+		}
+
+		appliedCounts.put(manipulator, appliedCount + 1);
+		return true;
+	}
+
+	ResolutionContext copy() {
+		ResolutionContext copied = new ResolutionContext();
+		copied.appliedCounts.putAll(this.appliedCounts);
+		return copied;
+	}
+}
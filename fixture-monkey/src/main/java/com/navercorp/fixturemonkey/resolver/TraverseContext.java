@@ -20,23 +20,48 @@ package com.navercorp.fixturemonkey.resolver;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
+import com.navercorp.fixturemonkey.api.generator.ContainerProperty;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 final class TraverseContext {
 	private final List<ArbitraryProperty> arbitraryProperties;
 	private final List<ContainerInfoManipulator> containerInfoManipulators;
+	@Nullable
+	private final Set<ContainerProperty> resizableContainerProperties;
+	@Nullable
+	private final Map<ContainerProperty, LazyContainerElements> lazyContainerElements;
+	@Nullable
+	private final Map<ArbitraryNode, Supplier<ArbitraryNode>> randomSubtrees;
 
 	public TraverseContext(
 		List<ArbitraryProperty> arbitraryProperties,
 		List<ContainerInfoManipulator> containerInfoManipulators
+	) {
+		this(arbitraryProperties, containerInfoManipulators, null, null, null);
+	}
+
+	public TraverseContext(
+		List<ArbitraryProperty> arbitraryProperties,
+		List<ContainerInfoManipulator> containerInfoManipulators,
+		@Nullable Set<ContainerProperty> resizableContainerProperties,
+		@Nullable Map<ContainerProperty, LazyContainerElements> lazyContainerElements,
+		@Nullable Map<ArbitraryNode, Supplier<ArbitraryNode>> randomSubtrees
 	) {
 		this.arbitraryProperties = arbitraryProperties;
 		this.containerInfoManipulators = containerInfoManipulators;
+		this.resizableContainerProperties = resizableContainerProperties;
+		this.lazyContainerElements = lazyContainerElements;
+		this.randomSubtrees = randomSubtrees;
 	}
 
 	public List<ArbitraryProperty> getArbitraryProperties() {
@@ -47,11 +72,58 @@ final class TraverseContext {
 		return containerInfoManipulators;
 	}
 
+	/**
+	 * Returns whether this traversal compiles an {@link ArbitraryTreeTemplate}.
+	 * A template traversal generates the element properties of the maximum size for each container,
+	 * the template traverses them lazily and chooses the size per sample.
+	 */
+	public boolean isTemplate() {
+		return resizableContainerProperties != null;
+	}
+
+	public void addResizableContainerProperty(ContainerProperty containerProperty) {
+		if (resizableContainerProperties != null) {
+			resizableContainerProperties.add(containerProperty);
+		}
+	}
+
+	public boolean isResizable(ContainerProperty containerProperty) {
+		return resizableContainerProperties != null && resizableContainerProperties.contains(containerProperty);
+	}
+
+	public void putLazyContainerElements(ContainerProperty containerProperty, LazyContainerElements elements) {
+		if (lazyContainerElements != null) {
+			lazyContainerElements.put(containerProperty, elements);
+		}
+	}
+
+	/**
+	 * Puts the node of a template which is traversed again by {@code traverser} for each instance.
+	 */
+	public void putRandomSubtree(ArbitraryNode node, Supplier<ArbitraryNode> traverser) {
+		if (randomSubtrees != null) {
+			randomSubtrees.put(node, traverser);
+		}
+	}
+
+	/**
+	 * Returns the context traversing the same path, not for a template.
+	 */
+	public TraverseContext withoutTemplate() {
+		return new TraverseContext(arbitraryProperties, containerInfoManipulators);
+	}
+
 	public TraverseContext appendArbitraryProperty(
 		ArbitraryProperty arbitraryProperty
 	) {
 		List<ArbitraryProperty> arbitraryProperties = new ArrayList<>(this.arbitraryProperties);
 		arbitraryProperties.add(arbitraryProperty);
-		return new TraverseContext(arbitraryProperties, containerInfoManipulators);
+		return new TraverseContext(
+			arbitraryProperties,
+			containerInfoManipulators,
+			resizableContainerProperties,
+			lazyContainerElements,
+			randomSubtrees
+		);
 	}
 }
@@ -18,7 +18,33 @@
 
 package com.navercorp.fixturemonkey.validator;
 
+import java.util.Collections;
+import java.util.Set;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
+
 public interface ArbitraryValidator {
 	// if arbitrary is not valid throw exception then re-create arbitrary for valid.
 	void validate(Object arbitrary);
+
+	/**
+	 * Validates given arbitrary without throwing an exception if it is not valid.
+	 * An exception without violations is reported as a violation of the whole arbitrary.
+	 *
+	 * @param arbitrary the arbitrary to validate
+	 * @return the constraint violations of given arbitrary, empty if it is valid
+	 */
+	default Set<ConstraintViolation<?>> findViolations(Object arbitrary) {
+		try {
+			validate(arbitrary);
+			return Collections.emptySet();
+		} catch (ConstraintViolationException ex) {
+			Set<ConstraintViolation<?>> violations = ex.getConstraintViolations();
+			if (violations == null || violations.isEmpty()) {
+				return Collections.singleton(new ExceptionConstraintViolation(arbitrary, ex));
+			}
+			return violations;
+		}
+	}
 }
@@ -21,6 +21,9 @@ package com.navercorp.fixturemonkey.validator;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+
+import javax.validation.ConstraintViolation;
 
 public final class CompositeArbitraryValidator implements ArbitraryValidator {
 	private final Map<Class<?>, ArbitraryValidator> validators;
@@ -48,4 +51,17 @@ public final class CompositeArbitraryValidator implements ArbitraryValidator {
 
 		this.defaultValidator.validate(arbitrary);
 	}
+
+	@Override
+	public Set<ConstraintViolation<?>> findViolations(Object arbitrary) {
+		ArbitraryValidator validator = this.validators.get(arbitrary.getClass());
+		if (validator != null) {
+			Set<ConstraintViolation<?>> violations = validator.findViolations(arbitrary);
+			if (!violations.isEmpty()) {
+				return violations;
+			}
+		}
+
+		return this.defaultValidator.findViolations(arbitrary);
+	}
 }
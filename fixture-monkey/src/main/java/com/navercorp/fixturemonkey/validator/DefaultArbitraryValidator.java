@@ -18,8 +18,12 @@
 
 package com.navercorp.fixturemonkey.validator;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import javax.annotation.Nullable;
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
 import javax.validation.Validation;
@@ -27,6 +31,8 @@ import javax.validation.Validator;
 
 public final class DefaultArbitraryValidator implements ArbitraryValidator {
 	private Validator validator;
+	// whether the bean descriptor of a type has constraints or cascaded properties
+	private final Map<Class<?>, Boolean> constrainedByType = new ConcurrentHashMap<>();
 
 	public DefaultArbitraryValidator() {
 		try {
@@ -36,14 +42,32 @@ public final class DefaultArbitraryValidator implements ArbitraryValidator {
 		}
 	}
 
+	public DefaultArbitraryValidator(@Nullable Validator validator) {
+		this.validator = validator;
+	}
+
 	@Override
 	public void validate(Object arbitrary) {
-		if (this.validator != null) {
-			Set<ConstraintViolation<Object>> violations = this.validator.validate(arbitrary);
-			if (!violations.isEmpty()) {
-				throw new ConstraintViolationException(
-					"DefaultArbitrayValidator ConstraintViolations. type: " + arbitrary.getClass(), violations);
-			}
+		Set<ConstraintViolation<?>> violations = findViolations(arbitrary);
+		if (!violations.isEmpty()) {
+			throw new ConstraintViolationException(
+				"DefaultArbitrayValidator ConstraintViolations. type: " + arbitrary.getClass(), violations);
 		}
 	}
+
+	@Override
+	public Set<ConstraintViolation<?>> findViolations(Object arbitrary) {
+		if (this.validator == null || !isConstrained(arbitrary.getClass())) {
+			return Collections.emptySet();
+		}
+
+		return Collections.unmodifiableSet(this.validator.validate(arbitrary));
+	}
+
+	private boolean isConstrained(Class<?> type) {
+		return constrainedByType.computeIfAbsent(
+			type,
+			it -> this.validator.getConstraintsForClass(it).isBeanConstrained()
+		);
+	}
 }
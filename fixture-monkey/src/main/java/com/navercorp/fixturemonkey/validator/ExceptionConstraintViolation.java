@@ -0,0 +1,112 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.validator;
+
+import java.util.Collections;
+import java.util.Iterator;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
+import javax.validation.Path;
+import javax.validation.ValidationException;
+import javax.validation.metadata.ConstraintDescriptor;
+
+/**
+ * A violation of the whole arbitrary, it represents a {@link ConstraintViolationException} without violations.
+ */
+final class ExceptionConstraintViolation implements ConstraintViolation<Object> {
+	private static final Path ROOT_PATH = new Path() {
+		@Override
+		public Iterator<Node> iterator() {
+			return Collections.emptyIterator();
+		}
+
+		@Override
+		public String toString() {
+			return "";
+		}
+	};
+
+	private final Object arbitrary;
+	private final String message;
+
+	ExceptionConstraintViolation(Object arbitrary, ConstraintViolationException exception) {
+		this.arbitrary = arbitrary;
+		this.message = exception.getMessage();
+	}
+
+	@Override
+	public String getMessage() {
+		return message;
+	}
+
+	@Override
+	public String getMessageTemplate() {
+		return message;
+	}
+
+	@Override
+	public Object getRootBean() {
+		return arbitrary;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public Class<Object> getRootBeanClass() {
+		return (Class<Object>)arbitrary.getClass();
+	}
+
+	@Override
+	public Object getLeafBean() {
+		return arbitrary;
+	}
+
+	@Override
+	public Object[] getExecutableParameters() {
+		return null;
+	}
+
+	@Override
+	public Object getExecutableReturnValue() {
+		return null;
+	}
+
+	@Override
+	public Path getPropertyPath() {
+		return ROOT_PATH;
+	}
+
+	@Override
+	public Object getInvalidValue() {
+		return arbitrary;
+	}
+
+	@Override
+	public ConstraintDescriptor<?> getConstraintDescriptor() {
+		return null;
+	}
+
+	@Override
+	public <U> U unwrap(Class<U> type) {
+		if (type.isInstance(this)) {
+			return type.cast(this);
+		}
+		throw new ValidationException("Type " + type + " is not supported.");
+	}
+}
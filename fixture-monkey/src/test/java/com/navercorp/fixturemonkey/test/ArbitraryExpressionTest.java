@@ -5,6 +5,8 @@ import static org.assertj.core.api.BDDAssertions.then;
 import org.junit.jupiter.api.Test;
 
 import com.navercorp.fixturemonkey.arbitrary.ArbitraryExpression;
+import com.navercorp.fixturemonkey.arbitrary.ArbitraryExpressionFactory;
+import com.navercorp.fixturemonkey.expression.MonkeyExpression;
 
 public class ArbitraryExpressionTest {
 	@Test
@@ -51,4 +53,15 @@ public class ArbitraryExpressionTest {
 
 		then(arbitraryExpression.toString()).isEqualTo("navercorp.fixturemonkey");
 	}
+
+	@Test
+	void factoryReusesParsedExpression() {
+		ArbitraryExpressionFactory factory = new ArbitraryExpressionFactory();
+		MonkeyExpression expected = factory.from("navercorp.fixturemonkey[0]");
+
+		MonkeyExpression actual = factory.from("navercorp.fixturemonkey[0]");
+
+		then(actual).isSameAs(expected);
+		then(actual.toNodeResolver()).isSameAs(expected.toNodeResolver());
+	}
 }
@@ -23,6 +23,8 @@ import java.lang.reflect.AnnotatedType;
 import java.util.ArrayList;
 import java.util.List;
 
+import javax.validation.constraints.Positive;
+
 import net.jqwik.api.Arbitrary;
 import net.jqwik.api.Builders;
 import net.jqwik.api.Builders.BuilderCombinator;
@@ -183,4 +185,10 @@ class FixtureMonkeyV04OptionsAdditionalTestSpecs {
 			}
 		}
 	}
+
+	@Data
+	public static class PositiveInteger {
+		@Positive
+		private int value;
+	}
 }
@@ -24,23 +24,32 @@ import static org.assertj.core.api.BDDAssertions.thenNoException;
 import static org.assertj.core.api.BDDAssertions.thenThrownBy;
 
 import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Proxy;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 import javax.validation.ConstraintViolationException;
+import javax.validation.Validation;
+import javax.validation.Validator;
 
 import net.jqwik.api.Arbitraries;
 import net.jqwik.api.Arbitrary;
 import net.jqwik.api.Property;
 import net.jqwik.api.TooManyFilterMissesException;
+import net.jqwik.api.arbitraries.IntegerArbitrary;
 import net.jqwik.api.arbitraries.StringArbitrary;
 import net.jqwik.time.api.DateTimes;
 import net.jqwik.time.api.arbitraries.InstantArbitrary;
@@ -59,10 +68,16 @@ import com.navercorp.fixturemonkey.api.introspector.JavaArbitraryResolver;
 import com.navercorp.fixturemonkey.api.introspector.JavaTimeArbitraryResolver;
 import com.navercorp.fixturemonkey.api.introspector.JavaTimeTypeArbitraryGenerator;
 import com.navercorp.fixturemonkey.api.introspector.JavaTypeArbitraryGenerator;
+import com.navercorp.fixturemonkey.api.introspector.LazyContainerIntrospector;
 import com.navercorp.fixturemonkey.api.matcher.ExactTypeMatcher;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
 import com.navercorp.fixturemonkey.api.type.TypeReference;
 import com.navercorp.fixturemonkey.api.type.Types;
+import com.navercorp.fixturemonkey.builder.SampleReservoir;
+import com.navercorp.fixturemonkey.builder.SampleReservoirs;
+import com.navercorp.fixturemonkey.builder.SampleReservoirs.ReservoirSize;
+import com.navercorp.fixturemonkey.listener.GenerationCacheType;
+import com.navercorp.fixturemonkey.listener.GenerationListener;
 import com.navercorp.fixturemonkey.resolver.DecomposableContainerValue;
 import com.navercorp.fixturemonkey.resolver.IdentityNodeResolver;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyV04OptionsAdditionalTestSpecs.BuilderInteger;
@@ -71,6 +86,7 @@ import com.navercorp.fixturemonkey.test.FixtureMonkeyV04OptionsAdditionalTestSpe
 import com.navercorp.fixturemonkey.test.FixtureMonkeyV04OptionsAdditionalTestSpecs.Pair;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyV04OptionsAdditionalTestSpecs.PairContainerPropertyGenerator;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyV04OptionsAdditionalTestSpecs.PairIntrospector;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyV04OptionsAdditionalTestSpecs.PositiveInteger;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyV04OptionsAdditionalTestSpecs.RegisterGroup;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyV04OptionsAdditionalTestSpecs.SimpleObjectChild;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyV04TestSpecs.ComplexObject;
@@ -80,6 +96,8 @@ import com.navercorp.fixturemonkey.test.FixtureMonkeyV04TestSpecs.InterfaceImple
 import com.navercorp.fixturemonkey.test.FixtureMonkeyV04TestSpecs.ListStringObject;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyV04TestSpecs.NullableObject;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyV04TestSpecs.SimpleObject;
+import com.navercorp.fixturemonkey.validator.ArbitraryValidator;
+import com.navercorp.fixturemonkey.validator.DefaultArbitraryValidator;
 
 class FixtureMonkeyV04OptionsTest {
 	@Property
@@ -596,6 +614,61 @@ class FixtureMonkeyV04OptionsTest {
 			.isExactlyInstanceOf(TooManyFilterMissesException.class);
 	}
 
+	@Property(tries = 1)
+	void setInvalidValueThrowsTooManyFilterMisses() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder().build();
+
+		thenThrownBy(() -> sut.giveMeBuilder(PositiveInteger.class)
+			.set("value", -1)
+			.sample()
+		).isExactlyInstanceOf(TooManyFilterMissesException.class);
+	}
+
+	@Property
+	void defaultArbitraryValidatorFindViolations() {
+		DefaultArbitraryValidator validator = new DefaultArbitraryValidator();
+		PositiveInteger invalid = new PositiveInteger();
+		invalid.setValue(-1);
+
+		then(validator.findViolations(invalid)).hasSize(1);
+		then(validator.findViolations(new SimpleObject())).isEmpty();
+	}
+
+	@Property
+	void defaultArbitraryValidatorSkipsUnconstrainedType() {
+		AtomicInteger validateCount = new AtomicInteger();
+		Validator delegate = Validation.buildDefaultValidatorFactory().getValidator();
+		Validator countingValidator = (Validator)Proxy.newProxyInstance(
+			Validator.class.getClassLoader(),
+			new Class<?>[] {Validator.class},
+			(proxy, method, args) -> {
+				if (method.getName().equals("validate")) {
+					validateCount.incrementAndGet();
+				}
+				return method.invoke(delegate, args);
+			}
+		);
+		DefaultArbitraryValidator validator = new DefaultArbitraryValidator(countingValidator);
+		PositiveInteger valid = new PositiveInteger();
+		valid.setValue(1);
+
+		then(validator.findViolations(new SimpleObject())).isEmpty();
+		then(validator.findViolations(new SimpleObject())).isEmpty();
+		then(validateCount).hasValue(0);
+
+		then(validator.findViolations(valid)).isEmpty();
+		then(validateCount).hasValue(1);
+	}
+
+	@Property(tries = 1)
+	void arbitraryValidatorThrowingWithoutViolationsFindsViolation() {
+		ArbitraryValidator validator = obj -> {
+			throw new ConstraintViolationException("thrown by test ArbitraryValidator", new HashSet<>());
+		};
+
+		then(validator.findViolations("invalid")).hasSize(1);
+	}
+
 	@Property
 	void defaultNotNull() {
 		LabMonkey sut = LabMonkey.labMonkeyBuilder()
@@ -1075,4 +1148,273 @@ class FixtureMonkeyV04OptionsTest {
 
 		then(values).isNull();
 	}
+
+	@Property
+	void directLeafGeneration() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.directLeafGeneration(true)
+			.build();
+
+		ComplexObject actual = sut.giveMeBuilder(ComplexObject.class)
+			.setNotNull("str")
+			.setNotNull("enumValue")
+			.setNotNull("object.localDate")
+			.sample();
+
+		then(actual.getStr()).hasSizeLessThanOrEqualTo(255);
+		then(actual.getEnumValue()).isNotNull();
+		LocalDate now = LocalDate.now();
+		then(actual.getObject().getLocalDate()).isBetween(now.minusDays(365), now.plusDays(365));
+	}
+
+	@Property
+	void directLeafGenerationSetValue() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.directLeafGeneration(true)
+			.build();
+
+		List<String> actual = sut.giveMeBuilder(new TypeReference<List<String>>() {
+			})
+			.size("$", 3)
+			.set("$[1]", "test")
+			.sample();
+
+		then(actual).hasSize(3);
+		then(actual.get(1)).isEqualTo("test");
+	}
+
+	@Property
+	void directLeafGenerationNotAffectsAnnotatedProperty() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.directLeafGeneration(true)
+			.javaArbitraryResolver(new JavaArbitraryResolver() {
+				@Override
+				public Arbitrary<Integer> integers(
+					IntegerArbitrary integerArbitrary,
+					ArbitraryGeneratorContext context
+				) {
+					return integerArbitrary.between(1, 10);
+				}
+			})
+			.build();
+
+		int actual = sut.giveMeOne(PositiveInteger.class)
+			.getValue();
+
+		then(actual).isBetween(1, 10);
+	}
+
+	@Property
+	void directSampling() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.directSampling(true)
+			.build();
+
+		ComplexObject actual = sut.giveMeBuilder(ComplexObject.class)
+			.size("list", 3)
+			.set("list[1].str", "test")
+			.setNotNull("str")
+			.setNull("object")
+			.sample();
+
+		then(actual.getList()).hasSize(3);
+		then(actual.getList().get(1).getStr()).isEqualTo("test");
+		then(actual.getStr()).isNotNull();
+		then(actual.getObject()).isNull();
+	}
+
+	@Property
+	void directSamplingArray() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.directSampling(true)
+			.build();
+
+		String[] actual = sut.giveMeBuilder(String[].class)
+			.size("$", 2)
+			.set("$[0]", "test")
+			.sample();
+
+		then(actual).hasSize(2);
+		then(actual[0]).isEqualTo("test");
+	}
+
+	@Property
+	void directSamplingCustomizer() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.directSampling(true)
+			.pushExactTypeArbitraryCustomizer(SimpleObject.class, object -> {
+				object.setStr("customized");
+				return object;
+			})
+			.build();
+
+		String actual = sut.giveMeBuilder(ComplexObject.class)
+			.setNotNull("object")
+			.sample()
+			.getObject()
+			.getStr();
+
+		then(actual).isEqualTo("customized");
+	}
+
+	@Property(tries = 1)
+	void reservoir() throws InterruptedException {
+		AtomicInteger hitCount = new AtomicInteger();
+		AtomicInteger missCount = new AtomicInteger();
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.register(SimpleObject.class, monkey -> monkey.giveMeBuilder(SimpleObject.class).set("str", "test"))
+			.reservoir(SimpleObject.class, 4, 2)
+			.generationListener(new GenerationListener() {
+				@Override
+				public void onCacheAccessed(GenerationCacheType cacheType, boolean hit) {
+					if (cacheType == GenerationCacheType.RESERVOIR) {
+						(hit ? hitCount : missCount).incrementAndGet();
+					}
+				}
+			})
+			.build();
+
+		List<String> actual = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			actual.add(sut.giveMeOne(SimpleObject.class).getStr());
+		}
+		// the refill runs in background, it is waited for as long as a slow machine needs
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+		while (hitCount.get() == 0 && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+			actual.add(sut.giveMeOne(SimpleObject.class).getStr());
+		}
+
+		then(actual).allMatch("test"::equals);
+		then(hitCount.get() + missCount.get()).isEqualTo(actual.size());
+		then(hitCount.get()).isPositive();
+	}
+
+	@Property(tries = 1)
+	void reservoirRefilledToCapacity() {
+		AtomicInteger hitCount = new AtomicInteger();
+		SampleReservoir<String> sut = new SampleReservoir<>(
+			4,
+			2,
+			size -> Collections.nCopies(size, "refilled"),
+			Runnable::run,
+			new GenerationListener() {
+				@Override
+				public void onCacheAccessed(GenerationCacheType cacheType, boolean hit) {
+					if (hit) {
+						hitCount.incrementAndGet();
+					}
+				}
+			}
+		);
+
+		String first = sut.sample(() -> "inline");
+
+		then(first).isEqualTo("inline");
+		then(sut.size()).isEqualTo(4);
+		for (int i = 0; i < 10; i++) {
+			then(sut.sample(() -> "inline")).isEqualTo("refilled");
+			then(sut.size()).isGreaterThan(2);
+		}
+		then(hitCount).hasValue(10);
+	}
+
+	@Property(tries = 1)
+	void reservoirRetriesFailedRefill() throws InterruptedException {
+		AtomicInteger refillCount = new AtomicInteger();
+		SampleReservoir<String> sut = new SampleReservoir<>(
+			4,
+			2,
+			size -> {
+				if (refillCount.incrementAndGet() == 1) {
+					throw new IllegalStateException("refill failed");
+				}
+				return Collections.nCopies(size, "refilled");
+			},
+			Runnable::run,
+			GenerationListener.NONE
+		);
+
+		then(sut.sample(() -> "inline")).isEqualTo("inline");
+		then(sut.sample(() -> "inline")).isEqualTo("inline");
+		then(refillCount).hasValue(1);
+
+		// waits for the backoff of the first failure
+		Thread.sleep(500);
+		then(sut.sample(() -> "inline")).isEqualTo("inline");
+		then(refillCount).hasValue(2);
+		then(sut.sample(() -> "inline")).isEqualTo("refilled");
+	}
+
+	@Property
+	void reservoirsNotSharedBetweenConfigurations() {
+		SampleReservoirs sut = new SampleReservoirs(
+			Collections.singletonMap(String.class, new ReservoirSize(4, 2)),
+			1
+		);
+
+		SampleReservoir<String> actual = sut.get(String.class, "first", () -> null, GenerationListener.NONE);
+
+		then(sut.get(String.class, "first", () -> null, GenerationListener.NONE)).isSameAs(actual);
+		then(sut.get(String.class, "second", () -> null, GenerationListener.NONE)).isNotSameAs(actual);
+	}
+
+	@Property
+	void reservoirLowWatermarkNotLessThanCapacityThrows() {
+		thenThrownBy(() -> LabMonkey.labMonkeyBuilder().reservoir(SimpleObject.class, 4, 4))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("lowWatermark");
+	}
+
+	@Property(tries = 1)
+	void lazyContainerGenerationStream() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.lazyContainerGeneration(true)
+			.build();
+
+		long actual = sut.giveMeBuilder(new TypeReference<Stream<String>>() {
+			})
+			.size("$", 10_000)
+			.sample()
+			.count();
+
+		then(actual).isEqualTo(10_000);
+	}
+
+	@Property(tries = 1)
+	void lazyContainerGenerationUnboundedIterator() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.lazyContainerGeneration(true)
+			.build();
+
+		Iterator<String> actual = sut.giveMeBuilder(new TypeReference<Iterator<String>>() {
+			})
+			.size("$", LazyContainerIntrospector.UNBOUNDED_SIZE)
+			.set("$[*]", "test")
+			.sample();
+
+		for (int i = 0; i < 1_000; i++) {
+			then(actual.next()).isEqualTo("test");
+		}
+		then(actual.hasNext()).isTrue();
+	}
+
+	@Property
+	void lazyContainerGenerationIterableReturnsSameElements() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.lazyContainerGeneration(true)
+			.build();
+
+		Iterable<String> actual = sut.giveMeBuilder(ComplexObject.class)
+			.size("strIterable", 3)
+			.sample()
+			.getStrIterable();
+
+		List<String> first = new ArrayList<>();
+		actual.forEach(first::add);
+		List<String> second = new ArrayList<>();
+		actual.forEach(second::add);
+		then(first).hasSize(3);
+		then(second).isEqualTo(first);
+	}
 }
@@ -18,6 +18,7 @@
 
 package com.navercorp.fixturemonkey.test;
 
+import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.BDDAssertions.thenNoException;
 import static org.assertj.core.api.BDDAssertions.thenThrownBy;
@@ -26,6 +27,7 @@ import java.net.URI;
 import java.time.Instant;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -38,7 +40,10 @@ import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
@@ -46,6 +51,7 @@ import javax.annotation.Nullable;
 import net.jqwik.api.Arbitraries;
 import net.jqwik.api.Arbitrary;
 import net.jqwik.api.Property;
+import net.jqwik.api.TooManyFilterMissesException;
 
 import com.navercorp.fixturemonkey.ArbitraryBuilder;
 import com.navercorp.fixturemonkey.ArbitraryBuilders;
@@ -54,7 +60,12 @@ import com.navercorp.fixturemonkey.api.customizer.FixtureCustomizer;
 import com.navercorp.fixturemonkey.api.generator.ChildArbitraryContext;
 import com.navercorp.fixturemonkey.api.matcher.ExactTypeMatcher;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
+import com.navercorp.fixturemonkey.api.random.WorkerScopes;
 import com.navercorp.fixturemonkey.api.type.TypeReference;
+import com.navercorp.fixturemonkey.builder.DefaultArbitraryBuilder;
+import com.navercorp.fixturemonkey.listener.GenerationCacheType;
+import com.navercorp.fixturemonkey.listener.GenerationPhase;
+import com.navercorp.fixturemonkey.listener.HistogramGenerationListener;
 import com.navercorp.fixturemonkey.test.ComplexManipulatorTestSpecs.IntValue;
 import com.navercorp.fixturemonkey.test.ComplexManipulatorTestSpecs.NestedStringList;
 import com.navercorp.fixturemonkey.test.ComplexManipulatorTestSpecs.StringAndInt;
@@ -358,6 +369,305 @@ class FixtureMonkeyV04Test {
 		then(actual.getStrList()).hasSizeBetween(3, 8);
 	}
 
+	@Property
+	void giveMeParallel() {
+		// when
+		List<ComplexObject> actual = SUT.giveMe(ComplexObject.class, 100, 4);
+
+		// then
+		then(actual).hasSize(100);
+	}
+
+	@Property
+	void sampleListParallelSameRegardlessOfParallelism() {
+		// given
+		DefaultArbitraryBuilder<SimpleObject> builder = SUT.giveMeBuilder(SimpleObject.class);
+
+		// when
+		List<SimpleObject> actual = builder.sampleList(20, 4, 1234L);
+
+		// then
+		List<SimpleObject> expected = builder.sampleList(20, 1, 1234L);
+		then(actual).isEqualTo(expected);
+	}
+
+	@Property
+	void sampleListParallelismLargerThanMaxWorkers() {
+		// given
+		DefaultArbitraryBuilder<SimpleObject> builder = SUT.giveMeBuilder(SimpleObject.class);
+
+		// when
+		List<SimpleObject> actual = builder.sampleList(20, WorkerScopes.MAX_WORKERS + 1, 1234L);
+
+		// then
+		List<SimpleObject> expected = builder.sampleList(20, 1, 1234L);
+		then(actual).isEqualTo(expected);
+	}
+
+	@Property
+	void sampleListParallelConcurrently() {
+		// given
+		DefaultArbitraryBuilder<SimpleObject> builder = SUT.giveMeBuilder(SimpleObject.class);
+
+		// when
+		List<CompletableFuture<List<SimpleObject>>> futures = IntStream.range(0, 4)
+			.mapToObj(it -> CompletableFuture.supplyAsync(() -> builder.sampleList(20, 4, 1234L)))
+			.collect(Collectors.toList());
+
+		// then
+		List<SimpleObject> expected = builder.sampleList(20, 1, 1234L);
+		then(futures).allSatisfy(it -> then(it.join()).isEqualTo(expected));
+	}
+
+	@Property
+	void setLazyEvaluatesPerElement() {
+		// given
+		AtomicInteger sequence = new AtomicInteger();
+
+		// when
+		List<String> actual = SUT.giveMeBuilder(ComplexObject.class)
+			.size("strList", 3)
+			.setLazy("strList[*]", () -> String.valueOf(sequence.incrementAndGet()))
+			.sample()
+			.getStrList();
+
+		// then
+		then(actual).doesNotHaveDuplicates();
+	}
+
+	@Property
+	void setLazySampleListParallel() {
+		// given
+		AtomicInteger sequence = new AtomicInteger();
+		DefaultArbitraryBuilder<SimpleObject> builder = SUT.giveMeBuilder(SimpleObject.class);
+		builder.setLazy("wrapperInteger", sequence::incrementAndGet);
+
+		// when
+		List<Integer> actual = builder.sampleList(20, 4)
+			.stream()
+			.map(SimpleObject::getWrapperInteger)
+			.collect(Collectors.toList());
+
+		// then
+		then(actual).doesNotHaveDuplicates();
+	}
+
+	@Property
+	void mapSampleListParallel() {
+		// given
+		DefaultArbitraryBuilder<Object> builder = (DefaultArbitraryBuilder<Object>)SUT.giveMeBuilder(Integer.class)
+			.map(it -> it % 2 == 0 ? (Object)it : String.valueOf(it));
+
+		// when
+		List<Object> actual = builder.sampleList(50, 4);
+
+		// then
+		then(actual).allMatch(it -> it instanceof Integer
+			? (Integer)it % 2 == 0
+			: Integer.parseInt((String)it) % 2 != 0
+		);
+	}
+
+	@Property
+	void setLimitAppliesToEverySample() {
+		// given
+		Arbitrary<SimpleObject> arbitrary = SUT.giveMeBuilder(SimpleObject.class)
+			.set("str", "fixed", 1)
+			.build();
+
+		// when
+		List<String> actual = arbitrary.list().ofSize(10).sample()
+			.stream()
+			.map(SimpleObject::getStr)
+			.collect(Collectors.toList());
+
+		// then
+		then(actual).allMatch("fixed"::equals);
+	}
+
+	@Property
+	void setLimitSampleListParallel() {
+		// given
+		DefaultArbitraryBuilder<SimpleObject> builder = SUT.giveMeBuilder(SimpleObject.class);
+		builder.set("str", "fixed", 1);
+
+		// when
+		List<String> actual = builder.sampleList(200, 8)
+			.stream()
+			.map(SimpleObject::getStr)
+			.collect(Collectors.toList());
+
+		// then
+		then(actual).allMatch("fixed"::equals);
+	}
+
+	@Property
+	void generationListener() {
+		// given
+		HistogramGenerationListener listener = new HistogramGenerationListener();
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.generationListener(listener)
+			.build();
+
+		// when
+		sut.giveMeOne(SimpleObject.class);
+		sut.giveMeOne(SimpleObject.class);
+
+		// then
+		then(listener.getPhaseHistogram(GenerationPhase.TRAVERSE).getCount()).isEqualTo(2);
+		then(listener.getPhaseHistogram(GenerationPhase.SAMPLE).getCount()).isEqualTo(2);
+		then(listener.getNodeCountHistogram().getMax()).isGreaterThan(1);
+		then(listener.getCacheMissCount(GenerationCacheType.TREE_TEMPLATE)).isEqualTo(1);
+		then(listener.getCacheHitCount(GenerationCacheType.TREE_TEMPLATE)).isEqualTo(1);
+	}
+
+	@Property
+	void generationListenerTooManyFilterMissesByRootType() {
+		// given
+		HistogramGenerationListener listener = new HistogramGenerationListener();
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.generationListener(listener)
+			.build();
+
+		// when
+		thenThrownBy(
+			() -> sut.giveMeBuilder(SimpleObject.class)
+				.setPostCondition(it -> false)
+				.sample()
+		).isExactlyInstanceOf(TooManyFilterMissesException.class);
+
+		// then
+		then(listener.getTooManyFilterMissesByPropertyPath())
+			.containsExactly(entry(SimpleObject.class.getName(), 1L));
+	}
+
+	@Property
+	void derivedBuilderReusesManipulatedTreeOfParent() {
+		// given
+		HistogramGenerationListener listener = new HistogramGenerationListener();
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.generationListener(listener)
+			.build();
+		ArbitraryBuilder<StringPair> parent = sut.giveMeBuilder(StringPair.class)
+			.set("value1", "parent");
+		parent.sample();
+
+		// when
+		StringPair actual = parent.copy()
+			.set("value2", "derived")
+			.sample();
+
+		// then
+		then(actual.getValue1()).isEqualTo("parent");
+		then(actual.getValue2()).isEqualTo("derived");
+		then(listener.getCacheHitCount(GenerationCacheType.MANIPULATED_TREE)).isEqualTo(1);
+		then(parent.sample().getValue2()).isNotEqualTo("derived");
+	}
+
+	@Property
+	void derivedBuilderDecomposesMutatedValue() {
+		// given
+		StringPair value = new StringPair();
+		value.setValue1("before");
+		ArbitraryBuilder<StringPair> parent = SUT.giveMeBuilder(StringPair.class)
+			.set("$", value);
+		parent.sample();
+		value.setValue1("after");
+
+		// when
+		StringPair actual = parent.copy()
+			.set("value2", "derived")
+			.sample();
+
+		// then
+		then(actual.getValue1()).isEqualTo("after");
+		then(actual.getValue2()).isEqualTo("derived");
+	}
+
+	@Property
+	void derivedBuilderEvaluatesLazyEverySample() {
+		// given
+		ArbitraryBuilder<StringPair> parent = SUT.giveMeBuilder(StringPair.class)
+			.set("value1", "parent");
+		parent.sample();
+		AtomicInteger sequence = new AtomicInteger();
+		ArbitraryBuilder<StringPair> derived = parent.copy()
+			.setLazy("value2", () -> String.valueOf(sequence.incrementAndGet()));
+
+		// when
+		List<StringPair> actual = derived.sampleList(5);
+
+		// then
+		then(actual).extracting(StringPair::getValue1).containsOnly("parent");
+		then(actual).extracting(StringPair::getValue2).containsExactly("1", "2", "3", "4", "5");
+	}
+
+	@Property
+	void generationListenerFilterMissed() {
+		// given
+		HistogramGenerationListener listener = new HistogramGenerationListener();
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.generationListener(listener)
+			.build();
+
+		// when
+		sut.giveMeBuilder(SimpleObject.class)
+			.setPostCondition("wrapperInteger", Integer.class, it -> it == null || it % 10 == 0)
+			.sampleList(10);
+
+		// then
+		then(listener.getFilterMissesByPath()).containsKey("$.wrapperInteger");
+	}
+
+	@Property
+	void sizeDifferentlyWithSameType() {
+		// when
+		ComplexObject actual = SUT.giveMeBuilder(ComplexObject.class)
+			.size("strList", 2)
+			.sample();
+		ComplexObject other = SUT.giveMeBuilder(ComplexObject.class)
+			.size("strList", 4)
+			.sample();
+
+		// then
+		then(actual.getStrList()).hasSize(2);
+		then(other.getStrList()).hasSize(4);
+	}
+
+	@Property
+	void sampleDifferentGenericTypesOfSameRawType() {
+		// when
+		List<String> strings = SUT.giveMeBuilder(new TypeReference<List<String>>() {
+			})
+			.size("$", 3)
+			.sample();
+		List<Integer> integers = SUT.giveMeBuilder(new TypeReference<List<Integer>>() {
+			})
+			.size("$", 3)
+			.sample();
+
+		// then
+		then(strings).allMatch(it -> it == null || it instanceof String);
+		then(integers).allMatch(it -> it == null || it instanceof Integer);
+	}
+
+	@Property
+	void sizeDifferentlyWithSameGenericType() {
+		// when
+		List<SimpleObject> actual = SUT.giveMeBuilder(new TypeReference<List<SimpleObject>>() {
+			})
+			.size("$", 1)
+			.sample();
+		List<SimpleObject> other = SUT.giveMeBuilder(new TypeReference<List<SimpleObject>>() {
+			})
+			.size("$", 0, 30)
+			.sample();
+
+		// then
+		then(actual).hasSize(1);
+		then(other).hasSizeBetween(0, 30);
+	}
+
 	@Property
 	void sizeMinIsBiggerThanMax() {
 		// when
@@ -1000,6 +1310,18 @@ class FixtureMonkeyV04Test {
 		then(actual).isEqualTo(expected);
 	}
 
+	@Property
+	void setElementAfterSetContainer() {
+		List<String> actual = SUT.giveMeBuilder(ComplexObject.class)
+			.set("strList", Arrays.asList("a", "b", "c"))
+			.set("strList[2]", "d")
+			.set("strList[5]", "e")
+			.sample()
+			.getStrList();
+
+		then(actual).containsExactly("a", "b", "d");
+	}
+
 	@Property
 	void sizeSmallerRemains() {
 		String expected = "test";
@@ -1452,4 +1774,39 @@ class FixtureMonkeyV04Test {
 
 		then(values).isNotNull();
 	}
+
+	@Property
+	void setElementOfLargeListAllocatesOnlyManipulatedElement() {
+		// given
+		HistogramGenerationListener listener = new HistogramGenerationListener();
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.generationListener(listener)
+			.build();
+
+		// when
+		List<StringValue> actual = sut.giveMeBuilder(new TypeReference<List<StringValue>>() {
+			})
+			.size("$", 1000)
+			.set("$[500].value", "test")
+			.sample();
+
+		// then
+		then(actual).hasSize(1000);
+		then(actual.get(500).getValue()).isEqualTo("test");
+		then(listener.getNodeCountHistogram().getMax()).isLessThan(10);
+	}
+
+	@Property
+	void setAllElementsOfLargeList() {
+		// when
+		List<StringValue> actual = SUT.giveMeBuilder(new TypeReference<List<StringValue>>() {
+			})
+			.size("$", 100)
+			.set("$[*].value", "test")
+			.sample();
+
+		// then
+		then(actual).hasSize(100);
+		then(actual).allMatch(it -> "test".equals(it.getValue()));
+	}
 }
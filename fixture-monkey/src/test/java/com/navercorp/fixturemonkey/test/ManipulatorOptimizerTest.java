@@ -0,0 +1,300 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.fixturemonkey.test;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Property;
+
+import com.navercorp.fixturemonkey.ArbitraryBuilder;
+import com.navercorp.fixturemonkey.LabMonkey;
+import com.navercorp.fixturemonkey.builder.DefaultArbitraryBuilder;
+import com.navercorp.fixturemonkey.resolver.ApplyNodeCountManipulator;
+import com.navercorp.fixturemonkey.resolver.ArbitraryManipulator;
+import com.navercorp.fixturemonkey.resolver.CompositeNodeResolver;
+import com.navercorp.fixturemonkey.resolver.DefaultManipulatorOptimizer;
+import com.navercorp.fixturemonkey.resolver.DefaultNodeResolver;
+import com.navercorp.fixturemonkey.resolver.IdentityNodeResolver;
+import com.navercorp.fixturemonkey.resolver.NodeFilterManipulator;
+import com.navercorp.fixturemonkey.resolver.NodeResolver;
+import com.navercorp.fixturemonkey.resolver.NodeSetDecomposedValueManipulator;
+import com.navercorp.fixturemonkey.resolver.NoneManipulatorOptimizer;
+import com.navercorp.fixturemonkey.resolver.PropertyNameNodePredicate;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyV04TestSpecs.StringPair;
+import com.navercorp.fixturemonkey.test.ManipulatorOptimizerTestSpecs.Item;
+import com.navercorp.fixturemonkey.test.ManipulatorOptimizerTestSpecs.Order;
+
+class ManipulatorOptimizerTest {
+	private static final LabMonkey SUT = LabMonkey.labMonkey();
+	private static final LabMonkey NOT_OPTIMIZED = LabMonkey.labMonkeyBuilder()
+		.manipulatorOptimizer(new NoneManipulatorOptimizer())
+		.build();
+
+	private static final DefaultManipulatorOptimizer OPTIMIZER = new DefaultManipulatorOptimizer();
+
+	@Property
+	void overwrittenSetIsRemoved() {
+		// given
+		List<ArbitraryManipulator> manipulators = Arrays.asList(
+			set(resolver("id"), "a"),
+			set(resolver("count"), 1),
+			set(resolver("id"), "b")
+		);
+
+		// when
+		List<ArbitraryManipulator> actual = optimize(manipulators);
+
+		// then
+		// the removed set is replaced by its type validator
+		then(actual).hasSize(3);
+		then(actual).doesNotContain(manipulators.get(0));
+		then(actual.subList(1, 3)).containsExactly(manipulators.get(1), manipulators.get(2));
+	}
+
+	@Property
+	void descendantSetOverwrittenByAncestorSetIsRemoved() {
+		// given
+		List<ArbitraryManipulator> manipulators = Arrays.asList(
+			set(resolver("item", "name"), "a"),
+			set(resolver("item"), new Item())
+		);
+
+		// when
+		List<ArbitraryManipulator> actual = optimize(manipulators);
+
+		// then
+		then(actual).hasSize(2);
+		then(actual).doesNotContain(manipulators.get(0));
+		then(actual.get(1)).isSameAs(manipulators.get(1));
+	}
+
+	@Property
+	void setResolvedInBetweenIsNotRemoved() {
+		// given
+		List<ArbitraryManipulator> manipulators = Arrays.asList(
+			set(resolver("item"), new Item()),
+			filter(resolver("item", "name"), String.class, it -> true),
+			set(resolver("item"), new Item())
+		);
+
+		// when
+		List<ArbitraryManipulator> actual = optimize(manipulators);
+
+		// then
+		then(actual).containsExactlyElementsOf(manipulators);
+	}
+
+	@Property
+	void limitedSetDoesNotRemove() {
+		// given
+		List<ArbitraryManipulator> manipulators = Arrays.asList(
+			set(resolver("id"), "a"),
+			new ArbitraryManipulator(
+				resolver("id"),
+				new ApplyNodeCountManipulator(new NodeSetDecomposedValueManipulator<>(null, null, "b"), 1)
+			)
+		);
+
+		// when
+		List<ArbitraryManipulator> actual = optimize(manipulators);
+
+		// then
+		then(actual).containsExactlyElementsOf(manipulators);
+	}
+
+	@Property
+	void rootSetRemovesAllBefore() {
+		// given
+		List<ArbitraryManipulator> manipulators = Arrays.asList(
+			set(resolver("id"), "a"),
+			set(resolver("item", "quantity"), 1),
+			set(IdentityNodeResolver.INSTANCE, new Order()),
+			set(resolver("id"), "b")
+		);
+
+		// when
+		List<ArbitraryManipulator> actual = optimize(manipulators);
+
+		// then
+		then(actual).hasSize(4);
+		then(actual).doesNotContain(manipulators.get(0), manipulators.get(1));
+		then(actual.subList(2, 4)).containsExactly(manipulators.get(2), manipulators.get(3));
+	}
+
+	@Property
+	void consecutiveFiltersAreFused() {
+		// given
+		List<ArbitraryManipulator> manipulators = Arrays.asList(
+			filter(resolver("count"), Integer.class, it -> it > 0),
+			filter(resolver("count"), Integer.class, it -> it % 2 == 0),
+			filter(resolver("count"), Integer.class, it -> it < 100),
+			filter(resolver("id"), String.class, it -> true)
+		);
+
+		// when
+		List<ArbitraryManipulator> actual = optimize(manipulators);
+
+		// then
+		then(actual).hasSize(2);
+		then(actual.get(1)).isSameAs(manipulators.get(3));
+	}
+
+	@Property
+	void optimizedSampleEqualsNotOptimizedSample() {
+		// given
+		long seed = Arbitraries.longs().sample();
+
+		// when
+		List<Order> actual = orderBuilder(SUT).sampleList(10, 1, seed);
+
+		// then
+		List<Order> expected = orderBuilder(NOT_OPTIMIZED).sampleList(10, 1, seed);
+		then(actual).isEqualTo(expected);
+	}
+
+	@Property
+	void optimizedContainerSampleEqualsNotOptimizedSample() {
+		// given
+		long seed = Arbitraries.longs().sample();
+		Function<LabMonkey, DefaultArbitraryBuilder<Order>> builder = monkey ->
+			(DefaultArbitraryBuilder<Order>)monkey.giveMeBuilder(Order.class)
+				.size("tags", 3)
+				.set("tags", Arrays.asList("a", "b", "c"))
+				.set("tags", Collections.singletonList("d"))
+				.set("items[*].name", "element")
+				.set("items", Collections.singletonList(new Item()))
+				.set("item.name", "name")
+				.set("item", new Item())
+				.set("itemsByName", Collections.emptyMap());
+
+		// when
+		List<Order> actual = builder.apply(SUT).sampleList(10, 1, seed);
+
+		// then
+		List<Order> expected = builder.apply(NOT_OPTIMIZED).sampleList(10, 1, seed);
+		then(actual).isEqualTo(expected);
+	}
+
+	@Property
+	void optimizedRootSetSampleEqualsNotOptimizedSample() {
+		// given
+		long seed = Arbitraries.longs().sample();
+		Order order = SUT.giveMeOne(Order.class);
+		Function<LabMonkey, DefaultArbitraryBuilder<Order>> builder = monkey ->
+			(DefaultArbitraryBuilder<Order>)monkey.giveMeBuilder(Order.class)
+				.set("id", "id")
+				.set("items[0].name", "name")
+				.set(order)
+				.set("count", 1);
+
+		// when
+		List<Order> actual = builder.apply(SUT).sampleList(10, 1, seed);
+
+		// then
+		List<Order> expected = builder.apply(NOT_OPTIMIZED).sampleList(10, 1, seed);
+		then(actual).isEqualTo(expected);
+	}
+
+	@Property
+	void fusedFilters() {
+		// when
+		List<Order> actual = SUT.giveMeBuilder(Order.class)
+			.setPostCondition("count", int.class, it -> it > 0)
+			.setPostCondition("count", int.class, it -> it % 2 == 0)
+			.sampleList(10);
+
+		// then
+		then(actual).allMatch(it -> it.getCount() > 0 && it.getCount() % 2 == 0);
+	}
+
+	@Property
+	void overwrittenLazyIsNotEvaluated() {
+		// given
+		AtomicInteger evaluated = new AtomicInteger();
+
+		// when
+		StringPair actual = SUT.giveMeBuilder(StringPair.class)
+			.setLazy("value1", () -> String.valueOf(evaluated.incrementAndGet()))
+			.set("value1", "set")
+			.sample();
+
+		// then
+		then(actual.getValue1()).isEqualTo("set");
+		then(evaluated).hasValue(0);
+	}
+
+	@Property
+	void overwrittenSetOfDifferentTypeThrows() {
+		thenThrownBy(() ->
+			SUT.giveMeBuilder(StringPair.class)
+				.set("value1", 1)
+				.set("value1", "set")
+				.sample()
+		).isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("The value is not of the same type as the property.");
+	}
+
+	private static DefaultArbitraryBuilder<Order> orderBuilder(LabMonkey labMonkey) {
+		ArbitraryBuilder<Order> builder = labMonkey.giveMeBuilder(Order.class)
+			.set("id", "a")
+			.setNull("price")
+			.setPostCondition("count", int.class, it -> it > 0)
+			.setPostCondition("count", int.class, it -> it % 2 == 0)
+			.set("id", "b")
+			.set("price", 1L)
+			.setNotNull("item")
+			.set("item.quantity", 2)
+			.setNull("item.name")
+			.set("item.name", "name");
+		return (DefaultArbitraryBuilder<Order>)builder;
+	}
+
+	private static List<ArbitraryManipulator> optimize(List<ArbitraryManipulator> manipulators) {
+		return OPTIMIZER.optimize(manipulators, Collections.emptyList()).getManipulators();
+	}
+
+	private static NodeResolver resolver(String... propertyNames) {
+		NodeResolver[] nodeResolvers = Arrays.stream(propertyNames)
+			.map(it -> new DefaultNodeResolver(new PropertyNameNodePredicate(it)))
+			.toArray(NodeResolver[]::new);
+		return nodeResolvers.length == 1 ? nodeResolvers[0] : new CompositeNodeResolver(nodeResolvers);
+	}
+
+	private static ArbitraryManipulator set(NodeResolver nodeResolver, Object value) {
+		return new ArbitraryManipulator(nodeResolver, new NodeSetDecomposedValueManipulator<>(null, null, value));
+	}
+
+	private static <T> ArbitraryManipulator filter(
+		NodeResolver nodeResolver,
+		Class<T> type,
+		Predicate<T> filter
+	) {
+		return new ArbitraryManipulator(nodeResolver, new NodeFilterManipulator(type, filter));
+	}
+}
@@ -0,0 +1,45 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.fixturemonkey.test;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.Data;
+
+class ManipulatorOptimizerTestSpecs {
+	@Data
+	public static class Order {
+		private String id;
+		private int count;
+		private Long price;
+		private Item item;
+		private List<String> tags;
+		private List<Item> items;
+		private Map<String, Item> itemsByName;
+	}
+
+	@Data
+	public static class Item {
+		private String name;
+		private Integer quantity;
+		private boolean available;
+	}
+}